@@ -0,0 +1,96 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.benchmark;
+
+import com.amilesend.client.connection.Connection;
+import com.amilesend.client.connection.DefaultConnectionBuilder;
+import com.amilesend.tmdb.client.connection.auth.TokenAuthInfo;
+import com.amilesend.tmdb.client.connection.auth.TokenAuthManager;
+import com.amilesend.tmdb.client.parse.GsonFactory;
+import com.google.gson.Gson;
+import okhttp3.OkHttpClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/** Shared helpers for loading the JSON fixtures and creating {@link Gson} instances. */
+final class BenchmarkSupport {
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Reads the fixture at the given classpath resource path.
+     *
+     * @param resourcePath the resource path relative to the test resources (e.g., {@code MoviesApi/...json})
+     * @return the fixture bytes
+     */
+    static byte[] readFixture(final String resourcePath) {
+        try (final InputStream is = BenchmarkSupport.class.getResourceAsStream("/" + resourcePath)) {
+            if (is == null) {
+                throw new IllegalArgumentException("Fixture not found: " + resourcePath);
+            }
+
+            return is.readAllBytes();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Creates a new reader over the given fixture bytes, mirroring how response bodies are parsed.
+     *
+     * @param fixture the fixture bytes
+     * @return the reader
+     */
+    static Reader newReader(final byte[] fixture) {
+        return new InputStreamReader(new ByteArrayInputStream(fixture), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates the {@link Gson} instance that is used by a connection configured with the given factory.
+     *
+     * @param gsonFactory the GSON factory
+     * @return the Gson instance
+     */
+    static Gson newGson(final GsonFactory gsonFactory) {
+        final Connection<GsonFactory> connection = newConnection(gsonFactory);
+        return connection.getGsonFactory().getInstance(connection);
+    }
+
+    /**
+     * Creates a connection that is never used to make requests.
+     *
+     * @param gsonFactory the GSON factory
+     * @return the connection
+     */
+    @SuppressWarnings("unchecked")
+    static Connection<GsonFactory> newConnection(final GsonFactory gsonFactory) {
+        return new DefaultConnectionBuilder()
+                .baseUrl("http://localhost")
+                .userAgent("Benchmark/1.0")
+                .httpClient(new OkHttpClient())
+                .authManager(new TokenAuthManager(new TokenAuthInfo("ReadAccessToken")))
+                .gsonFactory(gsonFactory)
+                .build();
+    }
+}
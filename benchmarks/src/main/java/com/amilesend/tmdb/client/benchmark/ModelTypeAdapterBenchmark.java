@@ -0,0 +1,124 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.benchmark;
+
+import com.amilesend.client.connection.Connection;
+import com.amilesend.client.parse.strategy.AnnotationBasedExclusionStrategy;
+import com.amilesend.tmdb.client.model.search.type.MediaType;
+import com.amilesend.tmdb.client.model.trending.type.TimeWindow;
+import com.amilesend.tmdb.client.model.tv.episodes.groups.type.TvEpisodeGroupType;
+import com.amilesend.tmdb.client.parse.GsonFactory;
+import com.amilesend.tmdb.client.parse.adapters.ChangeItemTypeAdapterFactory;
+import com.amilesend.tmdb.client.parse.adapters.GeneratedModelTypeAdapterFactory;
+import com.amilesend.tmdb.client.parse.adapters.LocalDateTimeTypeAdapter;
+import com.amilesend.tmdb.client.parse.adapters.LocalDateTypeAdapter;
+import com.amilesend.tmdb.client.parse.adapters.LocalTimeTypeAdapter;
+import com.amilesend.tmdb.client.parse.adapters.MediaTypeTypeAdapter;
+import com.amilesend.tmdb.client.parse.adapters.PersonCreditTypeAdapterFactory;
+import com.amilesend.tmdb.client.parse.adapters.SearchResultTypeAdapterFactory;
+import com.amilesend.tmdb.client.parse.adapters.TimeWindowTypeAdapter;
+import com.amilesend.tmdb.client.parse.adapters.TvEpisodeGroupTypeTypeAdapter;
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+import static com.amilesend.tmdb.client.benchmark.BenchmarkSupport.newConnection;
+import static com.amilesend.tmdb.client.benchmark.BenchmarkSupport.newReader;
+import static com.amilesend.tmdb.client.benchmark.BenchmarkSupport.readFixture;
+
+/**
+ * Compares deserializing response fixtures with the {@link GeneratedModelTypeAdapterFactory} adapters that
+ * {@link GsonFactory} registers against GSON's reflective adapters. The {@code firstCall} benchmarks create a new
+ * {@link Gson} instance for each operation, and so measure the cost of creating the adapters upon first use.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelTypeAdapterBenchmark {
+    @Param({"MOVIE_DETAILS_WITH_APPENDED", "SEASON_DETAILS", "SEARCH_MULTI", "PERSON_COMBINED_CREDITS"})
+    private ResponseDeserializationBenchmark.Fixture fixture;
+
+    private byte[] json;
+    private Connection<GsonFactory> connection;
+    private Gson generatedGson;
+    private Gson reflectiveGson;
+
+    @Setup
+    public void setUp() {
+        json = readFixture(fixture.getResourcePath());
+        connection = newConnection(new GsonFactory());
+        generatedGson = connection.getGsonFactory().getInstance(connection);
+        reflectiveGson = newReflectiveGson();
+    }
+
+    @Benchmark
+    public Object generated() {
+        return generatedGson.fromJson(newReader(json), fixture.getResponseType());
+    }
+
+    @Benchmark
+    public Object reflective() {
+        return reflectiveGson.fromJson(newReader(json), fixture.getResponseType());
+    }
+
+    @Benchmark
+    public Object firstCallGenerated() {
+        return new GsonFactory().getInstance(connection).fromJson(newReader(json), fixture.getResponseType());
+    }
+
+    @Benchmark
+    public Object firstCallReflective() {
+        return newReflectiveGson().fromJson(newReader(json), fixture.getResponseType());
+    }
+
+    /** Creates a {@link Gson} instance configured as {@link GsonFactory} does, without the generated adapters. */
+    private static Gson newReflectiveGson() {
+        return new GsonBuilder()
+                .setExclusionStrategies(new AnnotationBasedExclusionStrategy())
+                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .registerTypeAdapter(LocalDate.class, new LocalDateTypeAdapter())
+                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeTypeAdapter())
+                .registerTypeAdapter(LocalTime.class, new LocalTimeTypeAdapter())
+                .registerTypeAdapter(MediaType.class, new MediaTypeTypeAdapter())
+                .registerTypeAdapter(TvEpisodeGroupType.class, new TvEpisodeGroupTypeTypeAdapter())
+                .registerTypeAdapterFactory(new SearchResultTypeAdapterFactory())
+                .registerTypeAdapterFactory(new PersonCreditTypeAdapterFactory())
+                .registerTypeAdapterFactory(new ChangeItemTypeAdapterFactory())
+                .registerTypeAdapter(TimeWindow.class, new TimeWindowTypeAdapter())
+                .create();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.benchmark;
+
+import com.amilesend.client.connection.Connection;
+import com.amilesend.tmdb.client.model.search.SearchMultiResponse;
+import com.amilesend.tmdb.client.model.search.SearchPeopleResponse;
+import com.amilesend.tmdb.client.model.search.type.PersonCredit;
+import com.amilesend.tmdb.client.model.search.type.SearchResult;
+import com.amilesend.tmdb.client.model.trending.GetAllTrendingResponse;
+import com.amilesend.tmdb.client.model.trending.GetTrendingPeopleResponse;
+import com.amilesend.tmdb.client.parse.GsonFactory;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.amilesend.tmdb.client.benchmark.BenchmarkSupport.newGson;
+import static com.amilesend.tmdb.client.benchmark.BenchmarkSupport.newReader;
+import static com.amilesend.tmdb.client.benchmark.BenchmarkSupport.readFixture;
+
+/**
+ * Compares the streaming {@code media_type} type adapter factories against the previous {@code JsonElement}
+ * tree-based deserializers for responses that contain polymorphic results.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PolymorphicDeserializationBenchmark {
+    @Param
+    private Fixture fixture;
+
+    private byte[] json;
+    private Gson streamingGson;
+    private Gson treeGson;
+
+    @Setup
+    public void setUp() {
+        json = readFixture(fixture.getResourcePath());
+        streamingGson = newGson(new GsonFactory());
+        treeGson = newGson(new TreeGsonFactory());
+    }
+
+    @Benchmark
+    public Object streamingTypeAdapterFactory() {
+        return streamingGson.fromJson(newReader(json), fixture.getResponseType());
+    }
+
+    @Benchmark
+    public Object treeDeserializer() {
+        return treeGson.fromJson(newReader(json), fixture.getResponseType());
+    }
+
+    /** The fixtures that contain polymorphic results. */
+    public enum Fixture {
+        SEARCH_MULTI("SearchApi/SearchMultiResponse.json", SearchMultiResponse.class),
+        ALL_TRENDING("TrendingApi/GetAllTrendingResponse.json", GetAllTrendingResponse.class),
+        SEARCH_PEOPLE("SearchApi/SearchPeopleResponse.json", SearchPeopleResponse.class),
+        TRENDING_PEOPLE("TrendingApi/GetTrendingPeopleResponse.json", GetTrendingPeopleResponse.class);
+
+        private final String resourcePath;
+        private final Class<?> responseType;
+
+        Fixture(final String resourcePath, final Class<?> responseType) {
+            this.resourcePath = resourcePath;
+            this.responseType = responseType;
+        }
+
+        public String getResourcePath() {
+            return resourcePath;
+        }
+
+        public Class<?> getResponseType() {
+            return responseType;
+        }
+    }
+
+    /** Registers the tree-based deserializers, which take precedence over the streaming factories. */
+    private static class TreeGsonFactory extends GsonFactory {
+        @Override
+        protected GsonBuilder configure(final GsonBuilder gsonBuilder, final Connection connection) {
+            return super.configure(gsonBuilder, connection)
+                    .registerTypeAdapter(SearchResult.class, new TreeSearchResultDeserializer())
+                    .registerTypeAdapter(PersonCredit.class, new TreePersonCreditDeserializer());
+        }
+    }
+}
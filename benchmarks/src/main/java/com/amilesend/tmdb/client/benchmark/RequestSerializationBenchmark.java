@@ -0,0 +1,108 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.benchmark;
+
+import com.amilesend.client.connection.Connection;
+import com.amilesend.tmdb.client.model.BodyBasedRequest;
+import com.amilesend.tmdb.client.model.acount.AddWatchlistRequest;
+import com.amilesend.tmdb.client.model.list.AddMovieRequest;
+import com.amilesend.tmdb.client.model.movie.AddRatingRequest;
+import com.amilesend.tmdb.client.parse.GsonFactory;
+import com.amilesend.tmdb.client.parse.ModelTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.amilesend.tmdb.client.benchmark.BenchmarkSupport.newConnection;
+
+/**
+ * Measures the cost of serializing {@link BodyBasedRequest} bodies (e.g., for the rating, list and watchlist
+ * endpoints) with the {@link com.google.gson.Gson} instance shared by a connection, compared to constructing a new
+ * {@link com.google.gson.Gson} instance for each request.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestSerializationBenchmark {
+    @Param
+    private Request requestType;
+
+    private BodyBasedRequest request;
+    private Connection<GsonFactory> connection;
+
+    @Setup
+    public void setUp() {
+        request = requestType.newRequest();
+        connection = newConnection(new GsonFactory(ModelTypes.getBodyBasedRequestAndResponseTypes()));
+    }
+
+    @Benchmark
+    public String sharedGson() {
+        return connection.getGsonFactory().getInstance(connection).toJson(request);
+    }
+
+    @Benchmark
+    public String newGsonPerRequest() {
+        return new GsonFactory().getInstance(connection).toJson(request);
+    }
+
+    /** The request body types to serialize. */
+    public enum Request {
+        ADD_RATING(() -> AddRatingRequest.builder()
+                .movieId(550)
+                .sessionId("SessionId")
+                .value(8.5D)
+                .build()),
+        ADD_LIST_MOVIE(() -> AddMovieRequest.builder()
+                .listId(1)
+                .sessionId("SessionId")
+                .mediaId(550)
+                .build()),
+        ADD_WATCHLIST(() -> AddWatchlistRequest.builder()
+                .accountId(1)
+                .sessionId("SessionId")
+                .mediaType("movie")
+                .mediaId(550)
+                .watchlist(true)
+                .build());
+
+        private final Supplier<BodyBasedRequest> requestSupplier;
+
+        Request(final Supplier<BodyBasedRequest> requestSupplier) {
+            this.requestSupplier = requestSupplier;
+        }
+
+        public BodyBasedRequest newRequest() {
+            return requestSupplier.get();
+        }
+    }
+}
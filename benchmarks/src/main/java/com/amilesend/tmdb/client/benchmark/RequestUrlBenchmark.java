@@ -0,0 +1,104 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.benchmark;
+
+import com.amilesend.tmdb.client.api.BaseUrl;
+import com.amilesend.tmdb.client.api.PathTemplate;
+import okhttp3.HttpUrl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-call cost of constructing request URLs by resolving {@link PathTemplate} paths against a
+ * {@link BaseUrl} that is parsed once, compared to the previous approach of concatenating the base URL and a
+ * {@link StringBuilder}-built path, re-parsing the full URL, and pre-encoding query values with {@link URLEncoder}.
+ * Compare the bytes allocated per operation ({@code gc.alloc.rate.norm}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestUrlBenchmark {
+    private static final String API_URL = "https://api.themoviedb.org/3";
+    private static final String MOVIE_API_PATH = "/movie/";
+    private static final PathTemplate CREDITS_PATH = PathTemplate.of("/movie/{movie_id}/credits");
+    private static final PathTemplate SEARCH_MULTI_PATH = PathTemplate.of("/search/multi");
+
+    private BaseUrl baseUrl;
+    private int movieId;
+    private String query;
+
+    @Setup
+    public void setUp() {
+        baseUrl = BaseUrl.of(API_URL);
+        movieId = 550;
+        query = "Star Wars";
+    }
+
+    @Benchmark
+    public HttpUrl movieCreditsConcatenateAndParse() {
+        final String apiPath = new StringBuilder(MOVIE_API_PATH)
+                .append(movieId)
+                .append("/credits")
+                .toString();
+        return HttpUrl.parse(new StringBuilder(API_URL).append(apiPath).toString())
+                .newBuilder()
+                .addQueryParameter("language", URLEncoder.encode("en-US", StandardCharsets.UTF_8))
+                .build();
+    }
+
+    @Benchmark
+    public HttpUrl movieCreditsBaseUrlAndTemplate() {
+        return baseUrl.newUrlBuilder(CREDITS_PATH.expand(movieId))
+                .addQueryParameter("language", "en-US")
+                .build();
+    }
+
+    @Benchmark
+    public HttpUrl searchMultiConcatenateAndParse() {
+        return HttpUrl.parse(new StringBuilder(API_URL).append("/search/multi").toString())
+                .newBuilder()
+                .addQueryParameter("query", URLEncoder.encode(query, StandardCharsets.UTF_8))
+                .addQueryParameter("page", URLEncoder.encode("1", StandardCharsets.UTF_8))
+                .addQueryParameter("language", URLEncoder.encode("en-US", StandardCharsets.UTF_8))
+                .build();
+    }
+
+    @Benchmark
+    public HttpUrl searchMultiBaseUrlAndTemplate() {
+        return baseUrl.newUrlBuilder(SEARCH_MULTI_PATH.expand())
+                .addQueryParameter("query", query)
+                .addQueryParameter("page", "1")
+                .addQueryParameter("language", "en-US")
+                .build();
+    }
+}
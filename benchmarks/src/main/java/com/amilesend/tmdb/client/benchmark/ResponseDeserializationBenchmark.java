@@ -0,0 +1,127 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.benchmark;
+
+import com.amilesend.tmdb.client.model.change.GetMovieChangesResponse;
+import com.amilesend.tmdb.client.model.collection.GetCollectionDetailsResponse;
+import com.amilesend.tmdb.client.model.configuration.GetConfigurationDetailsResponse;
+import com.amilesend.tmdb.client.model.discover.DiscoverMoviesResponse;
+import com.amilesend.tmdb.client.model.movie.GetChangesResponse;
+import com.amilesend.tmdb.client.model.movie.GetCreditsResponse;
+import com.amilesend.tmdb.client.model.movie.GetImagesResponse;
+import com.amilesend.tmdb.client.model.movie.GetMovieDetailsResponse;
+import com.amilesend.tmdb.client.model.movie.GetReleaseDatesResponse;
+import com.amilesend.tmdb.client.model.people.GetCombinedCreditsResponse;
+import com.amilesend.tmdb.client.model.people.GetPersonDetailsResponse;
+import com.amilesend.tmdb.client.model.search.SearchMoviesResponse;
+import com.amilesend.tmdb.client.model.search.SearchMultiResponse;
+import com.amilesend.tmdb.client.model.trending.GetAllTrendingResponse;
+import com.amilesend.tmdb.client.model.tv.episodes.GetEpisodeDetailsResponse;
+import com.amilesend.tmdb.client.model.tv.seasons.GetSeasonDetailsResponse;
+import com.amilesend.tmdb.client.model.tv.series.GetAggregateCreditsResponse;
+import com.amilesend.tmdb.client.model.tv.series.GetSeriesDetailsResponse;
+import com.amilesend.tmdb.client.parse.GsonFactory;
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.amilesend.tmdb.client.benchmark.BenchmarkSupport.newGson;
+import static com.amilesend.tmdb.client.benchmark.BenchmarkSupport.newReader;
+import static com.amilesend.tmdb.client.benchmark.BenchmarkSupport.readFixture;
+
+/**
+ * Measures the cost of deserializing the captured response fixtures into their response types with the
+ * {@link Gson} instance vended by {@link GsonFactory}. This serves as the regression baseline for parser
+ * performance work.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseDeserializationBenchmark {
+    @Param
+    private Fixture fixture;
+
+    private byte[] json;
+    private Gson gson;
+
+    @Setup
+    public void setUp() {
+        json = readFixture(fixture.getResourcePath());
+        gson = newGson(new GsonFactory());
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return gson.fromJson(newReader(json), fixture.getResponseType());
+    }
+
+    /** The captured response fixtures and their associated response types. */
+    public enum Fixture {
+        MOVIE_DETAILS("MoviesApi/GetMovieDetailsResponse.json", GetMovieDetailsResponse.class),
+        MOVIE_DETAILS_WITH_APPENDED(
+                "MoviesApi/GetMovieDetailsWithAppendedResponse.json",
+                GetMovieDetailsResponse.class),
+        MOVIE_CREDITS("MoviesApi/GetCreditsResponse.json", GetCreditsResponse.class),
+        MOVIE_IMAGES("MoviesApi/GetImagesResponse.json", GetImagesResponse.class),
+        MOVIE_RELEASE_DATES("MoviesApi/GetReleaseDatesResponse.json", GetReleaseDatesResponse.class),
+        MOVIE_CHANGES("MoviesApi/GetChangesResponse.json", GetChangesResponse.class),
+        SERIES_DETAILS("TvSeriesApi/GetSeriesDetailsResponse.json", GetSeriesDetailsResponse.class),
+        SERIES_AGGREGATE_CREDITS("TvSeriesApi/GetAggregateCreditsResponse.json", GetAggregateCreditsResponse.class),
+        SEASON_DETAILS("TvSeasonsApi/GetSeasonDetailsResponse.json", GetSeasonDetailsResponse.class),
+        EPISODE_DETAILS("TvEpisodesApi/GetEpisodeDetailsResponse.json", GetEpisodeDetailsResponse.class),
+        PERSON_DETAILS("PeopleApi/GetPersonDetailsResponse.json", GetPersonDetailsResponse.class),
+        PERSON_COMBINED_CREDITS("PeopleApi/GetCombinedCreditsResponse.json", GetCombinedCreditsResponse.class),
+        COLLECTION_DETAILS("CollectionsApi/CollectionDetails.json", GetCollectionDetailsResponse.class),
+        CONFIGURATION_DETAILS("ConfigurationApi/ConfigurationDetails.json", GetConfigurationDetailsResponse.class),
+        SEARCH_MOVIES("SearchApi/SearchMoviesResponse.json", SearchMoviesResponse.class),
+        SEARCH_MULTI("SearchApi/SearchMultiResponse.json", SearchMultiResponse.class),
+        ALL_TRENDING("TrendingApi/GetAllTrendingResponse.json", GetAllTrendingResponse.class),
+        DISCOVER_MOVIES("DiscoverApi/DiscoverMoviesResponse.json", DiscoverMoviesResponse.class),
+        MOVIE_CHANGE_LIST("ChangesApi/GetMovieChangesResponse.json", GetMovieChangesResponse.class);
+
+        private final String resourcePath;
+        private final Class<?> responseType;
+
+        Fixture(final String resourcePath, final Class<?> responseType) {
+            this.resourcePath = resourcePath;
+            this.responseType = responseType;
+        }
+
+        public String getResourcePath() {
+            return resourcePath;
+        }
+
+        public Class<?> getResponseType() {
+            return responseType;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.benchmark;
+
+import com.amilesend.client.parse.parser.BasicParser;
+import com.amilesend.tmdb.client.model.find.FindByIdResponse;
+import com.amilesend.tmdb.client.model.search.SearchMultiResponse;
+import com.amilesend.tmdb.client.model.trending.GetTrendingPeopleResponse;
+import com.amilesend.tmdb.client.model.tv.seasons.GetSeasonDetailsResponse;
+import com.amilesend.tmdb.client.parse.GsonFactory;
+import com.amilesend.tmdb.client.parse.StreamingParser;
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static com.amilesend.tmdb.client.benchmark.BenchmarkSupport.newGson;
+import static com.amilesend.tmdb.client.benchmark.BenchmarkSupport.readFixture;
+
+/**
+ * Compares the per-response cost of parsing the largest captured fixtures by first buffering the body into a
+ * {@code String}, by decoding it through an {@link java.io.InputStreamReader} ({@link BasicParser}), and by
+ * streaming it with the {@link StreamingParser} used by the API classes. Compare the bytes allocated per
+ * operation ({@code gc.alloc.rate.norm}); the buffered approach additionally holds both the body bytes and its
+ * decoded copy on the heap for the duration of the parse.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseStreamingBenchmark {
+    @Param
+    private Fixture fixture;
+
+    private byte[] json;
+    private Gson gson;
+    private BasicParser<?> basicParser;
+    private StreamingParser<?> streamingParser;
+
+    @Setup
+    public void setUp() {
+        json = readFixture(fixture.getResourcePath());
+        gson = newGson(new GsonFactory());
+        basicParser = new BasicParser<>(fixture.getResponseType());
+        streamingParser = new StreamingParser<>(fixture.getResponseType());
+    }
+
+    @Benchmark
+    public Object bufferedString() {
+        try (final InputStream body = newBody()) {
+            return gson.fromJson(new String(body.readAllBytes(), StandardCharsets.UTF_8), fixture.getResponseType());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Benchmark
+    public Object inputStreamReader() {
+        return basicParser.parse(gson, newBody());
+    }
+
+    @Benchmark
+    public Object streamingParser() {
+        return streamingParser.parse(gson, newBody());
+    }
+
+    private InputStream newBody() {
+        return new ByteArrayInputStream(json);
+    }
+
+    /** The largest captured response fixtures and their associated response types. */
+    public enum Fixture {
+        SEASON_DETAILS("TvSeasonsApi/GetSeasonDetailsResponse.json", GetSeasonDetailsResponse.class),
+        TRENDING_PEOPLE("TrendingApi/GetTrendingPeopleResponse.json", GetTrendingPeopleResponse.class),
+        FIND_BY_ID("FindApi/FindByIdResponse.json", FindByIdResponse.class),
+        SEARCH_MULTI("SearchApi/SearchMultiResponse.json", SearchMultiResponse.class);
+
+        private final String resourcePath;
+        private final Class<?> responseType;
+
+        Fixture(final String resourcePath, final Class<?> responseType) {
+            this.resourcePath = resourcePath;
+            this.responseType = responseType;
+        }
+
+        public String getResourcePath() {
+            return resourcePath;
+        }
+
+        public Class<?> getResponseType() {
+            return responseType;
+        }
+    }
+}
@@ -15,7 +15,7 @@
  * You should have received a copy of the GNU General Public License
  * along with this program. If not, see <http://www.gnu.org/licenses/>.
  */
-package com.amilesend.tmdb.client.parse.adapters;
+package com.amilesend.tmdb.client.benchmark;
 
 import com.amilesend.tmdb.client.model.search.type.MediaType;
 import com.amilesend.tmdb.client.model.search.type.MovieCastCredit;
@@ -31,13 +31,10 @@ import java.lang.reflect.Type;
 import static com.amilesend.tmdb.client.model.search.type.MediaType.parseMediaTypeFromJson;
 
 /**
- * GSON deserializer that inspects the {@code media_type} attribute and returns the associated POJO type.
- *
- * @see PersonCredit
- * @see MovieCastCredit
- * @see TvCastCredit
+ * The tree-based {@link JsonDeserializer} that was previously used for {@link PersonCredit} types. Retained as the
+ * baseline for {@link PolymorphicDeserializationBenchmark}.
  */
-public class PersonCreditDeserializer implements JsonDeserializer<PersonCredit> {
+class TreePersonCreditDeserializer implements JsonDeserializer<PersonCredit> {
     @Override
     public PersonCredit deserialize(
             final JsonElement jsonElement,
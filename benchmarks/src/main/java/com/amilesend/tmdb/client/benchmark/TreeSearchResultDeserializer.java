@@ -15,7 +15,7 @@
  * You should have received a copy of the GNU General Public License
  * along with this program. If not, see <http://www.gnu.org/licenses/>.
  */
-package com.amilesend.tmdb.client.parse.adapters;
+package com.amilesend.tmdb.client.benchmark;
 
 import com.amilesend.tmdb.client.model.search.type.MediaType;
 import com.amilesend.tmdb.client.model.search.type.MovieSearchResult;
@@ -32,14 +32,10 @@ import java.lang.reflect.Type;
 import static com.amilesend.tmdb.client.model.search.type.MediaType.parseMediaTypeFromJson;
 
 /**
- * GSON deserializer that inspects the {@code media_type} attribute and returns the associated POJO type.
- *
- * @see SearchResult
- * @see MovieSearchResult
- * @see PersonSearchResult
- * @see TvSeriesSearchResult
+ * The tree-based {@link JsonDeserializer} that was previously used for {@link SearchResult} types. Retained as the
+ * baseline for {@link PolymorphicDeserializationBenchmark}.
  */
-public class SearchResultDeserializer implements JsonDeserializer<SearchResult> {
+class TreeSearchResultDeserializer implements JsonDeserializer<SearchResult> {
     @Override
     public SearchResult deserialize(
             final JsonElement jsonElement,
@@ -58,7 +54,7 @@ public class SearchResultDeserializer implements JsonDeserializer<SearchResult>
             case TV:
                 return context.deserialize(jsonElement, TvSeriesSearchResult.class);
             default:
-                throw new JsonParseException("Unknown media type: " + mediaType.name());
+                throw new JsonParseException("Unknown/unsupported media type: " + mediaType.name());
         }
     }
 }
@@ -21,6 +21,7 @@ import com.amilesend.client.connection.Connection;
 import com.amilesend.client.connection.DefaultConnectionBuilder;
 import com.amilesend.client.connection.retry.NoRetryStrategy;
 import com.amilesend.tmdb.client.api.AccountApi;
+import com.amilesend.tmdb.client.api.ApiConfig;
 import com.amilesend.tmdb.client.api.AuthenticationApi;
 import com.amilesend.tmdb.client.api.CertificationsApi;
 import com.amilesend.tmdb.client.api.ChangesApi;
@@ -50,10 +51,27 @@ import com.amilesend.tmdb.client.api.TvSeriesListsApi;
 import com.amilesend.tmdb.client.api.WatchProvidersApi;
 import com.amilesend.tmdb.client.connection.auth.TokenAuthInfo;
 import com.amilesend.tmdb.client.connection.auth.TokenAuthManager;
+import com.amilesend.tmdb.client.connection.http.HttpCacheStats;
+import com.amilesend.tmdb.client.connection.http.SharedTransport;
+import com.amilesend.tmdb.client.connection.http.TransportProfile;
+import com.amilesend.tmdb.client.connection.metrics.RequestMetricsRecorder;
+import com.amilesend.tmdb.client.connection.ratelimit.RateLimitInterceptor;
+import com.amilesend.tmdb.client.connection.ratelimit.TokenBucketRateLimiter;
+import com.amilesend.tmdb.client.connection.retry.RetryInterceptor;
 import com.amilesend.tmdb.client.parse.GsonFactory;
+import com.amilesend.tmdb.client.parse.ModelTypes;
+import lombok.Builder;
 import lombok.Getter;
+import lombok.NonNull;
+import okhttp3.Cache;
+import okhttp3.EventListener;
 import okhttp3.OkHttpClient;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 /**
  * A helper class to vend API classes that are associated with a {@link Connection} to TMDB service.
  *
@@ -62,9 +80,21 @@ import okhttp3.OkHttpClient;
 public class Tmdb {
     public static final String API_URL = "https://api.themoviedb.org/3";
     public static final String USER_AGENT = "TMDBJavaClient/3.4";
+    /** The default maximum size of the on-disk HTTP cache (50 MiB). */
+    public static final long DEFAULT_HTTP_CACHE_MAX_SIZE_BYTES = 50L * 1024L * 1024L;
+    /** The path of the lightweight authenticated endpoint requested to warm up connections. */
+    private static final String WARM_UP_PATH = "/configuration";
 
     @Getter
     private final Connection connection;
+    @Getter
+    private final ApiConfig apiConfig;
+    /** The on-disk HTTP cache statistics, or {@code null} if an HTTP cache is not configured. */
+    @Getter
+    private final HttpCacheStats httpCacheStats;
+    /** The shared HTTP transport, or {@code null} if a transport profile or shared transport is not configured. */
+    @Getter
+    private final SharedTransport transport;
 
     /**
      * Creates a new {@code Tmdb} object that is configured with the default settings.
@@ -82,16 +112,111 @@ public class Tmdb {
      * @param userAgent the user agent to define in requests made to the service
      */
     public Tmdb(final String readAccessToken, final String userAgent) {
-        final TokenAuthInfo authInfo = new TokenAuthInfo(readAccessToken);
+        this(readAccessToken, userAgent, null, null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Creates a new {@code Tmdb} object. Use {@link #builder()} to configure optional settings such as an on-disk
+     * HTTP cache or a rate limiter. When an HTTP cache directory is defined, responses are cached according to the
+     * service's {@code Cache-Control} headers and stale responses are revalidated with conditional requests
+     * (e.g., {@code If-None-Match} with the cached {@code ETag}).
+     *
+     * @param readAccessToken the authenticated read access token
+     * @param userAgent the user agent to define in requests made to the service (optional)
+     * @param apiConfig the configuration shared across all vended API instances (optional)
+     * @param httpCacheDirectory the directory for the on-disk HTTP cache (optional)
+     * @param httpCacheMaxSizeBytes the maximum size of the on-disk HTTP cache in bytes (optional)
+     * @param rateLimiter the rate limiter used to throttle all requests made via this instance (optional)
+     * @param isGsonPrewarmEnabled if {@code true}, creates the type adapters for all request and response types
+     *                             upon construction rather than on first use (optional, defaults to {@code false})
+     * @param transportProfile the profile used to create a dedicated transport (optional; ignored if a
+     *                         {@code transport} is defined, and uses OkHttp's defaults if neither is defined)
+     * @param transport the transport shared with other instances (optional)
+     * @param isWarmUpEnabled if {@code true}, asynchronously establishes connections to the service upon
+     *                        construction as defined by the transport profile (optional, defaults to {@code false})
+     * @param retryInterceptor retries transient failures of idempotent requests (optional; requests are not retried
+     *                         if undefined). When defined with a {@code rateLimiter}, rate limited requests are only
+     *                         retried by this interceptor so that all retries are bounded by its budget.
+     */
+    @Builder
+    private Tmdb(
+            @NonNull final String readAccessToken,
+            final String userAgent,
+            final ApiConfig apiConfig,
+            final Path httpCacheDirectory,
+            final Long httpCacheMaxSizeBytes,
+            final TokenBucketRateLimiter rateLimiter,
+            final Boolean isGsonPrewarmEnabled,
+            final TransportProfile transportProfile,
+            final SharedTransport transport,
+            final Boolean isWarmUpEnabled,
+            final RetryInterceptor retryInterceptor) {
+        this.apiConfig = Objects.requireNonNullElse(apiConfig, ApiConfig.defaultConfig());
+        if (Objects.nonNull(transport)) {
+            this.transport = transport;
+        } else if (Objects.nonNull(transportProfile)) {
+            this.transport = new SharedTransport(transportProfile);
+        } else {
+            this.transport = null;
+        }
+
+        final OkHttpClient.Builder httpClientBuilder = Objects.nonNull(this.transport)
+                ? this.transport.newHttpClientBuilder()
+                : new OkHttpClient.Builder();
+        final List<EventListener.Factory> eventListenerFactories = new ArrayList<>();
+        // Registered before the rate limiter so that each retry is also throttled
+        if (Objects.nonNull(retryInterceptor)) {
+            httpClientBuilder.addInterceptor(retryInterceptor);
+        }
+        if (Objects.nonNull(rateLimiter)) {
+            httpClientBuilder.addInterceptor(RateLimitInterceptor.builder()
+                    .rateLimiter(rateLimiter)
+                    // Rate limited requests are retried by the retry interceptor, if defined
+                    .maxRetries(Objects.nonNull(retryInterceptor) ? 0 : null)
+                    .build());
+        }
+
+        if (Objects.nonNull(httpCacheDirectory)) {
+            httpCacheStats = new HttpCacheStats();
+            httpClientBuilder
+                    .cache(new Cache(
+                            httpCacheDirectory.toFile(),
+                            Objects.requireNonNullElse(httpCacheMaxSizeBytes, DEFAULT_HTTP_CACHE_MAX_SIZE_BYTES)));
+            eventListenerFactories.add(httpCacheStats.eventListenerFactory());
+        } else {
+            httpCacheStats = null;
+        }
+
+        if (Objects.nonNull(this.apiConfig.getMetricsListener())) {
+            eventListenerFactories.add(RequestMetricsRecorder.eventListenerFactory());
+        }
+
+        if (!eventListenerFactories.isEmpty()) {
+            httpClientBuilder.eventListenerFactory(call -> eventListenerFactories.stream()
+                    .map(factory -> factory.create(call))
+                    .reduce(EventListener::plus)
+                    .orElse(EventListener.NONE));
+        }
+
         connection = new DefaultConnectionBuilder()
-                .userAgent(userAgent)
+                .userAgent(Objects.requireNonNullElse(userAgent, USER_AGENT))
                 .baseUrl(API_URL)
-                .httpClient(new OkHttpClient.Builder().build())
-                .authManager(new TokenAuthManager(authInfo))
-                .gsonFactory(new GsonFactory())
+                .httpClient(httpClientBuilder.build())
+                .authManager(new TokenAuthManager(new TokenAuthInfo(readAccessToken)))
+                .gsonFactory(Objects.requireNonNullElse(isGsonPrewarmEnabled, Boolean.FALSE)
+                        ? new GsonFactory(ModelTypes.getBodyBasedRequestAndResponseTypes())
+                        : new GsonFactory())
                 .isGzipContentEncodingEnabled(false)
                 .retryStrategy(new NoRetryStrategy())
                 .build();
+        connection.getGsonFactory().getInstance(connection);
+
+        if (Objects.requireNonNullElse(isWarmUpEnabled, Boolean.FALSE) && Objects.nonNull(this.transport)) {
+            this.transport.warmUp(connection.getHttpClient(), connection.newRequestBuilder()
+                    .url(API_URL + WARM_UP_PATH)
+                    .head()
+                    .build());
+        }
     }
 
     /**
@@ -100,7 +225,20 @@ public class Tmdb {
      * @param connection the connection
      */
     public Tmdb(final Connection connection) {
+        this(connection, ApiConfig.defaultConfig());
+    }
+
+    /**
+     * Creates a new {@code Tmdb} object for the given {@link Connection} and {@link ApiConfig}.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across all vended API instances
+     */
+    public Tmdb(@NonNull final Connection connection, @NonNull final ApiConfig apiConfig) {
         this.connection = connection;
+        this.apiConfig = apiConfig;
+        this.httpCacheStats = null;
+        this.transport = null;
     }
 
     /**
@@ -110,7 +248,7 @@ public class Tmdb {
      * @see AccountApi
      */
     public AccountApi getAccountApi() {
-        return new AccountApi(connection);
+        return new AccountApi(connection, apiConfig);
     }
 
     /**
@@ -120,7 +258,7 @@ public class Tmdb {
      * @see AuthenticationApi
      */
     public AuthenticationApi getAuthenticationApi() {
-        return new AuthenticationApi(connection);
+        return new AuthenticationApi(connection, apiConfig);
     }
 
     /**
@@ -130,7 +268,7 @@ public class Tmdb {
      * @see CertificationsApi
      */
     public CertificationsApi getCertificationsApi() {
-        return new CertificationsApi(connection);
+        return new CertificationsApi(connection, apiConfig);
     }
 
     /**
@@ -140,7 +278,7 @@ public class Tmdb {
      * @see ChangesApi
      */
     public ChangesApi getChangesApi() {
-        return new ChangesApi(connection);
+        return new ChangesApi(connection, apiConfig);
     }
 
     /**
@@ -150,7 +288,7 @@ public class Tmdb {
      * @see CollectionsApi
      */
     public CollectionsApi getCollectionsApi() {
-        return new CollectionsApi(connection);
+        return new CollectionsApi(connection, apiConfig);
     }
 
     /**
@@ -160,7 +298,7 @@ public class Tmdb {
      * @see CompaniesApi
      */
     public CompaniesApi getCompaniesApi() {
-        return new CompaniesApi(connection);
+        return new CompaniesApi(connection, apiConfig);
     }
 
     /**
@@ -170,7 +308,7 @@ public class Tmdb {
      * @see ConfigurationApi
      */
     public ConfigurationApi getConfigurationApi() {
-        return new ConfigurationApi(connection);
+        return new ConfigurationApi(connection, apiConfig);
     }
 
     /**
@@ -180,7 +318,7 @@ public class Tmdb {
      * @see CreditsApi
      */
     public CreditsApi getCreditsApi() {
-        return new CreditsApi(connection);
+        return new CreditsApi(connection, apiConfig);
     }
 
     /**
@@ -190,7 +328,7 @@ public class Tmdb {
      * @see DiscoverApi
      */
     public DiscoverApi getDiscoverApi() {
-        return new DiscoverApi(connection);
+        return new DiscoverApi(connection, apiConfig);
     }
 
     /**
@@ -200,7 +338,7 @@ public class Tmdb {
      * @see FindApi
      */
     public FindApi getFindApi() {
-        return new FindApi(connection);
+        return new FindApi(connection, apiConfig);
     }
 
     /**
@@ -210,7 +348,7 @@ public class Tmdb {
      * @see GenresApi
      */
     public GenresApi getGenresApi() {
-        return new GenresApi(connection);
+        return new GenresApi(connection, apiConfig);
     }
 
     /**
@@ -220,7 +358,7 @@ public class Tmdb {
      * @see GuestSessionsApi
      */
     public GuestSessionsApi getGuestSessionsApi() {
-        return new GuestSessionsApi(connection);
+        return new GuestSessionsApi(connection, apiConfig);
     }
 
     /**
@@ -230,7 +368,7 @@ public class Tmdb {
      * @see KeywordsApi
      */
     public KeywordsApi getKeywordsApi() {
-        return new KeywordsApi(connection);
+        return new KeywordsApi(connection, apiConfig);
     }
 
     /**
@@ -240,7 +378,7 @@ public class Tmdb {
      * @see ListsApi
      */
     public ListsApi getListsApi() {
-        return new ListsApi(connection);
+        return new ListsApi(connection, apiConfig);
     }
 
     /**
@@ -250,7 +388,7 @@ public class Tmdb {
      * @see MovieListsApi
      */
     public MovieListsApi getMovieListsApi() {
-        return new MovieListsApi(connection);
+        return new MovieListsApi(connection, apiConfig);
     }
 
     /**
@@ -260,7 +398,7 @@ public class Tmdb {
      * @see MoviesApi
      */
     public MoviesApi getMoviesApi() {
-        return new MoviesApi(connection);
+        return new MoviesApi(connection, apiConfig);
     }
 
     /**
@@ -270,7 +408,7 @@ public class Tmdb {
      * @see NetworksApi
      */
     public NetworksApi getNetworksApi() {
-        return new NetworksApi(connection);
+        return new NetworksApi(connection, apiConfig);
     }
 
     /**
@@ -280,7 +418,7 @@ public class Tmdb {
      * @see PeopleApi
      */
     public PeopleApi getPeopleApi() {
-        return new PeopleApi(connection);
+        return new PeopleApi(connection, apiConfig);
     }
 
     /**
@@ -290,7 +428,7 @@ public class Tmdb {
      * @see PeopleListsApi
      */
     public PeopleListsApi getPeopleListsApi() {
-        return new PeopleListsApi(connection);
+        return new PeopleListsApi(connection, apiConfig);
     }
 
     /**
@@ -300,7 +438,7 @@ public class Tmdb {
      * @see ReviewsApi
      */
     public ReviewsApi getReviewsApi() {
-        return new ReviewsApi(connection);
+        return new ReviewsApi(connection, apiConfig);
     }
 
     /**
@@ -310,7 +448,7 @@ public class Tmdb {
      * @see SearchApi
      */
     public SearchApi getSearchApi() {
-        return new SearchApi(connection);
+        return new SearchApi(connection, apiConfig);
     }
 
     /**
@@ -320,7 +458,7 @@ public class Tmdb {
      * @see TrendingApi
      */
     public TrendingApi getTrendingApi() {
-        return new TrendingApi(connection);
+        return new TrendingApi(connection, apiConfig);
     }
 
     /**
@@ -330,7 +468,7 @@ public class Tmdb {
      * @see TvEpisodeGroupsApi
      */
     public TvEpisodeGroupsApi getTvEpisodeGroupsApi() {
-        return new TvEpisodeGroupsApi(connection);
+        return new TvEpisodeGroupsApi(connection, apiConfig);
     }
 
     /**
@@ -340,7 +478,7 @@ public class Tmdb {
      * @see TvEpisodesApi
      */
     public TvEpisodesApi getTvEpisodesApi() {
-        return new TvEpisodesApi(connection);
+        return new TvEpisodesApi(connection, apiConfig);
     }
 
     /**
@@ -350,7 +488,7 @@ public class Tmdb {
      * @see TvSeasonsApi
      */
     public TvSeasonsApi getTvSeasonsApi() {
-        return new TvSeasonsApi(connection);
+        return new TvSeasonsApi(connection, apiConfig);
     }
 
     /**
@@ -360,7 +498,7 @@ public class Tmdb {
      * @see TvSeriesApi
      */
     public TvSeriesApi getTvSeriesApi() {
-        return new TvSeriesApi(connection);
+        return new TvSeriesApi(connection, apiConfig);
     }
 
     /**
@@ -370,7 +508,7 @@ public class Tmdb {
      * @see TvSeriesListsApi
      */
     public TvSeriesListsApi getTvSeriesListsApi() {
-        return new TvSeriesListsApi(connection);
+        return new TvSeriesListsApi(connection, apiConfig);
     }
 
     /**
@@ -380,6 +518,6 @@ public class Tmdb {
      * @see WatchProvidersApi
      */
     public WatchProvidersApi getWatchProvidersApi() {
-        return new WatchProvidersApi(connection);
+        return new WatchProvidersApi(connection, apiConfig);
     }
 }
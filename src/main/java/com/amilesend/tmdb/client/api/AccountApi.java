@@ -45,6 +45,8 @@ import com.amilesend.tmdb.client.model.acount.GetWatchlistTvResponse;
 import com.amilesend.tmdb.client.model.acount.type.AccountBasedRequest;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Defines APIs to access user account information.  Note: A valid session must be authenticated and obtained.  This
  * can be done via the {@link com.amilesend.tmdb.client.connection.auth.SessionManager}.
@@ -63,6 +65,16 @@ public class AccountApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code AccountApi} object.
+     *
+     * @param connection the underlying client connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public AccountApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the account information.
      *
@@ -72,7 +84,28 @@ public class AccountApi extends ApiBase {
      * @see GetAccountDetailsResponse
      */
     public GetAccountDetailsResponse getAccountDetails(@NonNull final GetAccountDetailsRequest request) {
-        return executeGetForAccount(StringUtils.EMPTY, request, GetAccountDetailsResponse.class);
+        return executeGetForAccount(
+                "account.getAccountDetails",
+                StringUtils.EMPTY,
+                request,
+                GetAccountDetailsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the account information.
+     *
+     * @param request the request
+     * @return the future that completes with the account details
+     * @see GetAccountDetailsRequest
+     * @see GetAccountDetailsResponse
+     */
+    public CompletableFuture<GetAccountDetailsResponse> getAccountDetailsAsync(
+            @NonNull final GetAccountDetailsRequest request) {
+        return executeGetForAccountAsync(
+                "account.getAccountDetails",
+                StringUtils.EMPTY,
+                request,
+                GetAccountDetailsResponse.class);
     }
 
     /**
@@ -85,7 +118,24 @@ public class AccountApi extends ApiBase {
      */
     public GetAccountDetailsResponse getAccountDetailsForSession(
             @NonNull final GetAccountDetailsForSessionRequest request) {
-        return executeGet(API_PATH, request, GetAccountDetailsResponse.class);
+        return executeGet("account.getAccountDetailsForSession", API_PATH, request, GetAccountDetailsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the account information associated with a session.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetAccountDetailsForSessionRequest
+     * @see GetAccountDetailsResponse
+     */
+    public CompletableFuture<GetAccountDetailsResponse> getAccountDetailsForSessionAsync(
+            @NonNull final GetAccountDetailsForSessionRequest request) {
+        return executeGetAsync(
+                "account.getAccountDetailsForSession",
+                API_PATH,
+                request,
+                GetAccountDetailsResponse.class);
     }
 
     /**
@@ -97,7 +147,19 @@ public class AccountApi extends ApiBase {
      * @see AddFavoriteResponse
      */
     public AddFavoriteResponse addFavorite(@NonNull final AddFavoriteRequest request) {
-        return executePostForAccount("/favorite", request, AddFavoriteResponse.class);
+        return executePostForAccount("account.addFavorite", "/favorite", request, AddFavoriteResponse.class);
+    }
+
+    /**
+     * Asynchronously adds or removes a movie/TV show from an account's favorite list.
+     *
+     * @param request the request specifying the movie or tv show
+     * @return the future that completes with the response indicating the status of the request
+     * @see AddFavoriteRequest
+     * @see AddFavoriteResponse
+     */
+    public CompletableFuture<AddFavoriteResponse> addFavoriteAsync(@NonNull final AddFavoriteRequest request) {
+        return executePostForAccountAsync("account.addFavorite", "/favorite", request, AddFavoriteResponse.class);
     }
 
     /**
@@ -109,7 +171,19 @@ public class AccountApi extends ApiBase {
      * @see AddWatchlistResponse
      */
     public AddWatchlistResponse addWatchlist(@NonNull final AddWatchlistRequest request) {
-        return executePostForAccount("/watchlist", request, AddWatchlistResponse.class);
+        return executePostForAccount("account.addWatchlist", "/watchlist", request, AddWatchlistResponse.class);
+    }
+
+    /**
+     * Asynchronously adds or removes a movie/TV show from an account's watch list.
+     *
+     * @param request the request specifying the move or tv show
+     * @return the future that completes with the response indicating the status of the request
+     * @see AddWatchlistRequest
+     * @see AddWatchlistResponse
+     */
+    public CompletableFuture<AddWatchlistResponse> addWatchlistAsync(@NonNull final AddWatchlistRequest request) {
+        return executePostForAccountAsync("account.addWatchlist", "/watchlist", request, AddWatchlistResponse.class);
     }
 
     /**
@@ -121,7 +195,28 @@ public class AccountApi extends ApiBase {
      * @see GetFavoriteMoviesResponse
      */
     public GetFavoriteMoviesResponse getFavoriteMovies(@NonNull final GetFavoriteMoviesRequest request) {
-        return executeGetForAccount("/favorite/movies", request, GetFavoriteMoviesResponse.class);
+        return executeGetForAccount(
+                "account.getFavoriteMovies",
+                "/favorite/movies",
+                request,
+                GetFavoriteMoviesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of favorite movies for an account.
+     *
+     * @param request the request
+     * @return the future that completes with the list of movies
+     * @see GetFavoriteMoviesRequest
+     * @see GetFavoriteMoviesResponse
+     */
+    public CompletableFuture<GetFavoriteMoviesResponse> getFavoriteMoviesAsync(
+            @NonNull final GetFavoriteMoviesRequest request) {
+        return executeGetForAccountAsync(
+                "account.getFavoriteMovies",
+                "/favorite/movies",
+                request,
+                GetFavoriteMoviesResponse.class);
     }
 
     /**
@@ -133,7 +228,28 @@ public class AccountApi extends ApiBase {
      * @see GetFavoriteTvShowsResponse
      */
     public GetFavoriteTvShowsResponse getFavoriteTvShows(@NonNull final GetFavoriteTvShowsRequest request) {
-        return executeGetForAccount("/favorite/tv", request, GetFavoriteTvShowsResponse.class);
+        return executeGetForAccount(
+                "account.getFavoriteTvShows",
+                "/favorite/tv",
+                request,
+                GetFavoriteTvShowsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of favorite TV shows for an account.
+     *
+     * @param request the request
+     * @return the future that completes with the list of favorite TV shows
+     * @see GetFavoriteTvShowsRequest
+     * @see GetFavoriteTvShowsResponse
+     */
+    public CompletableFuture<GetFavoriteTvShowsResponse> getFavoriteTvShowsAsync(
+            @NonNull final GetFavoriteTvShowsRequest request) {
+        return executeGetForAccountAsync(
+                "account.getFavoriteTvShows",
+                "/favorite/tv",
+                request,
+                GetFavoriteTvShowsResponse.class);
     }
 
     /**
@@ -145,7 +261,19 @@ public class AccountApi extends ApiBase {
      * @see GetListsResponse
      */
     public GetListsResponse getLists(@NonNull final GetListsRequest request) {
-        return executeGetForAccount("/lists", request, GetListsResponse.class);
+        return executeGetForAccount("account.getLists", "/lists", request, GetListsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of a user's configured lists.
+     *
+     * @param request the request
+     * @return the future that completes with the user's lists
+     * @see GetListsRequest
+     * @see GetListsResponse
+     */
+    public CompletableFuture<GetListsResponse> getListsAsync(@NonNull final GetListsRequest request) {
+        return executeGetForAccountAsync("account.getLists", "/lists", request, GetListsResponse.class);
     }
 
     /**
@@ -157,7 +285,23 @@ public class AccountApi extends ApiBase {
      * @see GetRatedMoviesResponse
      */
     public GetRatedMoviesResponse getRatedMovies(@NonNull final GetRatedMoviesRequest request) {
-        return executeGetForAccount("/rated/movies", request, GetRatedMoviesResponse.class);
+        return executeGetForAccount("account.getRatedMovies", "/rated/movies", request, GetRatedMoviesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of movies that a user rated.
+     *
+     * @param request the request
+     * @return the future that completes with the list of rated movies
+     * @see GetRatedMoviesRequest
+     * @see GetRatedMoviesResponse
+     */
+    public CompletableFuture<GetRatedMoviesResponse> getRatedMoviesAsync(@NonNull final GetRatedMoviesRequest request) {
+        return executeGetForAccountAsync(
+                "account.getRatedMovies",
+                "/rated/movies",
+                request,
+                GetRatedMoviesResponse.class);
     }
 
     /**
@@ -169,7 +313,24 @@ public class AccountApi extends ApiBase {
      * @see GetRatedTvShowsResponse
      */
     public GetRatedTvShowsResponse getRatedTvShows(@NonNull final GetRatedTvShowsRequest request) {
-        return executeGetForAccount("/rated/tv", request, GetRatedTvShowsResponse.class);
+        return executeGetForAccount("account.getRatedTvShows", "/rated/tv", request, GetRatedTvShowsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of TV shows that a user rated.
+     *
+     * @param request the request
+     * @return the future that completes with the list of rated TV shows
+     * @see GetRatedTvShowsRequest
+     * @see GetRatedTvShowsResponse
+     */
+    public CompletableFuture<GetRatedTvShowsResponse> getRatedTvShowsAsync(
+            @NonNull final GetRatedTvShowsRequest request) {
+        return executeGetForAccountAsync(
+                "account.getRatedTvShows",
+                "/rated/tv",
+                request,
+                GetRatedTvShowsResponse.class);
     }
 
     /**
@@ -181,7 +342,28 @@ public class AccountApi extends ApiBase {
      * @see GetRatedTvEpisodesResponse
      */
     public GetRatedTvEpisodesResponse getRatedTvEpisodes(@NonNull final GetRatedTvEpisodesRequest request) {
-        return executeGetForAccount("/rated/tv/episodes", request, GetRatedTvEpisodesResponse.class);
+        return executeGetForAccount(
+                "account.getRatedTvEpisodes",
+                "/rated/tv/episodes",
+                request,
+                GetRatedTvEpisodesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of TV show episodes that a user rated.
+     *
+     * @param request the request
+     * @return the future that completes with the list of TV show episodes
+     * @see GetRatedTvEpisodesRequest
+     * @see GetRatedTvEpisodesResponse
+     */
+    public CompletableFuture<GetRatedTvEpisodesResponse> getRatedTvEpisodesAsync(
+            @NonNull final GetRatedTvEpisodesRequest request) {
+        return executeGetForAccountAsync(
+                "account.getRatedTvEpisodes",
+                "/rated/tv/episodes",
+                request,
+                GetRatedTvEpisodesResponse.class);
     }
 
     /**
@@ -193,7 +375,28 @@ public class AccountApi extends ApiBase {
      * @see GetWatchlistMoviesResponse
      */
     public GetWatchlistMoviesResponse getWatchlistMovies(@NonNull final GetWatchlistMoviesRequest request) {
-        return executeGetForAccount("/watchlist/movies", request, GetWatchlistMoviesResponse.class);
+        return executeGetForAccount(
+                "account.getWatchlistMovies",
+                "/watchlist/movies",
+                request,
+                GetWatchlistMoviesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of movies on a user's watchlist.
+     *
+     * @param request the request
+     * @return the future that completes with the list of movies
+     * @see GetWatchlistMoviesRequest
+     * @see GetWatchlistMoviesResponse
+     */
+    public CompletableFuture<GetWatchlistMoviesResponse> getWatchlistMoviesAsync(
+            @NonNull final GetWatchlistMoviesRequest request) {
+        return executeGetForAccountAsync(
+                "account.getWatchlistMovies",
+                "/watchlist/movies",
+                request,
+                GetWatchlistMoviesResponse.class);
     }
 
     /**
@@ -205,30 +408,67 @@ public class AccountApi extends ApiBase {
      * @see GetWatchlistTvResponse
      */
     public GetWatchlistTvResponse getWatchlistTvShows(@NonNull final GetWatchlistTvRequest request) {
-        return executeGetForAccount("/watchlist/tv", request, GetWatchlistTvResponse.class);
+        return executeGetForAccount(
+                "account.getWatchlistTvShows",
+                "/watchlist/tv",
+                request,
+                GetWatchlistTvResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of TV shows on a user's watchlist.
+     *
+     * @param request the request
+     * @return the future that completes with the list of TV shows
+     * @see GetWatchlistTvRequest
+     * @see GetWatchlistTvResponse
+     */
+    public CompletableFuture<GetWatchlistTvResponse> getWatchlistTvShowsAsync(
+            @NonNull final GetWatchlistTvRequest request) {
+        return executeGetForAccountAsync(
+                "account.getWatchlistTvShows",
+                "/watchlist/tv",
+                request,
+                GetWatchlistTvResponse.class);
     }
 
     private <T> T executeGetForAccount(
+            final String endpointName,
             final String apiSubPath,
             final AccountBasedRequest request,
             final Class<T> responseType) {
-        final String fullApiPath = new StringBuilder(API_PATH)
-                .append("/")
-                .append(request.getAccountId())
-                .append(apiSubPath)
-                .toString();
-        return executeGet(fullApiPath, request, responseType);
+        return executeGet(endpointName, getApiPath(apiSubPath, request), request, responseType);
+    }
+
+    private <T> CompletableFuture<T> executeGetForAccountAsync(
+            final String endpointName,
+            final String apiSubPath,
+            final AccountBasedRequest request,
+            final Class<T> responseType) {
+        return executeGetAsync(endpointName, getApiPath(apiSubPath, request), request, responseType);
     }
 
     private <T> T executePostForAccount(
+            final String endpointName,
             final String apiSubPath,
             final AccountBasedRequest request,
             final Class<T> responseType) {
-        final String fullApiPath = new StringBuilder(API_PATH)
+        return executePost(endpointName, getApiPath(apiSubPath, request), request, responseType);
+    }
+
+    private <T> CompletableFuture<T> executePostForAccountAsync(
+            final String endpointName,
+            final String apiSubPath,
+            final AccountBasedRequest request,
+            final Class<T> responseType) {
+        return executePostAsync(endpointName, getApiPath(apiSubPath, request), request, responseType);
+    }
+
+    private static String getApiPath(final String apiSubPath, final AccountBasedRequest request) {
+        return new StringBuilder(API_PATH)
                 .append("/")
                 .append(request.getAccountId())
                 .append(apiSubPath)
                 .toString();
-        return executePost(fullApiPath, request, responseType);
     }
 }
@@ -18,18 +18,34 @@
 package com.amilesend.tmdb.client.api;
 
 import com.amilesend.client.connection.Connection;
-import com.amilesend.client.parse.parser.BasicParser;
+import com.amilesend.client.parse.parser.GsonParser;
 import com.amilesend.client.util.Validate;
+import com.amilesend.tmdb.client.connection.FutureCallback;
+import com.amilesend.tmdb.client.connection.cache.CacheKey;
+import com.amilesend.tmdb.client.connection.cache.ResponseCache;
+import com.amilesend.tmdb.client.connection.coalesce.RequestCoalescer;
+import com.amilesend.tmdb.client.connection.hedge.RequestHedger;
+import com.amilesend.tmdb.client.connection.isolation.ApiFamily;
+import com.amilesend.tmdb.client.connection.isolation.ApiIsolation;
+import com.amilesend.tmdb.client.connection.metrics.RequestMetricsListener;
+import com.amilesend.tmdb.client.connection.metrics.RequestMetricsRecorder;
 import com.amilesend.tmdb.client.model.BodyBasedRequest;
 import com.amilesend.tmdb.client.model.QueryParameterBasedRequest;
 import com.amilesend.tmdb.client.parse.GsonFactory;
+import com.amilesend.tmdb.client.parse.StreamingParser;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
+import okhttp3.Call;
 import okhttp3.HttpUrl;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
 import static com.amilesend.client.connection.Connection.JSON_MEDIA_TYPE;
 
 /**
@@ -37,34 +53,69 @@ import static com.amilesend.client.connection.Connection.JSON_MEDIA_TYPE;
  *
  * @see Connection
  */
-@RequiredArgsConstructor
 public abstract class ApiBase {
+    /** The API family of each API class. API classes that are not listed are part of {@link ApiFamily#DETAILS}. */
+    private static final Map<Class<? extends ApiBase>, ApiFamily> API_FAMILIES = Map.ofEntries(
+            Map.entry(SearchApi.class, ApiFamily.SEARCH),
+            Map.entry(FindApi.class, ApiFamily.SEARCH),
+            Map.entry(DiscoverApi.class, ApiFamily.DISCOVER),
+            Map.entry(AccountApi.class, ApiFamily.ACCOUNT),
+            Map.entry(AuthenticationApi.class, ApiFamily.ACCOUNT),
+            Map.entry(GuestSessionsApi.class, ApiFamily.ACCOUNT),
+            Map.entry(ListsApi.class, ApiFamily.LISTS),
+            Map.entry(MovieListsApi.class, ApiFamily.LISTS),
+            Map.entry(PeopleListsApi.class, ApiFamily.LISTS),
+            Map.entry(TvSeriesListsApi.class, ApiFamily.LISTS),
+            Map.entry(TrendingApi.class, ApiFamily.LISTS));
+
     /** The connection that wraps the underlying HTTP client. */
-    @NonNull
     @Getter
     private final Connection<GsonFactory> connection;
+    /** The configuration shared across API instances. */
+    @Getter
+    private final ApiConfig apiConfig;
+    /** The parsed base URL of the connection, which is lazily initialized on first use. */
+    private volatile BaseUrl baseUrl;
+
+    /**
+     * Creates a new {@code ApiBase} that is configured with the default {@link ApiConfig}.
+     *
+     * @param connection the connection
+     */
+    protected ApiBase(@NonNull final Connection<GsonFactory> connection) {
+        this(connection, ApiConfig.defaultConfig());
+    }
+
+    /**
+     * Creates a new {@code ApiBase}.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    protected ApiBase(@NonNull final Connection<GsonFactory> connection, @NonNull final ApiConfig apiConfig) {
+        this.connection = connection;
+        this.apiConfig = apiConfig;
+    }
 
     /**
      * Executes a GET request for the given URL path and expected response type class.
      *
+     * @param endpointName the logical name of the endpoint (e.g., {@code movies.getCredits}) used to record
+     *                     metrics and to select hedged endpoints
      * @param apiPath the full path URL
      * @param responseType the expected response type class
      * @return the deserialized response
      * @param <T> the response type
      */
-    protected <T> T executeGet(final String apiPath, final Class<T> responseType) {
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(new StringBuilder(connection.getBaseUrl())
-                                .append(apiPath)
-                                .toString())
-                        .build(),
-                new BasicParser<>(responseType));
+    protected <T> T executeGet(final String endpointName, final String apiPath, final Class<T> responseType) {
+        return executeGet(endpointName, apiPath, newGetRequest(apiPath), new StreamingParser<>(responseType));
     }
 
     /**
      * Executes a GET request for the given URL path, request, and expected response type class.
      *
+     * @param endpointName the logical name of the endpoint (e.g., {@code movies.getCredits}) used to record
+     *                     metrics and to select hedged endpoints
      * @param apiPath te full path URL
      * @param request the request
      * @param responseType the response type class
@@ -72,26 +123,65 @@ public abstract class ApiBase {
      * @param <T> the response type
      */
     protected <T> T executeGet(
+            final String endpointName,
             final String apiPath,
             final QueryParameterBasedRequest request,
             final Class<T> responseType) {
-        final HttpUrl.Builder urlBuilder = HttpUrl.parse(
-                new StringBuilder(connection.getBaseUrl())
-                        .append(apiPath)
-                        .toString())
-                .newBuilder();
-        final HttpUrl url = request.populateQueryParameters(urlBuilder).build();
+        return executeGet(endpointName, apiPath, newGetRequest(apiPath, request), new StreamingParser<>(responseType));
+    }
+
+    /**
+     * Executes the given GET request and deserializes the response with the given parser. If a
+     * {@link ResponseCache} is configured and the {@link ApiConfig#getCachePolicy()} deems the API path as
+     * cacheable, a previously cached response is returned without making the HTTP request or deserializing
+     * the response. If a {@link RequestCoalescer} is configured, concurrent identical requests share a single
+     * HTTP call and deserialized response. If a {@link RequestHedger} is configured for the endpoint, a second
+     * attempt is sent when the first is slow.
+     *
+     * @param endpointName the logical name of the endpoint (e.g., {@code movies.getCredits}) used to record
+     *                     metrics and to select hedged endpoints
+     * @param apiPath the API path used to evaluate the cache policy
+     * @param httpRequest the HTTP request
+     * @param parser the response parser
+     * @return the deserialized response
+     * @param <T> the response type
+     */
+    protected <T> T executeGet(
+            final String endpointName,
+            final String apiPath,
+            final Request httpRequest,
+            final GsonParser<T> parser) {
+        final ResponseCache responseCache = apiConfig.getResponseCache();
+        final RequestCoalescer requestCoalescer = apiConfig.getRequestCoalescer();
+        final boolean isCacheable = isCacheable(responseCache, apiPath);
+        if (!isCacheable && Objects.isNull(requestCoalescer)) {
+            return executeGetRequest(endpointName, httpRequest, parser);
+        }
+
+        final CacheKey key = CacheKey.from(httpRequest);
+        if (isCacheable) {
+            final T cached = getCachedResponse(responseCache, key);
+            if (cached != null) {
+                recordCachedResponse(endpointName, httpRequest);
+                return cached;
+            }
+        }
 
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new BasicParser<>(responseType));
+        final Supplier<T> request = () -> {
+            final T response = executeGetRequest(endpointName, httpRequest, parser);
+            if (isCacheable) {
+                cacheResponse(responseCache, key, apiPath, response);
+            }
+            return response;
+        };
+        return Objects.isNull(requestCoalescer) ? request.get() : requestCoalescer.execute(key, request);
     }
 
     /**
      * Executes a POST request for the given URL path, request, and expected response type class.
      *
+     * @param endpointName the logical name of the endpoint (e.g., {@code movies.getCredits}) used to record
+     *                     metrics and to select hedged endpoints
      * @param apiPath te full path URL
      * @param request the request
      * @param responseType the response type class
@@ -99,27 +189,18 @@ public abstract class ApiBase {
      * @param <T> the response type
      */
     protected <T> T executePost(
+            final String endpointName,
             final String apiPath,
             final QueryParameterBasedRequest request,
             final Class<T> responseType) {
-        Validate.isTrue(request instanceof BodyBasedRequest, "Request must implement BodyBasedRequest");
-
-        final String urlPath = new StringBuilder(connection.getBaseUrl())
-                .append(apiPath)
-                .toString();
-        final HttpUrl.Builder urlBuilder = HttpUrl.parse(urlPath).newBuilder();
-        final Request httpRequest = connection.newRequestBuilder()
-                .url(request.populateQueryParameters(urlBuilder).build())
-                .post(RequestBody.create(
-                        connection.getGsonFactory().getInstance(connection).toJson(request),
-                        JSON_MEDIA_TYPE))
-                .build();
-        return connection.execute(httpRequest, new BasicParser<>(responseType));
+        return execute(endpointName, newPostRequest(apiPath, request), new StreamingParser<>(responseType));
     }
 
     /**
      * Executes a DELETE request for the given URL path, request, and expected response type class.
      *
+     * @param endpointName the logical name of the endpoint (e.g., {@code movies.getCredits}) used to record
+     *                     metrics and to select hedged endpoints
      * @param apiPath te full path URL
      * @param request the request
      * @param responseType the response type class
@@ -127,16 +208,323 @@ public abstract class ApiBase {
      * @param <T> the response type
      */
     protected <T> T executeDelete(
+            final String endpointName,
+            final String apiPath,
+            final QueryParameterBasedRequest request,
+            final Class<T> responseType) {
+        return execute(endpointName, newDeleteRequest(apiPath, request), new StreamingParser<>(responseType));
+    }
+
+    /**
+     * Asynchronously executes a GET request for the given URL path and expected response type class.
+     *
+     * @param endpointName the logical name of the endpoint (e.g., {@code movies.getCredits}) used to record
+     *                     metrics and to select hedged endpoints
+     * @param apiPath the full path URL
+     * @param responseType the expected response type class
+     * @return the future that completes with the deserialized response
+     * @param <T> the response type
+     */
+    protected <T> CompletableFuture<T> executeGetAsync(
+            final String endpointName,
+            final String apiPath,
+            final Class<T> responseType) {
+        return executeGetAsync(endpointName, apiPath, newGetRequest(apiPath), new StreamingParser<>(responseType));
+    }
+
+    /**
+     * Asynchronously executes a GET request for the given URL path, request, and expected response type class.
+     *
+     * @param endpointName the logical name of the endpoint (e.g., {@code movies.getCredits}) used to record
+     *                     metrics and to select hedged endpoints
+     * @param apiPath the full path URL
+     * @param request the request
+     * @param responseType the response type class
+     * @return the future that completes with the deserialized response
+     * @param <T> the response type
+     */
+    protected <T> CompletableFuture<T> executeGetAsync(
+            final String endpointName,
+            final String apiPath,
+            final QueryParameterBasedRequest request,
+            final Class<T> responseType) {
+        return executeGetAsync(
+                endpointName,
+                apiPath,
+                newGetRequest(apiPath, request),
+                new StreamingParser<>(responseType));
+    }
+
+    /**
+     * Asynchronously executes the given GET request and deserializes the response with the given parser. Cached
+     * responses are returned as an already completed future.
+     *
+     * @param endpointName the logical name of the endpoint (e.g., {@code movies.getCredits}) used to record
+     *                     metrics and to select hedged endpoints
+     * @param apiPath the API path used to evaluate the cache policy
+     * @param httpRequest the HTTP request
+     * @param parser the response parser
+     * @return the future that completes with the deserialized response
+     * @param <T> the response type
+     * @see #executeGet(String, String, Request, GsonParser)
+     */
+    protected <T> CompletableFuture<T> executeGetAsync(
+            final String endpointName,
+            final String apiPath,
+            final Request httpRequest,
+            final GsonParser<T> parser) {
+        final ResponseCache responseCache = apiConfig.getResponseCache();
+        final RequestCoalescer requestCoalescer = apiConfig.getRequestCoalescer();
+        final boolean isCacheable = isCacheable(responseCache, apiPath);
+        if (!isCacheable && Objects.isNull(requestCoalescer)) {
+            return executeGetRequestAsync(endpointName, httpRequest, parser);
+        }
+
+        final CacheKey key = CacheKey.from(httpRequest);
+        if (isCacheable) {
+            final T cached = getCachedResponse(responseCache, key);
+            if (cached != null) {
+                recordCachedResponse(endpointName, httpRequest);
+                return CompletableFuture.completedFuture(cached);
+            }
+        }
+
+        final Supplier<CompletableFuture<T>> request = () -> isCacheable
+                ? executeGetRequestAsync(endpointName, httpRequest, parser).thenApply(response -> {
+                    cacheResponse(responseCache, key, apiPath, response);
+                    return response;
+                })
+                : executeGetRequestAsync(endpointName, httpRequest, parser);
+        return Objects.isNull(requestCoalescer) ? request.get() : requestCoalescer.executeAsync(key, request);
+    }
+
+    /**
+     * Asynchronously executes a POST request for the given URL path, request, and expected response type class.
+     *
+     * @param endpointName the logical name of the endpoint (e.g., {@code movies.getCredits}) used to record
+     *                     metrics and to select hedged endpoints
+     * @param apiPath the full path URL
+     * @param request the request
+     * @param responseType the response type class
+     * @return the future that completes with the deserialized response
+     * @param <T> the response type
+     */
+    protected <T> CompletableFuture<T> executePostAsync(
+            final String endpointName,
+            final String apiPath,
+            final QueryParameterBasedRequest request,
+            final Class<T> responseType) {
+        return executeAsync(endpointName, newPostRequest(apiPath, request), new StreamingParser<>(responseType));
+    }
+
+    /**
+     * Asynchronously executes a DELETE request for the given URL path, request, and expected response type class.
+     *
+     * @param endpointName the logical name of the endpoint (e.g., {@code movies.getCredits}) used to record
+     *                     metrics and to select hedged endpoints
+     * @param apiPath the full path URL
+     * @param request the request
+     * @param responseType the response type class
+     * @return the future that completes with the deserialized response
+     * @param <T> the response type
+     */
+    protected <T> CompletableFuture<T> executeDeleteAsync(
+            final String endpointName,
             final String apiPath,
             final QueryParameterBasedRequest request,
             final Class<T> responseType) {
-        final String urlPath = new StringBuilder(connection.getBaseUrl())
-                .append(apiPath)
-                .toString();
-        final HttpUrl.Builder urlBuilder = HttpUrl.parse(urlPath).newBuilder();
-        final HttpUrl httpUrl = request.populateQueryParameters(urlBuilder).build();
+        return executeAsync(endpointName, newDeleteRequest(apiPath, request), new StreamingParser<>(responseType));
+    }
+
+    /**
+     * Asynchronously executes the given HTTP request via {@link Call#enqueue(okhttp3.Callback)} and deserializes
+     * the response with the given parser. The returned future is completed on the
+     * {@link ApiConfig#getCallbackExecutor()}. Cancelling the returned future cancels the underlying HTTP call.
+     * <p>
+     * Note: The connection's {@link com.amilesend.client.connection.retry.RetryStrategy} blocks the calling thread
+     * between attempts and is only applied to synchronous requests. Asynchronous requests are only retried by
+     * the interceptors of the underlying HTTP client (e.g., a
+     * {@link com.amilesend.tmdb.client.connection.retry.RetryInterceptor}).
+     *
+     * @param endpointName the logical name of the endpoint (e.g., {@code movies.getCredits}) used to record
+     *                     metrics and to select hedged endpoints
+     * @param httpRequest the HTTP request
+     * @param parser the response parser
+     * @return the future that completes with the deserialized response
+     * @param <T> the response type
+     */
+    protected <T> CompletableFuture<T> executeAsync(
+            final String endpointName,
+            final Request httpRequest,
+            final GsonParser<T> parser) {
+        final ApiIsolation apiIsolation = apiConfig.getApiIsolation();
+        return Objects.isNull(apiIsolation)
+                ? sendAsync(endpointName, httpRequest, parser)
+                : apiIsolation.executeAsync(getApiFamily(), () -> sendAsync(endpointName, httpRequest, parser));
+    }
+
+    /**
+     * Builds a new GET request for the given URL path.
+     *
+     * @param apiPath the full path URL
+     * @return the HTTP request
+     */
+    protected Request newGetRequest(final String apiPath) {
+        return connection.newRequestBuilder()
+                .url(getBaseUrl().resolve(apiPath))
+                .build();
+    }
+
+    /**
+     * Builds a new GET request for the given URL path and request.
+     *
+     * @param apiPath the full path URL
+     * @param request the request
+     * @return the HTTP request
+     */
+    protected Request newGetRequest(final String apiPath, final QueryParameterBasedRequest request) {
+        return connection.newRequestBuilder()
+                .url(toHttpUrl(apiPath, request))
+                .build();
+    }
+
+    private <T> T executeGetRequest(
+            final String endpointName,
+            final Request httpRequest,
+            final GsonParser<T> parser) {
+        final RequestHedger requestHedger = apiConfig.getRequestHedger();
+        if (Objects.isNull(requestHedger) || !requestHedger.isHedged(endpointName)) {
+            return execute(endpointName, httpRequest, parser);
+        }
+
+        try {
+            return requestHedger.execute(endpointName, () -> executeAsync(endpointName, httpRequest, parser)).join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    private <T> CompletableFuture<T> executeGetRequestAsync(
+            final String endpointName,
+            final Request httpRequest,
+            final GsonParser<T> parser) {
+        final RequestHedger requestHedger = apiConfig.getRequestHedger();
+        return Objects.nonNull(requestHedger) && requestHedger.isHedged(endpointName)
+                ? requestHedger.execute(endpointName, () -> executeAsync(endpointName, httpRequest, parser))
+                : executeAsync(endpointName, httpRequest, parser);
+    }
+
+    private <T> CompletableFuture<T> sendAsync(
+            final String endpointName,
+            final Request httpRequest,
+            final GsonParser<T> parser) {
+        final RequestMetricsRecorder recorder = newMetricsRecorder(endpointName, httpRequest);
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final Call call = connection.getHttpClient()
+                .newCall(Objects.isNull(recorder) ? httpRequest : recorder.tag(httpRequest));
+        // The metrics are recorded before the returned future completes so that they are visible to its dependents
+        final CompletableFuture<T> response = new CompletableFuture<>();
+        future.whenComplete((result, ex) -> {
+            if (Objects.nonNull(recorder)) {
+                recorder.complete(ex);
+            }
+            if (Objects.isNull(ex)) {
+                response.complete(result);
+            } else {
+                response.completeExceptionally(ex);
+            }
+        });
+        response.whenComplete((result, ex) -> {
+            if (response.isCancelled()) {
+                future.cancel(false);
+                call.cancel();
+            }
+        });
+        call.enqueue(new FutureCallback<>(
+                future,
+                connection.getGsonFactory().getInstance(connection),
+                Objects.isNull(recorder) ? parser : recorder.wrap(parser),
+                apiConfig.getCallbackExecutor()));
+        return response;
+    }
 
-        final Request.Builder requestBuilder =  connection.newRequestBuilder().url(httpUrl);
+    private <T> T execute(final String endpointName, final Request httpRequest, final GsonParser<T> parser) {
+        final ApiIsolation apiIsolation = apiConfig.getApiIsolation();
+        return Objects.isNull(apiIsolation)
+                ? send(endpointName, httpRequest, parser)
+                : apiIsolation.execute(getApiFamily(), () -> send(endpointName, httpRequest, parser));
+    }
+
+    private <T> T send(final String endpointName, final Request httpRequest, final GsonParser<T> parser) {
+        final RequestMetricsRecorder recorder = newMetricsRecorder(endpointName, httpRequest);
+        if (Objects.isNull(recorder)) {
+            return connection.execute(httpRequest, parser);
+        }
+
+        try {
+            final T response = connection.execute(recorder.tag(httpRequest), recorder.wrap(parser));
+            recorder.complete(null);
+            return response;
+        } catch (final RuntimeException ex) {
+            recorder.complete(ex);
+            throw ex;
+        }
+    }
+
+    private void recordCachedResponse(final String endpointName, final Request httpRequest) {
+        final RequestMetricsRecorder recorder = newMetricsRecorder(endpointName, httpRequest);
+        if (Objects.nonNull(recorder)) {
+            recorder.completeFromCache();
+        }
+    }
+
+    private RequestMetricsRecorder newMetricsRecorder(final String endpointName, final Request httpRequest) {
+        final RequestMetricsListener metricsListener = apiConfig.getMetricsListener();
+        return Objects.isNull(metricsListener)
+                ? null
+                : new RequestMetricsRecorder(metricsListener, endpointName, httpRequest.method());
+    }
+
+    private ApiFamily getApiFamily() {
+        return API_FAMILIES.getOrDefault(getClass(), ApiFamily.DETAILS);
+    }
+
+    private boolean isCacheable(final ResponseCache responseCache, final String apiPath) {
+        return Objects.nonNull(responseCache) && apiConfig.getCachePolicy().isCacheable(apiPath);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T getCachedResponse(final ResponseCache responseCache, final CacheKey key) {
+        // Keys include the full request URL, so a cached entry is always of the type parsed for that URL
+        return (T) responseCache.get(key);
+    }
+
+    private void cacheResponse(
+            final ResponseCache responseCache,
+            final CacheKey key,
+            final String apiPath,
+            final Object response) {
+        if (Objects.nonNull(response)) {
+            responseCache.put(key, response, apiConfig.getCachePolicy().getTimeToLive(apiPath));
+        }
+    }
+
+    private Request newPostRequest(final String apiPath, final QueryParameterBasedRequest request) {
+        Validate.isTrue(request instanceof BodyBasedRequest, "Request must implement BodyBasedRequest");
+
+        return connection.newRequestBuilder()
+                .url(toHttpUrl(apiPath, request))
+                .post(RequestBody.create(
+                        connection.getGsonFactory().getInstance(connection).toJson(request),
+                        JSON_MEDIA_TYPE))
+                .build();
+    }
+
+    private Request newDeleteRequest(final String apiPath, final QueryParameterBasedRequest request) {
+        final Request.Builder requestBuilder =  connection.newRequestBuilder().url(toHttpUrl(apiPath, request));
         if (request instanceof BodyBasedRequest) {
             requestBuilder.delete(RequestBody.create(
                     connection.getGsonFactory().getInstance(connection).toJson(request),
@@ -145,6 +533,26 @@ public abstract class ApiBase {
             requestBuilder.delete();
         }
 
-        return connection.execute(requestBuilder.build(), new BasicParser<>(responseType));
+        return requestBuilder.build();
+    }
+
+    private HttpUrl toHttpUrl(final String apiPath, final QueryParameterBasedRequest request) {
+        return request.populateQueryParameters(getBaseUrl().newUrlBuilder(apiPath)).build();
+    }
+
+    /**
+     * Gets the parsed base URL of the connection. Concurrent first calls may each parse the URL, which is benign
+     * as the parsed URL is immutable.
+     *
+     * @return the base URL
+     */
+    private BaseUrl getBaseUrl() {
+        BaseUrl url = baseUrl;
+        if (Objects.isNull(url)) {
+            url = BaseUrl.of(connection.getBaseUrl());
+            baseUrl = url;
+        }
+
+        return url;
     }
 }
@@ -0,0 +1,91 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.api;
+
+import com.amilesend.tmdb.client.connection.cache.CachePolicy;
+import com.amilesend.tmdb.client.connection.cache.EndpointCachePolicy;
+import com.amilesend.tmdb.client.connection.cache.ResponseCache;
+import com.amilesend.tmdb.client.connection.coalesce.RequestCoalescer;
+import com.amilesend.tmdb.client.connection.hedge.RequestHedger;
+import com.amilesend.tmdb.client.connection.isolation.ApiIsolation;
+import com.amilesend.tmdb.client.connection.metrics.RequestMetricsListener;
+import com.amilesend.tmdb.client.connection.metrics.RequestMetricsRecorder;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Defines the configuration that is shared across all API instances vended from a
+ * {@link com.amilesend.tmdb.client.Tmdb} instance.
+ *
+ * @see ApiBase
+ */
+@Builder
+@Getter
+public class ApiConfig {
+    /**
+     * The executor used to complete the futures returned by the asynchronous {@code *Async} API methods.
+     * Defaults to {@link ForkJoinPool#commonPool()}.
+     */
+    @NonNull
+    @Builder.Default
+    private final Executor callbackExecutor = ForkJoinPool.commonPool();
+    /** The cache used for GET responses (optional). Caching is disabled when not defined. */
+    private final ResponseCache responseCache;
+    /**
+     * The policy that determines which GET responses are cached and for how long. Defaults to caching
+     * reference data (certifications, configuration, genres, and watch providers) for one day.
+     */
+    @NonNull
+    @Builder.Default
+    private final CachePolicy cachePolicy = EndpointCachePolicy.referenceData(Duration.ofDays(1L));
+    /**
+     * The coalescer used to share a single HTTP call and deserialized response across concurrent identical GET
+     * requests (optional). Coalescing is disabled when not defined.
+     */
+    private final RequestCoalescer requestCoalescer;
+    /**
+     * The hedger used to send a second attempt of slow GET requests to reduce tail latency (optional). Hedging is
+     * disabled when not defined.
+     */
+    private final RequestHedger requestHedger;
+    /**
+     * The bulkheads and circuit breakers used to isolate each API family from the others (optional). Isolation is
+     * disabled when not defined.
+     */
+    private final ApiIsolation apiIsolation;
+    /**
+     * The listener that is notified with the metrics of each request (optional). The network timings are only
+     * recorded when the HTTP client is configured with {@link RequestMetricsRecorder#eventListenerFactory()}, which
+     * is done automatically by {@link com.amilesend.tmdb.client.Tmdb#builder()}.
+     */
+    private final RequestMetricsListener metricsListener;
+
+    /**
+     * Creates a new {@code ApiConfig} that is configured with the default settings.
+     *
+     * @return the default configuration
+     */
+    public static ApiConfig defaultConfig() {
+        return ApiConfig.builder().build();
+    }
+}
@@ -28,6 +28,8 @@ import com.amilesend.tmdb.client.model.auth.DeleteSessionResponse;
 import com.amilesend.tmdb.client.model.auth.ValidateKeyResponse;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB Authentication API. */
 public class AuthenticationApi extends ApiBase {
     private static final String API_PATH = "/authentication";
@@ -41,6 +43,16 @@ public class AuthenticationApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code AuthenticationApi} object.
+     *
+     * @param connection the underlying connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public AuthenticationApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Creates a new guest session to allow for limited access to a user's account.
      * More information: <a href="https://developer.themoviedb.org/reference/authentication-create-guest-session">
@@ -50,7 +62,25 @@ public class AuthenticationApi extends ApiBase {
      * @see CreateGuestSessionResponse
      */
     public CreateGuestSessionResponse createGuestSession() {
-        return executeGet(getApiPath("/guest_session/new"), CreateGuestSessionResponse.class);
+        return executeGet(
+                "authentication.createGuestSession",
+                getApiPath("/guest_session/new"),
+                CreateGuestSessionResponse.class);
+    }
+
+    /**
+     * Asynchronously creates a new guest session to allow for limited access to a user's account.
+     * More information: <a href="https://developer.themoviedb.org/reference/authentication-create-guest-session">
+     * https://developer.themoviedb.org/reference/authentication-create-guest-session</a>
+     *
+     * @return the future that completes with the response containing the guest session identifier.
+     * @see CreateGuestSessionResponse
+     */
+    public CompletableFuture<CreateGuestSessionResponse> createGuestSessionAsync() {
+        return executeGetAsync(
+                "authentication.createGuestSession",
+                getApiPath("/guest_session/new"),
+                CreateGuestSessionResponse.class);
     }
 
     /**
@@ -60,7 +90,23 @@ public class AuthenticationApi extends ApiBase {
      * @see CreateRequestTokenResponse
      */
     public CreateRequestTokenResponse createRequestToken() {
-        return executeGet(getApiPath("/token/new"), CreateRequestTokenResponse.class);
+        return executeGet(
+                "authentication.createRequestToken",
+                getApiPath("/token/new"),
+                CreateRequestTokenResponse.class);
+    }
+
+    /**
+     * Asynchronously creates a new request token to validate the TMDB user login.
+     *
+     * @return the future that completes with the response containing the request token
+     * @see CreateRequestTokenResponse
+     */
+    public CompletableFuture<CreateRequestTokenResponse> createRequestTokenAsync() {
+        return executeGetAsync(
+                "authentication.createRequestToken",
+                getApiPath("/token/new"),
+                CreateRequestTokenResponse.class);
     }
 
     /**
@@ -72,7 +118,27 @@ public class AuthenticationApi extends ApiBase {
      * @see CreateSessionResponse
      */
     public CreateSessionResponse createSession(@NonNull final CreateSessionRequest request) {
-        return executePost(getApiPath("/session/new"), request, CreateSessionResponse.class);
+        return executePost(
+                "authentication.createSession",
+                getApiPath("/session/new"),
+                request,
+                CreateSessionResponse.class);
+    }
+
+    /**
+     * Asynchronously creates a new user session that grants access to write user data.
+     *
+     * @param request the request containing the request token
+     * @return the future that completes with the response containing the secret session identifier
+     * @see CreateSessionRequest
+     * @see CreateSessionResponse
+     */
+    public CompletableFuture<CreateSessionResponse> createSessionAsync(@NonNull final CreateSessionRequest request) {
+        return executePostAsync(
+                "authentication.createSession",
+                getApiPath("/session/new"),
+                request,
+                CreateSessionResponse.class);
     }
 
     /**
@@ -84,7 +150,27 @@ public class AuthenticationApi extends ApiBase {
      * @see DeleteSessionResponse
      */
     public DeleteSessionResponse deleteSession(@NonNull final DeleteSessionRequest request) {
-        return executeDelete(getApiPath("/session"), request, DeleteSessionResponse.class);
+        return executeDelete(
+                "authentication.deleteSession",
+                getApiPath("/session"),
+                request,
+                DeleteSessionResponse.class);
+    }
+
+    /**
+     * Asynchronously deletes a session.
+     *
+     * @param request the request containing the session identifier
+     * @return the future that completes with the response
+     * @see DeleteSessionRequest
+     * @see DeleteSessionResponse
+     */
+    public CompletableFuture<DeleteSessionResponse> deleteSessionAsync(@NonNull final DeleteSessionRequest request) {
+        return executeDeleteAsync(
+                "authentication.deleteSession",
+                getApiPath("/session"),
+                request,
+                DeleteSessionResponse.class);
     }
 
     /**
@@ -94,7 +180,17 @@ public class AuthenticationApi extends ApiBase {
      * @see ValidateKeyResponse
      */
     public ValidateKeyResponse validateKey() {
-        return executeGet(StringUtils.EMPTY, ValidateKeyResponse.class);
+        return executeGet("authentication.validateKey", StringUtils.EMPTY, ValidateKeyResponse.class);
+    }
+
+    /**
+     * Asynchronously validates the application's access permissions (i.e., the read access token).
+     *
+     * @return the future that completes with the response
+     * @see ValidateKeyResponse
+     */
+    public CompletableFuture<ValidateKeyResponse> validateKeyAsync() {
+        return executeGetAsync("authentication.validateKey", StringUtils.EMPTY, ValidateKeyResponse.class);
     }
 
     private static String getApiPath(final String subApiPath) {
@@ -0,0 +1,84 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.api;
+
+import lombok.Getter;
+import lombok.NonNull;
+import okhttp3.HttpUrl;
+
+/**
+ * The parsed base URL of the API (e.g., {@code https://api.themoviedb.org/3}) that API paths are resolved against.
+ * The base URL is parsed once so that resolving a path only appends its already encoded segments, rather than
+ * concatenating and re-parsing the full URL for every request.
+ *
+ * @see PathTemplate
+ */
+public final class BaseUrl {
+    private static final char SEGMENT_DELIMITER = '/';
+
+    /** The parsed base URL. */
+    @Getter
+    private final HttpUrl url;
+
+    private BaseUrl(final HttpUrl url) {
+        this.url = url;
+    }
+
+    /**
+     * Parses the given base URL.
+     *
+     * @param baseUrl the base URL
+     * @return the parsed base URL
+     * @throws IllegalArgumentException if the URL is not a valid HTTP or HTTPS URL
+     */
+    public static BaseUrl of(@NonNull final String baseUrl) {
+        return new BaseUrl(HttpUrl.get(baseUrl));
+    }
+
+    /**
+     * Creates a new URL builder for the given API path. The path is expected to already be encoded (e.g., as
+     * expanded by a {@link PathTemplate}); any character that is not valid in a path is encoded, while existing
+     * percent-encoded sequences are preserved.
+     *
+     * @param apiPath the API path that begins with {@code /} (e.g., {@code /movie/550/credits})
+     * @return the URL builder
+     */
+    public HttpUrl.Builder newUrlBuilder(@NonNull final String apiPath) {
+        final HttpUrl.Builder urlBuilder = url.newBuilder();
+        final int start = !apiPath.isEmpty() && apiPath.charAt(0) == SEGMENT_DELIMITER ? 1 : 0;
+        return start == apiPath.length()
+                ? urlBuilder
+                : urlBuilder.addEncodedPathSegments(start == 0 ? apiPath : apiPath.substring(start));
+    }
+
+    /**
+     * Resolves the given API path.
+     *
+     * @param apiPath the API path that begins with {@code /} (e.g., {@code /movie/550/credits})
+     * @return the resolved URL
+     * @see #newUrlBuilder(String)
+     */
+    public HttpUrl resolve(@NonNull final String apiPath) {
+        return newUrlBuilder(apiPath).build();
+    }
+
+    @Override
+    public String toString() {
+        return url.toString();
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.api;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.tmdb.client.util.BoundedAsyncExecutor;
+import com.amilesend.tmdb.client.util.IntHashSet;
+import lombok.Builder;
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Looks up a result for each identifier within a collection while bounding the number of requests that are in-flight
+ * at any given time. The failure of an individual lookup is reported for its identifier and does not abort the
+ * remaining lookups.
+ * <p>
+ * Example:
+ * <pre>
+ * BatchResult&lt;GetMovieDetailsResponse&gt; result = BatchLookup.&lt;GetMovieDetailsResponse&gt;builder()
+ *         .ids(movieIds)
+ *         .lookup(id -&gt; moviesApi.getMovieDetailsAsync(GetMovieDetailsRequest.builder()
+ *                 .movieId(id)
+ *                 .build()))
+ *         .maxConcurrency(8)
+ *         .build()
+ *         .execute();
+ * </pre>
+ * Duplicate identifiers are only looked up once. Note that the number of concurrent requests is also bounded by the
+ * {@code OkHttpClient}'s {@link okhttp3.Dispatcher} (by default, 5 requests per host).
+ *
+ * @param <T> the result type
+ * @see BatchResult
+ * @see BatchResultSink
+ */
+public class BatchLookup<T> {
+    private static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+    private final int[] ids;
+    private final IntFunction<CompletableFuture<? extends T>> lookup;
+    private final int maxConcurrency;
+
+    /**
+     * Creates a new {@code BatchLookup}.
+     *
+     * @param ids the identifiers to look up
+     * @param lookup the function that asynchronously looks up the result for the given identifier
+     * @param maxConcurrency the maximum number of in-flight lookups (defaults to 4)
+     */
+    @Builder
+    private BatchLookup(
+            @NonNull final Collection<Integer> ids,
+            @NonNull final IntFunction<CompletableFuture<? extends T>> lookup,
+            final Integer maxConcurrency) {
+        this.ids = toUniqueIds(ids);
+        this.lookup = lookup;
+        this.maxConcurrency = Objects.requireNonNullElse(maxConcurrency, DEFAULT_MAX_CONCURRENCY);
+        Validate.isTrue(this.maxConcurrency > 0, "maxConcurrency must be positive");
+    }
+
+    /**
+     * Looks up the results for all identifiers and blocks until complete.
+     *
+     * @return the results and failures keyed by identifier
+     */
+    public BatchResult<T> execute() {
+        final BatchResult<T> result = new BatchResult<>();
+        try {
+            executeAsync(result).join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+
+            throw ex;
+        }
+
+        return result;
+    }
+
+    /**
+     * Asynchronously looks up the results for all identifiers, reporting each outcome to the given sink as it
+     * completes. Cancelling the returned future stops the remaining lookups and cancels those that are in-flight.
+     *
+     * @param sink the sink that receives the outcome of each lookup
+     * @return the future that completes once all outcomes have been reported to the sink, or exceptionally if the
+     *         sink throws an exception
+     */
+    public CompletableFuture<Void> executeAsync(@NonNull final BatchResultSink<? super T> sink) {
+        final Execution execution = new Execution(sink);
+        execution.drain();
+        return execution.completion;
+    }
+
+    private static int[] toUniqueIds(final Collection<Integer> ids) {
+        if (ids instanceof IntHashSet) {
+            return ((IntHashSet) ids).toIntArray();
+        }
+
+        // Preserves the order of the given identifiers
+        final IntHashSet uniqueIds = new IntHashSet(ids.size());
+        final int[] orderedIds = new int[ids.size()];
+        int count = 0;
+        for (final Integer id : ids) {
+            Validate.isTrue(id != null, "ids must not contain null");
+            if (uniqueIds.add(id.intValue())) {
+                orderedIds[count++] = id;
+            }
+        }
+
+        return count == orderedIds.length ? orderedIds : Arrays.copyOf(orderedIds, count);
+    }
+
+    /** Tracks the progress of a single batch execution. */
+    private class Execution {
+        private final BatchResultSink<? super T> sink;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private final BoundedAsyncExecutor<T> executor = new BoundedAsyncExecutor<>(maxConcurrency, this::nextLookup);
+        private final AtomicInteger remaining = new AtomicInteger(ids.length);
+        private final Object sinkLock = new Object();
+        /** The index of the next identifier to look up, which is only accessed by the executor's task source. */
+        private int nextIndex;
+
+        Execution(final BatchResultSink<? super T> sink) {
+            this.sink = sink;
+            if (ids.length == 0) {
+                completion.complete(null);
+            }
+
+            completion.whenComplete((ignored, ex) -> {
+                if (completion.isCancelled()) {
+                    executor.cancel();
+                }
+            });
+        }
+
+        void drain() {
+            executor.drain();
+        }
+
+        private BoundedAsyncExecutor.Task<T> nextLookup() {
+            if (nextIndex >= ids.length || completion.isDone()) {
+                return null;
+            }
+
+            final int id = ids[nextIndex++];
+            return BoundedAsyncExecutor.Task.of(() -> lookup.apply(id), (result, ex) -> onComplete(id, result, ex));
+        }
+
+        private void onComplete(final int id, final T result, final Throwable ex) {
+            if (completion.isDone()) {
+                return;
+            }
+
+            try {
+                synchronized (sinkLock) {
+                    if (ex == null) {
+                        sink.onSuccess(id, result);
+                    } else {
+                        sink.onFailure(id, ex);
+                    }
+                }
+            } catch (final RuntimeException sinkEx) {
+                completion.completeExceptionally(sinkEx);
+                executor.cancel();
+                return;
+            }
+
+            if (remaining.decrementAndGet() == 0) {
+                completion.complete(null);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.api;
+
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link BatchResultSink} that collects the outcomes of a {@link BatchLookup} into identifier-keyed maps.
+ *
+ * @param <T> the result type
+ * @see BatchLookup
+ */
+@ToString
+public class BatchResult<T> implements BatchResultSink<T> {
+    private final Map<Integer, T> results = new HashMap<>();
+    private final Map<Integer, Throwable> failures = new HashMap<>();
+
+    @Override
+    public synchronized void onSuccess(final int id, final T result) {
+        results.put(id, result);
+    }
+
+    @Override
+    public synchronized void onFailure(final int id, final Throwable cause) {
+        failures.put(id, cause);
+    }
+
+    /**
+     * Gets the successful results keyed by identifier.
+     *
+     * @return the unmodifiable map of results
+     */
+    public synchronized Map<Integer, T> getResults() {
+        return Collections.unmodifiableMap(new HashMap<>(results));
+    }
+
+    /**
+     * Gets the causes of the failed lookups keyed by identifier.
+     *
+     * @return the unmodifiable map of failures
+     */
+    public synchronized Map<Integer, Throwable> getFailures() {
+        return Collections.unmodifiableMap(new HashMap<>(failures));
+    }
+
+    /**
+     * Determines if any of the lookups failed.
+     *
+     * @return {@code true} if at least one lookup failed; else, {@code false}
+     */
+    public synchronized boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+}
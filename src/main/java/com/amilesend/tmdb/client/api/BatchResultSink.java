@@ -0,0 +1,44 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.api;
+
+/**
+ * Receives the per-identifier outcomes of a {@link BatchLookup} as they complete. Calls are never made concurrently,
+ * but may be made from different threads, and are not ordered by identifier.
+ *
+ * @param <T> the result type
+ * @see BatchLookup
+ * @see BatchResult
+ */
+public interface BatchResultSink<T> {
+    /**
+     * Invoked when the lookup for an identifier succeeds.
+     *
+     * @param id the identifier
+     * @param result the result
+     */
+    void onSuccess(int id, T result);
+
+    /**
+     * Invoked when the lookup for an identifier fails. The failure does not abort the remaining lookups.
+     *
+     * @param id the identifier
+     * @param cause the cause of the failure
+     */
+    void onFailure(int id, Throwable cause);
+}
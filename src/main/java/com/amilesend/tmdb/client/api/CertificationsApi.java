@@ -21,6 +21,8 @@ import com.amilesend.client.connection.Connection;
 import com.amilesend.tmdb.client.model.certification.GetMovieCertificationsResponse;
 import com.amilesend.tmdb.client.model.certification.GetTVCertificationsResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB Certifications API. */
 public class CertificationsApi extends ApiBase {
     /**
@@ -32,6 +34,16 @@ public class CertificationsApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code CertificationsApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public CertificationsApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the list of movie certifications for all countries.
      *
@@ -39,7 +51,23 @@ public class CertificationsApi extends ApiBase {
      * @see GetMovieCertificationsResponse
      */
     public GetMovieCertificationsResponse getMovieCertifications() {
-        return executeGet("/certification/movie/list", GetMovieCertificationsResponse.class);
+        return executeGet(
+                "certifications.getMovieCertifications",
+                "/certification/movie/list",
+                GetMovieCertificationsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of movie certifications for all countries.
+     *
+     * @return the future that completes with the response containing the map of movie certifications
+     * @see GetMovieCertificationsResponse
+     */
+    public CompletableFuture<GetMovieCertificationsResponse> getMovieCertificationsAsync() {
+        return executeGetAsync(
+                "certifications.getMovieCertifications",
+                "/certification/movie/list",
+                GetMovieCertificationsResponse.class);
     }
 
     /**
@@ -49,6 +77,22 @@ public class CertificationsApi extends ApiBase {
      * @see GetTVCertificationsResponse
      */
     public GetTVCertificationsResponse getTVCertifications() {
-        return executeGet("/certification/tv/list", GetTVCertificationsResponse.class);
+        return executeGet(
+                "certifications.getTVCertifications",
+                "/certification/tv/list",
+                GetTVCertificationsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of TV certifications for all countries.
+     *
+     * @return the future that completes with the response containing the map of TV certifications
+     * @see GetTVCertificationsResponse
+     */
+    public CompletableFuture<GetTVCertificationsResponse> getTVCertificationsAsync() {
+        return executeGetAsync(
+                "certifications.getTVCertifications",
+                "/certification/tv/list",
+                GetTVCertificationsResponse.class);
     }
 }
@@ -26,6 +26,8 @@ import com.amilesend.tmdb.client.model.change.GetTvChangesRequest;
 import com.amilesend.tmdb.client.model.change.GetTvChangesResponse;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB Changes API. */
 public class ChangesApi extends ApiBase {
     /**
@@ -37,6 +39,16 @@ public class ChangesApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code ChangesApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public ChangesApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the list of movie changes for the given request.
      *
@@ -46,7 +58,20 @@ public class ChangesApi extends ApiBase {
      * @see GetMovieChangesResponse
      */
     public GetMovieChangesResponse getMovieChanges(@NonNull final GetMovieChangesRequest request) {
-        return executeGet("/movie/changes", request, GetMovieChangesResponse.class);
+        return executeGet("changes.getMovieChanges", "/movie/changes", request, GetMovieChangesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of movie changes for the given request.
+     *
+     * @param request the request
+     * @return the future that completes with the response containing the list of movie changes
+     * @see GetMovieChangesRequest
+     * @see GetMovieChangesResponse
+     */
+    public CompletableFuture<GetMovieChangesResponse> getMovieChangesAsync(
+            @NonNull final GetMovieChangesRequest request) {
+        return executeGetAsync("changes.getMovieChanges", "/movie/changes", request, GetMovieChangesResponse.class);
     }
 
     /**
@@ -58,7 +83,20 @@ public class ChangesApi extends ApiBase {
      * @see GetPersonChangesResponse
      */
     public GetPersonChangesResponse getPersonChanges(@NonNull final GetPersonChangesRequest request) {
-        return executeGet("/person/changes", request, GetPersonChangesResponse.class);
+        return executeGet("changes.getPersonChanges", "/person/changes", request, GetPersonChangesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of person changes for the given request.
+     *
+     * @param request the request
+     * @return the future that completes with the response containing the list of person changes
+     * @see GetPersonChangesRequest
+     * @see GetPersonChangesResponse
+     */
+    public CompletableFuture<GetPersonChangesResponse> getPersonChangesAsync(
+            @NonNull final GetPersonChangesRequest request) {
+        return executeGetAsync("changes.getPersonChanges", "/person/changes", request, GetPersonChangesResponse.class);
     }
 
     /**
@@ -70,6 +108,18 @@ public class ChangesApi extends ApiBase {
      * @see GetTvChangesResponse
      */
     public GetTvChangesResponse getTvChanges(@NonNull final GetTvChangesRequest request) {
-        return executeGet("/tv/changes", request, GetTvChangesResponse.class);
+        return executeGet("changes.getTvChanges", "/tv/changes", request, GetTvChangesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of TV show changes for the given request.
+     *
+     * @param request the request
+     * @return the future that completes with the response containing the list of TV show changes
+     * @see GetTvChangesRequest
+     * @see GetTvChangesResponse
+     */
+    public CompletableFuture<GetTvChangesResponse> getTvChangesAsync(@NonNull final GetTvChangesRequest request) {
+        return executeGetAsync("changes.getTvChanges", "/tv/changes", request, GetTvChangesResponse.class);
     }
 }
@@ -26,6 +26,8 @@ import com.amilesend.tmdb.client.model.collection.GetTranslationsRequest;
 import com.amilesend.tmdb.client.model.collection.GetTranslationsResponse;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB Collections API. */
 public class CollectionsApi extends ApiBase {
     private static final String API_PATH = "/collection/";
@@ -39,6 +41,16 @@ public class CollectionsApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code CollectionsApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public CollectionsApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the collection details for the given identifier.
      *
@@ -48,7 +60,28 @@ public class CollectionsApi extends ApiBase {
      * @see GetCollectionDetailsResponse
      */
     public GetCollectionDetailsResponse getCollectionDetails(@NonNull final GetCollectionDetailsRequest request) {
-        return executeGet(API_PATH + request.getCollectionId(), request, GetCollectionDetailsResponse.class);
+        return executeGet(
+                "collections.getCollectionDetails",
+                API_PATH + request.getCollectionId(),
+                request,
+                GetCollectionDetailsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the collection details for the given identifier.
+     *
+     * @param request the request
+     * @return the future that completes with the collection details
+     * @see GetCollectionDetailsResponse
+     * @see GetCollectionDetailsResponse
+     */
+    public CompletableFuture<GetCollectionDetailsResponse> getCollectionDetailsAsync(
+            @NonNull final GetCollectionDetailsRequest request) {
+        return executeGetAsync(
+                "collections.getCollectionDetails",
+                API_PATH + request.getCollectionId(),
+                request,
+                GetCollectionDetailsResponse.class);
     }
 
     /**
@@ -64,7 +97,24 @@ public class CollectionsApi extends ApiBase {
                 .append(request.getCollectionId())
                 .append("/images")
                 .toString();
-        return executeGet(apiPath, request, GetCollectionImagesResponse.class);
+        return executeGet("collections.getCollectionImages", apiPath, request, GetCollectionImagesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the images associated with a collection.
+     *
+     * @param request the request
+     * @return the future that completes with the images
+     * @see GetCollectionImagesRequest
+     * @see GetCollectionImagesResponse
+     */
+    public CompletableFuture<GetCollectionImagesResponse> getCollectionImagesAsync(
+            @NonNull final GetCollectionImagesRequest request) {
+        final String apiPath = new StringBuilder(API_PATH)
+                .append(request.getCollectionId())
+                .append("/images")
+                .toString();
+        return executeGetAsync("collections.getCollectionImages", apiPath, request, GetCollectionImagesResponse.class);
     }
 
     /**
@@ -80,6 +130,23 @@ public class CollectionsApi extends ApiBase {
                 .append(request.getCollectionId())
                 .append("/translations")
                 .toString();
-        return executeGet(apiPath, request, GetTranslationsResponse.class);
+        return executeGet("collections.getTranslations", apiPath, request, GetTranslationsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the translation information for a collection.
+     *
+     * @param request the request
+     * @return the future that completes with the translations
+     * @see GetTranslationsRequest
+     * @see GetTranslationsResponse
+     */
+    public CompletableFuture<GetTranslationsResponse> getTranslationsAsync(
+            @NonNull final GetTranslationsRequest request) {
+        final String apiPath = new StringBuilder(API_PATH)
+                .append(request.getCollectionId())
+                .append("/translations")
+                .toString();
+        return executeGetAsync("collections.getTranslations", apiPath, request, GetTranslationsResponse.class);
     }
 }
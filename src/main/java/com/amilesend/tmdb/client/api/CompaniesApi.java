@@ -26,6 +26,8 @@ import com.amilesend.tmdb.client.model.company.GetCompanyImagesRequest;
 import com.amilesend.tmdb.client.model.company.GetCompanyImagesResponse;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB Companies API. */
 public class CompaniesApi extends ApiBase {
     private static final String API_PATH = "/company/";
@@ -39,6 +41,16 @@ public class CompaniesApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code CompaniesApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public CompaniesApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the company details.
      *
@@ -51,7 +63,23 @@ public class CompaniesApi extends ApiBase {
         final String apiPath = new StringBuilder(API_PATH)
                 .append(request.getCompanyId())
                 .toString();
-        return executeGet(apiPath, request, GetCompanyDetailsResponse.class);
+        return executeGet("companies.getCompanyDetails", apiPath, request, GetCompanyDetailsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the company details.
+     *
+     * @param request the request
+     * @return the future that completes with the company details
+     * @see GetCompanyDetailsRequest
+     * @see GetCompanyDetailsResponse
+     */
+    public CompletableFuture<GetCompanyDetailsResponse> getCompanyDetailsAsync(
+            @NonNull final GetCompanyDetailsRequest request) {
+        final String apiPath = new StringBuilder(API_PATH)
+                .append(request.getCompanyId())
+                .toString();
+        return executeGetAsync("companies.getCompanyDetails", apiPath, request, GetCompanyDetailsResponse.class);
     }
 
     /**
@@ -67,7 +95,24 @@ public class CompaniesApi extends ApiBase {
                 .append(request.getCompanyId())
                 .append("/alternative_names")
                 .toString();
-        return executeGet(apiPath, request, GetAlternativeNamesResponse.class);
+        return executeGet("companies.getAlternativeNames", apiPath, request, GetAlternativeNamesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the alternative company names.
+     *
+     * @param request the request
+     * @return the future that completes with the alternative names
+     * @see GetAlternativeNamesRequest
+     * @see GetAlternativeNamesResponse
+     */
+    public CompletableFuture<GetAlternativeNamesResponse> getAlternativeNamesAsync(
+            @NonNull final GetAlternativeNamesRequest request) {
+        final String apiPath =new StringBuilder(API_PATH)
+                .append(request.getCompanyId())
+                .append("/alternative_names")
+                .toString();
+        return executeGetAsync("companies.getAlternativeNames", apiPath, request, GetAlternativeNamesResponse.class);
     }
 
     /**
@@ -82,6 +127,21 @@ public class CompaniesApi extends ApiBase {
                 .append(request.getCompanyId())
                 .append("/images")
                 .toString();
-        return executeGet(apiPath, request, GetCompanyImagesResponse.class);
+        return executeGet("companies.getImages", apiPath, request, GetCompanyImagesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the images associated with a company.
+     *
+     * @param request the request
+     * @return the future that completes with the company images
+     * @see GetCompanyImagesResponse
+     */
+    public CompletableFuture<GetCompanyImagesResponse> getImagesAsync(@NonNull final GetCompanyImagesRequest request) {
+        final String apiPath = new StringBuilder(API_PATH)
+                .append(request.getCompanyId())
+                .append("/images")
+                .toString();
+        return executeGetAsync("companies.getImages", apiPath, request, GetCompanyImagesResponse.class);
     }
 }
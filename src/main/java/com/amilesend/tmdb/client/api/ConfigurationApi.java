@@ -18,7 +18,6 @@
 package com.amilesend.tmdb.client.api;
 
 import com.amilesend.client.connection.Connection;
-import com.amilesend.client.parse.parser.ListParser;
 import com.amilesend.tmdb.client.model.configuration.GetConfigurationDetailsResponse;
 import com.amilesend.tmdb.client.model.configuration.GetCountriesResponse;
 import com.amilesend.tmdb.client.model.configuration.GetJobsResponse;
@@ -29,10 +28,10 @@ import com.amilesend.tmdb.client.model.configuration.type.ConfigurationCountry;
 import com.amilesend.tmdb.client.model.configuration.type.ConfigurationLanguage;
 import com.amilesend.tmdb.client.model.configuration.type.ConfigurationTimezone;
 import com.amilesend.tmdb.client.model.configuration.type.Job;
-import com.amilesend.tmdb.client.parse.GsonFactory;
-import okhttp3.Request;
+import com.amilesend.tmdb.client.parse.StreamingParser;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /** TMDB Configuration API. */
 public class ConfigurationApi extends ApiBase {
@@ -47,6 +46,16 @@ public class ConfigurationApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code ConfigurationApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public ConfigurationApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the configuration details that provides context for API integration.
      *
@@ -54,7 +63,20 @@ public class ConfigurationApi extends ApiBase {
      * @see GetConfigurationDetailsResponse
      */
     public GetConfigurationDetailsResponse getConfigurationDetails() {
-        return executeGet(API_PATH, GetConfigurationDetailsResponse.class);
+        return executeGet("configuration.getConfigurationDetails", API_PATH, GetConfigurationDetailsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the configuration details that provides context for API integration.
+     *
+     * @return the future that completes with the configuration details
+     * @see GetConfigurationDetailsResponse
+     */
+    public CompletableFuture<GetConfigurationDetailsResponse> getConfigurationDetailsAsync() {
+        return executeGetAsync(
+                "configuration.getConfigurationDetails",
+                API_PATH,
+                GetConfigurationDetailsResponse.class);
     }
 
     /**
@@ -67,7 +89,24 @@ public class ConfigurationApi extends ApiBase {
         final String apiPath = new StringBuilder(API_PATH)
                 .append("/countries")
                 .toString();
-        return new GetCountriesResponse(executeGetForList(apiPath, ConfigurationCountry.class));
+        return new GetCountriesResponse(executeGetForList(
+                "configuration.getCountries",
+                apiPath,
+                ConfigurationCountry.class));
+    }
+
+    /**
+     * Asynchronously gets the list of support countries.
+     *
+     * @return the future that completes with the list of countries
+     * @see GetCountriesResponse
+     */
+    public CompletableFuture<GetCountriesResponse> getCountriesAsync() {
+        final String apiPath = new StringBuilder(API_PATH)
+                .append("/countries")
+                .toString();
+        return executeGetForListAsync("configuration.getCountries", apiPath, ConfigurationCountry.class)
+                .thenApply(GetCountriesResponse::new);
     }
 
     /**
@@ -80,7 +119,21 @@ public class ConfigurationApi extends ApiBase {
         final String apiPath = new StringBuilder(API_PATH)
                 .append("/jobs")
                 .toString();
-        return new GetJobsResponse(executeGetForList(apiPath, Job.class));
+        return new GetJobsResponse(executeGetForList("configuration.getJobs", apiPath, Job.class));
+    }
+
+    /**
+     * Asynchronously gets the list of available jobs.
+     *
+     * @return the future that completes with the list of jobs
+     * @see GetJobsResponse
+     */
+    public CompletableFuture<GetJobsResponse> getJobsAsync() {
+        final String apiPath = new StringBuilder(API_PATH)
+                .append("/jobs")
+                .toString();
+        return executeGetForListAsync("configuration.getJobs", apiPath, Job.class)
+                .thenApply(GetJobsResponse::new);
     }
 
     /**
@@ -94,7 +147,25 @@ public class ConfigurationApi extends ApiBase {
         final String apiPath =  new StringBuilder(API_PATH)
                 .append("/languages")
                 .toString();
-        return new GetLanguagesResponse(executeGetForList(apiPath, ConfigurationLanguage.class));
+        return new GetLanguagesResponse(executeGetForList(
+                "configuration.getLanguages",
+                apiPath,
+                ConfigurationLanguage.class));
+    }
+
+    /**
+     * Asynchronously gets the list of supported languages.
+     *
+     * @return the future that completes with the list of languages
+     * @see GetLanguagesResponse
+     * @see ConfigurationLanguage
+     */
+    public CompletableFuture<GetLanguagesResponse> getLanguagesAsync() {
+        final String apiPath = new StringBuilder(API_PATH)
+                .append("/languages")
+                .toString();
+        return executeGetForListAsync("configuration.getLanguages", apiPath, ConfigurationLanguage.class)
+                .thenApply(GetLanguagesResponse::new);
     }
 
     /**
@@ -107,7 +178,24 @@ public class ConfigurationApi extends ApiBase {
         final String apiPath = new StringBuilder(API_PATH)
                 .append("/primary_translations")
                 .toString();
-        return new GetPrimaryTranslationsResponse(executeGetForList(apiPath, String.class));
+        return new GetPrimaryTranslationsResponse(executeGetForList(
+                "configuration.getPrimaryTranslations",
+                apiPath,
+                String.class));
+    }
+
+    /**
+     * Asynchronously gets the list of supported translations.
+     *
+     * @return the future that completes with the list of translations (as locales, e.g., "en-US")
+     * @see GetPrimaryTranslationsResponse
+     */
+    public CompletableFuture<GetPrimaryTranslationsResponse> getPrimaryTranslationsAsync() {
+        final String apiPath = new StringBuilder(API_PATH)
+                .append("/primary_translations")
+                .toString();
+        return executeGetForListAsync("configuration.getPrimaryTranslations", apiPath, String.class)
+                .thenApply(GetPrimaryTranslationsResponse::new);
     }
 
     /**
@@ -120,15 +208,37 @@ public class ConfigurationApi extends ApiBase {
         final String apiPath = new StringBuilder(API_PATH)
                 .append("/timezones")
                 .toString();
-        return new GetTimezonesResponse(executeGetForList(apiPath, ConfigurationTimezone.class));
+        return new GetTimezonesResponse(executeGetForList(
+                "configuration.getTimezones",
+                apiPath,
+                ConfigurationTimezone.class));
     }
 
-    private <T> List<T> executeGetForList(final String apiPath, final Class<T> responseType) {
-        final Connection<GsonFactory> connection = getConnection();
-        final String url = new StringBuilder(connection.getBaseUrl())
-                .append(apiPath)
+    /**
+     * Asynchronously gets the list of supported timezones.
+     *
+     * @return the future that completes with the list of timezones
+     * @see ConfigurationTimezone
+     */
+    public CompletableFuture<GetTimezonesResponse> getTimezonesAsync() {
+        final String apiPath = new StringBuilder(API_PATH)
+                .append("/timezones")
                 .toString();
-        final Request request = connection.newRequestBuilder().url(url).build();
-        return connection.execute(request, new ListParser<>(responseType));
+        return executeGetForListAsync("configuration.getTimezones", apiPath, ConfigurationTimezone.class)
+                .thenApply(GetTimezonesResponse::new);
+    }
+
+    private <T> List<T> executeGetForList(
+            final String endpointName,
+            final String apiPath,
+            final Class<T> responseType) {
+        return executeGet(endpointName, apiPath, newGetRequest(apiPath), StreamingParser.forList(responseType));
+    }
+
+    private <T> CompletableFuture<List<T>> executeGetForListAsync(
+            final String endpointName,
+            final String apiPath,
+            final Class<T> responseType) {
+        return executeGetAsync(endpointName, apiPath, newGetRequest(apiPath), StreamingParser.forList(responseType));
     }
 }
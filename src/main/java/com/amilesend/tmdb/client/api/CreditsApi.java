@@ -22,6 +22,8 @@ import com.amilesend.tmdb.client.model.credit.GetCreditDetailsRequest;
 import com.amilesend.tmdb.client.model.credit.GetCreditDetailsResponse;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB Credits API. */
 public class CreditsApi extends ApiBase {
     private static final String API_PATH = "/credit/";
@@ -35,6 +37,16 @@ public class CreditsApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code CreditsApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public CreditsApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the credit details.
      *
@@ -46,6 +58,21 @@ public class CreditsApi extends ApiBase {
         final String apiPath = new StringBuilder(API_PATH)
                 .append(request.getCreditId())
                 .toString();
-        return executeGet(apiPath, request, GetCreditDetailsResponse.class);
+        return executeGet("credits.getCreditDetails", apiPath, request, GetCreditDetailsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the credit details.
+     *
+     * @param request the request
+     * @return the future that completes with the credit detail information
+     * @see GetCreditDetailsResponse
+     */
+    public CompletableFuture<GetCreditDetailsResponse> getCreditDetailsAsync(
+            @NonNull final GetCreditDetailsRequest request) {
+        final String apiPath = new StringBuilder(API_PATH)
+                .append(request.getCreditId())
+                .toString();
+        return executeGetAsync("credits.getCreditDetails", apiPath, request, GetCreditDetailsResponse.class);
     }
 }
@@ -18,14 +18,28 @@
 package com.amilesend.tmdb.client.api;
 
 import com.amilesend.client.connection.Connection;
+import com.amilesend.client.util.Validate;
+import com.amilesend.tmdb.client.model.PaginatedResponse;
 import com.amilesend.tmdb.client.model.discover.DiscoverMoviesRequest;
 import com.amilesend.tmdb.client.model.discover.DiscoverMoviesResponse;
 import com.amilesend.tmdb.client.model.discover.DiscoverTvRequest;
 import com.amilesend.tmdb.client.model.discover.DiscoverTvResponse;
+import com.amilesend.tmdb.client.model.discover.type.DiscoverRequestBase;
+import com.amilesend.tmdb.client.model.discover.type.TvShow;
+import com.amilesend.tmdb.client.model.movie.type.Movie;
+import com.amilesend.tmdb.client.parse.StreamingParser;
 import lombok.NonNull;
+import okhttp3.Request;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /** TMDB Discover API. */
 public class DiscoverApi extends ApiBase {
+    /** The maximum page number that can be requested from the discover endpoints. */
+    public static final int MAX_PAGE = 500;
+
     /**
      * Creates a new {@code DiscoverApi} object.
      *
@@ -35,6 +49,16 @@ public class DiscoverApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code DiscoverApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public DiscoverApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets a paginated list of movies.
      *
@@ -42,7 +66,17 @@ public class DiscoverApi extends ApiBase {
      * @return the response containing th paginated list of movies
      */
     public DiscoverMoviesResponse discoverMovies(@NonNull final DiscoverMoviesRequest request) {
-        return executeGet("/discover/movie", request, DiscoverMoviesResponse.class);
+        return executeGet("discover.discoverMovies", "/discover/movie", request, DiscoverMoviesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets a paginated list of movies.
+     *
+     * @param request the request that defines filter criteria
+     * @return the future that completes with the response containing th paginated list of movies
+     */
+    public CompletableFuture<DiscoverMoviesResponse> discoverMoviesAsync(@NonNull final DiscoverMoviesRequest request) {
+        return executeGetAsync("discover.discoverMovies", "/discover/movie", request, DiscoverMoviesResponse.class);
     }
 
     /**
@@ -52,6 +86,92 @@ public class DiscoverApi extends ApiBase {
      * @return the response containing th paginated list of TV shows
      */
     public DiscoverTvResponse discoverTv(@NonNull final DiscoverTvRequest request) {
-        return executeGet("/discover/tv", request, DiscoverTvResponse.class);
+        return executeGet("discover.discoverTv", "/discover/tv", request, DiscoverTvResponse.class);
+    }
+
+    /**
+     * Asynchronously gets a paginated list of TV shows.
+     *
+     * @param request the request that defines filter criteria
+     * @return the future that completes with the response containing th paginated list of TV shows
+     */
+    public CompletableFuture<DiscoverTvResponse> discoverTvAsync(@NonNull final DiscoverTvRequest request) {
+        return executeGetAsync("discover.discoverTv", "/discover/tv", request, DiscoverTvResponse.class);
+    }
+
+    /**
+     * Gets all movies that match the filter criteria by fetching the first page to determine the total number of
+     * pages, and then fetching the remaining pages concurrently. Results are returned in page order and only up to
+     * {@code parallelism} pages are held in memory ahead of the page being consumed. The stream should be closed if
+     * not fully consumed so that in-flight page requests are cancelled.
+     * <p>
+     * Note: The number of concurrent requests is also bounded by the HTTP client's
+     * {@link okhttp3.Dispatcher#getMaxRequestsPerHost()}.
+     *
+     * @param request the request that defines filter criteria (the page, if defined, is used as the start page)
+     * @param parallelism the maximum number of pages to fetch concurrently
+     * @return the ordered stream of movies
+     * @throws IllegalArgumentException if {@code parallelism} is not positive or the page is not between 1 and
+     *         {@link #MAX_PAGE}
+     */
+    public Stream<Movie> discoverAllMovies(@NonNull final DiscoverMoviesRequest request, final int parallelism) {
+        return newBulkPaginator(
+                "discover.discoverAllMovies",
+                "/discover/movie",
+                request,
+                parallelism,
+                DiscoverMoviesResponse.class).stream();
+    }
+
+    /**
+     * Gets all TV shows that match the filter criteria by fetching the first page to determine the total number
+     * of pages, and then fetching the remaining pages concurrently.
+     *
+     * @param request the request that defines filter criteria (the page, if defined, is used as the start page)
+     * @param parallelism the maximum number of pages to fetch concurrently
+     * @return the ordered stream of TV shows
+     * @throws IllegalArgumentException if {@code parallelism} is not positive or the page is not between 1 and
+     *         {@link #MAX_PAGE}
+     * @see #discoverAllMovies(DiscoverMoviesRequest, int)
+     */
+    public Stream<TvShow> discoverAllTv(@NonNull final DiscoverTvRequest request, final int parallelism) {
+        return newBulkPaginator(
+                "discover.discoverAllTv",
+                "/discover/tv",
+                request,
+                parallelism,
+                DiscoverTvResponse.class).stream();
+    }
+
+    private <T, R extends PaginatedResponse<T>> Paginator<T> newBulkPaginator(
+            final String endpointName,
+            final String apiPath,
+            final DiscoverRequestBase request,
+            final int parallelism,
+            final Class<R> responseType) {
+        Validate.isTrue(parallelism > 0, "parallelism must be positive");
+        final int startPage = Objects.requireNonNullElse(request.getPage(), 1);
+        Validate.isTrue(startPage > 0 && startPage <= MAX_PAGE, "page must be between 1 and " + MAX_PAGE
+                + " (the maximum page supported by the service): " + startPage);
+
+        final Request firstPageRequest = newGetRequest(apiPath, request);
+        return Paginator.<T>builder()
+                .pageFetcher(page -> executeGetAsync(
+                        endpointName,
+                        apiPath,
+                        withPage(firstPageRequest, page),
+                        new StreamingParser<>(responseType)))
+                .startPage(startPage)
+                .endPage(MAX_PAGE)
+                .prefetchPages(parallelism)
+                .build();
+    }
+
+    private static Request withPage(final Request httpRequest, final int page) {
+        return httpRequest.newBuilder()
+                .url(httpRequest.url().newBuilder()
+                        .setQueryParameter("page", String.valueOf(page))
+                        .build())
+                .build();
     }
 }
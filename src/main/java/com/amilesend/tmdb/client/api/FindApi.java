@@ -22,6 +22,8 @@ import com.amilesend.tmdb.client.model.find.FindByIdRequest;
 import com.amilesend.tmdb.client.model.find.FindByIdResponse;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB Find API. */
 public class FindApi extends ApiBase {
     /**
@@ -33,6 +35,16 @@ public class FindApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code FindApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public FindApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Find resources based on an external identifier.
      *
@@ -42,6 +54,18 @@ public class FindApi extends ApiBase {
      * @see FindByIdResponse
      */
     public FindByIdResponse findById(@NonNull final FindByIdRequest request) {
-        return executeGet("/find/" + request.getExternalId(), request, FindByIdResponse.class);
+        return executeGet("find.findById", "/find/" + request.getExternalId(), request, FindByIdResponse.class);
+    }
+
+    /**
+     * Asynchronously find resources based on an external identifier.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see FindByIdRequest
+     * @see FindByIdResponse
+     */
+    public CompletableFuture<FindByIdResponse> findByIdAsync(@NonNull final FindByIdRequest request) {
+        return executeGetAsync("find.findById", "/find/" + request.getExternalId(), request, FindByIdResponse.class);
     }
 }
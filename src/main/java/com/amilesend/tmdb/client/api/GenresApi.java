@@ -24,6 +24,8 @@ import com.amilesend.tmdb.client.model.genre.GetTvGenresRequest;
 import com.amilesend.tmdb.client.model.genre.GetTvGenresResponse;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB Genres API. */
 public class GenresApi extends ApiBase {
     /**
@@ -35,6 +37,16 @@ public class GenresApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Create a new {@code GenresApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public GenresApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the list of supported movie genres.
      *
@@ -44,7 +56,19 @@ public class GenresApi extends ApiBase {
      * @see GetMovieGenresResponse
      */
     public GetMovieGenresResponse getMovieGenres(@NonNull final GetMovieGenresRequest request) {
-        return executeGet("/genre/movie/list", request, GetMovieGenresResponse.class);
+        return executeGet("genres.getMovieGenres", "/genre/movie/list", request, GetMovieGenresResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of supported movie genres.
+     *
+     * @param request the request
+     * @return the future that completes with the response containing the list of genres
+     * @see GetMovieGenresRequest
+     * @see GetMovieGenresResponse
+     */
+    public CompletableFuture<GetMovieGenresResponse> getMovieGenresAsync(@NonNull final GetMovieGenresRequest request) {
+        return executeGetAsync("genres.getMovieGenres", "/genre/movie/list", request, GetMovieGenresResponse.class);
     }
 
     /**
@@ -56,6 +80,18 @@ public class GenresApi extends ApiBase {
      * @see GetTvGenresResponse
      */
     public GetTvGenresResponse getTvGenres(@NonNull final GetTvGenresRequest request) {
-        return executeGet("/genre/tv/list", request, GetTvGenresResponse.class);
+        return executeGet("genres.getTvGenres", "/genre/tv/list", request, GetTvGenresResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of supported TV show genres.
+     *
+     * @param request the request
+     * @return the future that completes with the response containing the list of genres
+     * @see GetTvGenresRequest
+     * @see GetTvGenresResponse
+     */
+    public CompletableFuture<GetTvGenresResponse> getTvGenresAsync(@NonNull final GetTvGenresRequest request) {
+        return executeGetAsync("genres.getTvGenres", "/genre/tv/list", request, GetTvGenresResponse.class);
     }
 }
@@ -27,6 +27,8 @@ import com.amilesend.tmdb.client.model.guest.GetRatedTvShowsRequest;
 import com.amilesend.tmdb.client.model.guest.type.GuestSessionRequestBase;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 public class GuestSessionsApi extends ApiBase {
     private static final String API_PATH = "/guest_session/";
 
@@ -39,6 +41,16 @@ public class GuestSessionsApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code GuestSessionsApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public GuestSessionsApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the list of movies that a guest user rated.
      *
@@ -48,7 +60,27 @@ public class GuestSessionsApi extends ApiBase {
      * @see GetRatedMoviesResponse
      */
     public GetRatedMoviesResponse getRatedMovies(@NonNull final GetRatedMoviesRequest request) {
-        return executeGet(getApiPath(request, "/rated/movies"), request, GetRatedMoviesResponse.class);
+        return executeGet(
+                "guestSessions.getRatedMovies",
+                getApiPath(request, "/rated/movies"),
+                request,
+                GetRatedMoviesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of movies that a guest user rated.
+     *
+     * @param request the request
+     * @return the future that completes with the list of rated movies
+     * @see GetRatedMoviesRequest
+     * @see GetRatedMoviesResponse
+     */
+    public CompletableFuture<GetRatedMoviesResponse> getRatedMoviesAsync(@NonNull final GetRatedMoviesRequest request) {
+        return executeGetAsync(
+                "guestSessions.getRatedMovies",
+                getApiPath(request, "/rated/movies"),
+                request,
+                GetRatedMoviesResponse.class);
     }
 
     /**
@@ -60,7 +92,28 @@ public class GuestSessionsApi extends ApiBase {
      * @see GetRatedTvShowsResponse
      */
     public GetRatedTvShowsResponse getRatedTvShows(@NonNull final GetRatedTvShowsRequest request) {
-        return executeGet(getApiPath(request, "/rated/tv"), request, GetRatedTvShowsResponse.class);
+        return executeGet(
+                "guestSessions.getRatedTvShows",
+                getApiPath(request, "/rated/tv"),
+                request,
+                GetRatedTvShowsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of TV shows that a guest user rated.
+     *
+     * @param request the request
+     * @return the future that completes with the list of rated TV shows
+     * @see GetRatedTvShowsRequest
+     * @see GetRatedTvShowsResponse
+     */
+    public CompletableFuture<GetRatedTvShowsResponse> getRatedTvShowsAsync(
+            @NonNull final GetRatedTvShowsRequest request) {
+        return executeGetAsync(
+                "guestSessions.getRatedTvShows",
+                getApiPath(request, "/rated/tv"),
+                request,
+                GetRatedTvShowsResponse.class);
     }
 
     /**
@@ -73,6 +126,24 @@ public class GuestSessionsApi extends ApiBase {
      */
     public GetRatedTvEpisodesResponse getRatedTvEpisodes(@NonNull final GetRatedTvEpisodesRequest request) {
         return executeGet(
+                "guestSessions.getRatedTvEpisodes",
+                getApiPath(request, "/rated/tv/episodes"),
+                request,
+                GetRatedTvEpisodesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of TV episodes that a guest user rated.
+     *
+     * @param request the request
+     * @return the future that completes with the list of TV episodes
+     * @see GetRatedTvEpisodesRequest
+     * @see GetRatedTvEpisodesResponse
+     */
+    public CompletableFuture<GetRatedTvEpisodesResponse> getRatedTvEpisodesAsync(
+            @NonNull final GetRatedTvEpisodesRequest request) {
+        return executeGetAsync(
+                "guestSessions.getRatedTvEpisodes",
                 getApiPath(request, "/rated/tv/episodes"),
                 request,
                 GetRatedTvEpisodesResponse.class);
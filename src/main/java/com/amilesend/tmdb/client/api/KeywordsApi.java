@@ -21,6 +21,8 @@ import com.amilesend.client.connection.Connection;
 import com.amilesend.tmdb.client.model.keyword.GetKeywordDetailsRequest;
 import com.amilesend.tmdb.client.model.keyword.GetKeywordDetailsResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 public class KeywordsApi extends ApiBase {
     private static String API_PATH = "/keyword/";
 
@@ -33,6 +35,16 @@ public class KeywordsApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code KeywordsApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public KeywordsApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the keyword details for the given identifier.
      *
@@ -44,6 +56,20 @@ public class KeywordsApi extends ApiBase {
         final String apiPath = new StringBuilder(API_PATH)
                 .append(request.getKeywordId())
                 .toString();
-        return executeGet(apiPath, request, GetKeywordDetailsResponse.class);
+        return executeGet("keywords.getKeywordDetails", apiPath, request, GetKeywordDetailsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the keyword details for the given identifier.
+     *
+     * @param request the request
+     * @return the future that completes with the details
+     * @see GetKeywordDetailsResponse
+     */
+    public CompletableFuture<GetKeywordDetailsResponse> getKeywordDetailsAsync(final GetKeywordDetailsRequest request) {
+        final String apiPath = new StringBuilder(API_PATH)
+                .append(request.getKeywordId())
+                .toString();
+        return executeGetAsync("keywords.getKeywordDetails", apiPath, request, GetKeywordDetailsResponse.class);
     }
 }
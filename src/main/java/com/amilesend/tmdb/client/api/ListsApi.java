@@ -35,6 +35,8 @@ import com.amilesend.tmdb.client.model.list.RemoveMovieResponse;
 import com.amilesend.tmdb.client.model.list.type.ListRequestBase;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB Lists v3 API (public lists). */
 public class ListsApi extends ApiBase {
     private static String API_PATH = "/list";
@@ -49,6 +51,16 @@ public class ListsApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code ListsApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public ListsApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Adds a movie to a list.
      *
@@ -58,7 +70,19 @@ public class ListsApi extends ApiBase {
      * @see AddMovieResponse
      */
     public AddMovieResponse addMovie(@NonNull final AddMovieRequest request) {
-        return executePost(getApiPath(request, "/add_item"), request, AddMovieResponse.class);
+        return executePost("lists.addMovie", getApiPath(request, "/add_item"), request, AddMovieResponse.class);
+    }
+
+    /**
+     * Asynchronously adds a movie to a list.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see AddMovieRequest
+     * @see AddMovieResponse
+     */
+    public CompletableFuture<AddMovieResponse> addMovieAsync(@NonNull final AddMovieRequest request) {
+        return executePostAsync("lists.addMovie", getApiPath(request, "/add_item"), request, AddMovieResponse.class);
     }
 
     /**
@@ -70,7 +94,28 @@ public class ListsApi extends ApiBase {
      * @see CheckItemStatusResponse
      */
     public CheckItemStatusResponse checkItemStatus(@NonNull final CheckItemStatusRequest request) {
-        return executeGet(getApiPath(request, "/item_status"), request, CheckItemStatusResponse.class);
+        return executeGet(
+                "lists.checkItemStatus",
+                getApiPath(request, "/item_status"),
+                request,
+                CheckItemStatusResponse.class);
+    }
+
+    /**
+     * Asynchronously checks an item status within a specific list.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see CheckItemStatusRequest
+     * @see CheckItemStatusResponse
+     */
+    public CompletableFuture<CheckItemStatusResponse> checkItemStatusAsync(
+            @NonNull final CheckItemStatusRequest request) {
+        return executeGetAsync(
+                "lists.checkItemStatus",
+                getApiPath(request, "/item_status"),
+                request,
+                CheckItemStatusResponse.class);
     }
 
     /**
@@ -83,6 +128,26 @@ public class ListsApi extends ApiBase {
      */
     public ClearListResponse clearList(@NonNull final ClearListRequest request) {
         return executePost(
+                "lists.clearList",
+                new StringBuilder(API_BASE_PATH)
+                        .append(request.getListId())
+                        .append("/clear")
+                        .toString(),
+                request,
+                ClearListResponse.class);
+    }
+
+    /**
+     * Asynchronously clears a list.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see ClearListRequest
+     * @see ClearListResponse
+     */
+    public CompletableFuture<ClearListResponse> clearListAsync(@NonNull final ClearListRequest request) {
+        return executePostAsync(
+                "lists.clearList",
                 new StringBuilder(API_BASE_PATH)
                         .append(request.getListId())
                         .append("/clear")
@@ -100,7 +165,19 @@ public class ListsApi extends ApiBase {
      * @see CreateListResponse
      */
     public CreateListResponse createList(@NonNull final CreateListRequest request) {
-        return executePost(API_PATH, request, CreateListResponse.class);
+        return executePost("lists.createList", API_PATH, request, CreateListResponse.class);
+    }
+
+    /**
+     * Asynchronously creates a new list.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see CreateListRequest
+     * @see CreateListResponse
+     */
+    public CompletableFuture<CreateListResponse> createListAsync(@NonNull final CreateListRequest request) {
+        return executePostAsync("lists.createList", API_PATH, request, CreateListResponse.class);
     }
 
     /**
@@ -112,7 +189,27 @@ public class ListsApi extends ApiBase {
      * @see DeleteListResponse
      */
     public DeleteListResponse deleteList(@NonNull final DeleteListRequest request) {
-        return executeDelete(API_BASE_PATH + request.getListId(), request, DeleteListResponse.class);
+        return executeDelete(
+                "lists.deleteList",
+                API_BASE_PATH + request.getListId(),
+                request,
+                DeleteListResponse.class);
+    }
+
+    /**
+     * Asynchronously deletes a list.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see DeleteListRequest
+     * @see DeleteListResponse
+     */
+    public CompletableFuture<DeleteListResponse> deleteListAsync(@NonNull final DeleteListRequest request) {
+        return executeDeleteAsync(
+                "lists.deleteList",
+                API_BASE_PATH + request.getListId(),
+                request,
+                DeleteListResponse.class);
     }
 
     /**
@@ -124,7 +221,27 @@ public class ListsApi extends ApiBase {
      * @see GetListDetailsResponse
      */
     public GetListDetailsResponse getListDetails(@NonNull final GetListDetailsRequest request) {
-        return executeGet(API_BASE_PATH + request.getListId(), request, GetListDetailsResponse.class);
+        return executeGet(
+                "lists.getListDetails",
+                API_BASE_PATH + request.getListId(),
+                request,
+                GetListDetailsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list details.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetListDetailsRequest
+     * @see GetListDetailsResponse
+     */
+    public CompletableFuture<GetListDetailsResponse> getListDetailsAsync(@NonNull final GetListDetailsRequest request) {
+        return executeGetAsync(
+                "lists.getListDetails",
+                API_BASE_PATH + request.getListId(),
+                request,
+                GetListDetailsResponse.class);
     }
 
     /**
@@ -136,7 +253,27 @@ public class ListsApi extends ApiBase {
      * @see RemoveMovieResponse
      */
     public RemoveMovieResponse removeMovie(@NonNull final RemoveMovieRequest request) {
-        return executePost(getApiPath(request, "/remove_item"), request, RemoveMovieResponse.class);
+        return executePost(
+                "lists.removeMovie",
+                getApiPath(request, "/remove_item"),
+                request,
+                RemoveMovieResponse.class);
+    }
+
+    /**
+     * Asynchronously removes a movie from a list.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see RemoveMovieRequest
+     * @see RemoveMovieResponse
+     */
+    public CompletableFuture<RemoveMovieResponse> removeMovieAsync(@NonNull final RemoveMovieRequest request) {
+        return executePostAsync(
+                "lists.removeMovie",
+                getApiPath(request, "/remove_item"),
+                request,
+                RemoveMovieResponse.class);
     }
 
     private static String getApiPath(final ListRequestBase request, final String apiSubPath) {
@@ -28,6 +28,8 @@ import com.amilesend.tmdb.client.model.movie.list.GetUpcomingRequest;
 import com.amilesend.tmdb.client.model.movie.list.GetUpcomingResponse;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB Movie Lists API. */
 public class MovieListsApi extends ApiBase {
     private static String API_PATH = "/movie";
@@ -41,6 +43,16 @@ public class MovieListsApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code MovieListsApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public MovieListsApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the list of movies that are now playing.
      *
@@ -50,7 +62,23 @@ public class MovieListsApi extends ApiBase {
      * @see GetNowPlayingResponse
      */
     public GetNowPlayingResponse getNowPlaying(@NonNull final GetNowPlayingRequest request) {
-        return executeGet(API_PATH + "/now_playing", request, GetNowPlayingResponse.class);
+        return executeGet("movieLists.getNowPlaying", API_PATH + "/now_playing", request, GetNowPlayingResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of movies that are now playing.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetNowPlayingRequest
+     * @see GetNowPlayingResponse
+     */
+    public CompletableFuture<GetNowPlayingResponse> getNowPlayingAsync(@NonNull final GetNowPlayingRequest request) {
+        return executeGetAsync(
+                "movieLists.getNowPlaying",
+                API_PATH + "/now_playing",
+                request,
+                GetNowPlayingResponse.class);
     }
 
     /**
@@ -62,7 +90,19 @@ public class MovieListsApi extends ApiBase {
      * @see GetPopularResponse
      */
     public GetPopularResponse getPopular(@NonNull final GetPopularRequest request) {
-        return executeGet(API_PATH +"/popular", request, GetPopularResponse.class);
+        return executeGet("movieLists.getPopular", API_PATH +"/popular", request, GetPopularResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of popular movies.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetPopularRequest
+     * @see GetPopularResponse
+     */
+    public CompletableFuture<GetPopularResponse> getPopularAsync(@NonNull final GetPopularRequest request) {
+        return executeGetAsync("movieLists.getPopular", API_PATH +"/popular", request, GetPopularResponse.class);
     }
 
     /**
@@ -74,7 +114,19 @@ public class MovieListsApi extends ApiBase {
      * @see GetTopRatedResponse
      */
     public GetTopRatedResponse getTopRated(@NonNull final GetTopRatedRequest request) {
-        return executeGet(API_PATH + "/top_rated", request, GetTopRatedResponse.class);
+        return executeGet("movieLists.getTopRated", API_PATH + "/top_rated", request, GetTopRatedResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of top-rated movies.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetTopRatedRequest
+     * @see GetTopRatedResponse
+     */
+    public CompletableFuture<GetTopRatedResponse> getTopRatedAsync(@NonNull final GetTopRatedRequest request) {
+        return executeGetAsync("movieLists.getTopRated", API_PATH + "/top_rated", request, GetTopRatedResponse.class);
     }
 
     /**
@@ -86,6 +138,18 @@ public class MovieListsApi extends ApiBase {
      * @see GetUpcomingResponse
      */
     public GetUpcomingResponse getUpcoming(@NonNull final GetUpcomingRequest request) {
-        return executeGet(API_PATH + "/upcoming", request, GetUpcomingResponse.class);
+        return executeGet("movieLists.getUpcoming", API_PATH + "/upcoming", request, GetUpcomingResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of upcoming movies.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetUpcomingRequest
+     * @see GetUpcomingResponse
+     */
+    public CompletableFuture<GetUpcomingResponse> getUpcomingAsync(@NonNull final GetUpcomingRequest request) {
+        return executeGetAsync("movieLists.getUpcoming", API_PATH + "/upcoming", request, GetUpcomingResponse.class);
     }
 }
@@ -55,12 +55,31 @@ import com.amilesend.tmdb.client.model.movie.GetVideosRequest;
 import com.amilesend.tmdb.client.model.movie.GetVideosResponse;
 import com.amilesend.tmdb.client.model.movie.GetWatchProvidersRequest;
 import com.amilesend.tmdb.client.model.movie.GetWatchProvidersResponse;
-import com.amilesend.tmdb.client.model.movie.type.MovieRequestBase;
 import lombok.NonNull;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
 /** The TMDB Movies API. */
 public class MoviesApi extends ApiBase {
-    private static String API_PATH = "/movie/";
+    private static final PathTemplate ACCOUNT_STATES_PATH = PathTemplate.of("/movie/{movie_id}/account_states");
+    private static final PathTemplate ALTERNATIVE_TITLES_PATH = PathTemplate.of("/movie/{movie_id}/alternative_titles");
+    private static final PathTemplate CHANGES_PATH = PathTemplate.of("/movie/{movie_id}/changes");
+    private static final PathTemplate CREDITS_PATH = PathTemplate.of("/movie/{movie_id}/credits");
+    private static final PathTemplate DETAILS_PATH = PathTemplate.of("/movie/{movie_id}");
+    private static final PathTemplate EXTERNAL_IDS_PATH = PathTemplate.of("/movie/{movie_id}/external_ids");
+    private static final PathTemplate IMAGES_PATH = PathTemplate.of("/movie/{movie_id}/images");
+    private static final PathTemplate KEYWORDS_PATH = PathTemplate.of("/movie/{movie_id}/keywords");
+    private static final PathTemplate LATEST_PATH = PathTemplate.of("/movie/latest");
+    private static final PathTemplate LISTS_PATH = PathTemplate.of("/movie/{movie_id}/lists");
+    private static final PathTemplate RATING_PATH = PathTemplate.of("/movie/{movie_id}/rating");
+    private static final PathTemplate RECOMMENDATIONS_PATH = PathTemplate.of("/movie/{movie_id}/recommendations");
+    private static final PathTemplate RELEASE_DATES_PATH = PathTemplate.of("/movie/{movie_id}/release_dates");
+    private static final PathTemplate REVIEWS_PATH = PathTemplate.of("/movie/{movie_id}/reviews");
+    private static final PathTemplate SIMILAR_PATH = PathTemplate.of("/movie/{movie_id}/similar");
+    private static final PathTemplate TRANSLATIONS_PATH = PathTemplate.of("/movie/{movie_id}/translations");
+    private static final PathTemplate VIDEOS_PATH = PathTemplate.of("/movie/{movie_id}/videos");
+    private static final PathTemplate WATCH_PROVIDERS_PATH = PathTemplate.of("/movie/{movie_id}/watch/providers");
 
     /**
      * Creates a new {@code MoviesApi} object.
@@ -71,6 +90,16 @@ public class MoviesApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code MoviesApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public MoviesApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the details for a movie.
      *
@@ -80,7 +109,64 @@ public class MoviesApi extends ApiBase {
      * @see GetMovieDetailsResponse
      */
     public GetMovieDetailsResponse getMovieDetails(@NonNull final GetMovieDetailsRequest request) {
-        return executeGet(API_PATH + request.getMovieId(), request, GetMovieDetailsResponse.class);
+        return executeGet(
+                "movies.getMovieDetails",
+                DETAILS_PATH.expand(request.getMovieId()),
+                request,
+                GetMovieDetailsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the details for a movie.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetMovieDetailsRequest
+     * @see GetMovieDetailsResponse
+     */
+    public CompletableFuture<GetMovieDetailsResponse> getMovieDetailsAsync(
+            @NonNull final GetMovieDetailsRequest request) {
+        return executeGetAsync(
+                "movies.getMovieDetails",
+                DETAILS_PATH.expand(request.getMovieId()),
+                request,
+                GetMovieDetailsResponse.class);
+    }
+
+    /**
+     * Gets the details for a batch of movies, looking up to {@code maxConcurrency} movies at a time. The failure
+     * to fetch the details for a movie does not abort the batch and is instead reported for its identifier.
+     *
+     * @param movieIds the movie identifiers
+     * @param template the request that defines the parameters shared by each lookup (its identifier is ignored)
+     * @param maxConcurrency the maximum number of in-flight requests
+     * @return the responses and failures keyed by identifier
+     * @see BatchLookup
+     */
+    public BatchResult<GetMovieDetailsResponse> getMovieDetails(
+            @NonNull final Collection<Integer> movieIds,
+            @NonNull final GetMovieDetailsRequest template,
+            final int maxConcurrency) {
+        return newMovieDetailsLookup(movieIds, template, maxConcurrency).execute();
+    }
+
+    /**
+     * Asynchronously gets the details for a batch of movies, looking up to {@code maxConcurrency} movies at a
+     * time. Each response (or failure) is reported to the given sink as it completes.
+     *
+     * @param movieIds the movie identifiers
+     * @param template the request that defines the parameters shared by each lookup (its identifier is ignored)
+     * @param maxConcurrency the maximum number of in-flight requests
+     * @param sink the sink that receives each response or failure
+     * @return the future that completes once all responses and failures have been reported to the sink
+     * @see BatchLookup
+     */
+    public CompletableFuture<Void> getMovieDetailsAsync(
+            @NonNull final Collection<Integer> movieIds,
+            @NonNull final GetMovieDetailsRequest template,
+            final int maxConcurrency,
+            @NonNull final BatchResultSink<? super GetMovieDetailsResponse> sink) {
+        return newMovieDetailsLookup(movieIds, template, maxConcurrency).executeAsync(sink);
     }
 
     /**
@@ -93,7 +179,25 @@ public class MoviesApi extends ApiBase {
      */
     public GetAccountStatesResponse getAccountStates(@NonNull final GetAccountStatesRequest request) {
         return executeGet(
-                getApiPath(request, "/account_states"),
+                "movies.getAccountStates",
+                ACCOUNT_STATES_PATH.expand(request.getMovieId()),
+                request,
+                GetAccountStatesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the account states for a movie.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetAccountStatesRequest
+     * @see GetAccountStatesResponse
+     */
+    public CompletableFuture<GetAccountStatesResponse> getAccountStatesAsync(
+            @NonNull final GetAccountStatesRequest request) {
+        return executeGetAsync(
+                "movies.getAccountStates",
+                ACCOUNT_STATES_PATH.expand(request.getMovieId()),
                 request,
                 GetAccountStatesResponse.class);
     }
@@ -108,7 +212,25 @@ public class MoviesApi extends ApiBase {
      */
     public GetAlternativeTitlesResponse getAlternativeTitles(@NonNull final GetAlternativeTitlesRequest request) {
         return executeGet(
-                getApiPath(request, "/alternative_titles"),
+                "movies.getAlternativeTitles",
+                ALTERNATIVE_TITLES_PATH.expand(request.getMovieId()),
+                request,
+                GetAlternativeTitlesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of alternative titles for a movie.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetAlternativeTitlesRequest
+     * @see GetAlternativeTitlesResponse
+     */
+    public CompletableFuture<GetAlternativeTitlesResponse> getAlternativeTitlesAsync(
+            @NonNull final GetAlternativeTitlesRequest request) {
+        return executeGetAsync(
+                "movies.getAlternativeTitles",
+                ALTERNATIVE_TITLES_PATH.expand(request.getMovieId()),
                 request,
                 GetAlternativeTitlesResponse.class);
     }
@@ -122,11 +244,21 @@ public class MoviesApi extends ApiBase {
      * @see GetChangesResponse
      */
     public GetChangesResponse getChanges(@NonNull final GetChangesRequest request) {
-        final String apiPath = new StringBuilder(API_PATH)
-                .append(request.getMovieId())
-                .append("/changes")
-                .toString();
-        return executeGet(apiPath, request, GetChangesResponse.class);
+        final String apiPath = CHANGES_PATH.expand(request.getMovieId());
+        return executeGet("movies.getChanges", apiPath, request, GetChangesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the changes for a movie.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetChangesRequest
+     * @see GetChangesResponse
+     */
+    public CompletableFuture<GetChangesResponse> getChangesAsync(@NonNull final GetChangesRequest request) {
+        final String apiPath = CHANGES_PATH.expand(request.getMovieId());
+        return executeGetAsync("movies.getChanges", apiPath, request, GetChangesResponse.class);
     }
 
     /**
@@ -139,7 +271,24 @@ public class MoviesApi extends ApiBase {
      */
     public GetCreditsResponse getCredits(@NonNull final GetCreditsRequest request) {
         return executeGet(
-                getApiPath(request, "/credits"),
+                "movies.getCredits",
+                CREDITS_PATH.expand(request.getMovieId()),
+                request,
+                GetCreditsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the credits for a movie.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetCreditsRequest
+     * @see GetCreditsResponse
+     */
+    public CompletableFuture<GetCreditsResponse> getCreditsAsync(@NonNull final GetCreditsRequest request) {
+        return executeGetAsync(
+                "movies.getCredits",
+                CREDITS_PATH.expand(request.getMovieId()),
                 request,
                 GetCreditsResponse.class);
     }
@@ -154,7 +303,24 @@ public class MoviesApi extends ApiBase {
      */
     public GetExternalIdsResponse getExternalIds(@NonNull final GetExternalIdsRequest request) {
         return executeGet(
-                getApiPath(request, "/external_ids"),
+                "movies.getExternalIds",
+                EXTERNAL_IDS_PATH.expand(request.getMovieId()),
+                request,
+                GetExternalIdsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the external identifiers for a movie.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetExternalIdsRequest
+     * @see GetExternalIdsResponse
+     */
+    public CompletableFuture<GetExternalIdsResponse> getExternalIdsAsync(@NonNull final GetExternalIdsRequest request) {
+        return executeGetAsync(
+                "movies.getExternalIds",
+                EXTERNAL_IDS_PATH.expand(request.getMovieId()),
                 request,
                 GetExternalIdsResponse.class);
     }
@@ -169,7 +335,24 @@ public class MoviesApi extends ApiBase {
      */
     public GetImagesResponse getImages(@NonNull final GetImagesRequest request) {
         return executeGet(
-                getApiPath(request, "/images"),
+                "movies.getImages",
+                IMAGES_PATH.expand(request.getMovieId()),
+                request,
+                GetImagesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the images for a movie.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetImagesRequest
+     * @see GetImagesResponse
+     */
+    public CompletableFuture<GetImagesResponse> getImagesAsync(@NonNull final GetImagesRequest request) {
+        return executeGetAsync(
+                "movies.getImages",
+                IMAGES_PATH.expand(request.getMovieId()),
                 request,
                 GetImagesResponse.class);
     }
@@ -184,7 +367,24 @@ public class MoviesApi extends ApiBase {
      */
     public GetKeywordsResponse getKeywords(@NonNull final GetKeywordsRequest request) {
         return executeGet(
-                getApiPath(request, "/keywords"),
+                "movies.getKeywords",
+                KEYWORDS_PATH.expand(request.getMovieId()),
+                request,
+                GetKeywordsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the keywords associated with a movie.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetKeywordsRequest
+     * @see GetKeywordsResponse
+     */
+    public CompletableFuture<GetKeywordsResponse> getKeywordsAsync(@NonNull final GetKeywordsRequest request) {
+        return executeGetAsync(
+                "movies.getKeywords",
+                KEYWORDS_PATH.expand(request.getMovieId()),
                 request,
                 GetKeywordsResponse.class);
     }
@@ -196,7 +396,17 @@ public class MoviesApi extends ApiBase {
      * @see GetLatestResponse
      */
     public GetLatestResponse getLatest() {
-        return executeGet(API_PATH + "latest", GetLatestResponse.class);
+        return executeGet("movies.getLatest", LATEST_PATH.expand(), GetLatestResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the latest movie.
+     *
+     * @return the future that completes with the response
+     * @see GetLatestResponse
+     */
+    public CompletableFuture<GetLatestResponse> getLatestAsync() {
+        return executeGetAsync("movies.getLatest", LATEST_PATH.expand(), GetLatestResponse.class);
     }
 
 
@@ -210,7 +420,24 @@ public class MoviesApi extends ApiBase {
      */
     public GetListsResponse getLists(@NonNull final GetListsRequest request) {
         return executeGet(
-                getApiPath(request, "/lists"),
+                "movies.getLists",
+                LISTS_PATH.expand(request.getMovieId()),
+                request,
+                GetListsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the lists for a movie.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetListsRequest
+     * @see GetListsResponse
+     */
+    public CompletableFuture<GetListsResponse> getListsAsync(@NonNull final GetListsRequest request) {
+        return executeGetAsync(
+                "movies.getLists",
+                LISTS_PATH.expand(request.getMovieId()),
                 request,
                 GetListsResponse.class);
     }
@@ -225,7 +452,25 @@ public class MoviesApi extends ApiBase {
      */
     public GetRecommendationsResponse getRecommendations(@NonNull final GetRecommendationsRequest request) {
         return executeGet(
-                getApiPath(request, "/recommendations"),
+                "movies.getRecommendations",
+                RECOMMENDATIONS_PATH.expand(request.getMovieId()),
+                request,
+                GetRecommendationsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of recommendations associated with a movie.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetRecommendationsRequest
+     * @see GetRecommendationsResponse
+     */
+    public CompletableFuture<GetRecommendationsResponse> getRecommendationsAsync(
+            @NonNull final GetRecommendationsRequest request) {
+        return executeGetAsync(
+                "movies.getRecommendations",
+                RECOMMENDATIONS_PATH.expand(request.getMovieId()),
                 request,
                 GetRecommendationsResponse.class);
     }
@@ -240,7 +485,25 @@ public class MoviesApi extends ApiBase {
      */
     public GetReleaseDatesResponse getReleaseDates(@NonNull final GetReleaseDatesRequest request) {
         return executeGet(
-                getApiPath(request, "/release_dates"),
+                "movies.getReleaseDates",
+                RELEASE_DATES_PATH.expand(request.getMovieId()),
+                request,
+                GetReleaseDatesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the release dates for a movie.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetReleaseDatesRequest
+     * @see GetReleaseDatesResponse
+     */
+    public CompletableFuture<GetReleaseDatesResponse> getReleaseDatesAsync(
+            @NonNull final GetReleaseDatesRequest request) {
+        return executeGetAsync(
+                "movies.getReleaseDates",
+                RELEASE_DATES_PATH.expand(request.getMovieId()),
                 request,
                 GetReleaseDatesResponse.class);
     }
@@ -255,7 +518,24 @@ public class MoviesApi extends ApiBase {
      */
     public GetReviewsResponse getReviews(@NonNull final GetReviewsRequest request) {
         return executeGet(
-                getApiPath(request, "/reviews"),
+                "movies.getReviews",
+                REVIEWS_PATH.expand(request.getMovieId()),
+                request,
+                GetReviewsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the reviews for a movie.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetReviewsRequest
+     * @see GetReviewsResponse
+     */
+    public CompletableFuture<GetReviewsResponse> getReviewsAsync(@NonNull final GetReviewsRequest request) {
+        return executeGetAsync(
+                "movies.getReviews",
+                REVIEWS_PATH.expand(request.getMovieId()),
                 request,
                 GetReviewsResponse.class);
     }
@@ -269,7 +549,27 @@ public class MoviesApi extends ApiBase {
      * @see GetSimilarResponse
      */
     public GetSimilarResponse getSimilar(@NonNull final GetSimilarRequest request) {
-        return executeGet(getApiPath(request, "/similar"), request, GetSimilarResponse.class);
+        return executeGet(
+                "movies.getSimilar",
+                SIMILAR_PATH.expand(request.getMovieId()),
+                request,
+                GetSimilarResponse.class);
+    }
+
+    /**
+     * Asynchronously gets a list of similar movies for a movie.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetSimilarRequest
+     * @see GetSimilarResponse
+     */
+    public CompletableFuture<GetSimilarResponse> getSimilarAsync(@NonNull final GetSimilarRequest request) {
+        return executeGetAsync(
+                "movies.getSimilar",
+                SIMILAR_PATH.expand(request.getMovieId()),
+                request,
+                GetSimilarResponse.class);
     }
 
     /**
@@ -281,7 +581,28 @@ public class MoviesApi extends ApiBase {
      * @see GetTranslationsResponse
      */
     public GetTranslationsResponse getTranslations(@NonNull final GetTranslationsRequest request) {
-        return executeGet(getApiPath(request, "/translations"), request, GetTranslationsResponse.class);
+        return executeGet(
+                "movies.getTranslations",
+                TRANSLATIONS_PATH.expand(request.getMovieId()),
+                request,
+                GetTranslationsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the translation information for a movie.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetTranslationsRequest
+     * @see GetTranslationsResponse
+     */
+    public CompletableFuture<GetTranslationsResponse> getTranslationsAsync(
+            @NonNull final GetTranslationsRequest request) {
+        return executeGetAsync(
+                "movies.getTranslations",
+                TRANSLATIONS_PATH.expand(request.getMovieId()),
+                request,
+                GetTranslationsResponse.class);
     }
 
     /**
@@ -293,7 +614,27 @@ public class MoviesApi extends ApiBase {
      * @see GetVideosResponse
      */
     public GetVideosResponse getVideos(@NonNull final GetVideosRequest request) {
-        return executeGet(getApiPath(request, "/videos"), request, GetVideosResponse.class);
+        return executeGet(
+                "movies.getVideos",
+                VIDEOS_PATH.expand(request.getMovieId()),
+                request,
+                GetVideosResponse.class);
+    }
+
+    /**
+     * Asynchronously gets a list of related videos for a movie.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetVideosRequest
+     * @see GetVideosResponse
+     */
+    public CompletableFuture<GetVideosResponse> getVideosAsync(@NonNull final GetVideosRequest request) {
+        return executeGetAsync(
+                "movies.getVideos",
+                VIDEOS_PATH.expand(request.getMovieId()),
+                request,
+                GetVideosResponse.class);
     }
 
     /**
@@ -305,7 +646,28 @@ public class MoviesApi extends ApiBase {
      * @see GetWatchProvidersResponse
      */
     public GetWatchProvidersResponse getWatchProviders(@NonNull final GetWatchProvidersRequest request) {
-        return executeGet(getApiPath(request, "/watch/providers"), request, GetWatchProvidersResponse.class);
+        return executeGet(
+                "movies.getWatchProviders",
+                WATCH_PROVIDERS_PATH.expand(request.getMovieId()),
+                request,
+                GetWatchProvidersResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of streaming providers for a movie.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetWatchProvidersRequest
+     * @see GetWatchProvidersResponse
+     */
+    public CompletableFuture<GetWatchProvidersResponse> getWatchProvidersAsync(
+            @NonNull final GetWatchProvidersRequest request) {
+        return executeGetAsync(
+                "movies.getWatchProviders",
+                WATCH_PROVIDERS_PATH.expand(request.getMovieId()),
+                request,
+                GetWatchProvidersResponse.class);
     }
 
     /**
@@ -317,7 +679,27 @@ public class MoviesApi extends ApiBase {
      * @see AddRatingResponse
      */
     public AddRatingResponse addRating(@NonNull final AddRatingRequest request) {
-        return executePost(getApiPath(request, "/rating"), request,AddRatingResponse.class);
+        return executePost(
+                "movies.addRating",
+                RATING_PATH.expand(request.getMovieId()),
+                request,
+                AddRatingResponse.class);
+    }
+
+    /**
+     * Asynchronously adds a rating for the movie.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see AddRatingRequest
+     * @see AddRatingResponse
+     */
+    public CompletableFuture<AddRatingResponse> addRatingAsync(@NonNull final AddRatingRequest request) {
+        return executePostAsync(
+                "movies.addRating",
+                RATING_PATH.expand(request.getMovieId()),
+                request,
+                AddRatingResponse.class);
     }
 
     /**
@@ -329,13 +711,37 @@ public class MoviesApi extends ApiBase {
      * @see DeleteRatingResponse
      */
     public DeleteRatingResponse deleteRating(@NonNull final DeleteRatingRequest request) {
-        return executeDelete(getApiPath(request, "/rating"), request, DeleteRatingResponse.class);
+        return executeDelete(
+                "movies.deleteRating",
+                RATING_PATH.expand(request.getMovieId()),
+                request,
+                DeleteRatingResponse.class);
+    }
+
+    /**
+     * Asynchronously deletes a rating for a movie.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see DeleteRatingRequest
+     * @see DeleteRatingResponse
+     */
+    public CompletableFuture<DeleteRatingResponse> deleteRatingAsync(@NonNull final DeleteRatingRequest request) {
+        return executeDeleteAsync(
+                "movies.deleteRating",
+                RATING_PATH.expand(request.getMovieId()),
+                request,
+                DeleteRatingResponse.class);
     }
 
-    private static String getApiPath(final MovieRequestBase request, final String subApiPath) {
-        return new StringBuilder(API_PATH)
-                .append(request.getMovieId())
-                .append(subApiPath)
-                .toString();
+    private BatchLookup<GetMovieDetailsResponse> newMovieDetailsLookup(
+            final Collection<Integer> movieIds,
+            final GetMovieDetailsRequest template,
+            final int maxConcurrency) {
+        return BatchLookup.<GetMovieDetailsResponse>builder()
+                .ids(movieIds)
+                .lookup(id -> getMovieDetailsAsync(template.toBuilder().movieId(id).build()))
+                .maxConcurrency(maxConcurrency)
+                .build();
     }
 }
@@ -30,6 +30,8 @@ import com.amilesend.tmdb.client.model.network.GetNetworkDetailsResponse;
 import com.amilesend.tmdb.client.model.network.type.NetworksRequestBase;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB Networks API. */
 public class NetworksApi extends ApiBase {
     private static String API_PATH = "/network/";
@@ -43,6 +45,16 @@ public class NetworksApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code NetworksApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public NetworksApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the network details.
      *
@@ -52,7 +64,28 @@ public class NetworksApi extends ApiBase {
      * @see GetListDetailsResponse
      */
     public GetNetworkDetailsResponse getNetworkDetails(@NonNull final GetNetworkDetailsRequest request) {
-        return executeGet(getApiPath(request, StringUtils.EMPTY), request, GetNetworkDetailsResponse.class);
+        return executeGet(
+                "networks.getNetworkDetails",
+                getApiPath(request, StringUtils.EMPTY),
+                request,
+                GetNetworkDetailsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the network details.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetListDetailsRequest
+     * @see GetListDetailsResponse
+     */
+    public CompletableFuture<GetNetworkDetailsResponse> getNetworkDetailsAsync(
+            @NonNull final GetNetworkDetailsRequest request) {
+        return executeGetAsync(
+                "networks.getNetworkDetails",
+                getApiPath(request, StringUtils.EMPTY),
+                request,
+                GetNetworkDetailsResponse.class);
     }
 
     /**
@@ -65,6 +98,24 @@ public class NetworksApi extends ApiBase {
      */
     public GetAlternativeNamesResponse getAlternativeNames(@NonNull final GetAlternativeNamesRequest request) {
         return executeGet(
+                "networks.getAlternativeNames",
+                getApiPath(request, "/alternative_names"),
+                request,
+                GetAlternativeNamesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of alternative names for a network.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetAlternativeNamesRequest
+     * @see GetAlternativeNamesResponse
+     */
+    public CompletableFuture<GetAlternativeNamesResponse> getAlternativeNamesAsync(
+            @NonNull final GetAlternativeNamesRequest request) {
+        return executeGetAsync(
+                "networks.getAlternativeNames",
                 getApiPath(request, "/alternative_names"),
                 request,
                 GetAlternativeNamesResponse.class);
@@ -79,7 +130,19 @@ public class NetworksApi extends ApiBase {
      * @see GetImagesResponse
      */
     public GetImagesResponse getImages(@NonNull final GetImagesRequest request) {
-        return executeGet(getApiPath(request, "/images"), request, GetImagesResponse.class);
+        return executeGet("networks.getImages", getApiPath(request, "/images"), request, GetImagesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of images for a network.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetImagesRequest
+     * @see GetImagesResponse
+     */
+    public CompletableFuture<GetImagesResponse> getImagesAsync(@NonNull final GetImagesRequest request) {
+        return executeGetAsync("networks.getImages", getApiPath(request, "/images"), request, GetImagesResponse.class);
     }
 
     private static String getApiPath(final NetworksRequestBase request, final String subApiPath) {
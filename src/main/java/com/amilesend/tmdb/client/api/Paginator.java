@@ -0,0 +1,204 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.api;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.tmdb.client.model.PaginatedResponse;
+import lombok.Builder;
+import lombok.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily iterates over the results of a page-based endpoint, fetching the next page only when the results of the
+ * current page have been consumed. Optionally, a number of pages can be prefetched ahead in parallel, and the total
+ * number of results can be limited so that iteration stops without fetching more pages than needed.
+ * <p>
+ * Example:
+ * <pre>
+ * Stream&lt;Movie&gt; movies = Paginator.&lt;Movie&gt;builder()
+ *         .pageFetcher(page -&gt; discoverApi.discoverMoviesAsync(DiscoverMoviesRequest.builder()
+ *                 .page(page)
+ *                 .build()))
+ *         .prefetchPages(2)
+ *         .maxResults(1000L)
+ *         .build()
+ *         .stream();
+ * </pre>
+ * Only the current page and the prefetched pages are held in memory at any given time. Closing the stream (or
+ * reaching the result limit) cancels any in-flight page requests. Each call to {@link #iterator()} or
+ * {@link #stream()} starts a new traversal from the start page.
+ *
+ * @param <T> the result type
+ * @see PaginatedResponse
+ */
+public class Paginator<T> implements Iterable<T> {
+    private static final int DEFAULT_START_PAGE = 1;
+
+    private final IntFunction<CompletableFuture<? extends PaginatedResponse<T>>> pageFetcher;
+    private final int startPage;
+    private final int endPage;
+    private final int prefetchPages;
+    private final long maxResults;
+
+    /**
+     * Creates a new {@code Paginator}.
+     *
+     * @param pageFetcher the function that asynchronously fetches the given page number
+     * @param startPage the first page to fetch (defaults to 1)
+     * @param endPage the last page to fetch regardless of the total number of pages available (optional)
+     * @param prefetchPages the number of pages to fetch ahead of the current page (defaults to 0)
+     * @param maxResults the maximum number of results to return (optional)
+     */
+    @Builder
+    private Paginator(
+            @NonNull final IntFunction<CompletableFuture<? extends PaginatedResponse<T>>> pageFetcher,
+            final Integer startPage,
+            final Integer endPage,
+            final Integer prefetchPages,
+            final Long maxResults) {
+        this.pageFetcher = pageFetcher;
+        this.startPage = Objects.requireNonNullElse(startPage, DEFAULT_START_PAGE);
+        this.endPage = Objects.requireNonNullElse(endPage, Integer.MAX_VALUE);
+        this.prefetchPages = Objects.requireNonNullElse(prefetchPages, 0);
+        this.maxResults = Objects.requireNonNullElse(maxResults, Long.MAX_VALUE);
+        Validate.isTrue(this.startPage > 0, "startPage must be positive");
+        Validate.isTrue(this.endPage >= this.startPage, "endPage must not be less than startPage");
+        Validate.isTrue(this.prefetchPages >= 0, "prefetchPages must not be negative");
+        Validate.isTrue(this.maxResults >= 0L, "maxResults must not be negative");
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new PageIterator();
+    }
+
+    /**
+     * Gets a sequential and ordered stream of the results. The stream should be closed if not fully consumed
+     * so that in-flight page requests are cancelled.
+     *
+     * @return the stream of results
+     */
+    public Stream<T> stream() {
+        final PageIterator iterator = new PageIterator();
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false)
+                .onClose(iterator::cancel);
+    }
+
+    /** Iterates over the results while managing the window of in-flight page requests. */
+    private class PageIterator implements Iterator<T> {
+        private final Deque<CompletableFuture<? extends PaginatedResponse<T>>> inFlightPages = new ArrayDeque<>();
+        private Iterator<T> currentResults = Collections.emptyIterator();
+        private int nextPageToFetch = startPage;
+        private Integer lastPage;
+        private long resultCount;
+
+        @Override
+        public boolean hasNext() {
+            if (resultCount >= maxResults) {
+                cancel();
+                return false;
+            }
+
+            while (!currentResults.hasNext()) {
+                if (!fetchPages(1)) {
+                    return false;
+                }
+
+                final PaginatedResponse<T> page = join(inFlightPages.poll());
+                final List<T> results = Objects.requireNonNullElse(page.getResults(), Collections.emptyList());
+                if (lastPage == null) {
+                    lastPage = calculateLastPage(page.getTotalPages(), results.size());
+                }
+
+                currentResults = results.iterator();
+                fetchPages(prefetchPages);
+            }
+
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            ++resultCount;
+            return currentResults.next();
+        }
+
+        void cancel() {
+            inFlightPages.forEach(future -> future.cancel(true));
+            inFlightPages.clear();
+            nextPageToFetch = Integer.MAX_VALUE;
+        }
+
+        private boolean fetchPages(final int windowSize) {
+            while (inFlightPages.size() < windowSize && hasMorePages()) {
+                inFlightPages.add(pageFetcher.apply(nextPageToFetch++));
+            }
+
+            return !inFlightPages.isEmpty();
+        }
+
+        private boolean hasMorePages() {
+            // The total number of pages is unknown until the first page is received
+            return lastPage == null ? nextPageToFetch == startPage : nextPageToFetch <= lastPage;
+        }
+
+        private int calculateLastPage(final Integer totalPages, final int pageSize) {
+            final int lastAvailablePage = Math.min(Objects.requireNonNullElse(totalPages, startPage), endPage);
+            if (maxResults == Long.MAX_VALUE || pageSize == 0) {
+                return lastAvailablePage;
+            }
+
+            // Avoids fetching pages beyond what is needed to satisfy the result limit
+            final long pagesNeeded = (maxResults + pageSize - 1L) / pageSize;
+            return (int) Math.min(lastAvailablePage, startPage - 1L + pagesNeeded);
+        }
+
+        private PaginatedResponse<T> join(final CompletableFuture<? extends PaginatedResponse<T>> future) {
+            try {
+                return future.join();
+            } catch (final CompletionException ex) {
+                cancel();
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+
+                throw ex;
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.api;
+
+import com.amilesend.client.util.Validate;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A parsed API path template (e.g., {@code /movie/{movie_id}/credits}) whose variables are substituted with
+ * percent-encoded path segments. Templates are parsed once, typically into a {@code static final} field, so that
+ * expanding a template only appends its pre-validated literals and the encoded values to a single pre-sized buffer.
+ * <p>
+ * Each variable must span a whole path segment. Values are encoded exactly once: characters other than the RFC 3986
+ * unreserved characters (letters, digits, {@code -}, {@code .}, {@code _}, and {@code ~}) are percent-encoded as
+ * UTF-8, so a value cannot introduce additional path segments or a query string. The expanded path is already
+ * encoded and is resolved against the {@link BaseUrl} without being encoded again.
+ */
+public final class PathTemplate {
+    private static final char SEGMENT_DELIMITER = '/';
+    private static final char VARIABLE_START = '{';
+    private static final char VARIABLE_END = '}';
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    /** The estimated length of a substituted value (e.g., a numeric identifier) used to pre-size the buffer. */
+    private static final int ESTIMATED_VALUE_LENGTH = 12;
+
+    /** The template (e.g., {@code /movie/{movie_id}/credits}). */
+    @Getter
+    private final String template;
+    /** The names of the variables in order of appearance. */
+    @Getter
+    private final List<String> variableNames;
+    /** The literal text before, between, and after the variables. */
+    private final String[] literals;
+    private final int estimatedLength;
+
+    private PathTemplate(final String template, final List<String> variableNames, final List<String> literals) {
+        this.template = template;
+        this.variableNames = Collections.unmodifiableList(variableNames);
+        this.literals = literals.toArray(String[]::new);
+        this.estimatedLength = template.length() + variableNames.size() * ESTIMATED_VALUE_LENGTH;
+    }
+
+    /**
+     * Parses the given path template.
+     *
+     * @param template the template that begins with {@code /} and contains zero or more variables that each span
+     *                 a whole path segment (e.g., {@code /tv/{series_id}/season/{season_number}})
+     * @return the parsed template
+     * @throws IllegalArgumentException if the template is not valid
+     */
+    public static PathTemplate of(@NonNull final String template) {
+        Validate.isTrue(!template.isEmpty() && template.charAt(0) == SEGMENT_DELIMITER,
+                "template must begin with /");
+
+        final List<String> variableNames = new ArrayList<>();
+        final List<String> literals = new ArrayList<>();
+        int literalStart = 0;
+        int start = template.indexOf(VARIABLE_START);
+        while (start >= 0) {
+            final int end = template.indexOf(VARIABLE_END, start);
+            Validate.isTrue(end > start + 1, "Unterminated or empty variable in template: " + template);
+            Validate.isTrue(template.charAt(start - 1) == SEGMENT_DELIMITER
+                            && (end + 1 == template.length() || template.charAt(end + 1) == SEGMENT_DELIMITER),
+                    "Variables must span a whole path segment: " + template);
+            literals.add(validateLiteral(template, template.substring(literalStart, start)));
+            variableNames.add(template.substring(start + 1, end));
+            literalStart = end + 1;
+            start = template.indexOf(VARIABLE_START, literalStart);
+        }
+        literals.add(validateLiteral(template, template.substring(literalStart)));
+
+        return new PathTemplate(template, variableNames, literals);
+    }
+
+    /**
+     * Gets the number of variables.
+     *
+     * @return the variable count
+     */
+    public int getVariableCount() {
+        return variableNames.size();
+    }
+
+    /**
+     * Expands a template that has a single numeric variable (e.g., an identifier) without boxing the value.
+     *
+     * @param value the variable value
+     * @return the encoded API path
+     * @throws IllegalArgumentException if the template does not have exactly one variable
+     */
+    public String expand(final long value) {
+        validateVariableCount(1);
+        return new StringBuilder(estimatedLength)
+                .append(literals[0])
+                .append(value)
+                .append(literals[1])
+                .toString();
+    }
+
+    /**
+     * Expands the template with the given values in order of the variables. Numeric values are appended as-is and
+     * all other values are percent-encoded from their {@link Object#toString()} representation.
+     *
+     * @param values the variable values
+     * @return the encoded API path
+     * @throws IllegalArgumentException if the number of values does not match the number of variables, or a value
+     *                                  is empty or a dot segment ({@code .} or {@code ..})
+     */
+    public String expand(@NonNull final Object... values) {
+        validateVariableCount(values.length);
+        if (values.length == 0) {
+            return literals[0];
+        }
+
+        final StringBuilder path = new StringBuilder(estimatedLength).append(literals[0]);
+        for (int i = 0; i < values.length; ++i) {
+            appendSegment(path, variableNames.get(i), values[i]);
+            path.append(literals[i + 1]);
+        }
+
+        return path.toString();
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    private void validateVariableCount(final int count) {
+        Validate.isTrue(count == literals.length - 1,
+                "Expected " + (literals.length - 1) + " values for template " + template);
+    }
+
+    private static void appendSegment(final StringBuilder path, final String name, final Object value) {
+        Validate.notNull(value, name + " must not be null");
+        if (value instanceof Integer || value instanceof Long) {
+            path.append(((Number) value).longValue());
+            return;
+        }
+
+        final String segment = value.toString();
+        Validate.isTrue(!segment.isEmpty() && !".".equals(segment) && !"..".equals(segment),
+                name + " must not be empty or a dot segment");
+        for (int i = 0; i < segment.length(); ++i) {
+            final char c = segment.charAt(i);
+            if (!isUnreserved(c)) {
+                percentEncode(path, segment.substring(i));
+                return;
+            }
+            path.append(c);
+        }
+    }
+
+    private static void percentEncode(final StringBuilder path, final String value) {
+        for (final byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            if (b >= 0 && isUnreserved((char) b)) {
+                path.append((char) b);
+            } else {
+                path.append('%')
+                        .append(HEX_DIGITS[(b >> 4) & 0xF])
+                        .append(HEX_DIGITS[b & 0xF]);
+            }
+        }
+    }
+
+    private static String validateLiteral(final String template, final String literal) {
+        for (int i = 0; i < literal.length(); ++i) {
+            final char c = literal.charAt(i);
+            Validate.isTrue(c == SEGMENT_DELIMITER || isUnreserved(c),
+                    "Invalid character '" + c + "' in template: " + template);
+        }
+
+        return literal;
+    }
+
+    private static boolean isUnreserved(final char c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || c == '-'
+                || c == '.'
+                || c == '_'
+                || c == '~';
+    }
+}
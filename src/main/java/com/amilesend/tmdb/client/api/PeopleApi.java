@@ -39,6 +39,9 @@ import com.amilesend.tmdb.client.model.people.GetTvCreditsResponse;
 import com.amilesend.tmdb.client.model.people.type.PersonIdRequestBase;
 import lombok.NonNull;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB People API. */
 public class PeopleApi extends ApiBase {
     private static String API_PATH = "/person/";
@@ -52,6 +55,16 @@ public class PeopleApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code PeopleApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public PeopleApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the details for a person.
      *
@@ -61,7 +74,64 @@ public class PeopleApi extends ApiBase {
      * @see GetPersonDetailsResponse
      */
     public GetPersonDetailsResponse getPersonDetails(@NonNull final GetPersonDetailsRequest request) {
-        return executeGet(getApiPath(request, StringUtils.EMPTY), request, GetPersonDetailsResponse.class);
+        return executeGet(
+                "people.getPersonDetails",
+                getApiPath(request, StringUtils.EMPTY),
+                request,
+                GetPersonDetailsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the details for a person.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetPersonDetailsRequest
+     * @see GetPersonDetailsResponse
+     */
+    public CompletableFuture<GetPersonDetailsResponse> getPersonDetailsAsync(
+            @NonNull final GetPersonDetailsRequest request) {
+        return executeGetAsync(
+                "people.getPersonDetails",
+                getApiPath(request, StringUtils.EMPTY),
+                request,
+                GetPersonDetailsResponse.class);
+    }
+
+    /**
+     * Gets the details for a batch of people, looking up to {@code maxConcurrency} people at a time. The failure
+     * to fetch the details for a person does not abort the batch and is instead reported for its identifier.
+     *
+     * @param personIds the person identifiers
+     * @param template the request that defines the parameters shared by each lookup (its identifier is ignored)
+     * @param maxConcurrency the maximum number of in-flight requests
+     * @return the responses and failures keyed by identifier
+     * @see BatchLookup
+     */
+    public BatchResult<GetPersonDetailsResponse> getPersonDetails(
+            @NonNull final Collection<Integer> personIds,
+            @NonNull final GetPersonDetailsRequest template,
+            final int maxConcurrency) {
+        return newPersonDetailsLookup(personIds, template, maxConcurrency).execute();
+    }
+
+    /**
+     * Asynchronously gets the details for a batch of people, looking up to {@code maxConcurrency} people at a
+     * time. Each response (or failure) is reported to the given sink as it completes.
+     *
+     * @param personIds the person identifiers
+     * @param template the request that defines the parameters shared by each lookup (its identifier is ignored)
+     * @param maxConcurrency the maximum number of in-flight requests
+     * @param sink the sink that receives each response or failure
+     * @return the future that completes once all responses and failures have been reported to the sink
+     * @see BatchLookup
+     */
+    public CompletableFuture<Void> getPersonDetailsAsync(
+            @NonNull final Collection<Integer> personIds,
+            @NonNull final GetPersonDetailsRequest template,
+            final int maxConcurrency,
+            @NonNull final BatchResultSink<? super GetPersonDetailsResponse> sink) {
+        return newPersonDetailsLookup(personIds, template, maxConcurrency).executeAsync(sink);
     }
 
     /**
@@ -77,7 +147,23 @@ public class PeopleApi extends ApiBase {
                 .append(request.getPersonId())
                 .append("/changes")
                 .toString();
-        return executeGet(apiPath, request, GetChangesResponse.class);
+        return executeGet("people.getChanges", apiPath, request, GetChangesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of changes for a person.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetChangesRequest
+     * @see GetChangesResponse
+     */
+    public CompletableFuture<GetChangesResponse> getChangesAsync(@NonNull final GetChangesRequest request) {
+        final String apiPath = new StringBuilder(API_PATH)
+                .append(request.getPersonId())
+                .append("/changes")
+                .toString();
+        return executeGetAsync("people.getChanges", apiPath, request, GetChangesResponse.class);
     }
 
     /**
@@ -89,7 +175,28 @@ public class PeopleApi extends ApiBase {
      * @see GetCombinedCreditsResponse
      */
     public GetCombinedCreditsResponse getCombinedCredits(@NonNull final GetCombinedCreditsRequest request) {
-        return executeGet(getApiPath(request, "/combined_credits"), request, GetCombinedCreditsResponse.class);
+        return executeGet(
+                "people.getCombinedCredits",
+                getApiPath(request, "/combined_credits"),
+                request,
+                GetCombinedCreditsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the credits for a person.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetCombinedCreditsRequest
+     * @see GetCombinedCreditsResponse
+     */
+    public CompletableFuture<GetCombinedCreditsResponse> getCombinedCreditsAsync(
+            @NonNull final GetCombinedCreditsRequest request) {
+        return executeGetAsync(
+                "people.getCombinedCredits",
+                getApiPath(request, "/combined_credits"),
+                request,
+                GetCombinedCreditsResponse.class);
     }
 
     /**
@@ -101,7 +208,27 @@ public class PeopleApi extends ApiBase {
      * @see GetExternalIDsResponse
      */
     public GetExternalIDsResponse getExternalIDs(@NonNull final GetExternalIDsRequest request) {
-        return executeGet(getApiPath(request, "/external_ids"), request, GetExternalIDsResponse.class);
+        return executeGet(
+                "people.getExternalIDs",
+                getApiPath(request, "/external_ids"),
+                request,
+                GetExternalIDsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the external site identifiers for a person.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetExternalIDsRequest
+     * @see GetExternalIDsResponse
+     */
+    public CompletableFuture<GetExternalIDsResponse> getExternalIDsAsync(@NonNull final GetExternalIDsRequest request) {
+        return executeGetAsync(
+                "people.getExternalIDs",
+                getApiPath(request, "/external_ids"),
+                request,
+                GetExternalIDsResponse.class);
     }
 
     /**
@@ -113,7 +240,19 @@ public class PeopleApi extends ApiBase {
      * @see GetImagesResponse
      */
     public GetImagesResponse getImages(@NonNull final GetImagesRequest request) {
-        return executeGet(getApiPath(request, "/images"), request, GetImagesResponse.class);
+        return executeGet("people.getImages", getApiPath(request, "/images"), request, GetImagesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of profile images for a person.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetImagesRequest
+     * @see GetImagesResponse
+     */
+    public CompletableFuture<GetImagesResponse> getImagesAsync(@NonNull final GetImagesRequest request) {
+        return executeGetAsync("people.getImages", getApiPath(request, "/images"), request, GetImagesResponse.class);
     }
 
     /**
@@ -123,7 +262,17 @@ public class PeopleApi extends ApiBase {
      * @see GetLatestResponse
      */
     public GetLatestResponse getLatest() {
-        return executeGet(API_PATH + "/latest", GetLatestResponse.class);
+        return executeGet("people.getLatest", API_PATH + "/latest", GetLatestResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the newest created person in the database.
+     *
+     * @return the future that completes with the response
+     * @see GetLatestResponse
+     */
+    public CompletableFuture<GetLatestResponse> getLatestAsync() {
+        return executeGetAsync("people.getLatest", API_PATH + "/latest", GetLatestResponse.class);
     }
 
     /**
@@ -135,7 +284,28 @@ public class PeopleApi extends ApiBase {
      * @see GetMovieCreditsResponse
      */
     public GetMovieCreditsResponse getMovieCredits(@NonNull final GetMovieCreditsRequest request) {
-        return executeGet(getApiPath(request, "/movie_credits"), request, GetMovieCreditsResponse.class);
+        return executeGet(
+                "people.getMovieCredits",
+                getApiPath(request, "/movie_credits"),
+                request,
+                GetMovieCreditsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of movie credits for a person.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetMovieCreditsRequest
+     * @see GetMovieCreditsResponse
+     */
+    public CompletableFuture<GetMovieCreditsResponse> getMovieCreditsAsync(
+            @NonNull final GetMovieCreditsRequest request) {
+        return executeGetAsync(
+                "people.getMovieCredits",
+                getApiPath(request, "/movie_credits"),
+                request,
+                GetMovieCreditsResponse.class);
     }
 
     /**
@@ -147,7 +317,27 @@ public class PeopleApi extends ApiBase {
      * @see GetTvCreditsResponse
      */
     public GetTvCreditsResponse getTvCredits(@NonNull final GetTvCreditsRequest request) {
-        return executeGet(getApiPath(request, "/tv_credits"), request, GetTvCreditsResponse.class);
+        return executeGet(
+                "people.getTvCredits",
+                getApiPath(request, "/tv_credits"),
+                request,
+                GetTvCreditsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of TV credits for a person.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetTvCreditsRequest
+     * @see GetTvCreditsResponse
+     */
+    public CompletableFuture<GetTvCreditsResponse> getTvCreditsAsync(@NonNull final GetTvCreditsRequest request) {
+        return executeGetAsync(
+                "people.getTvCredits",
+                getApiPath(request, "/tv_credits"),
+                request,
+                GetTvCreditsResponse.class);
     }
 
     /**
@@ -159,7 +349,28 @@ public class PeopleApi extends ApiBase {
      * @see GetTranslationsResponse
      */
     public GetTranslationsResponse getTranslations(@NonNull final GetTranslationsRequest request) {
-        return executeGet(getApiPath(request, "/translations"), request, GetTranslationsResponse.class);
+        return executeGet(
+                "people.getTranslations",
+                getApiPath(request, "/translations"),
+                request,
+                GetTranslationsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of translations that belong to a person.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetTranslationsRequest
+     * @see GetTranslationsResponse
+     */
+    public CompletableFuture<GetTranslationsResponse> getTranslationsAsync(
+            @NonNull final GetTranslationsRequest request) {
+        return executeGetAsync(
+                "people.getTranslations",
+                getApiPath(request, "/translations"),
+                request,
+                GetTranslationsResponse.class);
     }
 
     private static String getApiPath(final PersonIdRequestBase request, final String subApiPath) {
@@ -168,4 +379,15 @@ public class PeopleApi extends ApiBase {
                 .append(subApiPath)
                 .toString();
     }
+
+    private BatchLookup<GetPersonDetailsResponse> newPersonDetailsLookup(
+            final Collection<Integer> personIds,
+            final GetPersonDetailsRequest template,
+            final int maxConcurrency) {
+        return BatchLookup.<GetPersonDetailsResponse>builder()
+                .ids(personIds)
+                .lookup(id -> getPersonDetailsAsync(template.toBuilder().personId(id).build()))
+                .maxConcurrency(maxConcurrency)
+                .build();
+    }
 }
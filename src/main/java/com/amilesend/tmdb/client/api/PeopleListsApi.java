@@ -22,6 +22,8 @@ import com.amilesend.tmdb.client.model.people.lists.GetPopularPersonsRequest;
 import com.amilesend.tmdb.client.model.people.lists.GetPopularPersonsResponse;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB People Lists API. */
 public class PeopleListsApi extends ApiBase {
     private static String API_PATH = "/person/popular";
@@ -35,6 +37,16 @@ public class PeopleListsApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code PeopleListsApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public PeopleListsApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets an ordered list of persons ordered by popularity.
      *
@@ -44,6 +56,19 @@ public class PeopleListsApi extends ApiBase {
      * @see GetPopularPersonsResponse
      */
     public GetPopularPersonsResponse getPopular(@NonNull final GetPopularPersonsRequest request) {
-        return executeGet(API_PATH, request, GetPopularPersonsResponse.class);
+        return executeGet("peopleLists.getPopular", API_PATH, request, GetPopularPersonsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets an ordered list of persons ordered by popularity.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetPopularPersonsRequest
+     * @see GetPopularPersonsResponse
+     */
+    public CompletableFuture<GetPopularPersonsResponse> getPopularAsync(
+            @NonNull final GetPopularPersonsRequest request) {
+        return executeGetAsync("peopleLists.getPopular", API_PATH, request, GetPopularPersonsResponse.class);
     }
 }
@@ -22,6 +22,8 @@ import com.amilesend.tmdb.client.model.review.GetReviewDetailsRequest;
 import com.amilesend.tmdb.client.model.review.GetReviewDetailsResponse;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB Review API. */
 public class ReviewsApi extends ApiBase {
     private static String API_PATH = "/review/";
@@ -35,6 +37,16 @@ public class ReviewsApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code ReviewsApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public ReviewsApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the details for a review.
      *
@@ -44,6 +56,27 @@ public class ReviewsApi extends ApiBase {
      * @see GetReviewDetailsResponse
      */
     public GetReviewDetailsResponse getReviewDetails(@NonNull final GetReviewDetailsRequest request) {
-        return executeGet(API_PATH + request.getReviewId(), request, GetReviewDetailsResponse.class);
+        return executeGet(
+                "reviews.getReviewDetails",
+                API_PATH + request.getReviewId(),
+                request,
+                GetReviewDetailsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the details for a review.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetReviewDetailsRequest
+     * @see GetReviewDetailsResponse
+     */
+    public CompletableFuture<GetReviewDetailsResponse> getReviewDetailsAsync(
+            @NonNull final GetReviewDetailsRequest request) {
+        return executeGetAsync(
+                "reviews.getReviewDetails",
+                API_PATH + request.getReviewId(),
+                request,
+                GetReviewDetailsResponse.class);
     }
 }
@@ -34,6 +34,8 @@ import com.amilesend.tmdb.client.model.search.SearchTvRequest;
 import com.amilesend.tmdb.client.model.search.SearchTvResponse;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB Search API. */
 public class SearchApi extends ApiBase {
 
@@ -48,6 +50,16 @@ public class SearchApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code SearchApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public SearchApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Search for collections by their alternative, original, and translated names.
      *
@@ -57,7 +69,28 @@ public class SearchApi extends ApiBase {
      * @see SearchCollectionsResponse
      */
     public SearchCollectionsResponse searchCollections(@NonNull final SearchCollectionsRequest request) {
-        return executeGet(API_PATH + "collection", request, SearchCollectionsResponse.class);
+        return executeGet(
+                "search.searchCollections",
+                API_PATH + "collection",
+                request,
+                SearchCollectionsResponse.class);
+    }
+
+    /**
+     * Asynchronously search for collections by their alternative, original, and translated names.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see SearchCollectionsRequest
+     * @see SearchCollectionsResponse
+     */
+    public CompletableFuture<SearchCollectionsResponse> searchCollectionsAsync(
+            @NonNull final SearchCollectionsRequest request) {
+        return executeGetAsync(
+                "search.searchCollections",
+                API_PATH + "collection",
+                request,
+                SearchCollectionsResponse.class);
     }
 
     /**
@@ -69,7 +102,20 @@ public class SearchApi extends ApiBase {
      * @see SearchCompaniesResponse
      */
     public SearchCompaniesResponse searchCompanies(@NonNull final SearchCompaniesRequest request) {
-        return executeGet(API_PATH + "company", request, SearchCompaniesResponse.class);
+        return executeGet("search.searchCompanies", API_PATH + "company", request, SearchCompaniesResponse.class);
+    }
+
+    /**
+     * Asynchronously search for companies by their original and alternative names.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see SearchCompaniesRequest
+     * @see SearchCompaniesResponse
+     */
+    public CompletableFuture<SearchCompaniesResponse> searchCompaniesAsync(
+            @NonNull final SearchCompaniesRequest request) {
+        return executeGetAsync("search.searchCompanies", API_PATH + "company", request, SearchCompaniesResponse.class);
     }
 
     /**
@@ -81,7 +127,19 @@ public class SearchApi extends ApiBase {
      * @see SearchKeywordsResponse
      */
     public SearchKeywordsResponse searchKeywords(@NonNull final SearchKeywordsRequest request) {
-        return executeGet(API_PATH + "keyword", request, SearchKeywordsResponse.class);
+        return executeGet("search.searchKeywords", API_PATH + "keyword", request, SearchKeywordsResponse.class);
+    }
+
+    /**
+     * Asynchronously search for keywords by name.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see SearchKeywordsRequest
+     * @see SearchKeywordsResponse
+     */
+    public CompletableFuture<SearchKeywordsResponse> searchKeywordsAsync(@NonNull final SearchKeywordsRequest request) {
+        return executeGetAsync("search.searchKeywords", API_PATH + "keyword", request, SearchKeywordsResponse.class);
     }
 
     /**
@@ -93,7 +151,19 @@ public class SearchApi extends ApiBase {
      * @see SearchMoviesResponse
      */
     public SearchMoviesResponse searchMovies(@NonNull final SearchMoviesRequest request) {
-        return executeGet(API_PATH + "movie", request, SearchMoviesResponse.class);
+        return executeGet("search.searchMovies", API_PATH + "movie", request, SearchMoviesResponse.class);
+    }
+
+    /**
+     * Asynchronously search for movies by their alternative, original, and translated titles.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see SearchMoviesRequest
+     * @see SearchMoviesResponse
+     */
+    public CompletableFuture<SearchMoviesResponse> searchMoviesAsync(@NonNull final SearchMoviesRequest request) {
+        return executeGetAsync("search.searchMovies", API_PATH + "movie", request, SearchMoviesResponse.class);
     }
 
     /**
@@ -105,7 +175,19 @@ public class SearchApi extends ApiBase {
      * @see SearchMultiResponse
      */
     public SearchMultiResponse searchMulti(@NonNull final SearchMultiRequest request) {
-        return executeGet(API_PATH + "multi", request, SearchMultiResponse.class);
+        return executeGet("search.searchMulti", API_PATH + "multi", request, SearchMultiResponse.class);
+    }
+
+    /**
+     * Asynchronously search for people, movies, and TV shows.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see SearchMultiRequest
+     * @see SearchMultiResponse
+     */
+    public CompletableFuture<SearchMultiResponse> searchMultiAsync(@NonNull final SearchMultiRequest request) {
+        return executeGetAsync("search.searchMulti", API_PATH + "multi", request, SearchMultiResponse.class);
     }
 
     /**
@@ -117,7 +199,19 @@ public class SearchApi extends ApiBase {
      * @see SearchPeopleResponse
      */
     public SearchPeopleResponse searchPeople(@NonNull final SearchPeopleRequest request) {
-        return executeGet(API_PATH + "person", request, SearchPeopleResponse.class);
+        return executeGet("search.searchPeople", API_PATH + "person", request, SearchPeopleResponse.class);
+    }
+
+    /**
+     * Asynchronously search for people by the name and aliases.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see SearchPeopleRequest
+     * @see SearchPeopleResponse
+     */
+    public CompletableFuture<SearchPeopleResponse> searchPeopleAsync(@NonNull final SearchPeopleRequest request) {
+        return executeGetAsync("search.searchPeople", API_PATH + "person", request, SearchPeopleResponse.class);
     }
 
     /**
@@ -129,6 +223,18 @@ public class SearchApi extends ApiBase {
      * @see SearchTvResponse
      */
     public SearchTvResponse searchTv(@NonNull final SearchTvRequest request) {
-        return executeGet(API_PATH + "tv", request, SearchTvResponse.class);
+        return executeGet("search.searchTv", API_PATH + "tv", request, SearchTvResponse.class);
+    }
+
+    /**
+     * Asynchronously search for TV shows by their original, translated, and aka names.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see SearchTvRequest
+     * @see SearchTvResponse
+     */
+    public CompletableFuture<SearchTvResponse> searchTvAsync(@NonNull final SearchTvRequest request) {
+        return executeGetAsync("search.searchTv", API_PATH + "tv", request, SearchTvResponse.class);
     }
 }
@@ -29,6 +29,8 @@ import com.amilesend.tmdb.client.model.trending.GetTrendingTvResponse;
 import com.amilesend.tmdb.client.model.trending.type.GetTrendingRequestBase;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB Trending API. */
 public class TrendingApi  extends ApiBase {
     private static final String API_PATH = "/trending/";
@@ -46,6 +48,16 @@ public class TrendingApi  extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code TrendingApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public TrendingApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the list of trending resources (e.g., movies, tv shows, people).
      *
@@ -55,7 +67,27 @@ public class TrendingApi  extends ApiBase {
      * @see GetAllTrendingResponse
      */
     public GetAllTrendingResponse getAllTrending(@NonNull final GetAllTrendingRequest request) {
-        return executeGet(getApiPath(ALL_PATH, request), request, GetAllTrendingResponse.class);
+        return executeGet(
+                "trending.getAllTrending",
+                getApiPath(ALL_PATH, request),
+                request,
+                GetAllTrendingResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of trending resources (e.g., movies, tv shows, people).
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetAllTrendingRequest
+     * @see GetAllTrendingResponse
+     */
+    public CompletableFuture<GetAllTrendingResponse> getAllTrendingAsync(@NonNull final GetAllTrendingRequest request) {
+        return executeGetAsync(
+                "trending.getAllTrending",
+                getApiPath(ALL_PATH, request),
+                request,
+                GetAllTrendingResponse.class);
     }
 
     /**
@@ -67,7 +99,28 @@ public class TrendingApi  extends ApiBase {
      * @see GetTrendingMoviesResponse
      */
     public GetTrendingMoviesResponse getTrendingMovies(@NonNull final GetTrendingMoviesRequest request) {
-        return executeGet(getApiPath(MOVIES_PATH, request), request, GetTrendingMoviesResponse.class);
+        return executeGet(
+                "trending.getTrendingMovies",
+                getApiPath(MOVIES_PATH, request),
+                request,
+                GetTrendingMoviesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of trending movies.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetTrendingMoviesRequest
+     * @see GetTrendingMoviesResponse
+     */
+    public CompletableFuture<GetTrendingMoviesResponse> getTrendingMoviesAsync(
+            @NonNull final GetTrendingMoviesRequest request) {
+        return executeGetAsync(
+                "trending.getTrendingMovies",
+                getApiPath(MOVIES_PATH, request),
+                request,
+                GetTrendingMoviesResponse.class);
     }
 
     /**
@@ -79,7 +132,28 @@ public class TrendingApi  extends ApiBase {
      * @see GetTrendingPeopleResponse
      */
     public GetTrendingPeopleResponse getTrendingPeople(@NonNull final GetTrendingPeopleRequest request) {
-        return executeGet(getApiPath(PEOPLE_PATH, request), request, GetTrendingPeopleResponse.class);
+        return executeGet(
+                "trending.getTrendingPeople",
+                getApiPath(PEOPLE_PATH, request),
+                request,
+                GetTrendingPeopleResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of trending people.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetTrendingPeopleRequest
+     * @see GetTrendingPeopleResponse
+     */
+    public CompletableFuture<GetTrendingPeopleResponse> getTrendingPeopleAsync(
+            @NonNull final GetTrendingPeopleRequest request) {
+        return executeGetAsync(
+                "trending.getTrendingPeople",
+                getApiPath(PEOPLE_PATH, request),
+                request,
+                GetTrendingPeopleResponse.class);
     }
 
     /**
@@ -91,7 +165,23 @@ public class TrendingApi  extends ApiBase {
      * @see GetTrendingTvResponse
      */
     public GetTrendingTvResponse getTrendingTv(@NonNull final GetTrendingTvRequest request) {
-        return executeGet(getApiPath(TV_PATH, request), request, GetTrendingTvResponse.class);
+        return executeGet("trending.getTrendingTv", getApiPath(TV_PATH, request), request, GetTrendingTvResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of trending TV shows.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetTrendingTvRequest
+     * @see GetTrendingTvResponse
+     */
+    public CompletableFuture<GetTrendingTvResponse> getTrendingTvAsync(@NonNull final GetTrendingTvRequest request) {
+        return executeGetAsync(
+                "trending.getTrendingTv",
+                getApiPath(TV_PATH, request),
+                request,
+                GetTrendingTvResponse.class);
     }
 
     private static String getApiPath(final String apiMethodPath, final GetTrendingRequestBase request) {
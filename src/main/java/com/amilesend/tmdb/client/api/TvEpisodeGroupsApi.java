@@ -22,6 +22,8 @@ import com.amilesend.tmdb.client.model.tv.episodes.groups.GetTvEpisodeGroupDetai
 import com.amilesend.tmdb.client.model.tv.episodes.groups.GetTvEpisodeGroupDetailsResponse;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB TV Episode Groups API. */
 public class TvEpisodeGroupsApi extends ApiBase {
     private static final String API_PATH = "/tv/episode_group/";
@@ -35,6 +37,16 @@ public class TvEpisodeGroupsApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code TvEpisodeGroupsApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public TvEpisodeGroupsApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the details for a specific TV episode group.
      *
@@ -45,6 +57,24 @@ public class TvEpisodeGroupsApi extends ApiBase {
      */
     public GetTvEpisodeGroupDetailsResponse getDetails(@NonNull final GetTvEpisodeGroupDetailsRequest request) {
         return executeGet(
+                "tvEpisodeGroups.getDetails",
+                API_PATH + request.getTvEpisodeGroupId(),
+                request,
+                GetTvEpisodeGroupDetailsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the details for a specific TV episode group.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetTvEpisodeGroupDetailsRequest
+     * @see GetTvEpisodeGroupDetailsResponse
+     */
+    public CompletableFuture<GetTvEpisodeGroupDetailsResponse> getDetailsAsync(
+            @NonNull final GetTvEpisodeGroupDetailsRequest request) {
+        return executeGetAsync(
+                "tvEpisodeGroups.getDetails",
                 API_PATH + request.getTvEpisodeGroupId(),
                 request,
                 GetTvEpisodeGroupDetailsResponse.class);
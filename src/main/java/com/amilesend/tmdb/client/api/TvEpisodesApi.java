@@ -42,6 +42,8 @@ import com.amilesend.tmdb.client.model.tv.episodes.GetVideosResponse;
 import com.amilesend.tmdb.client.model.tv.episodes.type.EpisodeRequestBase;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB TV Episodes API. */
 public class TvEpisodesApi extends ApiBase {
     private static final String API_PATH = "/tv/";
@@ -58,6 +60,16 @@ public class TvEpisodesApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code TvEpisodesApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public TvEpisodesApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the details for a specific TV episode.
      *
@@ -67,7 +79,28 @@ public class TvEpisodesApi extends ApiBase {
      * @see GetEpisodeDetailsResponse
      */
     public GetEpisodeDetailsResponse getEpisodeDetails(@NonNull final GetEpisodeDetailsRequest request) {
-        return executeGet(getApiPath(request, StringUtils.EMPTY), request, GetEpisodeDetailsResponse.class);
+        return executeGet(
+                "tvEpisodes.getEpisodeDetails",
+                getApiPath(request, StringUtils.EMPTY),
+                request,
+                GetEpisodeDetailsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the details for a specific TV episode.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetEpisodeDetailsRequest
+     * @see GetEpisodeDetailsResponse
+     */
+    public CompletableFuture<GetEpisodeDetailsResponse> getEpisodeDetailsAsync(
+            @NonNull final GetEpisodeDetailsRequest request) {
+        return executeGetAsync(
+                "tvEpisodes.getEpisodeDetails",
+                getApiPath(request, StringUtils.EMPTY),
+                request,
+                GetEpisodeDetailsResponse.class);
     }
 
     /**
@@ -79,7 +112,28 @@ public class TvEpisodesApi extends ApiBase {
      * @see GetAccountStatesResponse
      */
     public GetAccountStatesResponse getAccountStates(@NonNull final GetAccountStatesRequest request) {
-        return executeGet(getApiPath(request, "/account_states"), request, GetAccountStatesResponse.class);
+        return executeGet(
+                "tvEpisodes.getAccountStates",
+                getApiPath(request, "/account_states"),
+                request,
+                GetAccountStatesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the associated account states for a specific TV episode.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetAccountStatesRequest
+     * @see GetAccountStatesResponse
+     */
+    public CompletableFuture<GetAccountStatesResponse> getAccountStatesAsync(
+            @NonNull final GetAccountStatesRequest request) {
+        return executeGetAsync(
+                "tvEpisodes.getAccountStates",
+                getApiPath(request, "/account_states"),
+                request,
+                GetAccountStatesResponse.class);
     }
 
     /**
@@ -95,7 +149,23 @@ public class TvEpisodesApi extends ApiBase {
                 .append(request.getEpisodeId())
                 .append("/changes")
                 .toString();
-        return executeGet(apiPath, request, GetChangesResponse.class);
+        return executeGet("tvEpisodes.getChanges", apiPath, request, GetChangesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the changes for a specific TV episode.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetChangesRequest
+     * @see GetChangesResponse
+     */
+    public CompletableFuture<GetChangesResponse> getChangesAsync(@NonNull final GetChangesRequest request) {
+        final String apiPath = new StringBuilder("/tv/episode/")
+                .append(request.getEpisodeId())
+                .append("/changes")
+                .toString();
+        return executeGetAsync("tvEpisodes.getChanges", apiPath, request, GetChangesResponse.class);
     }
 
     /**
@@ -107,7 +177,23 @@ public class TvEpisodesApi extends ApiBase {
      * @see GetCreditsResponse
      */
     public GetCreditsResponse getCredits(@NonNull final GetCreditsRequest request) {
-        return executeGet(getApiPath(request, "/credits"), request, GetCreditsResponse.class);
+        return executeGet("tvEpisodes.getCredits", getApiPath(request, "/credits"), request, GetCreditsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the credits for a specific TV episode.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetCreditsRequest
+     * @see GetCreditsResponse
+     */
+    public CompletableFuture<GetCreditsResponse> getCreditsAsync(@NonNull final GetCreditsRequest request) {
+        return executeGetAsync(
+                "tvEpisodes.getCredits",
+                getApiPath(request, "/credits"),
+                request,
+                GetCreditsResponse.class);
     }
 
     /**
@@ -119,7 +205,27 @@ public class TvEpisodesApi extends ApiBase {
      * @see GetExternalIdsResponse
      */
     public GetExternalIdsResponse getExternalIds(@NonNull final GetExternalIdsRequest request) {
-        return executeGet(getApiPath(request, "/external_ids"), request, GetExternalIdsResponse.class);
+        return executeGet(
+                "tvEpisodes.getExternalIds",
+                getApiPath(request, "/external_ids"),
+                request,
+                GetExternalIdsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the external identifiers for a specific TV episode.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetExternalIdsRequest
+     * @see GetExternalIdsResponse
+     */
+    public CompletableFuture<GetExternalIdsResponse> getExternalIdsAsync(@NonNull final GetExternalIdsRequest request) {
+        return executeGetAsync(
+                "tvEpisodes.getExternalIds",
+                getApiPath(request, "/external_ids"),
+                request,
+                GetExternalIdsResponse.class);
     }
 
     /**
@@ -131,7 +237,23 @@ public class TvEpisodesApi extends ApiBase {
      * @see GetImagesResponse
      */
     public GetImagesResponse getImages(@NonNull final GetImagesRequest request) {
-        return executeGet(getApiPath(request, "/images"), request, GetImagesResponse.class);
+        return executeGet("tvEpisodes.getImages", getApiPath(request, "/images"), request, GetImagesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the image stills associated with a specific TV episode.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetImagesRequest
+     * @see GetImagesResponse
+     */
+    public CompletableFuture<GetImagesResponse> getImagesAsync(@NonNull final GetImagesRequest request) {
+        return executeGetAsync(
+                "tvEpisodes.getImages",
+                getApiPath(request, "/images"),
+                request,
+                GetImagesResponse.class);
     }
 
     /**
@@ -143,7 +265,28 @@ public class TvEpisodesApi extends ApiBase {
      * @see GetTranslationsResponse
      */
     public GetTranslationsResponse getTranslations(@NonNull final GetTranslationsRequest request) {
-        return executeGet(getApiPath(request, "/translations"), request, GetTranslationsResponse.class);
+        return executeGet(
+                "tvEpisodes.getTranslations",
+                getApiPath(request, "/translations"),
+                request,
+                GetTranslationsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the translation information for a specific TV episode.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetTranslationsRequest
+     * @see GetTranslationsResponse
+     */
+    public CompletableFuture<GetTranslationsResponse> getTranslationsAsync(
+            @NonNull final GetTranslationsRequest request) {
+        return executeGetAsync(
+                "tvEpisodes.getTranslations",
+                getApiPath(request, "/translations"),
+                request,
+                GetTranslationsResponse.class);
     }
 
     /**
@@ -155,7 +298,23 @@ public class TvEpisodesApi extends ApiBase {
      * @see GetVideosResponse
      */
     public GetVideosResponse getVideos(@NonNull final GetVideosRequest request) {
-        return executeGet(getApiPath(request, "/videos"), request, GetVideosResponse.class);
+        return executeGet("tvEpisodes.getVideos", getApiPath(request, "/videos"), request, GetVideosResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of videos for a specific TV episode.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetVideosRequest
+     * @see GetVideosResponse
+     */
+    public CompletableFuture<GetVideosResponse> getVideosAsync(@NonNull final GetVideosRequest request) {
+        return executeGetAsync(
+                "tvEpisodes.getVideos",
+                getApiPath(request, "/videos"),
+                request,
+                GetVideosResponse.class);
     }
 
     /**
@@ -167,7 +326,23 @@ public class TvEpisodesApi extends ApiBase {
      * @see AddRatingResponse
      */
     public AddRatingResponse addRating(@NonNull final AddRatingRequest request) {
-        return executePost(getApiPath(request, "/rating"), request, AddRatingResponse.class);
+        return executePost("tvEpisodes.addRating", getApiPath(request, "/rating"), request, AddRatingResponse.class);
+    }
+
+    /**
+     * Asynchronously adds a rating for a specific TV episode.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see AddRatingRequest
+     * @see AddRatingResponse
+     */
+    public CompletableFuture<AddRatingResponse> addRatingAsync(@NonNull final AddRatingRequest request) {
+        return executePostAsync(
+                "tvEpisodes.addRating",
+                getApiPath(request, "/rating"),
+                request,
+                AddRatingResponse.class);
     }
 
     /**
@@ -179,7 +354,27 @@ public class TvEpisodesApi extends ApiBase {
      * @see DeleteRatingResponse
      */
     public DeleteRatingResponse deleteRating(@NonNull final DeleteRatingRequest request) {
-        return executeDelete(getApiPath(request, "/rating"), request, DeleteRatingResponse.class);
+        return executeDelete(
+                "tvEpisodes.deleteRating",
+                getApiPath(request, "/rating"),
+                request,
+                DeleteRatingResponse.class);
+    }
+
+    /**
+     * Asynchronously deletes a rating for a specific TV episode.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see DeleteRatingRequest
+     * @see DeleteRatingResponse
+     */
+    public CompletableFuture<DeleteRatingResponse> deleteRatingAsync(@NonNull final DeleteRatingRequest request) {
+        return executeDeleteAsync(
+                "tvEpisodes.deleteRating",
+                getApiPath(request, "/rating"),
+                request,
+                DeleteRatingResponse.class);
     }
 
     private static String getApiPath(final EpisodeRequestBase request, final String suffix) {
@@ -40,6 +40,8 @@ import com.amilesend.tmdb.client.model.tv.seasons.GetWatchProvidersResponse;
 import com.amilesend.tmdb.client.model.tv.seasons.type.SeasonRequestBase;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB TV Seasons API. */
 public class TvSeasonsApi extends ApiBase {
     private static final String TV_API_PATH = "/tv/";
@@ -54,6 +56,16 @@ public class TvSeasonsApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code TvSeasonsApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public TvSeasonsApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the details for a specific TV season.
      *
@@ -63,7 +75,28 @@ public class TvSeasonsApi extends ApiBase {
      * @see GetSeasonDetailsResponse
      */
     public GetSeasonDetailsResponse getSeasonDetails(@NonNull final GetSeasonDetailsRequest request) {
-        return executeGet(getApiPath(request, StringUtils.EMPTY), request, GetSeasonDetailsResponse.class);
+        return executeGet(
+                "tvSeasons.getSeasonDetails",
+                getApiPath(request, StringUtils.EMPTY),
+                request,
+                GetSeasonDetailsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the details for a specific TV season.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetSeasonDetailsRequest
+     * @see GetSeasonDetailsResponse
+     */
+    public CompletableFuture<GetSeasonDetailsResponse> getSeasonDetailsAsync(
+            @NonNull final GetSeasonDetailsRequest request) {
+        return executeGetAsync(
+                "tvSeasons.getSeasonDetails",
+                getApiPath(request, StringUtils.EMPTY),
+                request,
+                GetSeasonDetailsResponse.class);
     }
 
     /**
@@ -75,7 +108,28 @@ public class TvSeasonsApi extends ApiBase {
      * @see GetAccountStatesResponse
      */
     public GetAccountStatesResponse getAccountStates(@NonNull final GetAccountStatesRequest request) {
-        return executeGet(getApiPath(request, "/account_states"), request, GetAccountStatesResponse.class);
+        return executeGet(
+                "tvSeasons.getAccountStates",
+                getApiPath(request, "/account_states"),
+                request,
+                GetAccountStatesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the associated account states for a specific TV season.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetAccountStatesRequest
+     * @see GetAccountStatesResponse
+     */
+    public CompletableFuture<GetAccountStatesResponse> getAccountStatesAsync(
+            @NonNull final GetAccountStatesRequest request) {
+        return executeGetAsync(
+                "tvSeasons.getAccountStates",
+                getApiPath(request, "/account_states"),
+                request,
+                GetAccountStatesResponse.class);
     }
 
     /**
@@ -87,7 +141,28 @@ public class TvSeasonsApi extends ApiBase {
      * @see GetAggregateCreditsResponse
      */
     public GetAggregateCreditsResponse getAggregateCredits(@NonNull final GetAggregateCreditsRequest request) {
-        return executeGet(getApiPath(request, "/aggregate_credits"), request, GetAggregateCreditsResponse.class);
+        return executeGet(
+                "tvSeasons.getAggregateCredits",
+                getApiPath(request, "/aggregate_credits"),
+                request,
+                GetAggregateCreditsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the associated credits for a specific TV season.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetAggregateCreditsRequest
+     * @see GetAggregateCreditsResponse
+     */
+    public CompletableFuture<GetAggregateCreditsResponse> getAggregateCreditsAsync(
+            @NonNull final GetAggregateCreditsRequest request) {
+        return executeGetAsync(
+                "tvSeasons.getAggregateCredits",
+                getApiPath(request, "/aggregate_credits"),
+                request,
+                GetAggregateCreditsResponse.class);
     }
 
     /**
@@ -103,7 +178,23 @@ public class TvSeasonsApi extends ApiBase {
                 .append(request.getSeasonId())
                 .append("/changes")
                 .toString();
-        return executeGet(apiPath, request, GetChangesResponse.class);
+        return executeGet("tvSeasons.getChanges", apiPath, request, GetChangesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the changes for a specific TV season.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetChangesRequest
+     * @see GetChangesResponse
+     */
+    public CompletableFuture<GetChangesResponse> getChangesAsync(@NonNull final GetChangesRequest request) {
+        final String apiPath = new StringBuilder("/tv/season/")
+                .append(request.getSeasonId())
+                .append("/changes")
+                .toString();
+        return executeGetAsync("tvSeasons.getChanges", apiPath, request, GetChangesResponse.class);
     }
 
     /**
@@ -115,7 +206,23 @@ public class TvSeasonsApi extends ApiBase {
      * @see GetCreditsResponse
      */
     public GetCreditsResponse getCredits(@NonNull final GetCreditsRequest request) {
-        return executeGet(getApiPath(request, "/credits"), request, GetCreditsResponse.class);
+        return executeGet("tvSeasons.getCredits", getApiPath(request, "/credits"), request, GetCreditsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the credits for a specific TV episode.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetCreditsRequest
+     * @see GetCreditsResponse
+     */
+    public CompletableFuture<GetCreditsResponse> getCreditsAsync(@NonNull final GetCreditsRequest request) {
+        return executeGetAsync(
+                "tvSeasons.getCredits",
+                getApiPath(request, "/credits"),
+                request,
+                GetCreditsResponse.class);
     }
 
     /**
@@ -127,7 +234,27 @@ public class TvSeasonsApi extends ApiBase {
      * @see GetExternalIdsResponse
      */
     public GetExternalIdsResponse getExternalIds(@NonNull final GetExternalIdsRequest request) {
-        return executeGet(getApiPath(request, "/external_ids"), request, GetExternalIdsResponse.class);
+        return executeGet(
+                "tvSeasons.getExternalIds",
+                getApiPath(request, "/external_ids"),
+                request,
+                GetExternalIdsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the external identifiers for a specific TV season.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetExternalIdsRequest
+     * @see GetExternalIdsResponse
+     */
+    public CompletableFuture<GetExternalIdsResponse> getExternalIdsAsync(@NonNull final GetExternalIdsRequest request) {
+        return executeGetAsync(
+                "tvSeasons.getExternalIds",
+                getApiPath(request, "/external_ids"),
+                request,
+                GetExternalIdsResponse.class);
     }
 
     /**
@@ -139,7 +266,19 @@ public class TvSeasonsApi extends ApiBase {
      * @see GetImagesResponse
      */
     public GetImagesResponse getImages(@NonNull final GetImagesRequest request) {
-        return executeGet(getApiPath(request, "/images"), request, GetImagesResponse.class);
+        return executeGet("tvSeasons.getImages", getApiPath(request, "/images"), request, GetImagesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the image stills associated with a specific TV season.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetImagesRequest
+     * @see GetImagesResponse
+     */
+    public CompletableFuture<GetImagesResponse> getImagesAsync(@NonNull final GetImagesRequest request) {
+        return executeGetAsync("tvSeasons.getImages", getApiPath(request, "/images"), request, GetImagesResponse.class);
     }
 
     /**
@@ -151,7 +290,28 @@ public class TvSeasonsApi extends ApiBase {
      * @see GetTranslationsResponse
      */
     public GetTranslationsResponse getTranslations(@NonNull final GetTranslationsRequest request) {
-        return executeGet(getApiPath(request, "/translations"), request, GetTranslationsResponse.class);
+        return executeGet(
+                "tvSeasons.getTranslations",
+                getApiPath(request, "/translations"),
+                request,
+                GetTranslationsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the translation information for a specific TV season.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetTranslationsRequest
+     * @see GetTranslationsResponse
+     */
+    public CompletableFuture<GetTranslationsResponse> getTranslationsAsync(
+            @NonNull final GetTranslationsRequest request) {
+        return executeGetAsync(
+                "tvSeasons.getTranslations",
+                getApiPath(request, "/translations"),
+                request,
+                GetTranslationsResponse.class);
     }
 
     /**
@@ -163,7 +323,28 @@ public class TvSeasonsApi extends ApiBase {
      * @see GetWatchProvidersResponse
      */
     public GetWatchProvidersResponse getWatchProviders(@NonNull final GetWatchProvidersRequest request) {
-        return executeGet(getApiPath(request, "/watch/providers"), request, GetWatchProvidersResponse.class);
+        return executeGet(
+                "tvSeasons.getWatchProviders",
+                getApiPath(request, "/watch/providers"),
+                request,
+                GetWatchProvidersResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of streaming providers for a movie.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetWatchProvidersRequest
+     * @see GetWatchProvidersResponse
+     */
+    public CompletableFuture<GetWatchProvidersResponse> getWatchProvidersAsync(
+            @NonNull final GetWatchProvidersRequest request) {
+        return executeGetAsync(
+                "tvSeasons.getWatchProviders",
+                getApiPath(request, "/watch/providers"),
+                request,
+                GetWatchProvidersResponse.class);
     }
 
     private static String getApiPath(final SeasonRequestBase request, final String suffix) {
@@ -64,6 +64,9 @@ import com.amilesend.tmdb.client.model.tv.series.GetWatchProvidersResponse;
 import com.amilesend.tmdb.client.model.tv.series.type.SeriesRequestBase;
 import lombok.NonNull;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB TV Series API. */
 public class TvSeriesApi extends ApiBase {
     private static final String API_PATH = "/tv/";
@@ -77,6 +80,16 @@ public class TvSeriesApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code TvSeriesApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public TvSeriesApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the details for a TV series
      *
@@ -86,7 +99,64 @@ public class TvSeriesApi extends ApiBase {
      * @see GetSeriesDetailsResponse
      */
     public GetSeriesDetailsResponse getSeriesDetails(@NonNull final GetSeriesDetailsRequest request) {
-        return executeGet(getApiPath(request, StringUtils.EMPTY), request, GetSeriesDetailsResponse.class);
+        return executeGet(
+                "tvSeries.getSeriesDetails",
+                getApiPath(request, StringUtils.EMPTY),
+                request,
+                GetSeriesDetailsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the details for a TV series
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetSeriesDetailsRequest
+     * @see GetSeriesDetailsResponse
+     */
+    public CompletableFuture<GetSeriesDetailsResponse> getSeriesDetailsAsync(
+            @NonNull final GetSeriesDetailsRequest request) {
+        return executeGetAsync(
+                "tvSeries.getSeriesDetails",
+                getApiPath(request, StringUtils.EMPTY),
+                request,
+                GetSeriesDetailsResponse.class);
+    }
+
+    /**
+     * Gets the details for a batch of TV series, looking up to {@code maxConcurrency} TV series at a time. The failure
+     * to fetch the details for a TV series does not abort the batch and is instead reported for its identifier.
+     *
+     * @param seriesIds the TV series identifiers
+     * @param template the request that defines the parameters shared by each lookup (its identifier is ignored)
+     * @param maxConcurrency the maximum number of in-flight requests
+     * @return the responses and failures keyed by identifier
+     * @see BatchLookup
+     */
+    public BatchResult<GetSeriesDetailsResponse> getSeriesDetails(
+            @NonNull final Collection<Integer> seriesIds,
+            @NonNull final GetSeriesDetailsRequest template,
+            final int maxConcurrency) {
+        return newSeriesDetailsLookup(seriesIds, template, maxConcurrency).execute();
+    }
+
+    /**
+     * Asynchronously gets the details for a batch of TV series, looking up to {@code maxConcurrency} TV series at a
+     * time. Each response (or failure) is reported to the given sink as it completes.
+     *
+     * @param seriesIds the TV series identifiers
+     * @param template the request that defines the parameters shared by each lookup (its identifier is ignored)
+     * @param maxConcurrency the maximum number of in-flight requests
+     * @param sink the sink that receives each response or failure
+     * @return the future that completes once all responses and failures have been reported to the sink
+     * @see BatchLookup
+     */
+    public CompletableFuture<Void> getSeriesDetailsAsync(
+            @NonNull final Collection<Integer> seriesIds,
+            @NonNull final GetSeriesDetailsRequest template,
+            final int maxConcurrency,
+            @NonNull final BatchResultSink<? super GetSeriesDetailsResponse> sink) {
+        return newSeriesDetailsLookup(seriesIds, template, maxConcurrency).executeAsync(sink);
     }
 
     /**
@@ -98,7 +168,28 @@ public class TvSeriesApi extends ApiBase {
      * @see GetAccountStatesResponse
      */
     public GetAccountStatesResponse getAccountStates(@NonNull final GetAccountStatesRequest request) {
-        return executeGet(getApiPath(request, "/account_states"), request, GetAccountStatesResponse.class);
+        return executeGet(
+                "tvSeries.getAccountStates",
+                getApiPath(request, "/account_states"),
+                request,
+                GetAccountStatesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the associated account states for a TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetAccountStatesRequest
+     * @see GetAccountStatesResponse
+     */
+    public CompletableFuture<GetAccountStatesResponse> getAccountStatesAsync(
+            @NonNull final GetAccountStatesRequest request) {
+        return executeGetAsync(
+                "tvSeries.getAccountStates",
+                getApiPath(request, "/account_states"),
+                request,
+                GetAccountStatesResponse.class);
     }
 
     /**
@@ -110,7 +201,28 @@ public class TvSeriesApi extends ApiBase {
      * @see GetAggregateCreditsResponse
      */
     public GetAggregateCreditsResponse getAggregateCredits(@NonNull final GetAggregateCreditsRequest request) {
-        return executeGet(getApiPath(request, "/aggregate_credits"), request, GetAggregateCreditsResponse.class);
+        return executeGet(
+                "tvSeries.getAggregateCredits",
+                getApiPath(request, "/aggregate_credits"),
+                request,
+                GetAggregateCreditsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the associated credits for a TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetAggregateCreditsRequest
+     * @see GetAggregateCreditsResponse
+     */
+    public CompletableFuture<GetAggregateCreditsResponse> getAggregateCreditsAsync(
+            @NonNull final GetAggregateCreditsRequest request) {
+        return executeGetAsync(
+                "tvSeries.getAggregateCredits",
+                getApiPath(request, "/aggregate_credits"),
+                request,
+                GetAggregateCreditsResponse.class);
     }
 
     /**
@@ -123,6 +235,24 @@ public class TvSeriesApi extends ApiBase {
      */
     public GetAlternativeTitlesResponse getAlternativeTitles(@NonNull final GetAlternativeTitlesRequest request) {
         return executeGet(
+                "tvSeries.getAlternativeTitles",
+                getApiPath(request, "/alternative_titles"),
+                request,
+                GetAlternativeTitlesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of alternative titles for a TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetAlternativeTitlesRequest
+     * @see GetAlternativeTitlesResponse
+     */
+    public CompletableFuture<GetAlternativeTitlesResponse> getAlternativeTitlesAsync(
+            @NonNull final GetAlternativeTitlesRequest request) {
+        return executeGetAsync(
+                "tvSeries.getAlternativeTitles",
                 getApiPath(request, "/alternative_titles"),
                 request,
                 GetAlternativeTitlesResponse.class);
@@ -141,7 +271,23 @@ public class TvSeriesApi extends ApiBase {
                 .append(request.getSeriesId())
                 .append("/changes")
                 .toString();
-        return executeGet(apiPath, request, GetChangesResponse.class);
+        return executeGet("tvSeries.getChanges", apiPath, request, GetChangesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the changes for a TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetChangesRequest
+     * @see GetChangesResponse
+     */
+    public CompletableFuture<GetChangesResponse> getChangesAsync(@NonNull final GetChangesRequest request) {
+        final String apiPath = new StringBuilder("/tv/")
+                .append(request.getSeriesId())
+                .append("/changes")
+                .toString();
+        return executeGetAsync("tvSeries.getChanges", apiPath, request, GetChangesResponse.class);
     }
 
     /**
@@ -153,7 +299,28 @@ public class TvSeriesApi extends ApiBase {
      * @see GetContentRatingsResponse
      */
     public GetContentRatingsResponse getContentRatings(@NonNull final GetContentRatingsRequest request) {
-        return executeGet(getApiPath(request, "/content_ratings"), request, GetContentRatingsResponse.class);
+        return executeGet(
+                "tvSeries.getContentRatings",
+                getApiPath(request, "/content_ratings"),
+                request,
+                GetContentRatingsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the content ratings for a TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetContentRatingsRequest
+     * @see GetContentRatingsResponse
+     */
+    public CompletableFuture<GetContentRatingsResponse> getContentRatingsAsync(
+            @NonNull final GetContentRatingsRequest request) {
+        return executeGetAsync(
+                "tvSeries.getContentRatings",
+                getApiPath(request, "/content_ratings"),
+                request,
+                GetContentRatingsResponse.class);
     }
 
     /**
@@ -165,7 +332,23 @@ public class TvSeriesApi extends ApiBase {
      * @see GetCreditsResponse
      */
     public GetCreditsResponse getCredits(@NonNull final GetCreditsRequest request) {
-        return executeGet(getApiPath(request, "/credits"), request, GetCreditsResponse.class);
+        return executeGet("tvSeries.getCredits", getApiPath(request, "/credits"), request, GetCreditsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the credits for a TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetCreditsRequest
+     * @see GetCreditsResponse
+     */
+    public CompletableFuture<GetCreditsResponse> getCreditsAsync(@NonNull final GetCreditsRequest request) {
+        return executeGetAsync(
+                "tvSeries.getCredits",
+                getApiPath(request, "/credits"),
+                request,
+                GetCreditsResponse.class);
     }
 
     /**
@@ -177,7 +360,28 @@ public class TvSeriesApi extends ApiBase {
      * @see GetEpisodeGroupsResponse
      */
     public GetEpisodeGroupsResponse getEpisodesGroups(@NonNull final GetEpisodeGroupsRequest request) {
-        return executeGet(getApiPath(request, "/episode_groups"), request, GetEpisodeGroupsResponse.class);
+        return executeGet(
+                "tvSeries.getEpisodesGroups",
+                getApiPath(request, "/episode_groups"),
+                request,
+                GetEpisodeGroupsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the episode groups for a TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetEpisodeGroupsRequest
+     * @see GetEpisodeGroupsResponse
+     */
+    public CompletableFuture<GetEpisodeGroupsResponse> getEpisodesGroupsAsync(
+            @NonNull final GetEpisodeGroupsRequest request) {
+        return executeGetAsync(
+                "tvSeries.getEpisodesGroups",
+                getApiPath(request, "/episode_groups"),
+                request,
+                GetEpisodeGroupsResponse.class);
     }
 
     /**
@@ -189,7 +393,27 @@ public class TvSeriesApi extends ApiBase {
      * @see GetExternalIdsResponse
      */
     public GetExternalIdsResponse getExternalIds(@NonNull final GetExternalIdsRequest request) {
-        return executeGet(getApiPath(request, "/external_ids"), request, GetExternalIdsResponse.class);
+        return executeGet(
+                "tvSeries.getExternalIds",
+                getApiPath(request, "/external_ids"),
+                request,
+                GetExternalIdsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the external identifiers for a TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetExternalIdsRequest
+     * @see GetExternalIdsResponse
+     */
+    public CompletableFuture<GetExternalIdsResponse> getExternalIdsAsync(@NonNull final GetExternalIdsRequest request) {
+        return executeGetAsync(
+                "tvSeries.getExternalIds",
+                getApiPath(request, "/external_ids"),
+                request,
+                GetExternalIdsResponse.class);
     }
 
     /**
@@ -201,7 +425,19 @@ public class TvSeriesApi extends ApiBase {
      * @see GetImagesResponse
      */
     public GetImagesResponse getImages(@NonNull final GetImagesRequest request) {
-        return executeGet(getApiPath(request, "/images"), request, GetImagesResponse.class);
+        return executeGet("tvSeries.getImages", getApiPath(request, "/images"), request, GetImagesResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the images associated with a TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetImagesRequest
+     * @see GetImagesResponse
+     */
+    public CompletableFuture<GetImagesResponse> getImagesAsync(@NonNull final GetImagesRequest request) {
+        return executeGetAsync("tvSeries.getImages", getApiPath(request, "/images"), request, GetImagesResponse.class);
     }
 
     /**
@@ -213,7 +449,23 @@ public class TvSeriesApi extends ApiBase {
      * @see GetKeywordsResponse
      */
     public GetKeywordsResponse getKeywords(@NonNull final GetKeywordsRequest request) {
-        return executeGet(getApiPath(request, "/keywords"), request, GetKeywordsResponse.class);
+        return executeGet("tvSeries.getKeywords", getApiPath(request, "/keywords"), request, GetKeywordsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the keywords associated with a TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetKeywordsRequest
+     * @see GetKeywordsResponse
+     */
+    public CompletableFuture<GetKeywordsResponse> getKeywordsAsync(@NonNull final GetKeywordsRequest request) {
+        return executeGetAsync(
+                "tvSeries.getKeywords",
+                getApiPath(request, "/keywords"),
+                request,
+                GetKeywordsResponse.class);
     }
 
     /**
@@ -223,7 +475,17 @@ public class TvSeriesApi extends ApiBase {
      * @see GetSeriesDetailsResponse
      */
     public GetSeriesDetailsResponse getLatest() {
-        return executeGet(API_PATH + "latest", GetSeriesDetailsResponse.class);
+        return executeGet("tvSeries.getLatest", API_PATH + "latest", GetSeriesDetailsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the latest TV series details.
+     *
+     * @return the future that completes with the response
+     * @see GetSeriesDetailsResponse
+     */
+    public CompletableFuture<GetSeriesDetailsResponse> getLatestAsync() {
+        return executeGetAsync("tvSeries.getLatest", API_PATH + "latest", GetSeriesDetailsResponse.class);
     }
 
     /**
@@ -235,7 +497,19 @@ public class TvSeriesApi extends ApiBase {
      * @see GetListsResponse
      */
     public GetListsResponse getLists(@NonNull final GetListsRequest request) {
-        return executeGet(getApiPath(request, "/lists"), request, GetListsResponse.class);
+        return executeGet("tvSeries.getLists", getApiPath(request, "/lists"), request, GetListsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the lists for a TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetListsRequest
+     * @see GetListsResponse
+     */
+    public CompletableFuture<GetListsResponse> getListsAsync(@NonNull final GetListsRequest request) {
+        return executeGetAsync("tvSeries.getLists", getApiPath(request, "/lists"), request, GetListsResponse.class);
     }
 
     /**
@@ -247,7 +521,28 @@ public class TvSeriesApi extends ApiBase {
      * @see GetRecommendationsResponse
      */
     public GetRecommendationsResponse getRecommendations(@NonNull final GetRecommendationsRequest request) {
-        return executeGet(getApiPath(request, "/recommendations"), request, GetRecommendationsResponse.class);
+        return executeGet(
+                "tvSeries.getRecommendations",
+                getApiPath(request, "/recommendations"),
+                request,
+                GetRecommendationsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of recommendations associated with a TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetRecommendationsRequest
+     * @see GetRecommendationsResponse
+     */
+    public CompletableFuture<GetRecommendationsResponse> getRecommendationsAsync(
+            @NonNull final GetRecommendationsRequest request) {
+        return executeGetAsync(
+                "tvSeries.getRecommendations",
+                getApiPath(request, "/recommendations"),
+                request,
+                GetRecommendationsResponse.class);
     }
 
     /**
@@ -259,7 +554,23 @@ public class TvSeriesApi extends ApiBase {
      * @see GetReviewsResponse
      */
     public GetReviewsResponse getReviews(@NonNull final GetReviewsRequest request) {
-        return executeGet(getApiPath(request, "/reviews"), request, GetReviewsResponse.class);
+        return executeGet("tvSeries.getReviews", getApiPath(request, "/reviews"), request, GetReviewsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the reviews for a TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetReviewsRequest
+     * @see GetReviewsResponse
+     */
+    public CompletableFuture<GetReviewsResponse> getReviewsAsync(@NonNull final GetReviewsRequest request) {
+        return executeGetAsync(
+                "tvSeries.getReviews",
+                getApiPath(request, "/reviews"),
+                request,
+                GetReviewsResponse.class);
     }
 
     /**
@@ -273,6 +584,24 @@ public class TvSeriesApi extends ApiBase {
     public GetScreenedTheatricallyResponse getScreenedTheatrically(
             @NonNull final GetScreenedTheatricallyRequest request) {
         return executeGet(
+                "tvSeries.getScreenedTheatrically",
+                getApiPath(request, "/screened_theatrically"),
+                request,
+                GetScreenedTheatricallyResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of TV series episodes that were screened theatrically for a TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetScreenedTheatricallyRequest
+     * @see GetScreenedTheatricallyResponse
+     */
+    public CompletableFuture<GetScreenedTheatricallyResponse> getScreenedTheatricallyAsync(
+            @NonNull final GetScreenedTheatricallyRequest request) {
+        return executeGetAsync(
+                "tvSeries.getScreenedTheatrically",
                 getApiPath(request, "/screened_theatrically"),
                 request,
                 GetScreenedTheatricallyResponse.class);
@@ -287,7 +616,23 @@ public class TvSeriesApi extends ApiBase {
      * @see GetSimilarResponse
      */
     public GetSimilarResponse getSimilar(@NonNull final GetSimilarRequest request) {
-        return executeGet(getApiPath(request, "/similar"), request, GetSimilarResponse.class);
+        return executeGet("tvSeries.getSimilar", getApiPath(request, "/similar"), request, GetSimilarResponse.class);
+    }
+
+    /**
+     * Asynchronously gets a list of TV series that are similar to the given TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetSimilarRequest
+     * @see GetSimilarResponse
+     */
+    public CompletableFuture<GetSimilarResponse> getSimilarAsync(@NonNull final GetSimilarRequest request) {
+        return executeGetAsync(
+                "tvSeries.getSimilar",
+                getApiPath(request, "/similar"),
+                request,
+                GetSimilarResponse.class);
     }
 
     /**
@@ -299,7 +644,28 @@ public class TvSeriesApi extends ApiBase {
      * @see GetTranslationsResponse
      */
     public GetTranslationsResponse getTranslations(@NonNull final GetTranslationsRequest request) {
-        return executeGet(getApiPath(request, "/translations"), request, GetTranslationsResponse.class);
+        return executeGet(
+                "tvSeries.getTranslations",
+                getApiPath(request, "/translations"),
+                request,
+                GetTranslationsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets a list of translations for a TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetTranslationsRequest
+     * @see GetTranslationsResponse
+     */
+    public CompletableFuture<GetTranslationsResponse> getTranslationsAsync(
+            @NonNull final GetTranslationsRequest request) {
+        return executeGetAsync(
+                "tvSeries.getTranslations",
+                getApiPath(request, "/translations"),
+                request,
+                GetTranslationsResponse.class);
     }
 
     /**
@@ -311,7 +677,19 @@ public class TvSeriesApi extends ApiBase {
      * @see GetVideosResponse
      */
     public GetVideosResponse getVideos(@NonNull final GetVideosRequest request) {
-        return executeGet(getApiPath(request, "/videos"), request, GetVideosResponse.class);
+        return executeGet("tvSeries.getVideos", getApiPath(request, "/videos"), request, GetVideosResponse.class);
+    }
+
+    /**
+     * Asynchronously gets a list of related videos for a TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetVideosRequest
+     * @see GetVideosResponse
+     */
+    public CompletableFuture<GetVideosResponse> getVideosAsync(@NonNull final GetVideosRequest request) {
+        return executeGetAsync("tvSeries.getVideos", getApiPath(request, "/videos"), request, GetVideosResponse.class);
     }
 
     /**
@@ -323,7 +701,28 @@ public class TvSeriesApi extends ApiBase {
      * @see GetWatchProvidersResponse
      */
     public GetWatchProvidersResponse getWatchProviders(@NonNull final GetWatchProvidersRequest request) {
-        return executeGet(getApiPath(request, "/watch/providers"), request, GetWatchProvidersResponse.class);
+        return executeGet(
+                "tvSeries.getWatchProviders",
+                getApiPath(request, "/watch/providers"),
+                request,
+                GetWatchProvidersResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of streaming providers for a TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetWatchProvidersRequest
+     * @see GetWatchProvidersResponse
+     */
+    public CompletableFuture<GetWatchProvidersResponse> getWatchProvidersAsync(
+            @NonNull final GetWatchProvidersRequest request) {
+        return executeGetAsync(
+                "tvSeries.getWatchProviders",
+                getApiPath(request, "/watch/providers"),
+                request,
+                GetWatchProvidersResponse.class);
     }
 
     /**
@@ -335,7 +734,19 @@ public class TvSeriesApi extends ApiBase {
      * @see AddRatingResponse
      */
     public AddRatingResponse addRating(@NonNull final AddRatingRequest request) {
-        return executePost(getApiPath(request, "/rating"), request, AddRatingResponse.class);
+        return executePost("tvSeries.addRating", getApiPath(request, "/rating"), request, AddRatingResponse.class);
+    }
+
+    /**
+     * Asynchronously adds a rating for the TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see AddRatingRequest
+     * @see AddRatingResponse
+     */
+    public CompletableFuture<AddRatingResponse> addRatingAsync(@NonNull final AddRatingRequest request) {
+        return executePostAsync("tvSeries.addRating", getApiPath(request, "/rating"), request, AddRatingResponse.class);
     }
 
     /**
@@ -347,7 +758,27 @@ public class TvSeriesApi extends ApiBase {
      * @see DeleteRatingResponse
      */
     public DeleteRatingResponse deleteRating(@NonNull final DeleteRatingRequest request) {
-        return executeDelete(getApiPath(request, "/rating"), request, DeleteRatingResponse.class);
+        return executeDelete(
+                "tvSeries.deleteRating",
+                getApiPath(request, "/rating"),
+                request,
+                DeleteRatingResponse.class);
+    }
+
+    /**
+     * Asynchronously deletes a rating for a TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see DeleteRatingRequest
+     * @see DeleteRatingResponse
+     */
+    public CompletableFuture<DeleteRatingResponse> deleteRatingAsync(@NonNull final DeleteRatingRequest request) {
+        return executeDeleteAsync(
+                "tvSeries.deleteRating",
+                getApiPath(request, "/rating"),
+                request,
+                DeleteRatingResponse.class);
     }
 
     private static String getApiPath(final SeriesRequestBase request, final String suffix) {
@@ -356,4 +787,15 @@ public class TvSeriesApi extends ApiBase {
                 .append(suffix)
                 .toString();
     }
+
+    private BatchLookup<GetSeriesDetailsResponse> newSeriesDetailsLookup(
+            final Collection<Integer> seriesIds,
+            final GetSeriesDetailsRequest template,
+            final int maxConcurrency) {
+        return BatchLookup.<GetSeriesDetailsResponse>builder()
+                .ids(seriesIds)
+                .lookup(id -> getSeriesDetailsAsync(template.toBuilder().seriesId(id).build()))
+                .maxConcurrency(maxConcurrency)
+                .build();
+    }
 }
@@ -28,6 +28,8 @@ import com.amilesend.tmdb.client.model.tv.series.list.GetTopRatedRequest;
 import com.amilesend.tmdb.client.model.tv.series.list.GetTopRatedResponse;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB TV Series Lists API. */
 public class TvSeriesListsApi extends ApiBase {
     private static final String API_PATH = "/tv/";
@@ -41,6 +43,16 @@ public class TvSeriesListsApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code TvSeriesListsApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public TvSeriesListsApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the list of TV series that is airing today.
      *
@@ -50,7 +62,27 @@ public class TvSeriesListsApi extends ApiBase {
      * @see GetAiringTodayResponse
      */
     public GetAiringTodayResponse getAiringToday(@NonNull final GetAiringTodayRequest request) {
-        return executeGet(API_PATH + "airing_today", request, GetAiringTodayResponse.class);
+        return executeGet(
+                "tvSeriesLists.getAiringToday",
+                API_PATH + "airing_today",
+                request,
+                GetAiringTodayResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of TV series that is airing today.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetAiringTodayRequest
+     * @see GetAiringTodayResponse
+     */
+    public CompletableFuture<GetAiringTodayResponse> getAiringTodayAsync(@NonNull final GetAiringTodayRequest request) {
+        return executeGetAsync(
+                "tvSeriesLists.getAiringToday",
+                API_PATH + "airing_today",
+                request,
+                GetAiringTodayResponse.class);
     }
 
     /**
@@ -62,7 +94,23 @@ public class TvSeriesListsApi extends ApiBase {
      * @see GetOnTheAirResponse
      */
     public GetOnTheAirResponse getOnTheAir(@NonNull final GetOnTheAirRequest request) {
-        return executeGet(API_PATH + "on_the_air", request, GetOnTheAirResponse.class);
+        return executeGet("tvSeriesLists.getOnTheAir", API_PATH + "on_the_air", request, GetOnTheAirResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of TV series that is airing in the next 7 days.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetOnTheAirResponse
+     * @see GetOnTheAirResponse
+     */
+    public CompletableFuture<GetOnTheAirResponse> getOnTheAirAsync(@NonNull final GetOnTheAirRequest request) {
+        return executeGetAsync(
+                "tvSeriesLists.getOnTheAir",
+                API_PATH + "on_the_air",
+                request,
+                GetOnTheAirResponse.class);
     }
 
     /**
@@ -74,7 +122,19 @@ public class TvSeriesListsApi extends ApiBase {
      * @see GetPopularResponse
      */
     public GetPopularResponse getPopular(@NonNull final GetPopularRequest request) {
-        return executeGet(API_PATH + "popular", request, GetPopularResponse.class);
+        return executeGet("tvSeriesLists.getPopular", API_PATH + "popular", request, GetPopularResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of TV series that are popular.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetPopularRequest
+     * @see GetPopularResponse
+     */
+    public CompletableFuture<GetPopularResponse> getPopularAsync(@NonNull final GetPopularRequest request) {
+        return executeGetAsync("tvSeriesLists.getPopular", API_PATH + "popular", request, GetPopularResponse.class);
     }
 
     /**
@@ -86,6 +146,18 @@ public class TvSeriesListsApi extends ApiBase {
      * @see GetTopRatedResponse
      */
     public GetTopRatedResponse getTopRated(@NonNull final GetTopRatedRequest request) {
-        return executeGet(API_PATH + "top_rated", request, GetTopRatedResponse.class);
+        return executeGet("tvSeriesLists.getTopRated", API_PATH + "top_rated", request, GetTopRatedResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of TV series that are top-rated.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetTopRatedRequest
+     * @see GetTopRatedResponse
+     */
+    public CompletableFuture<GetTopRatedResponse> getTopRatedAsync(@NonNull final GetTopRatedRequest request) {
+        return executeGetAsync("tvSeriesLists.getTopRated", API_PATH + "top_rated", request, GetTopRatedResponse.class);
     }
 }
@@ -26,6 +26,8 @@ import com.amilesend.tmdb.client.model.watch.GetTvProvidersRequest;
 import com.amilesend.tmdb.client.model.watch.GetTvProvidersResponse;
 import lombok.NonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /** TMDB TV Watch Providers API. */
 public class WatchProvidersApi extends ApiBase {
     private static final String API_PATH = "/watch/providers/";
@@ -39,6 +41,16 @@ public class WatchProvidersApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code WatchProvidersApi} object.
+     *
+     * @param connection the connection
+     * @param apiConfig the configuration shared across API instances
+     */
+    public WatchProvidersApi(final Connection connection, final ApiConfig apiConfig) {
+        super(connection, apiConfig);
+    }
+
     /**
      * Gets the list of available regions.
      *
@@ -48,7 +60,28 @@ public class WatchProvidersApi extends ApiBase {
      * @see GetAvailableRegionsResponse
      */
     public GetAvailableRegionsResponse getAvailableRegions(@NonNull final GetAvailableRegionsRequest request) {
-        return executeGet(API_PATH + "regions", request, GetAvailableRegionsResponse.class);
+        return executeGet(
+                "watchProviders.getAvailableRegions",
+                API_PATH + "regions",
+                request,
+                GetAvailableRegionsResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of available regions.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetAvailableRegionsRequest
+     * @see GetAvailableRegionsResponse
+     */
+    public CompletableFuture<GetAvailableRegionsResponse> getAvailableRegionsAsync(
+            @NonNull final GetAvailableRegionsRequest request) {
+        return executeGetAsync(
+                "watchProviders.getAvailableRegions",
+                API_PATH + "regions",
+                request,
+                GetAvailableRegionsResponse.class);
     }
 
     /**
@@ -60,7 +93,28 @@ public class WatchProvidersApi extends ApiBase {
      * @see GetMovieProvidersResponse
      */
     public GetMovieProvidersResponse getMovieProviders(@NonNull final GetMovieProvidersRequest request) {
-        return executeGet(API_PATH + "movie", request, GetMovieProvidersResponse.class);
+        return executeGet(
+                "watchProviders.getMovieProviders",
+                API_PATH + "movie",
+                request,
+                GetMovieProvidersResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of movie watch providers.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetMovieProvidersRequest
+     * @see GetMovieProvidersResponse
+     */
+    public CompletableFuture<GetMovieProvidersResponse> getMovieProvidersAsync(
+            @NonNull final GetMovieProvidersRequest request) {
+        return executeGetAsync(
+                "watchProviders.getMovieProviders",
+                API_PATH + "movie",
+                request,
+                GetMovieProvidersResponse.class);
     }
 
     /**
@@ -72,6 +126,18 @@ public class WatchProvidersApi extends ApiBase {
      * @see GetTvProvidersResponse
      */
     public GetTvProvidersResponse getTvProviders(@NonNull final GetTvProvidersRequest request) {
-        return executeGet(API_PATH + "tv", request, GetTvProvidersResponse.class);
+        return executeGet("watchProviders.getTvProviders", API_PATH + "tv", request, GetTvProvidersResponse.class);
+    }
+
+    /**
+     * Asynchronously gets the list of TV watch providers.
+     *
+     * @param request the request
+     * @return the future that completes with the response
+     * @see GetTvProvidersRequest
+     * @see GetTvProvidersResponse
+     */
+    public CompletableFuture<GetTvProvidersResponse> getTvProvidersAsync(@NonNull final GetTvProvidersRequest request) {
+        return executeGetAsync("watchProviders.getTvProviders", API_PATH + "tv", request, GetTvProvidersResponse.class);
     }
 }
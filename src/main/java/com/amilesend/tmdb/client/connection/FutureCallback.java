@@ -0,0 +1,139 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.parse.parser.GsonParser;
+import com.google.gson.Gson;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * An OkHttp {@link Callback} that parses the response and completes a {@link CompletableFuture} with the result.
+ * The future is completed on the configured {@code callbackExecutor} so that dependent stages do not run on
+ * the OkHttp dispatcher threads. If the executor rejects the completion (e.g., it is shut down or saturated), the
+ * future is completed directly on the OkHttp dispatcher thread so that callers never wait on a future that cannot
+ * complete.
+ *
+ * @param <T> the response type
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class FutureCallback<T> implements Callback {
+    private static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    private static final String GZIP_ENCODING = "gzip";
+
+    /** The future to complete. */
+    @NonNull
+    private final CompletableFuture<T> future;
+    /** The Gson instance used to deserialize the response body. */
+    @NonNull
+    private final Gson gson;
+    /** The parser used to deserialize the response body. */
+    @NonNull
+    private final GsonParser<T> parser;
+    /** The executor used to complete the future. */
+    @NonNull
+    private final Executor callbackExecutor;
+
+    @Override
+    public void onFailure(@NonNull final Call call, @NonNull final IOException ex) {
+        completeExceptionally(new RequestException("Error executing request: " + ex.getMessage(), ex));
+    }
+
+    @Override
+    public void onResponse(@NonNull final Call call, @NonNull final Response response) {
+        final T result;
+        try (response) {
+            validateResponseCode(response);
+            result = parser.parse(gson, toBodyStream(response));
+        } catch (final IOException ex) {
+            completeExceptionally(new ResponseException("Error reading response: " + ex.getMessage(), ex));
+            return;
+        } catch (final RuntimeException ex) {
+            completeExceptionally(ex);
+            return;
+        }
+
+        complete(() -> future.complete(result));
+    }
+
+    /**
+     * Validates the response status code as the synchronous {@code Connection.execute} does: only client and
+     * server errors are raised, and any other response (e.g., a redirect that is not followed) is parsed.
+     *
+     * @param response the response
+     * @throws RequestException if the status code indicates a client error (4xx)
+     * @throws ResponseException if the status code indicates a server error (5xx)
+     */
+    public static void validateResponseCode(final Response response) {
+        final int code = response.code();
+        if (code >= 500) {
+            throw new ResponseException("Error with response (" + code + "): " + response.message());
+        }
+
+        if (code >= 400) {
+            throw new RequestException("Error with request (" + code + "): " + response.message());
+        }
+    }
+
+    private void completeExceptionally(final Throwable cause) {
+        log.debug("Asynchronous request failed: {}", cause.getMessage());
+        complete(() -> future.completeExceptionally(cause));
+    }
+
+    private void complete(final Runnable completion) {
+        executeOrRun(callbackExecutor, completion);
+    }
+
+    /**
+     * Runs the completion of a future on the given executor. If the executor rejects it (e.g., it is shut down or
+     * saturated), the completion is run on the calling thread so that callers never wait on a future that cannot
+     * complete.
+     *
+     * @param executor the executor used to complete the future
+     * @param completion the completion to run
+     */
+    public static void executeOrRun(@NonNull final Executor executor, @NonNull final Runnable completion) {
+        try {
+            executor.execute(completion);
+        } catch (final RejectedExecutionException ex) {
+            log.warn("Callback executor rejected the completion; completing on the calling thread", ex);
+            completion.run();
+        }
+    }
+
+    private static InputStream toBodyStream(final Response response) throws IOException {
+        final InputStream bodyStream = response.body().byteStream();
+        return GZIP_ENCODING.equalsIgnoreCase(response.header(CONTENT_ENCODING_HEADER))
+                ? new GZIPInputStream(bodyStream)
+                : bodyStream;
+    }
+}
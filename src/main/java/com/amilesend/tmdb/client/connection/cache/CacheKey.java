@@ -0,0 +1,57 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+
+import static com.amilesend.client.connection.Connection.Headers.AUTHORIZATION;
+
+/**
+ * The key used to cache a response that is composed of the fully built request URL (including query parameters)
+ * and the authorization identity used for the request.
+ *
+ * @see ResponseCache
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor
+@ToString
+public class CacheKey {
+    /** The fully built request URL. */
+    @NonNull
+    private final HttpUrl url;
+    /** The authorization identity (may be {@code null} for unauthenticated requests). */
+    @ToString.Exclude
+    private final String authIdentity;
+
+    /**
+     * Creates a new {@code CacheKey} for the given HTTP request.
+     *
+     * @param httpRequest the HTTP request
+     * @return the cache key
+     */
+    public static CacheKey from(@NonNull final Request httpRequest) {
+        return new CacheKey(httpRequest.url(), httpRequest.header(AUTHORIZATION));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.cache;
+
+import java.time.Duration;
+
+/**
+ * Defines the policy that determines how long a response for a given API path is cached.
+ *
+ * @see EndpointCachePolicy
+ * @see ResponseCache
+ */
+@FunctionalInterface
+public interface CachePolicy {
+    /** The policy that disables caching for all API paths. */
+    CachePolicy NONE = apiPath -> Duration.ZERO;
+
+    /**
+     * Gets the time-to-live for responses of the given API path.
+     *
+     * @param apiPath the API path relative to the base URL (e.g., {@code /genre/movie/list})
+     * @return the time-to-live, or {@code null}/{@link Duration#ZERO} if the response should not be cached
+     */
+    Duration getTimeToLive(String apiPath);
+
+    /**
+     * Determines if responses for the given API path are cacheable.
+     *
+     * @param apiPath the API path relative to the base URL
+     * @return {@code true} if cacheable; else, {@code false}
+     */
+    default boolean isCacheable(final String apiPath) {
+        final Duration timeToLive = getTimeToLive(apiPath);
+        return timeToLive != null && !timeToLive.isZero() && !timeToLive.isNegative();
+    }
+}
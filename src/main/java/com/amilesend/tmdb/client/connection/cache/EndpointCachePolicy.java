@@ -0,0 +1,90 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.cache;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * A {@link CachePolicy} that defines the time-to-live for responses by API path prefix. When multiple
+ * prefixes match a path, the longest prefix wins. Paths that do not match a prefix use the default
+ * time-to-live, which disables caching by default.
+ * <p>
+ * Example:
+ * <pre>
+ * EndpointCachePolicy policy = EndpointCachePolicy.builder()
+ *         .timeToLive("/genre/", Duration.ofDays(1))
+ *         .timeToLive("/movie/", Duration.ofMinutes(5))
+ *         .build();
+ * </pre>
+ *
+ * @see CachePolicy
+ */
+@Builder
+public class EndpointCachePolicy implements CachePolicy {
+    /** The API path prefixes that reference data that rarely changes. */
+    private static final String[] REFERENCE_DATA_PATH_PREFIXES = new String[] {
+            "/certification/",
+            "/configuration",
+            "/genre/",
+            "/watch/providers/"
+    };
+
+    /** The time-to-live values keyed by API path prefix. */
+    @Singular("timeToLive")
+    private final Map<String, Duration> timeToLiveByPathPrefix;
+    /** The time-to-live for API paths that do not match a defined prefix. Defaults to no caching. */
+    @NonNull
+    @Builder.Default
+    private final Duration defaultTimeToLive = Duration.ZERO;
+
+    /**
+     * Creates a new {@code EndpointCachePolicy} that caches reference data that rarely changes (certifications,
+     * configuration, genres, and watch provider lists) for the given duration.
+     *
+     * @param timeToLive the time-to-live for reference data responses
+     * @return the policy
+     */
+    public static EndpointCachePolicy referenceData(@NonNull final Duration timeToLive) {
+        final EndpointCachePolicyBuilder builder = EndpointCachePolicy.builder();
+        for (final String prefix : REFERENCE_DATA_PATH_PREFIXES) {
+            builder.timeToLive(prefix, timeToLive);
+        }
+
+        return builder.build();
+    }
+
+    @Override
+    public Duration getTimeToLive(@NonNull final String apiPath) {
+        Duration timeToLive = defaultTimeToLive;
+        int matchedLength = -1;
+        for (final Map.Entry<String, Duration> entry : timeToLiveByPathPrefix.entrySet()) {
+            final String prefix = entry.getKey();
+            if (prefix.length() > matchedLength && apiPath.startsWith(prefix)) {
+                timeToLive = entry.getValue();
+                matchedLength = prefix.length();
+            }
+        }
+
+        return timeToLive;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.cache;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * A bounded in-memory {@link ResponseCache} that evicts the least-recently-used entries once the total weight
+ * of cached responses exceeds the configured maximum. By default, each entry has a weight of one so that the
+ * maximum weight is the maximum number of entries. A custom {@link Weigher} can be used to bound the cache by an
+ * approximation of size instead (e.g., the number of results within a response).
+ * <p>
+ * Expired entries are evicted lazily upon access or when capacity is needed.
+ *
+ * @see ResponseCache
+ */
+public class LruResponseCache implements ResponseCache {
+    private static final long DEFAULT_MAX_WEIGHT = 1000L;
+
+    private final long maxWeight;
+    private final Weigher weigher;
+    private final Clock clock;
+    private final LinkedHashMap<CacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75F, true);
+    private long totalWeight;
+
+    /**
+     * Creates a new {@code LruResponseCache}.
+     *
+     * @param maxWeight the maximum total weight of cached responses (defaults to 1000)
+     * @param weigher the weigher used to calculate the weight of a cached response (defaults to one per entry)
+     * @param clock the clock used to evaluate expiration (defaults to the system UTC clock)
+     */
+    @Builder
+    private LruResponseCache(final Long maxWeight, final Weigher weigher, final Clock clock) {
+        this.maxWeight = maxWeight == null ? DEFAULT_MAX_WEIGHT : maxWeight;
+        Validate.isTrue(this.maxWeight > 0L, "maxWeight must be positive");
+        this.weigher = weigher == null ? (key, response) -> 1 : weigher;
+        this.clock = clock == null ? Clock.systemUTC() : clock;
+    }
+
+    @Override
+    public synchronized Object get(@NonNull final CacheKey key) {
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.isExpired(clock.millis())) {
+            remove(key);
+            return null;
+        }
+
+        return entry.response;
+    }
+
+    @Override
+    public synchronized void put(
+            @NonNull final CacheKey key,
+            @NonNull final Object response,
+            @NonNull final Duration timeToLive) {
+        final int weight = weigher.weigh(key, response);
+        Validate.isTrue(weight >= 0, "weight must not be negative");
+        if (weight > maxWeight) {
+            remove(key);
+            return;
+        }
+
+        final long now = clock.millis();
+        final Entry previous = entries.put(key, new Entry(response, weight, now + timeToLive.toMillis()));
+        if (previous != null) {
+            totalWeight -= previous.weight;
+        }
+        totalWeight += weight;
+
+        evictIfNeeded(now);
+    }
+
+    @Override
+    public synchronized void invalidate(@NonNull final CacheKey key) {
+        remove(key);
+    }
+
+    @Override
+    public synchronized void invalidateAll() {
+        entries.clear();
+        totalWeight = 0L;
+    }
+
+    /**
+     * Gets the number of cached entries, including expired entries that have not yet been evicted.
+     *
+     * @return the number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @VisibleForTesting
+    synchronized long getTotalWeight() {
+        return totalWeight;
+    }
+
+    private void remove(final CacheKey key) {
+        final Entry removed = entries.remove(key);
+        if (removed != null) {
+            totalWeight -= removed.weight;
+        }
+    }
+
+    private void evictIfNeeded(final long now) {
+        if (totalWeight <= maxWeight) {
+            return;
+        }
+
+        // Expired entries are evicted first, followed by the least-recently-used entries
+        removeIf(entry -> entry.isExpired(now));
+        final Iterator<Map.Entry<CacheKey, Entry>> iterator = entries.entrySet().iterator();
+        while (totalWeight > maxWeight && iterator.hasNext()) {
+            totalWeight -= iterator.next().getValue().weight;
+            iterator.remove();
+        }
+    }
+
+    private void removeIf(final Predicate<Entry> predicate) {
+        final Iterator<Map.Entry<CacheKey, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Entry entry = iterator.next().getValue();
+            if (predicate.test(entry)) {
+                totalWeight -= entry.weight;
+                iterator.remove();
+            }
+        }
+    }
+
+    /** Calculates the weight of a cached response. */
+    @FunctionalInterface
+    public interface Weigher {
+        /**
+         * Calculates the weight for the given cached response.
+         *
+         * @param key the cache key
+         * @param response the deserialized response
+         * @return the non-negative weight
+         */
+        int weigh(CacheKey key, Object response);
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final Object response;
+        private final int weight;
+        private final long expiresAtMillis;
+
+        boolean isExpired(final long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.cache;
+
+import java.time.Duration;
+
+/**
+ * Defines a cache of deserialized responses for idempotent GET requests. Cached responses are returned
+ * directly to the caller, skipping both the HTTP request and response deserialization. Implementations must
+ * be thread-safe as a single instance is shared across all API instances.
+ *
+ * @see CacheKey
+ * @see CachePolicy
+ * @see LruResponseCache
+ */
+public interface ResponseCache {
+    /**
+     * Gets the cached response for the given key.
+     *
+     * @param key the cache key
+     * @return the cached response, or {@code null} if not cached or expired
+     */
+    Object get(CacheKey key);
+
+    /**
+     * Caches the response for the given key.
+     *
+     * @param key the cache key
+     * @param response the deserialized response
+     * @param timeToLive the duration the response is considered valid
+     */
+    void put(CacheKey key, Object response, Duration timeToLive);
+
+    /**
+     * Removes the cached response for the given key, if present.
+     *
+     * @param key the cache key
+     */
+    void invalidate(CacheKey key);
+
+    /** Removes all cached responses. */
+    void invalidateAll();
+}
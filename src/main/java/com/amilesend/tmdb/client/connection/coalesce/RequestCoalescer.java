@@ -0,0 +1,179 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.coalesce;
+
+import com.amilesend.tmdb.client.connection.cache.CacheKey;
+import lombok.NonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical in-flight GET requests (i.e., "single-flight") so that concurrent callers for the same
+ * request URL and authorization identity share a single HTTP call and deserialized response. A request is only
+ * shared while it is in flight; once it completes, subsequent callers issue a new request.
+ * <p>
+ * Notes:
+ * <ul>
+ *     <li>All callers receive the same response instance, which must be treated as immutable.</li>
+ *     <li>If the shared request fails, all callers receive the same exception instance.</li>
+ *     <li>Cancelling a future returned by {@link #executeAsync(CacheKey, Supplier)} does not cancel the shared
+ *         HTTP call.</li>
+ * </ul>
+ * Enable by defining a {@code RequestCoalescer} via
+ * {@link com.amilesend.tmdb.client.api.ApiConfig#getRequestCoalescer()}.
+ */
+public class RequestCoalescer {
+    private final ConcurrentMap<CacheKey, CompletableFuture<Object>> inFlightRequests = new ConcurrentHashMap<>();
+    private final LongAdder executedCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * Executes the request for the given key, or waits for and returns the response of the identical request that
+     * is already in flight.
+     *
+     * @param key the key that identifies the request
+     * @param request the supplier that executes the request
+     * @return the response
+     * @param <T> the response type
+     */
+    public <T> T execute(@NonNull final CacheKey key, @NonNull final Supplier<T> request) {
+        final CompletableFuture<Object> inFlight = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlightRequests.putIfAbsent(key, inFlight);
+        if (existing != null) {
+            coalescedCount.increment();
+            return join(existing);
+        }
+
+        executedCount.increment();
+        try {
+            final T response = request.get();
+            inFlightRequests.remove(key, inFlight);
+            inFlight.complete(response);
+            return response;
+        } catch (final RuntimeException | Error ex) {
+            inFlightRequests.remove(key, inFlight);
+            inFlight.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Asynchronously executes the request for the given key, or returns a future that completes with the response
+     * of the identical request that is already in flight.
+     *
+     * @param key the key that identifies the request
+     * @param request the supplier that asynchronously executes the request
+     * @return the future that completes with the response
+     * @param <T> the response type
+     */
+    public <T> CompletableFuture<T> executeAsync(
+            @NonNull final CacheKey key,
+            @NonNull final Supplier<CompletableFuture<T>> request) {
+        final CompletableFuture<Object> inFlight = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlightRequests.putIfAbsent(key, inFlight);
+        if (existing != null) {
+            coalescedCount.increment();
+            return newDependentFuture(existing);
+        }
+
+        executedCount.increment();
+        try {
+            request.get().whenComplete((response, ex) -> {
+                inFlightRequests.remove(key, inFlight);
+                if (ex != null) {
+                    inFlight.completeExceptionally(ex);
+                } else {
+                    inFlight.complete(response);
+                }
+            });
+        } catch (final RuntimeException ex) {
+            inFlightRequests.remove(key, inFlight);
+            inFlight.completeExceptionally(ex);
+        }
+
+        return newDependentFuture(inFlight);
+    }
+
+    /**
+     * Gets the number of requests that are currently in flight.
+     *
+     * @return the in-flight request count
+     */
+    public int getInFlightCount() {
+        return inFlightRequests.size();
+    }
+
+    /**
+     * Gets the number of requests that were executed.
+     *
+     * @return the executed count
+     */
+    public long getExecutedCount() {
+        return executedCount.sum();
+    }
+
+    /**
+     * Gets the number of requests that shared the response of an identical in-flight request.
+     *
+     * @return the coalesced count
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("RequestCoalescer(inFlightCount=")
+                .append(getInFlightCount())
+                .append(", executedCount=")
+                .append(getExecutedCount())
+                .append(", coalescedCount=")
+                .append(getCoalescedCount())
+                .append(")")
+                .toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T join(final CompletableFuture<Object> future) {
+        try {
+            // Keys include the full request URL, so a shared response is always of the type parsed for that URL
+            return (T) future.join();
+        } catch (final CompletionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw ex;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> CompletableFuture<T> newDependentFuture(final CompletableFuture<Object> future) {
+        // Callers receive a dependent future so that cancelling it does not cancel the shared request
+        return future.thenApply(response -> (T) response);
+    }
+}
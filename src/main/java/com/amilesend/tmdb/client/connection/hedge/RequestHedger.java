@@ -0,0 +1,351 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.hedge;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.tmdb.client.connection.metrics.LatencyHistogram;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Reduces tail latency by hedging idempotent GET requests: if the first attempt has not completed within the
+ * endpoint's observed latency percentile (e.g., p95), a second identical attempt is sent, the first attempt to
+ * succeed is used, and the other is cancelled. A response is only returned as a failure once all attempts fail.
+ * <p>
+ * The hedge delay of each endpoint (e.g., {@code search.searchMulti}) is derived from a {@link LatencyHistogram} of
+ * its successful attempts, bounded by {@code minDelay} and {@code maxDelay}. Until {@code minSamples} attempts have
+ * been recorded, {@code maxDelay} is used. The ratio of hedged to total requests is capped by
+ * {@code maxHedgeRatio} so that hedging adds a bounded amount of load, even when the service is slow overall.
+ * <p>
+ * Enable by defining a {@code RequestHedger} via {@link com.amilesend.tmdb.client.api.ApiConfig#getRequestHedger()}:
+ * <pre>
+ * ApiConfig apiConfig = ApiConfig.builder()
+ *         .requestHedger(RequestHedger.builder()
+ *                 .endpointFilter(Set.of("search.searchMulti", "movies.getMovieDetails")::contains)
+ *                 .build())
+ *         .build();
+ * </pre>
+ */
+@Slf4j
+public class RequestHedger {
+    private static final double DEFAULT_PERCENTILE = 95.0D;
+    private static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(10L);
+    private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(1L);
+    private static final int DEFAULT_MIN_SAMPLES = 100;
+    private static final double DEFAULT_MAX_HEDGE_RATIO = 0.05D;
+    /** The number of samples between recalculations of an endpoint's hedge delay. */
+    private static final int DELAY_REFRESH_INTERVAL = 64;
+    /** The maximum number of hedges that can be saved up for a burst of slow requests. */
+    private static final long MAX_HEDGE_CREDITS = 10L;
+    private static final long MILLI_CREDITS_PER_HEDGE = 1000L;
+
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final int minSamples;
+    private final long depositMilliCredits;
+    private final Predicate<String> endpointFilter;
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentMap<String, EndpointLatency> endpointLatencies = new ConcurrentHashMap<>();
+    private final AtomicLong milliCredits = new AtomicLong(MAX_HEDGE_CREDITS * MILLI_CREDITS_PER_HEDGE);
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder hedgedCount = new LongAdder();
+    private final LongAdder hedgeWinCount = new LongAdder();
+    private final LongAdder throttledCount = new LongAdder();
+
+    /**
+     * Creates a new {@code RequestHedger}.
+     *
+     * @param percentile the latency percentile of an endpoint after which a hedge is sent (defaults to 95)
+     * @param minDelay the minimum hedge delay (defaults to 10ms)
+     * @param maxDelay the maximum hedge delay, also used until enough samples are recorded (defaults to 1s)
+     * @param minSamples the number of samples to record for an endpoint before its percentile is used
+     *                   (defaults to 100)
+     * @param maxHedgeRatio the maximum ratio of hedged requests to total requests (defaults to 0.05)
+     * @param endpointFilter determines which endpoints (e.g., {@code movies.getMovieDetails}) are hedged (defaults
+     *                       to all GET endpoints)
+     * @param scheduler the scheduler used to send hedges (defaults to a shared single daemon thread)
+     */
+    @Builder
+    private RequestHedger(
+            final Double percentile,
+            final Duration minDelay,
+            final Duration maxDelay,
+            final Integer minSamples,
+            final Double maxHedgeRatio,
+            final Predicate<String> endpointFilter,
+            final ScheduledExecutorService scheduler) {
+        this.percentile = Objects.requireNonNullElse(percentile, DEFAULT_PERCENTILE);
+        this.minDelayNanos = Objects.requireNonNullElse(minDelay, DEFAULT_MIN_DELAY).toNanos();
+        this.maxDelayNanos = Objects.requireNonNullElse(maxDelay, DEFAULT_MAX_DELAY).toNanos();
+        this.minSamples = Objects.requireNonNullElse(minSamples, DEFAULT_MIN_SAMPLES);
+        final double ratio = Objects.requireNonNullElse(maxHedgeRatio, DEFAULT_MAX_HEDGE_RATIO);
+        this.endpointFilter = Objects.requireNonNullElse(endpointFilter, endpoint -> true);
+        this.scheduler = Objects.requireNonNullElseGet(scheduler, () -> DefaultScheduler.INSTANCE);
+        Validate.isTrue(this.percentile > 0.0D && this.percentile < 100.0D, "percentile must be between 0 and 100");
+        Validate.isTrue(this.minDelayNanos >= 0L, "minDelay must not be negative");
+        Validate.isTrue(this.maxDelayNanos >= this.minDelayNanos, "maxDelay must not be less than minDelay");
+        Validate.isTrue(this.minSamples >= 0, "minSamples must not be negative");
+        Validate.isTrue(ratio > 0.0D && ratio <= 1.0D, "maxHedgeRatio must be greater than 0 and at most 1");
+        this.depositMilliCredits = Math.max(1L, Math.round(ratio * MILLI_CREDITS_PER_HEDGE));
+    }
+
+    /**
+     * Determines if requests for the given endpoint are hedged.
+     *
+     * @param endpoint the endpoint name (e.g., {@code movies.getMovieDetails})
+     * @return {@code true} if the endpoint is hedged; else, {@code false}
+     */
+    public boolean isHedged(@NonNull final String endpoint) {
+        return endpointFilter.test(endpoint);
+    }
+
+    /**
+     * Executes a request, sending a second attempt if the first does not complete within the endpoint's hedge
+     * delay. Cancelling the returned future cancels all attempts.
+     *
+     * @param endpoint the endpoint name used to track latency
+     * @param attempt the supplier that sends an attempt of the request; it must be idempotent
+     * @return the future that completes with the response of the first successful attempt
+     * @param <T> the response type
+     */
+    public <T> CompletableFuture<T> execute(
+            @NonNull final String endpoint,
+            @NonNull final Supplier<CompletableFuture<T>> attempt) {
+        requestCount.increment();
+        depositCredit();
+        final EndpointLatency latency = endpointLatencies.computeIfAbsent(endpoint, key -> new EndpointLatency());
+        return new HedgedRequest<>(latency, attempt).start();
+    }
+
+    /**
+     * Gets the current hedge delay for the given endpoint.
+     *
+     * @param endpoint the endpoint name
+     * @return the hedge delay
+     */
+    public Duration getHedgeDelay(@NonNull final String endpoint) {
+        final EndpointLatency latency = endpointLatencies.get(endpoint);
+        return Duration.ofNanos(latency == null ? maxDelayNanos : latency.delayNanos);
+    }
+
+    /**
+     * Gets the number of requests executed via this hedger.
+     *
+     * @return the request count
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * Gets the number of requests for which a hedge was sent.
+     *
+     * @return the hedged count
+     */
+    public long getHedgedCount() {
+        return hedgedCount.sum();
+    }
+
+    /**
+     * Gets the number of requests for which the hedge completed before the original attempt.
+     *
+     * @return the hedge win count
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount.sum();
+    }
+
+    /**
+     * Gets the number of hedges that were not sent because the maximum hedge ratio was reached.
+     *
+     * @return the throttled count
+     */
+    public long getThrottledCount() {
+        return throttledCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("RequestHedger(requestCount=")
+                .append(getRequestCount())
+                .append(", hedgedCount=")
+                .append(getHedgedCount())
+                .append(", hedgeWinCount=")
+                .append(getHedgeWinCount())
+                .append(", throttledCount=")
+                .append(getThrottledCount())
+                .append(")")
+                .toString();
+    }
+
+    private void depositCredit() {
+        final long maxMilliCredits = MAX_HEDGE_CREDITS * MILLI_CREDITS_PER_HEDGE;
+        if (milliCredits.get() < maxMilliCredits) {
+            milliCredits.accumulateAndGet(
+                    depositMilliCredits,
+                    (current, deposit) -> Math.min(maxMilliCredits, current + deposit));
+        }
+    }
+
+    private boolean tryWithdrawCredit() {
+        while (true) {
+            final long current = milliCredits.get();
+            if (current < MILLI_CREDITS_PER_HEDGE) {
+                return false;
+            }
+            if (milliCredits.compareAndSet(current, current - MILLI_CREDITS_PER_HEDGE)) {
+                return true;
+            }
+        }
+    }
+
+    /** Tracks the latency of an endpoint's successful attempts and the resulting hedge delay. */
+    private class EndpointLatency {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final AtomicInteger samplesUntilRefresh = new AtomicInteger(DELAY_REFRESH_INTERVAL);
+        private volatile long delayNanos = maxDelayNanos;
+
+        void record(final long nanos) {
+            histogram.record(nanos);
+            if (samplesUntilRefresh.decrementAndGet() > 0) {
+                return;
+            }
+
+            samplesUntilRefresh.set(DELAY_REFRESH_INTERVAL);
+            if (histogram.getCount() >= minSamples) {
+                final long percentileNanos = histogram.getPercentile(percentile).toNanos();
+                delayNanos = Math.min(maxDelayNanos, Math.max(minDelayNanos, percentileNanos));
+            }
+        }
+    }
+
+    /** A request that completes with the first successful attempt. */
+    private class HedgedRequest<T> {
+        private final EndpointLatency latency;
+        private final Supplier<CompletableFuture<T>> attempt;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicInteger pendingAttempts = new AtomicInteger(1);
+        private final AtomicBoolean isSucceeded = new AtomicBoolean();
+        private volatile CompletableFuture<T> primary;
+        private volatile CompletableFuture<T> hedge;
+        private volatile ScheduledFuture<?> hedgeTimer;
+
+        HedgedRequest(final EndpointLatency latency, final Supplier<CompletableFuture<T>> attempt) {
+            this.latency = latency;
+            this.attempt = attempt;
+        }
+
+        CompletableFuture<T> start() {
+            result.whenComplete((response, ex) -> {
+                final ScheduledFuture<?> timer = hedgeTimer;
+                if (timer != null) {
+                    timer.cancel(false);
+                }
+                cancel(primary);
+                cancel(hedge);
+            });
+
+            primary = send(false);
+            if (!result.isDone()) {
+                hedgeTimer = scheduler.schedule(this::startHedge, latency.delayNanos, TimeUnit.NANOSECONDS);
+            }
+
+            return result;
+        }
+
+        private void startHedge() {
+            if (result.isDone()) {
+                return;
+            }
+
+            if (!tryWithdrawCredit()) {
+                throttledCount.increment();
+                return;
+            }
+
+            hedgedCount.increment();
+            pendingAttempts.incrementAndGet();
+            hedge = send(true);
+            if (result.isDone()) {
+                // The original attempt completed while the hedge was being sent
+                cancel(hedge);
+            }
+        }
+
+        private CompletableFuture<T> send(final boolean isHedge) {
+            final long startNanos = System.nanoTime();
+            CompletableFuture<T> future;
+            try {
+                future = Objects.requireNonNull(attempt.get(), "attempt returned null");
+            } catch (final RuntimeException ex) {
+                future = CompletableFuture.failedFuture(ex);
+            }
+
+            future.whenComplete((response, ex) -> {
+                if (ex == null) {
+                    latency.record(System.nanoTime() - startNanos);
+                    // Counted before completing the result so that the statistics are current once it completes
+                    if (isSucceeded.compareAndSet(false, true)) {
+                        if (isHedge) {
+                            hedgeWinCount.increment();
+                        }
+                        result.complete(response);
+                    }
+                } else if (pendingAttempts.decrementAndGet() == 0) {
+                    // Only fails once no other attempt is in flight. Retrying failures is left to the retry policy.
+                    result.completeExceptionally(ex instanceof CompletionException ? ex.getCause() : ex);
+                }
+            });
+            return future;
+        }
+
+        private void cancel(final CompletableFuture<T> future) {
+            if (future != null && !future.isDone()) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /** The shared scheduler that is lazily created on first use. */
+    private static class DefaultScheduler {
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(task -> {
+            final Thread thread = new Thread(task, "tmdb-request-hedger");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
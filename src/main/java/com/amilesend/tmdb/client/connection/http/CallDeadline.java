@@ -0,0 +1,68 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.http;
+
+import lombok.NonNull;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+
+/**
+ * The deadline of a call that is bounded by a call timeout (e.g., as defined by a {@link TransportProfile}). Waits
+ * performed by interceptors (e.g., retry back-offs and rate limiter pauses) count towards the call timeout, so
+ * interceptors use the deadline to skip waits that would outlast the call. The deadline is attached to the request
+ * as a tag by the first interceptor that evaluates it so that it is shared by the subsequent interceptors.
+ */
+public final class CallDeadline {
+    private final long deadlineNanos;
+
+    private CallDeadline(final long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Gets the request of the chain with the call deadline attached. The request is returned as-is if the call
+     * does not have a timeout or if the deadline is already attached.
+     *
+     * @param chain the interceptor chain
+     * @param nowNanos the current time as defined by {@link System#nanoTime()}
+     * @return the request to proceed with
+     */
+    public static Request attach(@NonNull final Interceptor.Chain chain, final long nowNanos) {
+        final Request request = chain.request();
+        final long timeoutNanos = chain.call().timeout().timeoutNanos();
+        if (timeoutNanos == 0L || request.tag(CallDeadline.class) != null) {
+            return request;
+        }
+
+        return request.newBuilder()
+                .tag(CallDeadline.class, new CallDeadline(nowNanos + timeoutNanos))
+                .build();
+    }
+
+    /**
+     * Gets the remaining time until the deadline of the call that sends the request.
+     *
+     * @param request the request
+     * @param nowNanos the current time as defined by {@link System#nanoTime()}
+     * @return the remaining time in nanoseconds, or {@link Long#MAX_VALUE} if a deadline is not attached
+     */
+    public static long getRemainingNanos(@NonNull final Request request, final long nowNanos) {
+        final CallDeadline deadline = request.tag(CallDeadline.class);
+        return deadline == null ? Long.MAX_VALUE : Math.max(0L, deadline.deadlineNanos - nowNanos);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.http;
+
+import lombok.NonNull;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the effectiveness of the OkHttp disk cache by counting how each call was served:
+ * <ul>
+ *     <li>hit: served entirely from the cache without a network request</li>
+ *     <li>revalidate: a conditional request (e.g., {@code If-None-Match}) confirmed that the cached response is
+ *         still valid ({@code 304 Not Modified})</li>
+ *     <li>miss: the response was fetched from the network, including conditional requests that returned
+ *         new content</li>
+ * </ul>
+ * Register with the HTTP client via {@link #eventListenerFactory()}.
+ */
+public class HttpCacheStats {
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder revalidateCount = new LongAdder();
+
+    /**
+     * Gets the number of responses served from the cache without a network request.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Gets the number of responses fetched from the network.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Gets the number of cached responses that were validated with a conditional request.
+     *
+     * @return the revalidate count
+     */
+    public long getRevalidateCount() {
+        return revalidateCount.sum();
+    }
+
+    /**
+     * Gets the ratio of responses that were served from the cache (including revalidated responses) to the total
+     * number of cache lookups.
+     *
+     * @return the hit ratio, or {@code 0.0} if no lookups have occurred
+     */
+    public double getHitRatio() {
+        final long served = getHitCount() + getRevalidateCount();
+        final long total = served + getMissCount();
+        return total == 0L ? 0.0D : (double) served / total;
+    }
+
+    /**
+     * Gets the factory that creates the per-call listeners used to track the cache statistics.
+     *
+     * @return the event listener factory
+     */
+    public EventListener.Factory eventListenerFactory() {
+        return call -> new CacheEventListener();
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("HttpCacheStats(hitCount=")
+                .append(getHitCount())
+                .append(", missCount=")
+                .append(getMissCount())
+                .append(", revalidateCount=")
+                .append(getRevalidateCount())
+                .append(")")
+                .toString();
+    }
+
+    /** Tracks the cache events for a single call. */
+    private class CacheEventListener extends EventListener {
+        private boolean isConditional;
+        private boolean isRecorded;
+
+        @Override
+        public void cacheConditionalHit(@NonNull final Call call, @NonNull final Response cachedResponse) {
+            isConditional = true;
+        }
+
+        @Override
+        public void cacheHit(@NonNull final Call call, @NonNull final Response response) {
+            record(isConditional ? revalidateCount : hitCount);
+        }
+
+        @Override
+        public void cacheMiss(@NonNull final Call call) {
+            record(missCount);
+        }
+
+        @Override
+        public void callEnd(@NonNull final Call call) {
+            // A conditional request that returned new content is not reported as a hit or miss by OkHttp
+            if (isConditional) {
+                record(missCount);
+            }
+        }
+
+        @Override
+        public void callFailed(@NonNull final Call call, @NonNull final IOException ex) {
+            isRecorded = true;
+        }
+
+        private void record(final LongAdder counter) {
+            if (!isRecorded) {
+                isRecorded = true;
+                counter.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.http;
+
+import com.amilesend.client.util.Validate;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An HTTP transport (i.e., a dispatcher and connection pool) configured by a {@link TransportProfile} that can be
+ * shared by multiple {@code Tmdb} instances, including those with different access tokens. Sharing a transport
+ * bounds the total concurrency across all instances and lets them reuse each other's connections. This is safe
+ * because credentials are added to each request by its connection, not by the transport.
+ * <p>
+ * Example:
+ * <pre>
+ * SharedTransport transport = new SharedTransport(TransportProfile.BULK_INGEST);
+ * Tmdb first = Tmdb.builder().readAccessToken(firstToken).transport(transport).build();
+ * Tmdb second = Tmdb.builder().readAccessToken(secondToken).transport(transport).build();
+ * </pre>
+ * Close the transport once all instances that use it are no longer needed.
+ */
+@Slf4j
+public class SharedTransport implements Closeable {
+    /** The profile that defines the transport settings. */
+    @Getter
+    private final TransportProfile profile;
+    private final OkHttpClient baseHttpClient;
+
+    /**
+     * Creates a new {@code SharedTransport}.
+     *
+     * @param profile the profile that defines the transport settings
+     */
+    public SharedTransport(@NonNull final TransportProfile profile) {
+        this.profile = profile;
+        final Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(profile.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(profile.getMaxRequestsPerHost());
+        baseHttpClient = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(
+                        profile.getMaxIdleConnections(),
+                        profile.getKeepAlive().toMillis(),
+                        TimeUnit.MILLISECONDS))
+                .protocols(profile.isHttp2Preferred()
+                        ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                        : List.of(Protocol.HTTP_1_1))
+                .connectTimeout(profile.getConnectTimeout())
+                .readTimeout(profile.getReadTimeout())
+                .writeTimeout(profile.getReadTimeout())
+                .callTimeout(profile.getCallTimeout())
+                .build();
+    }
+
+    /**
+     * Creates a new HTTP client builder that shares this transport's dispatcher and connection pool. Interceptors,
+     * caches, and event listeners added to the builder only apply to the resulting client.
+     *
+     * @return the HTTP client builder
+     */
+    public OkHttpClient.Builder newHttpClientBuilder() {
+        return baseHttpClient.newBuilder();
+    }
+
+    /**
+     * Asynchronously establishes the number of connections defined by the profile to the host of the given request
+     * so that the first requests do not incur the connection and TLS handshake latency. Each connection is opened
+     * by sending the request (e.g., an authenticated {@code HEAD} request) via the given client whose response is
+     * discarded. As the client is created via {@link #newHttpClientBuilder()}, warm-up requests pass through its
+     * interceptors (e.g., the rate limiter) like any other request.
+     *
+     * @param httpClient the client created via {@link #newHttpClientBuilder()} used to send the requests
+     * @param request the warm-up request
+     * @return the future that completes with the number of successful warm-up requests
+     */
+    public CompletableFuture<Integer> warmUp(@NonNull final OkHttpClient httpClient, @NonNull final Request request) {
+        Validate.isTrue(
+                httpClient.connectionPool() == baseHttpClient.connectionPool(),
+                "httpClient must be created via newHttpClientBuilder()");
+        final int connections = profile.getWarmUpConnections();
+        final CompletableFuture<Integer> future = new CompletableFuture<>();
+        if (connections == 0) {
+            future.complete(0);
+            return future;
+        }
+
+        final AtomicInteger remaining = new AtomicInteger(connections);
+        final AtomicInteger successes = new AtomicInteger();
+        for (int i = 0; i < connections; ++i) {
+            httpClient.newCall(request).enqueue(new Callback() {
+                @Override
+                public void onFailure(@NonNull final Call call, @NonNull final IOException ex) {
+                    log.debug("Unable to warm up a connection to {}: {}", request.url().host(), ex.getMessage());
+                    onComplete();
+                }
+
+                @Override
+                public void onResponse(@NonNull final Call call, @NonNull final Response response) {
+                    response.close();
+                    successes.incrementAndGet();
+                    onComplete();
+                }
+
+                private void onComplete() {
+                    if (remaining.decrementAndGet() == 0) {
+                        future.complete(successes.get());
+                    }
+                }
+            });
+        }
+
+        return future;
+    }
+
+    /**
+     * Gets the number of open connections in the pool.
+     *
+     * @return the number of connections
+     */
+    public int getConnectionCount() {
+        return baseHttpClient.connectionPool().connectionCount();
+    }
+
+    /**
+     * Gets the number of requests that are waiting for capacity in the dispatcher.
+     *
+     * @return the number of queued requests
+     */
+    public int getQueuedRequestCount() {
+        return baseHttpClient.dispatcher().queuedCallsCount();
+    }
+
+    /** Stops the dispatcher from accepting new requests and closes all idle connections. */
+    @Override
+    public void close() {
+        baseHttpClient.dispatcher().executorService().shutdown();
+        baseHttpClient.connectionPool().evictAll();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.http;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * Defines presets for the HTTP transport settings of a {@link SharedTransport}, tuned for common workloads.
+ * OkHttp's defaults (64 concurrent requests, 5 per host, and 5 idle connections) otherwise silently cap the
+ * concurrency of requests to the TMDB service at 5.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public enum TransportProfile {
+    /**
+     * Low-latency user-facing requests: moderate concurrency, short timeouts, HTTP/2 multiplexing, and a warm
+     * connection.
+     */
+    INTERACTIVE(
+            64,
+            16,
+            8,
+            Duration.ofMinutes(5L),
+            true,
+            Duration.ofSeconds(5L),
+            Duration.ofSeconds(10L),
+            Duration.ofSeconds(15L),
+            1),
+    /**
+     * High-throughput batch jobs (e.g., catalog synchronization): high concurrency spread across multiple
+     * HTTP/1.1 connections to avoid head-of-line blocking on a single socket, and generous timeouts.
+     */
+    BULK_INGEST(
+            128,
+            64,
+            32,
+            Duration.ofMinutes(5L),
+            false,
+            Duration.ofSeconds(10L),
+            Duration.ofSeconds(30L),
+            Duration.ofSeconds(60L),
+            8),
+    /**
+     * Constrained environments: few concurrent requests multiplexed over HTTP/2, and idle connections released
+     * quickly.
+     */
+    LOW_MEMORY(
+            8,
+            4,
+            1,
+            Duration.ofSeconds(30L),
+            true,
+            Duration.ofSeconds(10L),
+            Duration.ofSeconds(30L),
+            Duration.ofSeconds(60L),
+            0);
+
+    /** The maximum number of concurrent requests across all hosts. */
+    private final int maxRequests;
+    /** The maximum number of concurrent requests per host. */
+    private final int maxRequestsPerHost;
+    /** The maximum number of idle connections to keep in the pool. */
+    private final int maxIdleConnections;
+    /** The duration to keep an idle connection in the pool. */
+    private final Duration keepAlive;
+    /** {@code true} to prefer HTTP/2 when supported by the server; else, {@code false} to only use HTTP/1.1. */
+    private final boolean isHttp2Preferred;
+    /** The connect timeout. */
+    private final Duration connectTimeout;
+    /** The read and write timeout. */
+    private final Duration readTimeout;
+    /** The timeout for an entire call, including redirects and reading the response body. */
+    private final Duration callTimeout;
+    /** The number of connections to establish when warming up the transport. */
+    private final int warmUpConnections;
+}
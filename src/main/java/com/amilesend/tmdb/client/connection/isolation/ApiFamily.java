@@ -0,0 +1,35 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.isolation;
+
+/**
+ * Defines the families of API endpoints that are isolated from each other by an {@link ApiIsolation}, so that a
+ * degraded family (e.g., search) cannot exhaust the capacity that is used by unrelated calls.
+ */
+public enum ApiFamily {
+    /** The search and find-by-external-identifier endpoints. */
+    SEARCH,
+    /** The discover endpoints. */
+    DISCOVER,
+    /** The endpoints for the details of movies, TV series, people, and other reference data. */
+    DETAILS,
+    /** The account, authentication, and guest session endpoints. */
+    ACCOUNT,
+    /** The curated list endpoints (e.g., popular movies, trending) and user-created lists. */
+    LISTS
+}
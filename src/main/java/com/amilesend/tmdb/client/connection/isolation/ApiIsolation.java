@@ -0,0 +1,260 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.isolation;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Isolates each {@link ApiFamily} with its own {@link Bulkhead} and {@link CircuitBreaker}, so that a degraded
+ * family (e.g., discover) fails fast and cannot exhaust the threads and connections that are used by unrelated
+ * calls (e.g., movie details or configuration).
+ * <p>
+ * Each request first checks its family's circuit breaker, failing with a {@link CallNotPermittedException} while
+ * the breaker is open, and then acquires a permit from its family's bulkhead, failing with a
+ * {@link BulkheadFullException} if the bulkhead's wait queue is full or the wait time elapses. The breaker states
+ * and rejection counts are available via {@link #getCircuitBreaker(ApiFamily)} and {@link #getBulkhead(ApiFamily)}.
+ * <p>
+ * Enable by defining an {@code ApiIsolation} via
+ * {@link com.amilesend.tmdb.client.api.ApiConfig#getApiIsolation()}:
+ * <pre>
+ * ApiConfig apiConfig = ApiConfig.builder()
+ *         .apiIsolation(ApiIsolation.builder()
+ *                 .bulkhead(ApiFamily.SEARCH, Bulkhead.builder().maxConcurrentCalls(4).build())
+ *                 .build())
+ *         .build();
+ * </pre>
+ */
+public class ApiIsolation {
+    private final Map<ApiFamily, Bulkhead> bulkheads = new EnumMap<>(ApiFamily.class);
+    private final Map<ApiFamily, CircuitBreaker> circuitBreakers = new EnumMap<>(ApiFamily.class);
+
+    /**
+     * Creates a new {@code ApiIsolation}.
+     *
+     * @param bulkheads the bulkheads keyed by family
+     * @param circuitBreakers the circuit breakers keyed by family
+     * @param bulkheadSupplier creates the bulkhead for each family that is not defined in {@code bulkheads}
+     *                         (defaults to a bulkhead with the default settings)
+     * @param circuitBreakerSupplier creates the circuit breaker for each family that is not defined in
+     *                               {@code circuitBreakers} (defaults to a breaker with the default settings)
+     */
+    @Builder
+    private ApiIsolation(
+            @Singular final Map<ApiFamily, Bulkhead> bulkheads,
+            @Singular final Map<ApiFamily, CircuitBreaker> circuitBreakers,
+            final Supplier<Bulkhead> bulkheadSupplier,
+            final Supplier<CircuitBreaker> circuitBreakerSupplier) {
+        final Supplier<Bulkhead> defaultBulkhead =
+                Objects.requireNonNullElse(bulkheadSupplier, () -> Bulkhead.builder().build());
+        final Supplier<CircuitBreaker> defaultCircuitBreaker =
+                Objects.requireNonNullElse(circuitBreakerSupplier, () -> CircuitBreaker.builder().build());
+        for (final ApiFamily family : ApiFamily.values()) {
+            this.bulkheads.put(family, Objects.requireNonNullElseGet(bulkheads.get(family), defaultBulkhead));
+            this.circuitBreakers.put(
+                    family,
+                    Objects.requireNonNullElseGet(circuitBreakers.get(family), defaultCircuitBreaker));
+        }
+    }
+
+    /**
+     * Creates a new {@code ApiIsolation} that is configured with the default settings for each family.
+     *
+     * @return the isolation
+     */
+    public static ApiIsolation defaultIsolation() {
+        return ApiIsolation.builder().build();
+    }
+
+    /**
+     * Executes a request within the given family's circuit breaker and bulkhead, blocking while the request is
+     * queued.
+     *
+     * @param family the API family of the request
+     * @param request sends the request and returns its response
+     * @return the response
+     * @param <T> the response type
+     * @throws CallNotPermittedException if the family's circuit breaker is open
+     * @throws BulkheadFullException if the family's bulkhead rejected the request
+     */
+    public <T> T execute(@NonNull final ApiFamily family, @NonNull final Supplier<T> request) {
+        final CircuitBreaker circuitBreaker = getCircuitBreaker(family);
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new CallNotPermittedException(family, circuitBreaker.getState());
+        }
+
+        final Bulkhead bulkhead = getBulkhead(family);
+        if (!bulkhead.tryAcquire()) {
+            circuitBreaker.releasePermission();
+            throw new BulkheadFullException(family);
+        }
+
+        final long startTimeNanos = System.nanoTime();
+        try {
+            final T response = request.get();
+            circuitBreaker.onResult(System.nanoTime() - startTimeNanos, null);
+            return response;
+        } catch (final RuntimeException ex) {
+            circuitBreaker.onResult(System.nanoTime() - startTimeNanos, ex);
+            throw ex;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * Executes an asynchronous request within the given family's circuit breaker and bulkhead. Queued requests do
+     * not hold a thread, and are sent from the thread that releases a permit. Cancelling the returned future
+     * removes a queued request from the queue, or cancels the sent request.
+     *
+     * @param family the API family of the request
+     * @param request sends the request and returns the future that completes with its response
+     * @return the future that completes with the response, or exceptionally with a
+     *         {@link CallNotPermittedException} or {@link BulkheadFullException} if the request was rejected
+     * @param <T> the response type
+     */
+    public <T> CompletableFuture<T> executeAsync(
+            @NonNull final ApiFamily family,
+            @NonNull final Supplier<CompletableFuture<T>> request) {
+        final CircuitBreaker circuitBreaker = getCircuitBreaker(family);
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(new CallNotPermittedException(family, circuitBreaker.getState()));
+        }
+
+        final Bulkhead bulkhead = getBulkhead(family);
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final CompletableFuture<Boolean> ticket = bulkhead.acquire();
+        result.whenComplete((response, ex) -> {
+            if (result.isCancelled()) {
+                ticket.cancel(false);
+            }
+        });
+        ticket.whenComplete((isGranted, ex) -> {
+            if (!Boolean.TRUE.equals(isGranted)) {
+                circuitBreaker.releasePermission();
+                result.completeExceptionally(new BulkheadFullException(family));
+                return;
+            }
+            if (result.isDone()) {
+                bulkhead.release();
+                circuitBreaker.releasePermission();
+                return;
+            }
+
+            send(request, result, circuitBreaker, bulkhead);
+        });
+        return result;
+    }
+
+    /**
+     * Gets the bulkhead for the given family.
+     *
+     * @param family the API family
+     * @return the bulkhead
+     */
+    public Bulkhead getBulkhead(@NonNull final ApiFamily family) {
+        return bulkheads.get(family);
+    }
+
+    /**
+     * Gets the circuit breaker for the given family.
+     *
+     * @param family the API family
+     * @return the circuit breaker
+     */
+    public CircuitBreaker getCircuitBreaker(@NonNull final ApiFamily family) {
+        return circuitBreakers.get(family);
+    }
+
+    /**
+     * Gets the circuit breaker state of each family.
+     *
+     * @return the states keyed by family
+     */
+    public Map<ApiFamily, CircuitBreaker.State> getCircuitBreakerStates() {
+        final Map<ApiFamily, CircuitBreaker.State> states = new EnumMap<>(ApiFamily.class);
+        circuitBreakers.forEach((family, circuitBreaker) -> states.put(family, circuitBreaker.getState()));
+        return Collections.unmodifiableMap(states);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ApiIsolation{");
+        for (final ApiFamily family : ApiFamily.values()) {
+            if (family.ordinal() > 0) {
+                sb.append(", ");
+            }
+            sb.append(family)
+                    .append("={bulkhead=").append(getBulkhead(family))
+                    .append(", circuitBreaker=").append(getCircuitBreaker(family))
+                    .append('}');
+        }
+
+        return sb.append('}').toString();
+    }
+
+    private static <T> void send(
+            final Supplier<CompletableFuture<T>> request,
+            final CompletableFuture<T> result,
+            final CircuitBreaker circuitBreaker,
+            final Bulkhead bulkhead) {
+        final long startTimeNanos = System.nanoTime();
+        final CompletableFuture<T> attempt;
+        try {
+            attempt = request.get();
+        } catch (final RuntimeException ex) {
+            bulkhead.release();
+            circuitBreaker.onResult(System.nanoTime() - startTimeNanos, ex);
+            result.completeExceptionally(ex);
+            return;
+        }
+
+        result.whenComplete((response, ex) -> {
+            if (result.isCancelled()) {
+                attempt.cancel(true);
+            }
+        });
+        attempt.whenComplete((response, ex) -> {
+            bulkhead.release();
+            final Throwable error = ex instanceof CompletionException && Objects.nonNull(ex.getCause())
+                    ? ex.getCause()
+                    : ex;
+            if (error instanceof CancellationException) {
+                circuitBreaker.releasePermission();
+            } else {
+                circuitBreaker.onResult(System.nanoTime() - startTimeNanos, error);
+            }
+
+            if (Objects.isNull(error)) {
+                result.complete(response);
+            } else {
+                result.completeExceptionally(error);
+            }
+        });
+    }
+}
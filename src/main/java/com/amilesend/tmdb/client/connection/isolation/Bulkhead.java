@@ -0,0 +1,230 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.isolation;
+
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe bulkhead that bounds the number of concurrent calls and the number of calls that wait for a permit.
+ * Calls that arrive while all permits are in use wait in a first-in, first-out queue for up to {@code maxWait};
+ * calls that arrive while the queue is full, or that wait longer than {@code maxWait}, are rejected.
+ * <p>
+ * Waiting is non-blocking: {@link #acquire()} returns a future that completes once a permit is granted, so
+ * asynchronous calls do not hold a thread while queued.
+ *
+ * @see ApiIsolation
+ */
+public class Bulkhead {
+    private static final int DEFAULT_MAX_CONCURRENT_CALLS = 10;
+    private static final int DEFAULT_MAX_QUEUED_CALLS = 50;
+    private static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(5L);
+
+    /** The maximum number of concurrent calls. */
+    @Getter
+    private final int maxConcurrentCalls;
+    /** The maximum number of calls that can wait for a permit. */
+    @Getter
+    private final int maxQueuedCalls;
+    private final long maxWaitNanos;
+    private final AtomicInteger availablePermits;
+    private final Queue<CompletableFuture<Boolean>> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * Creates a new {@code Bulkhead}.
+     *
+     * @param maxConcurrentCalls the maximum number of concurrent calls (defaults to 10)
+     * @param maxQueuedCalls the maximum number of calls that can wait for a permit (defaults to 50). Use {@code 0}
+     *                       to reject calls immediately when all permits are in use.
+     * @param maxWait the maximum time that a call waits for a permit (defaults to 5 seconds)
+     */
+    @Builder
+    private Bulkhead(final Integer maxConcurrentCalls, final Integer maxQueuedCalls, final Duration maxWait) {
+        this.maxConcurrentCalls = Objects.requireNonNullElse(maxConcurrentCalls, DEFAULT_MAX_CONCURRENT_CALLS);
+        this.maxQueuedCalls = Objects.requireNonNullElse(maxQueuedCalls, DEFAULT_MAX_QUEUED_CALLS);
+        this.maxWaitNanos = Objects.requireNonNullElse(maxWait, DEFAULT_MAX_WAIT).toNanos();
+        Validate.isTrue(this.maxConcurrentCalls > 0, "maxConcurrentCalls must be positive");
+        Validate.isTrue(this.maxQueuedCalls >= 0, "maxQueuedCalls must not be negative");
+        Validate.isTrue(this.maxWaitNanos >= 0L, "maxWait must not be negative");
+        this.availablePermits = new AtomicInteger(this.maxConcurrentCalls);
+    }
+
+    /**
+     * Acquires a permit without blocking. The returned future completes with {@code true} once a permit is granted,
+     * or with {@code false} if the call is rejected. Cancelling the returned future removes the call from the
+     * queue. Each granted permit must be returned via {@link #release()}.
+     *
+     * @return the future that completes with {@code true} if a permit was granted; else, {@code false}
+     */
+    public CompletableFuture<Boolean> acquire() {
+        // Only take a permit directly when no calls are waiting so that queued calls are not overtaken
+        if (queuedCount.get() == 0 && tryAcquirePermit()) {
+            return CompletableFuture.completedFuture(Boolean.TRUE);
+        }
+
+        if (!tryReserveQueueSlot()) {
+            rejectedCount.increment();
+            return CompletableFuture.completedFuture(Boolean.FALSE);
+        }
+
+        final CompletableFuture<Boolean> ticket = new CompletableFuture<>();
+        waiters.add(ticket);
+        ticket.completeOnTimeout(Boolean.FALSE, maxWaitNanos, TimeUnit.NANOSECONDS)
+                .whenComplete((isGranted, ex) -> {
+                    if (Boolean.TRUE.equals(isGranted)) {
+                        return;
+                    }
+                    if (waiters.remove(ticket)) {
+                        queuedCount.decrementAndGet();
+                    }
+                    if (Boolean.FALSE.equals(isGranted)) {
+                        rejectedCount.increment();
+                    }
+                });
+        drain();
+        return ticket;
+    }
+
+    /**
+     * Acquires a permit, blocking for up to {@code maxWait} while the call is queued. Each granted permit must be
+     * returned via {@link #release()}.
+     *
+     * @return {@code true} if a permit was granted; else, {@code false} if the call was rejected or the thread was
+     *         interrupted while waiting
+     */
+    public boolean tryAcquire() {
+        final CompletableFuture<Boolean> ticket = acquire();
+        try {
+            return ticket.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            if (!ticket.cancel(false) && Boolean.TRUE.equals(ticket.getNow(Boolean.FALSE))) {
+                release();
+            }
+            return false;
+        } catch (final ExecutionException ex) {
+            // Not reachable as tickets are only completed with a value or cancelled by their owner
+            return false;
+        }
+    }
+
+    /** Releases a permit that was granted by {@link #acquire()} or {@link #tryAcquire()}. */
+    public void release() {
+        availablePermits.incrementAndGet();
+        drain();
+    }
+
+    /**
+     * Gets the number of calls that currently hold a permit.
+     *
+     * @return the active call count
+     */
+    public int getActiveCount() {
+        return maxConcurrentCalls - availablePermits.get();
+    }
+
+    /**
+     * Gets the number of calls that are waiting for a permit.
+     *
+     * @return the queued call count
+     */
+    public int getQueuedCount() {
+        return queuedCount.get();
+    }
+
+    /**
+     * Gets the number of calls that were rejected as the queue was full or their wait time elapsed.
+     *
+     * @return the rejected call count
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("Bulkhead{activeCount=").append(getActiveCount())
+                .append(", maxConcurrentCalls=").append(maxConcurrentCalls)
+                .append(", queuedCount=").append(getQueuedCount())
+                .append(", maxQueuedCalls=").append(maxQueuedCalls)
+                .append(", rejectedCount=").append(getRejectedCount())
+                .append('}')
+                .toString();
+    }
+
+    private boolean tryAcquirePermit() {
+        int permits;
+        do {
+            permits = availablePermits.get();
+            if (permits <= 0) {
+                return false;
+            }
+        } while (!availablePermits.compareAndSet(permits, permits - 1));
+        return true;
+    }
+
+    private boolean tryReserveQueueSlot() {
+        int queued;
+        do {
+            queued = queuedCount.get();
+            if (queued >= maxQueuedCalls) {
+                return false;
+            }
+        } while (!queuedCount.compareAndSet(queued, queued + 1));
+        return true;
+    }
+
+    /**
+     * Grants available permits to queued calls in order. Only one thread drains at a time; requests to drain
+     * that arrive while draining are picked up by the draining thread.
+     */
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+
+        do {
+            while (!waiters.isEmpty() && tryAcquirePermit()) {
+                final CompletableFuture<Boolean> ticket = waiters.poll();
+                if (Objects.nonNull(ticket)) {
+                    queuedCount.decrementAndGet();
+                    if (ticket.complete(Boolean.TRUE)) {
+                        continue;
+                    }
+                }
+
+                // The call timed out or was cancelled while queued
+                availablePermits.incrementAndGet();
+            }
+        } while (drainRequests.decrementAndGet() != 0);
+    }
+}
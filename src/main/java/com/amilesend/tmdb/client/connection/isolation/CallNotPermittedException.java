@@ -0,0 +1,40 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.isolation;
+
+import lombok.Getter;
+
+/**
+ * Defines the exception thrown when a request fails fast as its family's {@link CircuitBreaker} is open.
+ */
+@Getter
+public class CallNotPermittedException extends IsolationException {
+    /** The state of the circuit breaker when the request was rejected. */
+    private final CircuitBreaker.State state;
+
+    /**
+     * Creates a new {@code CallNotPermittedException}.
+     *
+     * @param apiFamily the family of the rejected request
+     * @param state the state of the circuit breaker
+     */
+    public CallNotPermittedException(final ApiFamily apiFamily, final CircuitBreaker.State state) {
+        super("Circuit breaker is " + state + " for API family " + apiFamily, apiFamily);
+        this.state = state;
+    }
+}
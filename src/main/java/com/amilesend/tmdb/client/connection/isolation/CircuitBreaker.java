@@ -0,0 +1,290 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.isolation;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * A thread-safe circuit breaker that fails fast once the failure rate or the slow-call rate of the most recent calls
+ * crosses a threshold.
+ * <p>
+ * The outcomes of the last {@code windowSize} calls are recorded while {@link State#CLOSED closed}. Once at least
+ * {@code minimumCalls} have been recorded and either rate is at or above its threshold, the breaker
+ * {@link State#OPEN opens} and rejects all calls for {@code openDuration}. It then becomes
+ * {@link State#HALF_OPEN half-open} and permits {@code halfOpenCalls} trial calls: if their failure and slow-call
+ * rates are below the thresholds, the breaker closes; else, it opens again.
+ * <p>
+ * By default, only server errors ({@link ResponseException}) and network failures (a {@link RequestException} caused
+ * by an {@link IOException}) are counted as failures; client errors such as an unknown identifier are not.
+ *
+ * @see ApiIsolation
+ */
+public class CircuitBreaker {
+    private static final double DEFAULT_FAILURE_RATE_THRESHOLD = 50.0D;
+    private static final double DEFAULT_SLOW_CALL_RATE_THRESHOLD = 80.0D;
+    private static final Duration DEFAULT_SLOW_CALL_DURATION = Duration.ofSeconds(5L);
+    private static final int DEFAULT_WINDOW_SIZE = 50;
+    private static final int DEFAULT_MINIMUM_CALLS = 20;
+    private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30L);
+    private static final int DEFAULT_HALF_OPEN_CALLS = 5;
+    private static final byte OUTCOME_FAILURE = 0x1;
+    private static final byte OUTCOME_SLOW = 0x2;
+
+    /** Defines the states of a circuit breaker. */
+    public enum State {
+        /** Calls are permitted and their outcomes are recorded. */
+        CLOSED,
+        /** Calls are rejected until the open duration elapses. */
+        OPEN,
+        /** A limited number of trial calls are permitted to determine if the breaker closes. */
+        HALF_OPEN
+    }
+
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallDurationNanos;
+    private final int minimumCalls;
+    private final long openDurationMillis;
+    private final int halfOpenCalls;
+    private final Predicate<Throwable> failurePredicate;
+    private final Clock clock;
+    private final byte[] outcomes;
+    private final LongAdder notPermittedCount = new LongAdder();
+    private final LongAdder openedCount = new LongAdder();
+
+    /** The current state. */
+    @Getter
+    private volatile State state = State.CLOSED;
+    private int outcomeIndex;
+    private int callCount;
+    private int failureCount;
+    private int slowCallCount;
+    private long openedAtMillis;
+    private int halfOpenPermittedCount;
+
+    /**
+     * Creates a new {@code CircuitBreaker}.
+     *
+     * @param failureRateThreshold the failure rate percentage at or above which the breaker opens (defaults to 50)
+     * @param slowCallRateThreshold the slow-call rate percentage at or above which the breaker opens (defaults to 80)
+     * @param slowCallDuration the duration at or above which a call is considered slow (defaults to 5 seconds)
+     * @param windowSize the number of most recent calls used to calculate the rates (defaults to 50)
+     * @param minimumCalls the number of calls to record before the rates are evaluated (defaults to 20, or
+     *                     {@code windowSize} if smaller)
+     * @param openDuration the duration that the breaker stays open before permitting trial calls (defaults to
+     *                     30 seconds)
+     * @param halfOpenCalls the number of trial calls permitted while half-open (defaults to 5, or {@code windowSize} if
+     *                      smaller)
+     * @param failurePredicate determines which errors are counted as failures (defaults to server errors and
+     *                         network failures)
+     * @param clock the clock used to track the open duration (defaults to the system clock)
+     */
+    @Builder
+    private CircuitBreaker(
+            final Double failureRateThreshold,
+            final Double slowCallRateThreshold,
+            final Duration slowCallDuration,
+            final Integer windowSize,
+            final Integer minimumCalls,
+            final Duration openDuration,
+            final Integer halfOpenCalls,
+            final Predicate<Throwable> failurePredicate,
+            final Clock clock) {
+        this.failureRateThreshold = Objects.requireNonNullElse(failureRateThreshold, DEFAULT_FAILURE_RATE_THRESHOLD);
+        this.slowCallRateThreshold =
+                Objects.requireNonNullElse(slowCallRateThreshold, DEFAULT_SLOW_CALL_RATE_THRESHOLD);
+        this.slowCallDurationNanos = Objects.requireNonNullElse(slowCallDuration, DEFAULT_SLOW_CALL_DURATION).toNanos();
+        final int size = Objects.requireNonNullElse(windowSize, DEFAULT_WINDOW_SIZE);
+        this.minimumCalls = Objects.requireNonNullElse(minimumCalls, Math.min(DEFAULT_MINIMUM_CALLS, size));
+        this.openDurationMillis = Objects.requireNonNullElse(openDuration, DEFAULT_OPEN_DURATION).toMillis();
+        this.halfOpenCalls = Objects.requireNonNullElse(halfOpenCalls, Math.min(DEFAULT_HALF_OPEN_CALLS, size));
+        this.failurePredicate = Objects.requireNonNullElse(failurePredicate, CircuitBreaker::isServiceFailure);
+        this.clock = Objects.requireNonNullElseGet(clock, Clock::systemUTC);
+        Validate.isTrue(this.failureRateThreshold > 0.0D && this.failureRateThreshold <= 100.0D,
+                "failureRateThreshold must be greater than 0 and at most 100");
+        Validate.isTrue(this.slowCallRateThreshold > 0.0D && this.slowCallRateThreshold <= 100.0D,
+                "slowCallRateThreshold must be greater than 0 and at most 100");
+        Validate.isTrue(this.slowCallDurationNanos > 0L, "slowCallDuration must be positive");
+        Validate.isTrue(size > 0, "windowSize must be positive");
+        Validate.isTrue(this.minimumCalls > 0 && this.minimumCalls <= size,
+                "minimumCalls must be positive and at most windowSize");
+        Validate.isTrue(this.openDurationMillis >= 0L, "openDuration must not be negative");
+        Validate.isTrue(this.halfOpenCalls > 0 && this.halfOpenCalls <= size,
+                "halfOpenCalls must be positive and at most windowSize");
+        this.outcomes = new byte[size];
+    }
+
+    /**
+     * Determines if a call is permitted. Each permitted call must be followed by either {@link #onResult} or
+     * {@link #releasePermission()}.
+     *
+     * @return {@code true} if the call is permitted; else, {@code false}
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.millis() - openedAtMillis < openDurationMillis) {
+                notPermittedCount.increment();
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermittedCount >= halfOpenCalls) {
+                notPermittedCount.increment();
+                return false;
+            }
+            ++halfOpenPermittedCount;
+        }
+
+        return true;
+    }
+
+    /** Returns a permission for a call that was not sent (e.g., it was cancelled or rejected by a bulkhead). */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenPermittedCount > 0) {
+            --halfOpenPermittedCount;
+        }
+    }
+
+    /**
+     * Records the outcome of a permitted call.
+     *
+     * @param durationNanos the duration of the call in nanoseconds
+     * @param error the error that the call failed with, or {@code null} if it succeeded
+     */
+    public void onResult(final long durationNanos, final Throwable error) {
+        byte outcome = 0;
+        if (Objects.nonNull(error) && failurePredicate.test(error)) {
+            outcome |= OUTCOME_FAILURE;
+        }
+        if (durationNanos >= slowCallDurationNanos) {
+            outcome |= OUTCOME_SLOW;
+        }
+
+        record(outcome);
+    }
+
+    /**
+     * Gets the failure rate percentage of the recorded calls.
+     *
+     * @return the failure rate, or {@code 0} if no calls are recorded
+     */
+    public synchronized double getFailureRate() {
+        return callCount == 0 ? 0.0D : failureCount * 100.0D / callCount;
+    }
+
+    /**
+     * Gets the slow-call rate percentage of the recorded calls.
+     *
+     * @return the slow-call rate, or {@code 0} if no calls are recorded
+     */
+    public synchronized double getSlowCallRate() {
+        return callCount == 0 ? 0.0D : slowCallCount * 100.0D / callCount;
+    }
+
+    /**
+     * Gets the number of calls that were rejected as the breaker was open or had no trial calls remaining.
+     *
+     * @return the not-permitted call count
+     */
+    public long getNotPermittedCount() {
+        return notPermittedCount.sum();
+    }
+
+    /**
+     * Gets the number of times that the breaker opened.
+     *
+     * @return the opened count
+     */
+    public long getOpenedCount() {
+        return openedCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("CircuitBreaker{state=").append(state)
+                .append(", failureRate=").append(String.format("%.1f", getFailureRate()))
+                .append(", slowCallRate=").append(String.format("%.1f", getSlowCallRate()))
+                .append(", notPermittedCount=").append(getNotPermittedCount())
+                .append(", openedCount=").append(getOpenedCount())
+                .append('}')
+                .toString();
+    }
+
+    private synchronized void record(final byte outcome) {
+        if (state == State.OPEN) {
+            // Calls that were permitted before the breaker opened are not counted towards the next window
+            return;
+        }
+
+        if (callCount == outcomes.length) {
+            final byte evicted = outcomes[outcomeIndex];
+            failureCount -= evicted & OUTCOME_FAILURE;
+            slowCallCount -= (evicted & OUTCOME_SLOW) >> 1;
+        } else {
+            ++callCount;
+        }
+        outcomes[outcomeIndex] = outcome;
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+        failureCount += outcome & OUTCOME_FAILURE;
+        slowCallCount += (outcome & OUTCOME_SLOW) >> 1;
+
+        final int requiredCalls = state == State.HALF_OPEN ? halfOpenCalls : minimumCalls;
+        if (callCount < requiredCalls) {
+            return;
+        }
+
+        final boolean isThresholdExceeded = getFailureRate() >= failureRateThreshold
+                || getSlowCallRate() >= slowCallRateThreshold;
+        if (isThresholdExceeded) {
+            transitionTo(State.OPEN);
+        } else if (state == State.HALF_OPEN) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    private void transitionTo(final State newState) {
+        state = newState;
+        outcomeIndex = 0;
+        callCount = 0;
+        failureCount = 0;
+        slowCallCount = 0;
+        halfOpenPermittedCount = 0;
+        if (newState == State.OPEN) {
+            openedAtMillis = clock.millis();
+            openedCount.increment();
+        }
+    }
+
+    private static boolean isServiceFailure(final Throwable error) {
+        return error instanceof ResponseException
+                || (error instanceof RequestException && error.getCause() instanceof IOException);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.isolation;
+
+import com.amilesend.client.connection.RequestException;
+import lombok.Getter;
+
+/**
+ * Defines the exception thrown when a request is rejected by an {@link ApiIsolation} without being sent.
+ *
+ * @see BulkheadFullException
+ * @see CallNotPermittedException
+ */
+@Getter
+public class IsolationException extends RequestException {
+    /** The family of the rejected request. */
+    private final ApiFamily apiFamily;
+
+    /**
+     * Creates a new {@code IsolationException}.
+     *
+     * @param msg the exception message
+     * @param apiFamily the family of the rejected request
+     */
+    public IsolationException(final String msg, final ApiFamily apiFamily) {
+        super(msg);
+        this.apiFamily = apiFamily;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.metrics;
+
+import lombok.Getter;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * The aggregated metrics for a single endpoint.
+ *
+ * @see HistogramMetricsListener
+ */
+public class EndpointStats {
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder cachedCount = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final AtomicLong firstRequestTime = new AtomicLong(Long.MIN_VALUE);
+    private final LongSupplier nanoTime;
+
+    /** The total request duration. */
+    @Getter
+    private final LatencyHistogram totalDuration = new LatencyHistogram();
+    /** The time spent before the network phase began. */
+    @Getter
+    private final LatencyHistogram queueDuration = new LatencyHistogram();
+    /** The time spent in the network phase until the response headers were received. */
+    @Getter
+    private final LatencyHistogram networkDuration = new LatencyHistogram();
+    /** The time to first byte of the response. */
+    @Getter
+    private final LatencyHistogram timeToFirstByte = new LatencyHistogram();
+    /** The time spent deserializing the response. */
+    @Getter
+    private final LatencyHistogram deserializationDuration = new LatencyHistogram();
+
+    EndpointStats(final LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Gets the number of completed requests.
+     *
+     * @return the request count
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * Gets the number of requests that completed exceptionally.
+     *
+     * @return the error count
+     */
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    /**
+     * Gets the number of requests that were served from the response cache.
+     *
+     * @return the cached count
+     */
+    public long getCachedCount() {
+        return cachedCount.sum();
+    }
+
+    /**
+     * Gets the total number of response body bytes received.
+     *
+     * @return the response bytes
+     */
+    public long getResponseBytes() {
+        return responseBytes.sum();
+    }
+
+    /**
+     * Gets the ratio of requests that completed exceptionally.
+     *
+     * @return the error rate, or {@code 0.0} if no requests have completed
+     */
+    public double getErrorRate() {
+        final long count = getRequestCount();
+        return count == 0L ? 0.0D : (double) getErrorCount() / count;
+    }
+
+    /**
+     * Gets the average number of completed requests per second since the first request completed.
+     *
+     * @return the throughput, or {@code 0.0} if less than two requests have completed
+     */
+    public double getThroughput() {
+        final long count = getRequestCount();
+        final long elapsed = nanoTime.getAsLong() - firstRequestTime.get();
+        return count < 2L || elapsed <= 0L ? 0.0D : (double) count * TimeUnit.SECONDS.toNanos(1L) / elapsed;
+    }
+
+    /**
+     * Records the metrics of a completed request.
+     *
+     * @param metrics the request metrics
+     */
+    void record(final RequestMetrics metrics) {
+        firstRequestTime.compareAndSet(Long.MIN_VALUE, nanoTime.getAsLong());
+        requestCount.increment();
+        if (!metrics.isSuccess()) {
+            errorCount.increment();
+        }
+        if (metrics.isCached()) {
+            cachedCount.increment();
+        }
+        if (metrics.getResponseBytes() > 0L) {
+            responseBytes.add(metrics.getResponseBytes());
+        }
+
+        totalDuration.record(metrics.getTotalDuration());
+        if (Objects.nonNull(metrics.getQueueDuration())) {
+            queueDuration.record(metrics.getQueueDuration());
+        }
+        if (Objects.nonNull(metrics.getNetworkDuration())) {
+            networkDuration.record(metrics.getNetworkDuration());
+        }
+        if (Objects.nonNull(metrics.getTimeToFirstByte())) {
+            timeToFirstByte.record(metrics.getTimeToFirstByte());
+        }
+        if (Objects.nonNull(metrics.getDeserializationDuration())) {
+            deserializationDuration.record(metrics.getDeserializationDuration());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("EndpointStats(requestCount=")
+                .append(getRequestCount())
+                .append(", errorCount=")
+                .append(getErrorCount())
+                .append(", p50=")
+                .append(totalDuration.getPercentile(50.0D))
+                .append(", p99=")
+                .append(totalDuration.getPercentile(99.0D))
+                .append(")")
+                .toString();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.metrics;
+
+import lombok.NonNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link RequestMetricsListener} that aggregates the request metrics per endpoint with {@link LatencyHistogram}s
+ * so that latency percentiles (e.g., p50 and p99), throughput, and error rates are available without an external
+ * metrics library.
+ * <p>
+ * Example:
+ * <pre>
+ * HistogramMetricsListener metrics = new HistogramMetricsListener();
+ * Tmdb tmdb = Tmdb.builder()
+ *         .readAccessToken("MyReadAccessToken")
+ *         .apiConfig(ApiConfig.builder().metricsListener(metrics).build())
+ *         .build();
+ * ...
+ * Duration p99 = metrics.getEndpointStats("movies.getCredits").getTotalDuration().getPercentile(99.0D);
+ * </pre>
+ */
+public class HistogramMetricsListener implements RequestMetricsListener {
+    private final ConcurrentMap<String, EndpointStats> endpointStats = new ConcurrentHashMap<>();
+    private final LongSupplier nanoTime;
+
+    /** Creates a new {@code HistogramMetricsListener}. */
+    public HistogramMetricsListener() {
+        this(System::nanoTime);
+    }
+
+    HistogramMetricsListener(final LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public void onRequestCompleted(@NonNull final RequestMetrics metrics) {
+        endpointStats.computeIfAbsent(metrics.getEndpoint(), endpoint -> new EndpointStats(nanoTime))
+                .record(metrics);
+    }
+
+    /**
+     * Gets the aggregated metrics for the given endpoint.
+     *
+     * @param endpoint the logical endpoint name (e.g., {@code movies.getCredits})
+     * @return the endpoint metrics, or {@code null} if no requests have completed for the endpoint
+     */
+    public EndpointStats getEndpointStats(@NonNull final String endpoint) {
+        return endpointStats.get(endpoint);
+    }
+
+    /**
+     * Gets the aggregated metrics for all endpoints with completed requests.
+     *
+     * @return an unmodifiable view of the endpoint metrics keyed by the logical endpoint name
+     */
+    public Map<String, EndpointStats> getAllEndpointStats() {
+        return Collections.unmodifiableMap(endpointStats);
+    }
+
+    /** Clears all aggregated metrics. */
+    public void reset() {
+        endpointStats.clear();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.metrics;
+
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of durations with log-linear buckets. Each power of two range is divided into
+ * {@value #SUB_BUCKET_COUNT} linear sub-buckets, so that recorded values are reported with a relative error of at
+ * most 1/{@value #SUB_BUCKET_COUNT}. Durations are recorded in nanoseconds and are clamped to a maximum of
+ * 2<sup>40</sup> nanoseconds (about 18 minutes).
+ * <p>
+ * Recording is lock-free. Reads are not atomic across buckets and may not reflect values that are recorded
+ * concurrently.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final long MAX_VALUE = (1L << 40) - 1L;
+    private static final int BUCKET_COUNT = getBucketIndex(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records the given duration.
+     *
+     * @param duration the duration
+     */
+    public void record(@NonNull final Duration duration) {
+        record(duration.toNanos());
+    }
+
+    /**
+     * Records the given duration in nanoseconds. Negative values are recorded as zero.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(final long nanos) {
+        final long value = Math.min(Math.max(nanos, 0L), MAX_VALUE);
+        counts.incrementAndGet(getBucketIndex(value));
+        totalCount.increment();
+        totalNanos.add(value);
+        if (value > maxNanos.get()) {
+            maxNanos.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return the mean, or {@link Duration#ZERO} if no values are recorded
+     */
+    public Duration getMean() {
+        final long count = getCount();
+        return count == 0L ? Duration.ZERO : Duration.ofNanos(totalNanos.sum() / count);
+    }
+
+    /**
+     * Gets the maximum recorded value.
+     *
+     * @return the maximum, or {@link Duration#ZERO} if no values are recorded
+     */
+    public Duration getMax() {
+        return Duration.ofNanos(maxNanos.get());
+    }
+
+    /**
+     * Gets the value at the given percentile (e.g., {@code 99.0} for p99). The 100th percentile is the exact
+     * maximum recorded value.
+     *
+     * @param percentile the percentile between 0 and 100
+     * @return the value at the percentile, or {@link Duration#ZERO} if no values are recorded
+     */
+    public Duration getPercentile(final double percentile) {
+        if (percentile < 0.0D || percentile > 100.0D) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+
+        if (percentile == 100.0D) {
+            return getMax();
+        }
+
+        final long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0L;
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+
+        if (count == 0L) {
+            return Duration.ZERO;
+        }
+
+        final long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0D * count));
+        long cumulativeCount = 0L;
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            cumulativeCount += snapshot[i];
+            if (cumulativeCount >= rank) {
+                return Duration.ofNanos(Math.min(getBucketMidpoint(i), maxNanos.get()));
+            }
+        }
+
+        return getMax();
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("LatencyHistogram(count=")
+                .append(getCount())
+                .append(", p50=")
+                .append(getPercentile(50.0D))
+                .append(", p99=")
+                .append(getPercentile(99.0D))
+                .append(", max=")
+                .append(getMax())
+                .append(")")
+                .toString();
+    }
+
+    static int getBucketIndex(final long value) {
+        final int shift = Math.max(0, (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS);
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long getBucketMidpoint(final int index) {
+        final int shift = Math.max(0, (index >> SUB_BUCKET_BITS) - 1);
+        final long lowerBound = (long) (index - (shift << SUB_BUCKET_BITS)) << shift;
+        return lowerBound + ((1L << shift) >> 1);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.metrics;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Describes the timings and outcome of a single request. The network related timings are only available when
+ * the HTTP client is configured with {@link RequestMetricsRecorder#eventListenerFactory()}, and are {@code null}
+ * when the response was served from the {@link com.amilesend.tmdb.client.connection.cache.ResponseCache}.
+ */
+@Builder
+@Getter
+@ToString
+public class RequestMetrics {
+    /** The logical endpoint name (e.g., {@code movies.getCredits}). */
+    @NonNull
+    private final String endpoint;
+    /** The HTTP method. */
+    @NonNull
+    private final String method;
+    /** The HTTP response status code, or {@code null} if no response was received. */
+    private final Integer statusCode;
+    /** The total duration from when the request was issued until it completed. */
+    @NonNull
+    private final Duration totalDuration;
+    /**
+     * The time spent before the network phase began (e.g., waiting in the dispatcher queue, for a rate limiter
+     * permit, or for the HTTP cache lookup).
+     */
+    private final Duration queueDuration;
+    /**
+     * The time spent in the network phase until the response headers were received, including connection setup
+     * and the request transmission.
+     */
+    private final Duration networkDuration;
+    /** The time from sending the request headers until the first byte of the response headers was received. */
+    private final Duration timeToFirstByte;
+    /** The time spent deserializing the response, including streaming the response body. */
+    private final Duration deserializationDuration;
+    /** The number of response body bytes received, or {@code -1} if unknown. */
+    @Builder.Default
+    private final long responseBytes = -1L;
+    /** Indicates if the response was served from the response cache without an HTTP request. */
+    private final boolean cached;
+    /** The exception that the request completed with, or {@code null} if successful. */
+    private final Throwable failure;
+
+    /**
+     * Indicates if the request completed successfully.
+     *
+     * @return {@code true} if successful; else, {@code false}
+     */
+    public boolean isSuccess() {
+        return Objects.isNull(failure);
+    }
+}
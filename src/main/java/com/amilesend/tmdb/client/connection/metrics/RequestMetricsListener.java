@@ -0,0 +1,35 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.metrics;
+
+/**
+ * Receives the {@link RequestMetrics} for each request made via the {@code *Api} classes. Register a listener via
+ * {@link com.amilesend.tmdb.client.api.ApiConfig#getMetricsListener()}. Listeners are invoked on the thread that
+ * completes the request and must be thread-safe and non-blocking.
+ *
+ * @see HistogramMetricsListener
+ */
+@FunctionalInterface
+public interface RequestMetricsListener {
+    /**
+     * Invoked when a request completes, either successfully or exceptionally.
+     *
+     * @param metrics the request metrics
+     */
+    void onRequestCompleted(RequestMetrics metrics);
+}
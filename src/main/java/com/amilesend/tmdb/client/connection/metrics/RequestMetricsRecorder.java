@@ -0,0 +1,243 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.metrics;
+
+import com.amilesend.client.parse.parser.GsonParser;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Records the timings of a single request and notifies the {@link RequestMetricsListener} upon completion. The
+ * recorder is attached to the HTTP request as a tag so that the network timings can be recorded by the listeners
+ * created by {@link #eventListenerFactory()}.
+ */
+@Slf4j
+public class RequestMetricsRecorder {
+    private static final long UNSET = Long.MIN_VALUE;
+    private static final EventListener.Factory EVENT_LISTENER_FACTORY = call -> {
+        final RequestMetricsRecorder recorder = call.request().tag(RequestMetricsRecorder.class);
+        return Objects.isNull(recorder) ? EventListener.NONE : recorder.new MetricsEventListener();
+    };
+
+    private final AtomicBoolean isCompleted = new AtomicBoolean(false);
+    private final RequestMetricsListener listener;
+    private final LongSupplier nanoTime;
+    private final long startTime;
+    /** The logical endpoint name. */
+    @Getter
+    private final String endpoint;
+    /** The HTTP method. */
+    @Getter
+    private final String method;
+
+    private volatile long callStartTime = UNSET;
+    private volatile long networkStartTime = UNSET;
+    private volatile long requestHeadersStartTime = UNSET;
+    private volatile long responseHeadersStartTime = UNSET;
+    private volatile long responseHeadersEndTime = UNSET;
+    private volatile long parseStartTime = UNSET;
+    private volatile long parseEndTime = UNSET;
+    private volatile long responseBytes = -1L;
+    private volatile Integer statusCode;
+
+    /**
+     * Creates a new {@code RequestMetricsRecorder} and starts the request timer.
+     *
+     * @param listener the listener to notify upon completion
+     * @param endpoint the logical endpoint name
+     * @param method the HTTP method
+     */
+    public RequestMetricsRecorder(
+            @NonNull final RequestMetricsListener listener,
+            @NonNull final String endpoint,
+            @NonNull final String method) {
+        this(listener, endpoint, method, System::nanoTime);
+    }
+
+    RequestMetricsRecorder(
+            final RequestMetricsListener listener,
+            final String endpoint,
+            final String method,
+            final LongSupplier nanoTime) {
+        this.listener = listener;
+        this.endpoint = endpoint;
+        this.method = method;
+        this.nanoTime = nanoTime;
+        this.startTime = nanoTime.getAsLong();
+    }
+
+    /**
+     * Gets the factory that creates the per-call listeners used to record the network timings for requests that
+     * are {@link #tag(Request) tagged} with a recorder. Register with the HTTP client via
+     * {@link okhttp3.OkHttpClient.Builder#eventListenerFactory(EventListener.Factory)}.
+     *
+     * @return the event listener factory
+     */
+    public static EventListener.Factory eventListenerFactory() {
+        return EVENT_LISTENER_FACTORY;
+    }
+
+    /**
+     * Attaches this recorder to the given HTTP request.
+     *
+     * @param httpRequest the HTTP request
+     * @return the tagged HTTP request
+     */
+    public Request tag(@NonNull final Request httpRequest) {
+        return httpRequest.newBuilder()
+                .tag(RequestMetricsRecorder.class, this)
+                .build();
+    }
+
+    /**
+     * Wraps the given parser to record the deserialization duration.
+     *
+     * @param parser the parser
+     * @return the timed parser
+     * @param <T> the response type
+     */
+    public <T> GsonParser<T> wrap(@NonNull final GsonParser<T> parser) {
+        return (gson, jsonStream) -> {
+            parseStartTime = nanoTime.getAsLong();
+            try {
+                return parser.parse(gson, jsonStream);
+            } finally {
+                parseEndTime = nanoTime.getAsLong();
+            }
+        };
+    }
+
+    /**
+     * Completes the request and notifies the listener. Subsequent invocations are ignored.
+     *
+     * @param failure the exception that the request completed with, or {@code null} if successful
+     */
+    public void complete(final Throwable failure) {
+        complete(failure, false);
+    }
+
+    /**
+     * Completes the request that was served from the response cache and notifies the listener.
+     */
+    public void completeFromCache() {
+        complete(null, true);
+    }
+
+    private void complete(final Throwable failure, final boolean isCached) {
+        if (!isCompleted.compareAndSet(false, true)) {
+            return;
+        }
+
+        final long endTime = nanoTime.getAsLong();
+        final RequestMetrics metrics = RequestMetrics.builder()
+                .endpoint(endpoint)
+                .method(method)
+                .statusCode(statusCode)
+                .totalDuration(Duration.ofNanos(endTime - startTime))
+                .queueDuration(between(callStartTime, networkStartTime))
+                .networkDuration(between(networkStartTime, responseHeadersEndTime))
+                .timeToFirstByte(between(requestHeadersStartTime, responseHeadersStartTime))
+                .deserializationDuration(between(parseStartTime, parseEndTime))
+                .responseBytes(responseBytes)
+                .cached(isCached)
+                .failure(failure)
+                .build();
+        try {
+            listener.onRequestCompleted(metrics);
+        } catch (final RuntimeException ex) {
+            log.warn("Error notifying metrics listener for {}", endpoint, ex);
+        }
+    }
+
+    private static Duration between(final long start, final long end) {
+        return start == UNSET || end == UNSET ? null : Duration.ofNanos(end - start);
+    }
+
+    /** Records the network timings of the call associated with the recorder. */
+    private class MetricsEventListener extends EventListener {
+        @Override
+        public void callStart(@NonNull final Call call) {
+            callStartTime = nanoTime.getAsLong();
+        }
+
+        @Override
+        public void proxySelectStart(@NonNull final Call call, @NonNull final HttpUrl url) {
+            markNetworkStart();
+        }
+
+        @Override
+        public void connectStart(
+                @NonNull final Call call,
+                @NonNull final InetSocketAddress inetSocketAddress,
+                @NonNull final Proxy proxy) {
+            markNetworkStart();
+        }
+
+        @Override
+        public void connectionAcquired(@NonNull final Call call, @NonNull final Connection connection) {
+            markNetworkStart();
+        }
+
+        @Override
+        public void requestHeadersStart(@NonNull final Call call) {
+            requestHeadersStartTime = nanoTime.getAsLong();
+        }
+
+        @Override
+        public void responseHeadersStart(@NonNull final Call call) {
+            responseHeadersStartTime = nanoTime.getAsLong();
+        }
+
+        @Override
+        public void responseHeadersEnd(@NonNull final Call call, @NonNull final Response response) {
+            responseHeadersEndTime = nanoTime.getAsLong();
+            statusCode = response.code();
+        }
+
+        @Override
+        public void responseBodyEnd(@NonNull final Call call, final long byteCount) {
+            responseBytes = byteCount;
+        }
+
+        @Override
+        public void cacheHit(@NonNull final Call call, @NonNull final Response response) {
+            statusCode = response.code();
+        }
+
+        private void markNetworkStart() {
+            // Retries and follow-ups re-establish connections; the network phase begins with the first attempt
+            if (networkStartTime == UNSET) {
+                networkStartTime = nanoTime.getAsLong();
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.ratelimit;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.tmdb.client.connection.http.CallDeadline;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * An OkHttp {@link Interceptor} that throttles requests with a shared {@link TokenBucketRateLimiter}. When the
+ * service responds with {@code 429 Too Many Requests}, the limiter is paused for the duration defined by the
+ * {@code Retry-After} header (or a default back-off if absent) and the request is retried after the pause, up to
+ * the configured number of attempts. As the limiter is shared, all in-flight callers back off together instead of
+ * each one continuing to trip the limit.
+ * <p>
+ * When used with a {@link com.amilesend.tmdb.client.connection.retry.RetryInterceptor}, set {@code maxRetries} to
+ * {@code 0} so that a rate limited request only pauses the limiter and the {@code 429} response is retried by the
+ * retry interceptor. Otherwise, each retry of the retry interceptor is multiplied by the retries of this
+ * interceptor, which are not bounded by its retry budget.
+ * <p>
+ * Waiting for a permit counts towards the call timeout (e.g., as defined by a
+ * {@link com.amilesend.tmdb.client.connection.http.TransportProfile}). A request fails with an
+ * {@link InterruptedIOException} if a permit does not become available before the call times out, and a rate
+ * limited request is not retried if the pause exceeds the remaining call timeout.
+ * <p>
+ * Register as an application interceptor on the {@link okhttp3.OkHttpClient} so that both synchronous and
+ * asynchronous requests are throttled.
+ *
+ * @see TokenBucketRateLimiter
+ */
+@Slf4j
+public class RateLimitInterceptor implements Interceptor {
+    /** The status code for "Too Many Requests". */
+    public static final int TOO_MANY_REQUESTS_STATUS_CODE = 429;
+
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1L);
+    private static final int DEFAULT_MAX_RETRIES = 2;
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final int maxRetries;
+    private final Duration defaultRetryAfter;
+    private final Clock clock;
+
+    /**
+     * Creates a new {@code RateLimitInterceptor}.
+     *
+     * @param rateLimiter the shared rate limiter
+     * @param maxRetries the maximum number of times a request that was rate limited is retried (defaults to 2)
+     * @param defaultRetryAfter the pause duration when a {@code Retry-After} header is not defined (defaults to 1s)
+     * @param clock the clock used to evaluate {@code Retry-After} dates (defaults to the system UTC clock)
+     */
+    @Builder
+    private RateLimitInterceptor(
+            @NonNull final TokenBucketRateLimiter rateLimiter,
+            final Integer maxRetries,
+            final Duration defaultRetryAfter,
+            final Clock clock) {
+        this.rateLimiter = rateLimiter;
+        this.maxRetries = Objects.requireNonNullElse(maxRetries, DEFAULT_MAX_RETRIES);
+        this.defaultRetryAfter = Objects.requireNonNullElse(defaultRetryAfter, DEFAULT_RETRY_AFTER);
+        this.clock = Objects.requireNonNullElse(clock, Clock.systemUTC());
+        Validate.isTrue(this.maxRetries >= 0, "maxRetries must not be negative");
+    }
+
+    @Override
+    public Response intercept(@NonNull final Chain chain) throws IOException {
+        final Request request = CallDeadline.attach(chain, System.nanoTime());
+        int attempt = 0;
+        while (true) {
+            acquire(request);
+            final Response response = chain.proceed(request);
+            if (response.code() != TOO_MANY_REQUESTS_STATUS_CODE) {
+                return response;
+            }
+
+            final Duration retryAfter = parseRetryAfter(response.header(RetryAfter.HEADER_NAME));
+            log.warn("Rate limited by service; pausing requests for {}", retryAfter);
+            rateLimiter.pause(retryAfter);
+            if (attempt++ >= maxRetries
+                    || retryAfter.toNanos() >= CallDeadline.getRemainingNanos(request, System.nanoTime())) {
+                return response;
+            }
+
+            response.close();
+        }
+    }
+
+    /**
+     * Parses the {@code Retry-After} header value that is either defined as the number of seconds to wait or
+     * as an HTTP date.
+     *
+     * @param retryAfter the header value
+     * @return the duration to pause
+     */
+    Duration parseRetryAfter(final String retryAfter) {
+        return RetryAfter.parse(retryAfter, clock).orElse(defaultRetryAfter);
+    }
+
+    private void acquire(final Request request) throws InterruptedIOException {
+        try {
+            final long remainingNanos = CallDeadline.getRemainingNanos(request, System.nanoTime());
+            if (remainingNanos == Long.MAX_VALUE) {
+                rateLimiter.acquire();
+            } else if (!rateLimiter.tryAcquire(Duration.ofNanos(remainingNanos))) {
+                throw new InterruptedIOException("Timed out waiting for rate limiter");
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for rate limiter");
+        }
+    }
+}
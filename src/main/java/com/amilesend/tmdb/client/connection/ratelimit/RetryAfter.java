@@ -0,0 +1,69 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.ratelimit;
+
+import com.amilesend.client.util.StringUtils;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/** Parses the {@code Retry-After} response header. */
+@Slf4j
+public final class RetryAfter {
+    /** The name of the header. */
+    public static final String HEADER_NAME = "Retry-After";
+
+    private RetryAfter() {
+        // Utility class
+    }
+
+    /**
+     * Parses the {@code Retry-After} header value that is either defined as the number of seconds to wait or
+     * as an HTTP date.
+     *
+     * @param retryAfter the header value
+     * @param clock the clock used to evaluate HTTP dates
+     * @return the non-negative duration to wait, or empty if the value is blank or invalid
+     */
+    public static Optional<Duration> parse(final String retryAfter, @NonNull final Clock clock) {
+        if (StringUtils.isBlank(retryAfter)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0L, Long.parseLong(retryAfter.trim()))));
+        } catch (final NumberFormatException ex) {
+            // Fall through to parse as an HTTP date
+        }
+
+        try {
+            final ZonedDateTime retryAt = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            final Duration duration = Duration.between(clock.instant(), retryAt.toInstant());
+            return Optional.of(duration.isNegative() ? Duration.ZERO : duration);
+        } catch (final DateTimeParseException ex) {
+            log.debug("Unable to parse Retry-After header value: {}", retryAfter);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.ratelimit;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A thread-safe token bucket rate limiter. Permits are replenished at a constant rate up to the configured burst
+ * size, allowing short bursts of requests while bounding the sustained request rate. The bucket can be paused
+ * (e.g., in response to an HTTP 429 with a {@code Retry-After} header) so that no permits are issued until the
+ * pause has elapsed.
+ * <p>
+ * A single instance should be shared across all API instances for a given access token.
+ *
+ * @see RateLimitInterceptor
+ */
+public class TokenBucketRateLimiter {
+    /** The default sustained rate that remains below TMDB's documented upper limit of ~50 requests per second. */
+    public static final double DEFAULT_PERMITS_PER_SECOND = 40.0D;
+    /** The default maximum number of permits that can be acquired in a burst. */
+    public static final int DEFAULT_BURST_SIZE = 20;
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1L);
+
+    /** The sustained number of permits issued per second. */
+    @Getter
+    private final double permitsPerSecond;
+    /** The maximum number of permits that can be stored for bursts. */
+    @Getter
+    private final int burstSize;
+    private final double intervalNanos;
+    private final LongSupplier nanoTimeSource;
+    private final Sleeper sleeper;
+    private double storedPermits;
+    private long nextFreePermitNanos;
+
+    /**
+     * Creates a new {@code TokenBucketRateLimiter}.
+     *
+     * @param permitsPerSecond the sustained number of permits per second (defaults to 40)
+     * @param burstSize the maximum number of permits that can be acquired in a burst (defaults to 20)
+     */
+    @Builder
+    private TokenBucketRateLimiter(final Double permitsPerSecond, final Integer burstSize) {
+        this(Objects.requireNonNullElse(permitsPerSecond, DEFAULT_PERMITS_PER_SECOND),
+                Objects.requireNonNullElse(burstSize, DEFAULT_BURST_SIZE),
+                System::nanoTime,
+                TimeUnit.NANOSECONDS::sleep);
+    }
+
+    @VisibleForTesting
+    TokenBucketRateLimiter(
+            final double permitsPerSecond,
+            final int burstSize,
+            @NonNull final LongSupplier nanoTimeSource,
+            @NonNull final Sleeper sleeper) {
+        Validate.isTrue(permitsPerSecond > 0.0D, "permitsPerSecond must be positive");
+        Validate.isTrue(burstSize > 0, "burstSize must be positive");
+        this.permitsPerSecond = permitsPerSecond;
+        this.burstSize = burstSize;
+        this.intervalNanos = NANOS_PER_SECOND / permitsPerSecond;
+        this.nanoTimeSource = nanoTimeSource;
+        this.sleeper = sleeper;
+        this.storedPermits = burstSize;
+        this.nextFreePermitNanos = nanoTimeSource.getAsLong();
+    }
+
+    /**
+     * Acquires a permit, blocking until one is available.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        final long waitNanos = reserve(Long.MAX_VALUE);
+        if (waitNanos > 0L) {
+            sleeper.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Acquires a permit if one becomes available within the given timeout, blocking until it is available. A
+     * permit is not reserved if it cannot be acquired within the timeout.
+     *
+     * @param timeout the maximum duration to wait
+     * @return {@code true} if the permit was acquired; else, {@code false}
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean tryAcquire(@NonNull final Duration timeout) throws InterruptedException {
+        final long waitNanos = reserve(timeout.toNanos());
+        if (waitNanos < 0L) {
+            return false;
+        }
+
+        if (waitNanos > 0L) {
+            sleeper.sleep(waitNanos);
+        }
+
+        return true;
+    }
+
+    /**
+     * Pauses the issuing of permits for the given duration. Stored burst permits are discarded so that requests
+     * resume at the sustained rate once the pause has elapsed. Overlapping pauses are extended to the latest
+     * deadline.
+     *
+     * @param duration the pause duration
+     */
+    public synchronized void pause(@NonNull final Duration duration) {
+        final long resumeAtNanos = nanoTimeSource.getAsLong() + Math.max(0L, duration.toNanos());
+        // Permits accrue from this point so that the first permit becomes available when the pause elapses
+        nextFreePermitNanos = Math.max(nextFreePermitNanos, resumeAtNanos - (long) intervalNanos);
+        storedPermits = 0.0D;
+    }
+
+    /**
+     * Reserves the next permit and returns how long the caller must wait before using it, or {@code -1} without
+     * reserving it if the wait would exceed the given maximum. The next free permit time tracks when the most
+     * recently reserved permit becomes available, and permits accrue from that point. Waiting is performed outside
+     * of the lock so that concurrent callers are queued in order of reservation.
+     */
+    private synchronized long reserve(final long maxWaitNanos) {
+        final long nowNanos = nanoTimeSource.getAsLong();
+        if (nowNanos > nextFreePermitNanos) {
+            storedPermits = Math.min(burstSize, storedPermits + (nowNanos - nextFreePermitNanos) / intervalNanos);
+            nextFreePermitNanos = nowNanos;
+        }
+
+        final double permitsFromStore = Math.min(1.0D, storedPermits);
+        final long permitNanos = nextFreePermitNanos + (long) ((1.0D - permitsFromStore) * intervalNanos);
+        if (permitNanos - nowNanos > maxWaitNanos) {
+            return -1L;
+        }
+
+        storedPermits -= permitsFromStore;
+        nextFreePermitNanos = permitNanos;
+        return permitNanos - nowNanos;
+    }
+
+    /** Blocks the current thread for the given duration. */
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.retry;
+
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe budget that bounds the ratio of retries to successful requests so that retries cannot amplify an
+ * outage. The budget holds up to {@code maxTokens} tokens: each retryable failure withdraws one token and each
+ * success deposits {@code tokenRatio} tokens. Retries are only permitted while more than half of the tokens remain.
+ * <p>
+ * Once the service is failing consistently, the budget is drained and failures are returned immediately; it
+ * refills as requests start succeeding again. Share a single instance across clients that call the same service.
+ */
+public class RetryBudget {
+    private static final int DEFAULT_MAX_TOKENS = 10;
+    private static final double DEFAULT_TOKEN_RATIO = 0.1D;
+    private static final long MILLI_TOKENS_PER_TOKEN = 1000L;
+
+    private final long maxMilliTokens;
+    private final long thresholdMilliTokens;
+    private final long depositMilliTokens;
+    private final AtomicLong milliTokens;
+    private final LongAdder rejectedRetryCount = new LongAdder();
+
+    /**
+     * Creates a new {@code RetryBudget}.
+     *
+     * @param maxTokens the maximum number of tokens (defaults to 10)
+     * @param tokenRatio the number of tokens deposited for each success (defaults to 0.1, i.e., at most one retry
+     *                   for every ten successes once the initial tokens are spent)
+     */
+    @Builder
+    private RetryBudget(final Integer maxTokens, final Double tokenRatio) {
+        final int tokens = Objects.requireNonNullElse(maxTokens, DEFAULT_MAX_TOKENS);
+        final double ratio = Objects.requireNonNullElse(tokenRatio, DEFAULT_TOKEN_RATIO);
+        Validate.isTrue(tokens > 0, "maxTokens must be positive");
+        Validate.isTrue(ratio > 0.0D && ratio <= tokens, "tokenRatio must be positive and at most maxTokens");
+        this.maxMilliTokens = tokens * MILLI_TOKENS_PER_TOKEN;
+        this.thresholdMilliTokens = maxMilliTokens / 2L;
+        this.depositMilliTokens = Math.max(1L, Math.round(ratio * MILLI_TOKENS_PER_TOKEN));
+        this.milliTokens = new AtomicLong(maxMilliTokens);
+    }
+
+    /** Records a successful request. */
+    public void recordSuccess() {
+        if (milliTokens.get() >= maxMilliTokens) {
+            return;
+        }
+
+        milliTokens.accumulateAndGet(
+                depositMilliTokens,
+                (current, deposit) -> Math.min(maxMilliTokens, current + deposit));
+    }
+
+    /**
+     * Records a retryable failure and determines if it may be retried.
+     *
+     * @return {@code true} if the retry is permitted; else, {@code false}
+     */
+    public boolean recordFailure() {
+        final long remaining = milliTokens.accumulateAndGet(
+                MILLI_TOKENS_PER_TOKEN,
+                (current, withdrawal) -> Math.max(0L, current - withdrawal));
+        if (remaining > thresholdMilliTokens) {
+            return true;
+        }
+
+        rejectedRetryCount.increment();
+        return false;
+    }
+
+    /**
+     * Gets the number of tokens that remain.
+     *
+     * @return the number of tokens
+     */
+    public double getTokens() {
+        return (double) milliTokens.get() / MILLI_TOKENS_PER_TOKEN;
+    }
+
+    /**
+     * Gets the number of retries that were not permitted because the budget was exhausted.
+     *
+     * @return the rejected retry count
+     */
+    public long getRejectedRetryCount() {
+        return rejectedRetryCount.sum();
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.retry;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import com.amilesend.tmdb.client.connection.http.CallDeadline;
+import com.amilesend.tmdb.client.connection.ratelimit.RateLimitInterceptor;
+import com.amilesend.tmdb.client.connection.ratelimit.RetryAfter;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+
+/**
+ * An OkHttp {@link Interceptor} that retries transient failures: {@code 429 Too Many Requests} (honoring the
+ * {@code Retry-After} header), {@code 502}, {@code 503}, and {@code 504} responses, and I/O errors such as
+ * connection resets. Retries are delayed with exponential backoff and full jitter (i.e., a random delay between
+ * zero and {@code min(maxDelay, baseDelay * 2^attempt)}) so that clients that failed together do not retry
+ * together, and are bounded by a {@link RetryBudget}. A retry whose delay exceeds the remaining call timeout (e.g.,
+ * as defined by a {@link com.amilesend.tmdb.client.connection.http.TransportProfile}) is skipped, as the call would
+ * time out while waiting.
+ * <p>
+ * Only idempotent requests ({@code GET}, {@code HEAD}, {@code OPTIONS}, {@code PUT}, and {@code DELETE}) are
+ * retried by default, as retrying a {@code POST} (e.g., adding a movie to a list) after a failure whose outcome is
+ * unknown may apply it twice. Requests that are known to be safe to retry can be included via a custom
+ * {@code retryableRequestPredicate}:
+ * <pre>
+ * RetryInterceptor interceptor = RetryInterceptor.builder()
+ *         .retryableRequestPredicate(request -&gt; RetryInterceptor.isIdempotent(request)
+ *                 || request.url().encodedPath().endsWith("/rating"))
+ *         .build();
+ * </pre>
+ * Register as an application interceptor on the {@link okhttp3.OkHttpClient} so that both synchronous and
+ * asynchronous requests are retried. When used with a {@link RateLimitInterceptor}, register this interceptor first
+ * so that each retry is also throttled, and disable the retries of the rate limit interceptor (i.e.,
+ * {@code maxRetries(0)}) so that rate limited requests are only retried by this interceptor.
+ */
+@Slf4j
+public class RetryInterceptor implements Interceptor {
+    private static final Set<Integer> RETRYABLE_STATUS_CODES =
+            Set.of(RateLimitInterceptor.TOO_MANY_REQUESTS_STATUS_CODE, 502, 503, 504);
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE");
+    private static final int DEFAULT_MAX_RETRIES = 3;
+    private static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(100L);
+    private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(10L);
+    private static final Duration DEFAULT_MAX_RETRY_AFTER = Duration.ofSeconds(60L);
+
+    private final int maxRetries;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+    private final Duration maxRetryAfter;
+    /** The budget that bounds the number of retries. */
+    @Getter
+    private final RetryBudget retryBudget;
+    private final Predicate<Request> retryableRequestPredicate;
+    private final Clock clock;
+    private final LongUnaryOperator jitter;
+    private final LongSupplier nanoTimeSource;
+    private final Sleeper sleeper;
+
+    /**
+     * Creates a new {@code RetryInterceptor}.
+     *
+     * @param maxRetries the maximum number of retries per request (defaults to 3)
+     * @param baseDelay the backoff delay cap of the first retry that doubles for each subsequent retry (defaults
+     *                  to 100ms)
+     * @param maxDelay the maximum backoff delay cap (defaults to 10s)
+     * @param maxRetryAfter the maximum {@code Retry-After} duration to wait; a {@code 429} response that requests a
+     *                      longer wait is returned without a retry (defaults to 60s)
+     * @param retryBudget the budget that bounds the number of retries (defaults to a new {@link RetryBudget} with the
+     *                    default settings that only applies to the requests retried by this interceptor; define a
+     *                    shared budget to bound the retries of multiple interceptors, such as those of multiple
+     *                    {@code Tmdb} instances, together)
+     * @param retryableRequestPredicate determines which requests may be retried (defaults to
+     *                                  {@link #isIdempotent(Request)})
+     * @param clock the clock used to evaluate {@code Retry-After} dates (defaults to the system UTC clock)
+     */
+    @Builder
+    private RetryInterceptor(
+            final Integer maxRetries,
+            final Duration baseDelay,
+            final Duration maxDelay,
+            final Duration maxRetryAfter,
+            final RetryBudget retryBudget,
+            final Predicate<Request> retryableRequestPredicate,
+            final Clock clock) {
+        this(Objects.requireNonNullElse(maxRetries, DEFAULT_MAX_RETRIES),
+                Objects.requireNonNullElse(baseDelay, DEFAULT_BASE_DELAY),
+                Objects.requireNonNullElse(maxDelay, DEFAULT_MAX_DELAY),
+                Objects.requireNonNullElse(maxRetryAfter, DEFAULT_MAX_RETRY_AFTER),
+                Objects.requireNonNullElseGet(retryBudget, () -> RetryBudget.builder().build()),
+                Objects.requireNonNullElse(retryableRequestPredicate, RetryInterceptor::isIdempotent),
+                Objects.requireNonNullElse(clock, Clock.systemUTC()),
+                bound -> ThreadLocalRandom.current().nextLong(bound + 1L),
+                System::nanoTime,
+                TimeUnit.NANOSECONDS::sleep);
+    }
+
+    @VisibleForTesting
+    RetryInterceptor(
+            final int maxRetries,
+            @NonNull final Duration baseDelay,
+            @NonNull final Duration maxDelay,
+            @NonNull final Duration maxRetryAfter,
+            @NonNull final RetryBudget retryBudget,
+            @NonNull final Predicate<Request> retryableRequestPredicate,
+            @NonNull final Clock clock,
+            @NonNull final LongUnaryOperator jitter,
+            @NonNull final LongSupplier nanoTimeSource,
+            @NonNull final Sleeper sleeper) {
+        Validate.isTrue(maxRetries >= 0, "maxRetries must not be negative");
+        Validate.isTrue(!baseDelay.isNegative() && !baseDelay.isZero(), "baseDelay must be positive");
+        Validate.isTrue(maxDelay.compareTo(baseDelay) >= 0, "maxDelay must not be less than baseDelay");
+        this.maxRetries = maxRetries;
+        this.baseDelayNanos = baseDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.maxRetryAfter = maxRetryAfter;
+        this.retryBudget = retryBudget;
+        this.retryableRequestPredicate = retryableRequestPredicate;
+        this.clock = clock;
+        this.jitter = jitter;
+        this.nanoTimeSource = nanoTimeSource;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Determines if the request uses an idempotent method.
+     *
+     * @param request the request
+     * @return {@code true} if the request method is idempotent; else, {@code false}
+     */
+    public static boolean isIdempotent(@NonNull final Request request) {
+        return IDEMPOTENT_METHODS.contains(request.method());
+    }
+
+    @Override
+    public Response intercept(@NonNull final Chain chain) throws IOException {
+        final Request request = CallDeadline.attach(chain, nanoTimeSource.getAsLong());
+        if (maxRetries == 0 || !retryableRequestPredicate.test(request)) {
+            return chain.proceed(request);
+        }
+
+        int attempt = 0;
+        while (true) {
+            final Response response;
+            try {
+                response = chain.proceed(request);
+            } catch (final IOException ex) {
+                final long delayNanos = backoffNanos(attempt);
+                if (chain.call().isCanceled() || !shouldRetry(attempt) || !isWithinDeadline(request, delayNanos)) {
+                    throw ex;
+                }
+
+                log.debug("Retrying {} {} after error: {}",
+                        request.method(), request.url().encodedPath(), ex.getMessage());
+                sleep(delayNanos);
+                ++attempt;
+                continue;
+            }
+
+            if (!RETRYABLE_STATUS_CODES.contains(response.code())) {
+                retryBudget.recordSuccess();
+                return response;
+            }
+
+            long delayNanos = backoffNanos(attempt);
+            if (response.code() == RateLimitInterceptor.TOO_MANY_REQUESTS_STATUS_CODE) {
+                final Optional<Duration> retryAfter =
+                        RetryAfter.parse(response.header(RetryAfter.HEADER_NAME), clock);
+                if (retryAfter.isPresent() && retryAfter.get().compareTo(maxRetryAfter) > 0) {
+                    return response;
+                }
+                delayNanos = Math.max(delayNanos, retryAfter.map(Duration::toNanos).orElse(0L));
+            }
+
+            if (!shouldRetry(attempt) || !isWithinDeadline(request, delayNanos)) {
+                return response;
+            }
+
+            log.debug("Retrying {} {} after status {}",
+                    request.method(), request.url().encodedPath(), response.code());
+            response.close();
+            sleep(delayNanos);
+            ++attempt;
+        }
+    }
+
+    private boolean shouldRetry(final int attempt) {
+        // The budget records each retryable failure, including the last one, so that it reflects the failure rate
+        return retryBudget.recordFailure() && attempt < maxRetries;
+    }
+
+    private boolean isWithinDeadline(final Request request, final long delayNanos) {
+        if (delayNanos < CallDeadline.getRemainingNanos(request, nanoTimeSource.getAsLong())) {
+            return true;
+        }
+
+        log.debug("Not retrying {} {} as the delay exceeds the remaining call timeout",
+                request.method(), request.url().encodedPath());
+        return false;
+    }
+
+    private long backoffNanos(final int attempt) {
+        long cap = baseDelayNanos;
+        for (int i = 0; i < attempt && cap < maxDelayNanos; ++i) {
+            cap = cap > maxDelayNanos / 2L ? maxDelayNanos : cap << 1;
+        }
+
+        return jitter.applyAsLong(Math.min(cap, maxDelayNanos));
+    }
+
+    private void sleep(final long nanos) throws InterruptedIOException {
+        if (nanos <= 0L) {
+            return;
+        }
+
+        try {
+            sleeper.sleep(nanos);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry");
+        }
+    }
+
+    /** Blocks the current thread for the given duration. */
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.image;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.HttpUrl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A disk-backed cache of TMDB images that serves hits from memory-mapped files without a network request, and
+ * downloads misses via an {@link ImageDownloader}. Once the total size of the cached images exceeds the configured
+ * maximum, the least-recently-used images are deleted.
+ * <p>
+ * Images are stored by the SHA-256 digest of the image path (e.g., {@code /t/p/w342/abc.jpg}), which identifies the
+ * image content independently of the host and scheme that it was resolved with. Concurrent lookups of the same
+ * missing image share a single download. The cache index is rebuilt from the directory on creation, ordering
+ * existing images by their last modified time.
+ * <p>
+ * Example:
+ * <pre>
+ * DiskImageCache cache = DiskImageCache.builder()
+ *         .directory(Path.of("/var/cache/tmdb-images"))
+ *         .maxSizeBytes(2L * 1024L * 1024L * 1024L)
+ *         .downloader(downloader)
+ *         .build();
+ * ByteBuffer poster = cache.get(resolver.resolve(ImageType.POSTER, details.getPosterPath(), 300));
+ * </pre>
+ * Returned buffers are read-only views of the mapped file and remain valid after the image is evicted. As some
+ * platforms (e.g., Windows) cannot delete a file while it is mapped, eviction failures are logged and the file is
+ * removed from the index.
+ * <p>
+ * This class is thread-safe.
+ */
+@Slf4j
+public class DiskImageCache {
+    private static final long DEFAULT_MAX_SIZE_BYTES = 512L * 1024L * 1024L;
+    private static final String ENTRY_SUFFIX = ".img";
+    private static final String TEMP_FILE_SUFFIX = ".part";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final Path directory;
+    private final long maxSizeBytes;
+    private final ImageDownloader downloader;
+    private final ImageCacheStats stats = new ImageCacheStats();
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75F, true);
+    private final Map<String, CompletableFuture<ByteBuffer>> pendingLoads = new ConcurrentHashMap<>();
+    private long totalSizeBytes;
+
+    /**
+     * Creates a new {@code DiskImageCache}, creating the directory if needed and indexing any existing images.
+     *
+     * @param directory the directory that stores the cached images
+     * @param maxSizeBytes the maximum total size of the cached images (defaults to 512 MiB)
+     * @param downloader the downloader used to fetch images that are not cached
+     * @throws UncheckedIOException if the directory could not be created or read
+     */
+    @Builder
+    private DiskImageCache(
+            @NonNull final Path directory,
+            final Long maxSizeBytes,
+            @NonNull final ImageDownloader downloader) {
+        this.directory = directory;
+        this.maxSizeBytes = Objects.requireNonNullElse(maxSizeBytes, DEFAULT_MAX_SIZE_BYTES);
+        this.downloader = downloader;
+        Validate.isTrue(this.maxSizeBytes > 0L, "maxSizeBytes must be positive");
+        loadIndex();
+    }
+
+    /**
+     * Gets an image, downloading it if it is not cached.
+     *
+     * @param url the image URL
+     * @return a read-only buffer of the image bytes
+     * @throws RequestException if the request could not be sent or the image was not found
+     * @throws ResponseException if the response could not be read
+     * @throws UncheckedIOException if the cached image could not be read
+     */
+    public ByteBuffer get(@NonNull final HttpUrl url) {
+        try {
+            return getAsync(url).join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Asynchronously gets an image, downloading it if it is not cached. Hits complete immediately on the calling
+     * thread.
+     *
+     * @param url the image URL
+     * @return the future that completes with a read-only buffer of the image bytes
+     */
+    public CompletableFuture<ByteBuffer> getAsync(@NonNull final HttpUrl url) {
+        final String key = toKey(url);
+        final ByteBuffer cached = read(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        stats.recordMiss();
+        return load(key, url).thenApply(ByteBuffer::duplicate);
+    }
+
+    /**
+     * Gets an image only if it is cached.
+     *
+     * @param url the image URL
+     * @return a read-only buffer of the image bytes, or empty if the image is not cached
+     * @throws UncheckedIOException if the cached image could not be read
+     */
+    public Optional<ByteBuffer> getIfPresent(@NonNull final HttpUrl url) {
+        final ByteBuffer cached = read(toKey(url));
+        if (cached == null) {
+            stats.recordMiss();
+        }
+
+        return Optional.ofNullable(cached);
+    }
+
+    /**
+     * Determines if an image is cached. This does not affect the eviction order or statistics.
+     *
+     * @param url the image URL
+     * @return {@code true} if the image is cached; else, {@code false}
+     */
+    public synchronized boolean contains(@NonNull final HttpUrl url) {
+        return entries.containsKey(toKey(url));
+    }
+
+    /**
+     * Removes an image from the cache.
+     *
+     * @param url the image URL
+     */
+    public void invalidate(@NonNull final HttpUrl url) {
+        final String key = toKey(url);
+        synchronized (this) {
+            remove(key);
+        }
+        delete(key);
+    }
+
+    /** Removes all images from the cache. */
+    public void invalidateAll() {
+        final List<String> keys;
+        synchronized (this) {
+            keys = new ArrayList<>(entries.keySet());
+            entries.clear();
+            totalSizeBytes = 0L;
+        }
+        keys.forEach(this::delete);
+    }
+
+    /**
+     * Gets the number of cached images.
+     *
+     * @return the number of cached images
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the total size of the cached images.
+     *
+     * @return the total size in bytes
+     */
+    public synchronized long getSizeBytes() {
+        return totalSizeBytes;
+    }
+
+    /**
+     * Gets the cache statistics.
+     *
+     * @return the statistics
+     */
+    public ImageCacheStats getStats() {
+        return stats;
+    }
+
+    private ByteBuffer read(final String key) {
+        final long size;
+        synchronized (this) {
+            final Long entrySize = entries.get(key);
+            if (entrySize == null) {
+                return null;
+            }
+            size = entrySize;
+        }
+
+        try {
+            final ByteBuffer buffer = map(toPath(key), size);
+            stats.recordHit(size);
+            return buffer;
+        } catch (final NoSuchFileException ex) {
+            // Deleted externally or evicted concurrently
+            synchronized (this) {
+                remove(key);
+            }
+            return null;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Unable to read cached image " + key, ex);
+        }
+    }
+
+    private CompletableFuture<ByteBuffer> load(final String key, final HttpUrl url) {
+        final CompletableFuture<ByteBuffer> load = new CompletableFuture<>();
+        final CompletableFuture<ByteBuffer> existing = pendingLoads.putIfAbsent(key, load);
+        if (existing != null) {
+            return existing;
+        }
+
+        final Path path = toPath(key);
+        downloader.downloadAsync(url, path).whenComplete((size, ex) -> {
+            if (ex != null) {
+                pendingLoads.remove(key, load);
+                stats.recordLoadFailure();
+                load.completeExceptionally(ex instanceof CompletionException ? ex.getCause() : ex);
+                return;
+            }
+
+            try {
+                // Mapped before being indexed so that the image can be returned even if it is evicted immediately
+                final ByteBuffer buffer = map(path, size);
+                put(key, size);
+                pendingLoads.remove(key, load);
+                load.complete(buffer);
+            } catch (final IOException mapEx) {
+                pendingLoads.remove(key, load);
+                load.completeExceptionally(new UncheckedIOException("Unable to read cached image " + key, mapEx));
+            }
+        });
+
+        return load;
+    }
+
+    private void put(final String key, final long size) {
+        final List<String> evictedKeys = new ArrayList<>();
+        synchronized (this) {
+            final Long previous = entries.put(key, size);
+            if (previous != null) {
+                totalSizeBytes -= previous;
+            }
+            totalSizeBytes += size;
+
+            final Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+            while (totalSizeBytes > maxSizeBytes && iterator.hasNext()) {
+                final Map.Entry<String, Long> eldest = iterator.next();
+                totalSizeBytes -= eldest.getValue();
+                evictedKeys.add(eldest.getKey());
+                iterator.remove();
+            }
+        }
+
+        for (final String evictedKey : evictedKeys) {
+            stats.recordEviction();
+            delete(evictedKey);
+        }
+    }
+
+    private void remove(final String key) {
+        final Long removed = entries.remove(key);
+        if (removed != null) {
+            totalSizeBytes -= removed;
+        }
+    }
+
+    private void delete(final String key) {
+        try {
+            Files.deleteIfExists(toPath(key));
+        } catch (final IOException ex) {
+            log.warn("Unable to delete cached image {}: {}", key, ex.getMessage());
+        }
+    }
+
+    private static ByteBuffer map(final Path path, final long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0L, Math.min(size, channel.size()));
+        }
+    }
+
+    private void loadIndex() {
+        try {
+            Files.createDirectories(directory);
+            final List<Path> files;
+            try (Stream<Path> paths = Files.walk(directory, 2)) {
+                files = paths.filter(Files::isRegularFile).collect(Collectors.toList());
+            }
+
+            final List<Map.Entry<Path, BasicFileAttributes>> images = new ArrayList<>(files.size());
+            for (final Path file : files) {
+                final String fileName = file.getFileName().toString();
+                if (fileName.endsWith(TEMP_FILE_SUFFIX)) {
+                    // Left behind by an interrupted download
+                    Files.deleteIfExists(file);
+                } else if (fileName.endsWith(ENTRY_SUFFIX)) {
+                    images.add(Map.entry(file, Files.readAttributes(file, BasicFileAttributes.class)));
+                }
+            }
+
+            images.sort(Comparator.comparing(image -> image.getValue().lastModifiedTime()));
+            for (final Map.Entry<Path, BasicFileAttributes> image : images) {
+                final String fileName = image.getKey().getFileName().toString();
+                put(fileName.substring(0, fileName.length() - ENTRY_SUFFIX.length()), image.getValue().size());
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Unable to load the image cache from " + directory, ex);
+        }
+    }
+
+    private Path toPath(final String key) {
+        // Spreads the images across subdirectories to keep directory listings small
+        return directory.resolve(key.substring(0, 2)).resolve(key + ENTRY_SUFFIX);
+    }
+
+    private static String toKey(final HttpUrl url) {
+        final byte[] digest = newDigest().digest(url.encodedPath().getBytes(StandardCharsets.UTF_8));
+        final char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; ++i) {
+            hex[i * 2] = HEX_DIGITS[(digest[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX_DIGITS[digest[i] & 0xF];
+        }
+
+        return new String(hex);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException ex) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+}
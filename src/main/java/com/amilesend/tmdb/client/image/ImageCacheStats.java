@@ -0,0 +1,118 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.image;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** Tracks the effectiveness of a {@link DiskImageCache}. */
+public class ImageCacheStats {
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder hitBytes = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+
+    /**
+     * Gets the number of images served from the cache without a network request.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Gets the number of images that were not cached and were downloaded.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Gets the number of images evicted to keep the cache within its maximum size.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Gets the total number of bytes served from the cache (i.e., the egress avoided).
+     *
+     * @return the number of bytes served from the cache
+     */
+    public long getHitBytes() {
+        return hitBytes.sum();
+    }
+
+    /**
+     * Gets the number of image downloads that failed.
+     *
+     * @return the load failure count
+     */
+    public long getLoadFailureCount() {
+        return loadFailureCount.sum();
+    }
+
+    /**
+     * Gets the ratio of images served from the cache to the total number of cache lookups.
+     *
+     * @return the hit ratio, or {@code 0.0} if no lookups have occurred
+     */
+    public double getHitRatio() {
+        final long hits = getHitCount();
+        final long total = hits + getMissCount();
+        return total == 0L ? 0.0D : (double) hits / total;
+    }
+
+    void recordHit(final long bytes) {
+        hitCount.increment();
+        hitBytes.add(bytes);
+    }
+
+    void recordMiss() {
+        missCount.increment();
+    }
+
+    void recordEviction() {
+        evictionCount.increment();
+    }
+
+    void recordLoadFailure() {
+        loadFailureCount.increment();
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("ImageCacheStats(hitCount=")
+                .append(getHitCount())
+                .append(", missCount=")
+                .append(getMissCount())
+                .append(", evictionCount=")
+                .append(getEvictionCount())
+                .append(", hitBytes=")
+                .append(getHitBytes())
+                .append(", loadFailureCount=")
+                .append(getLoadFailureCount())
+                .append(")")
+                .toString();
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.image;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.util.Validate;
+import com.amilesend.tmdb.client.connection.FutureCallback;
+import com.amilesend.tmdb.client.util.BoundedAsyncExecutor;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.BufferedSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Downloads images (e.g., as resolved by {@link ImageUrlResolver}) with a bound on the number of concurrent
+ * transfers. Response bodies are streamed to the destination through a fixed-size transfer buffer, so memory use is
+ * independent of the image size.
+ * <p>
+ * Example:
+ * <pre>
+ * ImageDownloader downloader = ImageDownloader.builder()
+ *         .httpClient(new OkHttpClient())
+ *         .maxConcurrency(8)
+ *         .build();
+ * CompletableFuture&lt;Long&gt; future = downloader.downloadAsync(posterUrl, Path.of("/var/cache/posters/550.jpg"));
+ * </pre>
+ * Image requests are sent without the TMDB API credentials. Using a dedicated {@link OkHttpClient} (or one derived
+ * from the API client's via {@link OkHttpClient#newBuilder()} without its interceptors) keeps image transfers from
+ * consuming the API rate limit. Note that OkHttp's dispatcher limits the number of concurrent requests per host
+ * (5 by default), which also bounds the effective concurrency.
+ * <p>
+ * This class is thread-safe.
+ */
+@Slf4j
+public class ImageDownloader {
+    private static final int DEFAULT_MAX_CONCURRENCY = 8;
+    private static final int TRANSFER_BUFFER_SIZE = 16 * 1024;
+    private static final String TEMP_FILE_SUFFIX = ".part";
+
+    private final OkHttpClient httpClient;
+    private final int maxConcurrency;
+    private final Executor callbackExecutor;
+    private final Queue<PendingDownload> pendingDownloads = new ConcurrentLinkedQueue<>();
+    private final BoundedAsyncExecutor<Long> executor;
+
+    /**
+     * Creates a new {@code ImageDownloader}.
+     *
+     * @param httpClient the HTTP client used to download images
+     * @param maxConcurrency the maximum number of concurrent downloads (defaults to 8)
+     * @param callbackExecutor the executor used to complete the returned futures (defaults to the common pool)
+     */
+    @Builder
+    private ImageDownloader(
+            @NonNull final OkHttpClient httpClient,
+            final Integer maxConcurrency,
+            final Executor callbackExecutor) {
+        this.httpClient = httpClient;
+        this.maxConcurrency = Objects.requireNonNullElse(maxConcurrency, DEFAULT_MAX_CONCURRENCY);
+        this.callbackExecutor = Objects.requireNonNullElse(callbackExecutor, ForkJoinPool.commonPool());
+        Validate.isTrue(this.maxConcurrency > 0, "maxConcurrency must be positive");
+        this.executor = new BoundedAsyncExecutor<>(this.maxConcurrency, this::nextDownload);
+    }
+
+    /**
+     * Downloads an image to the given channel. The channel is not closed.
+     *
+     * @param url the image URL
+     * @param channel the destination channel
+     * @return the number of bytes written
+     * @throws RequestException if the request could not be sent or the image was not found
+     * @throws ResponseException if the response could not be read
+     */
+    public long download(@NonNull final HttpUrl url, @NonNull final WritableByteChannel channel) {
+        return join(downloadAsync(url, channel));
+    }
+
+    /**
+     * Downloads an image to the given file, replacing it if it exists.
+     *
+     * @param url the image URL
+     * @param file the destination file
+     * @return the number of bytes written
+     * @throws RequestException if the request could not be sent or the image was not found
+     * @throws ResponseException if the response could not be read
+     */
+    public long download(@NonNull final HttpUrl url, @NonNull final Path file) {
+        return join(downloadAsync(url, file));
+    }
+
+    /**
+     * Asynchronously downloads an image to the given channel. The channel is not closed and is only written to by
+     * a single thread. Cancelling the returned future cancels the download.
+     *
+     * @param url the image URL
+     * @param channel the destination channel
+     * @return the future that completes with the number of bytes written
+     */
+    public CompletableFuture<Long> downloadAsync(
+            @NonNull final HttpUrl url,
+            @NonNull final WritableByteChannel channel) {
+        return enqueue(url, source -> transfer(source, channel));
+    }
+
+    /**
+     * Asynchronously downloads an image to the given file, replacing it if it exists. The image is written to a
+     * temporary file in the same directory that is moved to the destination once complete, so the destination
+     * never contains a partial image. Cancelling the returned future cancels the download.
+     *
+     * @param url the image URL
+     * @param file the destination file
+     * @return the future that completes with the number of bytes written
+     */
+    public CompletableFuture<Long> downloadAsync(@NonNull final HttpUrl url, @NonNull final Path file) {
+        return enqueue(url, source -> transferToFile(source, file));
+    }
+
+    /**
+     * Gets the number of downloads that are waiting for a concurrency permit.
+     *
+     * @return the number of queued downloads
+     */
+    public int getQueuedCount() {
+        return pendingDownloads.size();
+    }
+
+    private CompletableFuture<Long> enqueue(final HttpUrl url, final BodyTransfer transfer) {
+        final PendingDownload download = new PendingDownload(url, transfer);
+        pendingDownloads.add(download);
+        executor.drain();
+        return download.future;
+    }
+
+    /** Gets the next queued download, skipping those that were cancelled while queued. */
+    private PendingDownload nextDownload() {
+        PendingDownload download;
+        do {
+            download = pendingDownloads.poll();
+        } while (download != null && download.future.isDone());
+
+        return download;
+    }
+
+    private static long transfer(final BufferedSource source, final WritableByteChannel channel)
+            throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(TRANSFER_BUFFER_SIZE);
+        long total = 0L;
+        int read;
+        while ((read = source.read(buffer)) != -1) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+            total += read;
+        }
+
+        return total;
+    }
+
+    private static long transferToFile(final BufferedSource source, final Path file) throws IOException {
+        final Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+
+        final Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+        try {
+            final long total;
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                total = transfer(source, channel);
+            }
+
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return total;
+        } catch (final IOException | RuntimeException ex) {
+            Files.deleteIfExists(tempFile);
+            throw ex;
+        }
+    }
+
+    private static long join(final CompletableFuture<Long> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    @FunctionalInterface
+    private interface BodyTransfer {
+        long transfer(BufferedSource source) throws IOException;
+    }
+
+    /**
+     * A queued download. The transfer completes on the HTTP client's thread, which releases the concurrency permit,
+     * and the returned future is then completed on the callback executor (or on the calling thread if the executor
+     * rejects it).
+     */
+    @RequiredArgsConstructor
+    private class PendingDownload implements Callback, BoundedAsyncExecutor.Task<Long> {
+        private final HttpUrl url;
+        private final BodyTransfer transfer;
+        /** The future returned to the caller. */
+        private final CompletableFuture<Long> future = new CompletableFuture<>();
+        /** The future of the transfer, which is completed on the HTTP client's thread. */
+        private final CompletableFuture<Long> transferFuture = new CompletableFuture<>();
+
+        @Override
+        public CompletableFuture<Long> start() {
+            final Call call = httpClient.newCall(new Request.Builder().url(url).get().build());
+            future.whenComplete((ignored, ex) -> {
+                if (future.isCancelled()) {
+                    call.cancel();
+                }
+            });
+            call.enqueue(this);
+            return transferFuture;
+        }
+
+        @Override
+        public void onFailure(@NonNull final Call call, @NonNull final IOException ex) {
+            transferFuture.completeExceptionally(future.isCancelled()
+                    ? new CancellationException()
+                    : new RequestException("Error executing request: " + ex.getMessage(), ex));
+        }
+
+        @Override
+        public void onResponse(@NonNull final Call call, @NonNull final Response response) {
+            try (response) {
+                FutureCallback.validateResponseCode(response);
+                transferFuture.complete(transfer.transfer(response.body().source()));
+            } catch (final IOException ex) {
+                transferFuture.completeExceptionally(
+                        new ResponseException("Error reading response: " + ex.getMessage(), ex));
+            } catch (final RuntimeException ex) {
+                transferFuture.completeExceptionally(ex);
+            }
+        }
+
+        @Override
+        public void onComplete(final Long bytesWritten, final Throwable cause) {
+            if (cause != null) {
+                log.debug("Image download from {} failed: {}", url, cause.getMessage());
+                FutureCallback.executeOrRun(callbackExecutor, () -> future.completeExceptionally(cause));
+            } else {
+                FutureCallback.executeOrRun(callbackExecutor, () -> future.complete(bytesWritten));
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.image;
+
+import com.amilesend.tmdb.client.model.configuration.type.ConfigurationImages;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/** Defines the types of images hosted by TMDB, each with its own set of supported sizes. */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public enum ImageType {
+    /** Movie and TV series backdrops. */
+    BACKDROP(ConfigurationImages::getBackdropSizes),
+    /** Company and network logos. */
+    LOGO(ConfigurationImages::getLogoSizes),
+    /** Movie, TV series, and season posters. */
+    POSTER(ConfigurationImages::getPosterSizes),
+    /** Person profile images. */
+    PROFILE(ConfigurationImages::getProfileSizes),
+    /** TV episode stills. */
+    STILL(ConfigurationImages::getStillSizes);
+
+    @Getter(AccessLevel.PACKAGE)
+    private final Function<ConfigurationImages, List<String>> sizesAccessor;
+}
@@ -0,0 +1,241 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.image;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import com.amilesend.tmdb.client.api.ConfigurationApi;
+import com.amilesend.tmdb.client.model.configuration.type.ConfigurationImages;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.HttpUrl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Resolves the URL of a TMDB-hosted image from its file path (e.g., {@code MovieDetails.getPosterPath()}) by
+ * combining the image base URL and supported sizes from {@link ConfigurationApi#getConfigurationDetails()}.
+ * <p>
+ * The configuration is fetched on first use and cached until the refresh interval elapses, as TMDB recommends
+ * that clients cache it rather than request it for each image. Sizes are selected as the smallest width that is
+ * at least the requested pixel width, so that an image can be displayed without upscaling while transferring
+ * as few bytes as possible.
+ * <p>
+ * Example:
+ * <pre>
+ * ImageUrlResolver resolver = ImageUrlResolver.builder()
+ *         .configurationApi(tmdb.getConfigurationApi())
+ *         .build();
+ * HttpUrl posterUrl = resolver.resolve(ImageType.POSTER, movie.getPosterPath(), 300); // e.g., .../w342/abc.jpg
+ * </pre>
+ * This class is thread-safe.
+ */
+@Slf4j
+public class ImageUrlResolver {
+    /** The size name that refers to the image as it was uploaded. */
+    public static final String ORIGINAL_SIZE = "original";
+
+    private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofDays(1L);
+    private static final String WIDTH_SIZE_PREFIX = "w";
+
+    private final ConfigurationApi configurationApi;
+    private final Duration refreshInterval;
+    private final boolean isSecure;
+    private final Clock clock;
+    private volatile CachedConfiguration cachedConfiguration;
+
+    /**
+     * Creates a new {@code ImageUrlResolver}.
+     *
+     * @param configurationApi the API used to fetch the image configuration
+     * @param refreshInterval the duration to cache the image configuration (defaults to 1 day)
+     * @param isSecure {@code true} to resolve URLs with the secure (HTTPS) base URL; else, {@code false}
+     *                 (defaults to {@code true})
+     * @param clock the clock used to determine when to refresh the image configuration (defaults to the UTC
+     *              system clock)
+     */
+    @Builder
+    private ImageUrlResolver(
+            @NonNull final ConfigurationApi configurationApi,
+            final Duration refreshInterval,
+            final Boolean isSecure,
+            final Clock clock) {
+        this.configurationApi = configurationApi;
+        this.refreshInterval = Objects.requireNonNullElse(refreshInterval, DEFAULT_REFRESH_INTERVAL);
+        this.isSecure = Objects.requireNonNullElse(isSecure, Boolean.TRUE);
+        this.clock = Objects.requireNonNullElse(clock, Clock.systemUTC());
+        Validate.isTrue(!this.refreshInterval.isNegative(), "refreshInterval must not be negative");
+    }
+
+    /**
+     * Resolves the URL of an image at the smallest supported size that is at least the given width.
+     *
+     * @param imageType the image type
+     * @param filePath the image file path (e.g., {@code "/abc.jpg"})
+     * @param minWidth the minimum width in pixels
+     * @return the image URL
+     * @see #selectSize(ImageType, int)
+     */
+    public HttpUrl resolve(@NonNull final ImageType imageType, @NonNull final String filePath, final int minWidth) {
+        final String path = toRelativePath(filePath);
+        return resolve(path, selectSize(imageType, minWidth));
+    }
+
+    /**
+     * Resolves the URL of an image as it was uploaded.
+     *
+     * @param filePath the image file path (e.g., {@code "/abc.jpg"})
+     * @return the image URL
+     */
+    public HttpUrl resolveOriginal(@NonNull final String filePath) {
+        return resolve(toRelativePath(filePath), ORIGINAL_SIZE);
+    }
+
+    /**
+     * Selects the smallest supported size for the image type whose width is at least the given width. If no
+     * supported width is large enough, then {@value #ORIGINAL_SIZE} is selected when supported; otherwise, the
+     * largest supported size is selected.
+     *
+     * @param imageType the image type
+     * @param minWidth the minimum width in pixels
+     * @return the size name (e.g., {@code "w342"})
+     */
+    public String selectSize(@NonNull final ImageType imageType, final int minWidth) {
+        return getConfiguration().sizeTables.get(imageType).select(minWidth);
+    }
+
+    /** Discards the cached image configuration so that it is fetched again on next use. */
+    public void invalidate() {
+        cachedConfiguration = null;
+    }
+
+    private static String toRelativePath(final String filePath) {
+        final String path = filePath.startsWith("/") ? filePath.substring(1) : filePath;
+        Validate.isTrue(!StringUtils.isBlank(path), "filePath must not be blank");
+        return path;
+    }
+
+    private HttpUrl resolve(final String path, final String size) {
+        return getConfiguration().baseUrl.newBuilder()
+                .addPathSegment(size)
+                .addPathSegments(path)
+                .build();
+    }
+
+    private CachedConfiguration getConfiguration() {
+        CachedConfiguration configuration = cachedConfiguration;
+        if (configuration != null && !configuration.isExpired(clock.instant())) {
+            return configuration;
+        }
+
+        synchronized (this) {
+            configuration = cachedConfiguration;
+            if (configuration == null || configuration.isExpired(clock.instant())) {
+                log.debug("Fetching the image configuration");
+                configuration = new CachedConfiguration(
+                        configurationApi.getConfigurationDetails().getImages(),
+                        isSecure,
+                        clock.instant().plus(refreshInterval));
+                cachedConfiguration = configuration;
+            }
+
+            return configuration;
+        }
+    }
+
+    private static class CachedConfiguration {
+        private final HttpUrl baseUrl;
+        private final Map<ImageType, SizeTable> sizeTables = new EnumMap<>(ImageType.class);
+        private final Instant expiration;
+
+        CachedConfiguration(final ConfigurationImages images, final boolean isSecure, final Instant expiration) {
+            Validate.notNull(images, "The configuration does not define the image settings");
+            final String baseUrl = isSecure ? images.getSecureBaseUrl() : images.getBaseUrl();
+            Validate.notBlank(baseUrl, "The configuration does not define the image base URL");
+            this.baseUrl = HttpUrl.get(baseUrl);
+            this.expiration = expiration;
+            for (final ImageType imageType : ImageType.values()) {
+                sizeTables.put(imageType, new SizeTable(imageType.getSizesAccessor().apply(images)));
+            }
+        }
+
+        boolean isExpired(final Instant now) {
+            return !now.isBefore(expiration);
+        }
+    }
+
+    /** Pre-parses the supported width-based sizes so that selection is a binary search. */
+    private static class SizeTable {
+        private final int[] widths;
+        private final String[] widthSizes;
+        private final String fallbackSize;
+
+        SizeTable(final List<String> sizes) {
+            final List<String> supportedSizes = Objects.requireNonNullElse(sizes, List.of());
+            final String[] sortedWidthSizes = supportedSizes.stream()
+                    .filter(size -> parseWidth(size) > 0)
+                    .sorted(Comparator.comparingInt(SizeTable::parseWidth))
+                    .toArray(String[]::new);
+            widthSizes = sortedWidthSizes;
+            widths = Arrays.stream(sortedWidthSizes).mapToInt(SizeTable::parseWidth).toArray();
+
+            if (supportedSizes.contains(ORIGINAL_SIZE) || supportedSizes.isEmpty()) {
+                fallbackSize = ORIGINAL_SIZE;
+            } else if (widthSizes.length > 0) {
+                fallbackSize = widthSizes[widthSizes.length - 1];
+            } else {
+                fallbackSize = supportedSizes.get(supportedSizes.size() - 1);
+            }
+        }
+
+        String select(final int minWidth) {
+            int index = Arrays.binarySearch(widths, minWidth);
+            if (index < 0) {
+                index = -index - 1;
+            }
+
+            return index < widths.length ? widthSizes[index] : fallbackSize;
+        }
+
+        private static int parseWidth(final String size) {
+            if (size == null || !size.startsWith(WIDTH_SIZE_PREFIX) || size.length() == 1) {
+                return -1;
+            }
+
+            int width = 0;
+            for (int i = 1; i < size.length(); ++i) {
+                final char c = size.charAt(i);
+                if (c < '0' || c > '9' || width > Integer.MAX_VALUE / 10) {
+                    return -1;
+                }
+                width = width * 10 + (c - '0');
+            }
+
+            return width;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.model;
+
+/**
+ * Defines a sub-resource that can be appended to a details response via the {@code append_to_response}
+ * query parameter, allowing multiple resources to be retrieved with a single request.
+ */
+public interface AppendToResponse {
+    /**
+     * Gets the value used within the {@code append_to_response} query parameter.
+     *
+     * @return the value
+     */
+    String getValue();
+}
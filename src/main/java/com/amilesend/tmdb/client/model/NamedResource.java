@@ -28,7 +28,7 @@ import lombok.experimental.SuperBuilder;
  * @param <T> the type of named resource
  * @see Resource
  */
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @Getter
 @ToString(callSuper = true)
 public abstract class NamedResource<K, T extends NamedResource> extends Resource<K, T> {
@@ -26,7 +26,8 @@ import java.util.List;
 @SuperBuilder
 @Getter
 @ToString(callSuper = true)
-public class PaginatedResourceResponse <T extends Resource> extends Resource<Integer, T> {
+public class PaginatedResourceResponse <T extends Resource> extends Resource<Integer, T>
+        implements PaginatedResponse<T> {
     /** The list of results. */
     private final List<T> results;
     /** The total number of pages available. */
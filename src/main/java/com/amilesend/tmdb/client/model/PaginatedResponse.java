@@ -0,0 +1,42 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.model;
+
+import java.util.List;
+
+/**
+ * Defines a response that contains a single page of results.
+ *
+ * @param <T> the result type
+ * @see com.amilesend.tmdb.client.api.Paginator
+ */
+public interface PaginatedResponse<T> {
+    /**
+     * Gets the results for the page.
+     *
+     * @return the list of results
+     */
+    List<T> getResults();
+
+    /**
+     * Gets the total number of pages available.
+     *
+     * @return the total number of pages
+     */
+    Integer getTotalPages();
+}
@@ -26,10 +26,11 @@ import java.util.List;
  * Defines a paginated response with a limited set of results.
  *
  * @param <T> the result type
+ * @see PaginatedResponse
  */
 @SuperBuilder
 @Data
-public abstract class PaginatedResponseBase<T> {
+public abstract class PaginatedResponseBase<T> implements PaginatedResponse<T> {
     /** The page number associated with the results. */
     private final Integer page;
     /** The list of results. */
@@ -20,10 +20,10 @@ package com.amilesend.tmdb.client.model;
 import com.amilesend.client.util.StringUtils;
 import okhttp3.HttpUrl;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import static com.amilesend.tmdb.client.parse.adapters.LocalDateTypeAdapter.FORMATTER;
 
@@ -38,7 +38,8 @@ public interface QueryParameterBasedRequest {
     HttpUrl.Builder populateQueryParameters(HttpUrl.Builder urlBuilder);
 
     /**
-     * Helper method to populate a query parameter if the value is not {@code null}.
+     * Helper method to populate a query parameter if the value is not {@code null}. The value is encoded once by
+     * the {@code HttpUrl.Builder} and must not be encoded beforehand.
      *
      * @param urlBuilder the URL builder
      * @param name the query parameter name
@@ -54,15 +55,15 @@ public interface QueryParameterBasedRequest {
         }
 
         if (value instanceof LocalDate) {
-            final String localDateStr = ((LocalDate) value).format(FORMATTER);
-            return urlBuilder.addQueryParameter(name, URLEncoder.encode(localDateStr, StandardCharsets.UTF_8));
+            return urlBuilder.addQueryParameter(name, ((LocalDate) value).format(FORMATTER));
         }
 
-        return urlBuilder.addQueryParameter(name, URLEncoder.encode(value.toString(), StandardCharsets.UTF_8));
+        return urlBuilder.addQueryParameter(name, value.toString());
     }
 
     /**
-     * Helper method to populate a query parameter if the string value is not blank.
+     * Helper method to populate a query parameter if the string value is not blank. The value is encoded once by
+     * the {@code HttpUrl.Builder} and must not be encoded beforehand.
      *
      * @param urlBuilder the URL builder
      * @param name the query parameter name
@@ -74,9 +75,35 @@ public interface QueryParameterBasedRequest {
             final String name,
             final String value) {
         if (StringUtils.isNotBlank(value)) {
-            urlBuilder.addQueryParameter(name, URLEncoder.encode(value, StandardCharsets.UTF_8));
+            urlBuilder.addQueryParameter(name, value);
         }
 
         return urlBuilder;
     }
+
+    /**
+     * Helper method to populate the {@code append_to_response} query parameter if the values are not empty.
+     * Values are de-duplicated and sorted so that equivalent requests produce the same URL.
+     *
+     * @param urlBuilder the URL builder
+     * @param values the sub-resources to append
+     * @return the builder
+     * @see AppendToResponse
+     */
+    static HttpUrl.Builder appendIfNotEmpty(
+            final HttpUrl.Builder urlBuilder,
+            final Collection<? extends AppendToResponse> values) {
+        if (Objects.isNull(values) || values.isEmpty()) {
+            return urlBuilder;
+        }
+
+        // Values are pre-defined URL-safe tokens and are joined as-is so that the delimiter is not escaped
+        final String joined = values.stream()
+                .filter(Objects::nonNull)
+                .map(AppendToResponse::getValue)
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+        return joined.isEmpty() ? urlBuilder : urlBuilder.addEncodedQueryParameter("append_to_response", joined);
+    }
 }
@@ -29,7 +29,7 @@ import java.util.Objects;
  * @param <K> the identifier type
  * @param <T> the type of resource
  */
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @Getter
 @ToString
 public abstract class Resource<K, T extends Resource> {
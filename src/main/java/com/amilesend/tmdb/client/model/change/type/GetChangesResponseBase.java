@@ -17,6 +17,7 @@
  */
 package com.amilesend.tmdb.client.model.change.type;
 
+import com.amilesend.tmdb.client.model.PaginatedResponse;
 import lombok.Data;
 import lombok.experimental.SuperBuilder;
 
@@ -26,10 +27,11 @@ import java.util.List;
  * Base class that defines the response that contains a list of changes.
  *
  * @see Change
+ * @see PaginatedResponse
  */
 @SuperBuilder
 @Data
-public abstract class GetChangesResponseBase {
+public abstract class GetChangesResponseBase implements PaginatedResponse<Change> {
     /** The list of changes. */
     private final List<Change> results;
     /** The page number. */
@@ -26,9 +26,6 @@ import lombok.Data;
 import lombok.NonNull;
 import okhttp3.HttpUrl;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
 import static com.amilesend.tmdb.client.model.QueryParameterBasedRequest.appendIfNotBlank;
 
 /**
@@ -64,7 +61,7 @@ public class RegionFilter implements QueryParameterBasedRequest {
             return urlBuilder;
         }
 
-        urlBuilder.addQueryParameter("region", URLEncoder.encode(region, StandardCharsets.UTF_8));
+        urlBuilder.addQueryParameter("region", region);
         appendIfNotBlank(urlBuilder, "certification", certification);
         appendIfNotBlank(urlBuilder, "certification.gte", certificationGte);
         appendIfNotBlank(urlBuilder, "certification.lte", certificationLte);
@@ -78,9 +75,7 @@ public class RegionFilter implements QueryParameterBasedRequest {
                     "RegionFilter must define a certification country when a certification is defined");
         }
 
-        return urlBuilder.addQueryParameter(
-                "certification_country",
-                URLEncoder.encode(certificationCountry, StandardCharsets.UTF_8));
+        return urlBuilder.addQueryParameter("certification_country", certificationCountry);
     }
 
     private boolean isCertificationFilterDefined() {
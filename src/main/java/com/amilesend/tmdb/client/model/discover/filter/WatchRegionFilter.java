@@ -26,9 +26,6 @@ import lombok.Data;
 import lombok.NonNull;
 import okhttp3.HttpUrl;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
 import static com.amilesend.tmdb.client.model.QueryParameterBasedRequest.appendIfNotBlank;
 
 /**
@@ -61,7 +58,7 @@ public class WatchRegionFilter implements QueryParameterBasedRequest {
             return urlBuilder;
         }
 
-        urlBuilder.addQueryParameter("watch_region", URLEncoder.encode(watchRegion, StandardCharsets.UTF_8));
+        urlBuilder.addQueryParameter("watch_region", watchRegion);
         appendIfNotBlank(urlBuilder, "with_watch_monetization_types", withWatchMonetizationTypes);
         appendIfNotBlank(urlBuilder, "with_watch_providers", withWatchProviders);
         appendIfNotBlank(urlBuilder, "without_watch_providers", withoutWatchProviders);
@@ -27,9 +27,6 @@ import lombok.Data;
 import lombok.NonNull;
 import okhttp3.HttpUrl;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
 import static com.amilesend.tmdb.client.model.QueryParameterBasedRequest.appendIfNotBlank;
 
 /**
@@ -55,9 +52,7 @@ public class FindByIdRequest implements QueryParameterBasedRequest {
         Validate.notBlank(externalId, "externalId must not be blank");
         Validate.notNull(externalSource, "externalSource must not be null");
 
-        urlBuilder.addQueryParameter(
-                "external_source",
-                URLEncoder.encode(externalSource.getValue(), StandardCharsets.UTF_8));
+        urlBuilder.addQueryParameter("external_source", externalSource.getValue());
         return appendIfNotBlank(urlBuilder, "language", language);
     }
 }
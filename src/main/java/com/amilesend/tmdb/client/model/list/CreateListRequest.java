@@ -28,9 +28,6 @@ import lombok.Data;
 import lombok.NonNull;
 import okhttp3.HttpUrl;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
 /**
  * The request to create a new list.
  *
@@ -61,6 +58,6 @@ public class CreateListRequest implements BodyBasedRequest, SessionBasedRequest
         Validate.notBlank(description, "description must not be blank");
         Validate.notBlank(language, "language must not be blank");
 
-        return urlBuilder.addQueryParameter("session_id", URLEncoder.encode(sessionId, StandardCharsets.UTF_8));
+        return urlBuilder.addQueryParameter("session_id", sessionId);
     }
 }
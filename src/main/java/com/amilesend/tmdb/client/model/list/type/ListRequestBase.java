@@ -27,9 +27,6 @@ import lombok.NonNull;
 import lombok.experimental.SuperBuilder;
 import okhttp3.HttpUrl;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
 /**
  * Defines a request that includes the list identifier.
  *
@@ -52,6 +49,6 @@ public abstract class ListRequestBase implements SessionBasedRequest {
         Validate.isTrue(listId > 0, "listId must be > 0");
         Validate.notBlank(sessionId, "sessionId must not be blank");
 
-        return urlBuilder.addQueryParameter("session_id", URLEncoder.encode(sessionId, StandardCharsets.UTF_8));
+        return urlBuilder.addQueryParameter("session_id", sessionId);
     }
 }
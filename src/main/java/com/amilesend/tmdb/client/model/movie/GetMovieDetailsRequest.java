@@ -18,6 +18,7 @@
 package com.amilesend.tmdb.client.model.movie;
 
 import com.amilesend.tmdb.client.model.QueryParameter;
+import com.amilesend.tmdb.client.model.movie.type.MovieAppendToResponse;
 import com.amilesend.tmdb.client.model.movie.type.MovieRequestBase;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -26,14 +27,17 @@ import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import okhttp3.HttpUrl;
 
+import java.util.Set;
+
 import static com.amilesend.tmdb.client.model.QueryParameterBasedRequest.appendIfNotBlank;
+import static com.amilesend.tmdb.client.model.QueryParameterBasedRequest.appendIfNotEmpty;
 
 /**
  * The request to fetch the details for a movie.
  *
  * @see MovieRequestBase
  */
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @Getter
 @EqualsAndHashCode(callSuper = true)
 @ToString(callSuper = true)
@@ -41,10 +45,15 @@ public class GetMovieDetailsRequest extends MovieRequestBase {
     /** The language (optional). */
     @QueryParameter
     private final String language;
+    /** The sub-resources to include within the response (optional). */
+    @QueryParameter
+    private final Set<MovieAppendToResponse> appendToResponse;
+
 
     @Override
     public HttpUrl.Builder populateQueryParameters(@NonNull HttpUrl.Builder urlBuilder) {
         urlBuilder = super.populateQueryParameters(urlBuilder);
-        return appendIfNotBlank(urlBuilder, "language", language);
+        urlBuilder = appendIfNotBlank(urlBuilder, "language", language);
+        return appendIfNotEmpty(urlBuilder, appendToResponse);
     }
 }
@@ -18,6 +18,8 @@
 package com.amilesend.tmdb.client.model.movie;
 
 import com.amilesend.tmdb.client.model.movie.type.MovieDetails;
+import com.google.gson.annotations.SerializedName;
+import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 
@@ -26,7 +28,37 @@ import lombok.experimental.SuperBuilder;
  *
  * @see MovieDetails
  */
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
+@Getter
 @ToString(callSuper = true)
 public class GetMovieDetailsResponse extends MovieDetails {
+    /** The alternative titles (only populated when appended to the response). */
+    private final GetAlternativeTitlesResponse alternativeTitles;
+    /** The changes (only populated when appended to the response). */
+    private final GetChangesResponse changes;
+    /** The credits (only populated when appended to the response). */
+    private final GetCreditsResponse credits;
+    /** The external identifiers (only populated when appended to the response). */
+    private final GetExternalIdsResponse externalIds;
+    /** The images (only populated when appended to the response). */
+    private final GetImagesResponse images;
+    /** The keywords (only populated when appended to the response). */
+    private final GetKeywordsResponse keywords;
+    /** The lists that include the movie (only populated when appended to the response). */
+    private final GetListsResponse lists;
+    /** The recommendations (only populated when appended to the response). */
+    private final GetRecommendationsResponse recommendations;
+    /** The release dates (only populated when appended to the response). */
+    private final GetReleaseDatesResponse releaseDates;
+    /** The reviews (only populated when appended to the response). */
+    private final GetReviewsResponse reviews;
+    /** The similar movies (only populated when appended to the response). */
+    private final GetSimilarResponse similar;
+    /** The translations (only populated when appended to the response). */
+    private final GetTranslationsResponse translations;
+    /** The videos (only populated when appended to the response). */
+    private final GetVideosResponse videos;
+    /** The streaming providers (only populated when appended to the response). */
+    @SerializedName("watch/providers")
+    private final GetWatchProvidersResponse watchProviders;
 }
@@ -0,0 +1,69 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.model.movie.type;
+
+import com.amilesend.tmdb.client.model.AppendToResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Defines the sub-resources that can be appended to a movie details response.
+ *
+ * @see com.amilesend.tmdb.client.model.movie.GetMovieDetailsRequest
+ * @see com.amilesend.tmdb.client.model.movie.GetMovieDetailsResponse
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MovieAppendToResponse implements AppendToResponse {
+    /** Appends the alternative titles. */
+    ALTERNATIVE_TITLES("alternative_titles"),
+    /** Appends the changes. */
+    CHANGES("changes"),
+    /** Appends the credits. */
+    CREDITS("credits"),
+    /** Appends the external identifiers. */
+    EXTERNAL_IDS("external_ids"),
+    /** Appends the images. */
+    IMAGES("images"),
+    /** Appends the keywords. */
+    KEYWORDS("keywords"),
+    /** Appends the lists that include the movie. */
+    LISTS("lists"),
+    /** Appends the recommendations. */
+    RECOMMENDATIONS("recommendations"),
+    /** Appends the release dates. */
+    RELEASE_DATES("release_dates"),
+    /** Appends the reviews. */
+    REVIEWS("reviews"),
+    /** Appends the similar movies. */
+    SIMILAR("similar"),
+    /** Appends the translations. */
+    TRANSLATIONS("translations"),
+    /** Appends the videos. */
+    VIDEOS("videos"),
+    /** Appends the streaming providers. */
+    WATCH_PROVIDERS("watch/providers");
+
+    /** The append_to_response value. */
+    private final String value;
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -34,7 +34,7 @@ import java.util.List;
  *
  * @see Resource
  */
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @Getter
 @ToString(callSuper = true)
 public class MovieDetails extends Resource<Integer, MovieDetails> {
@@ -30,7 +30,7 @@ import okhttp3.HttpUrl;
  *
  * @see QueryParameterBasedRequest
  */
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @Data
 public abstract class MovieRequestBase implements QueryParameterBasedRequest {
     /** The movie identifier (required). */
@@ -17,18 +17,38 @@
  */
 package com.amilesend.tmdb.client.model.people;
 
+import com.amilesend.tmdb.client.model.QueryParameter;
+import com.amilesend.tmdb.client.model.people.type.PersonAppendToResponse;
 import com.amilesend.tmdb.client.model.people.type.PersonIdAndLanguageRequestBase;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import okhttp3.HttpUrl;
+
+import java.util.Set;
+
+import static com.amilesend.tmdb.client.model.QueryParameterBasedRequest.appendIfNotEmpty;
 
 /**
  * The request to fetch the details about a person.
  *
  * @see PersonIdAndLanguageRequestBase
  */
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
+@Getter
 @EqualsAndHashCode(callSuper = true)
 @ToString(callSuper = true)
 public class GetPersonDetailsRequest extends PersonIdAndLanguageRequestBase {
+    /** The sub-resources to include within the response (optional). */
+    @QueryParameter
+    private final Set<PersonAppendToResponse> appendToResponse;
+
+
+    @Override
+    public HttpUrl.Builder populateQueryParameters(@NonNull final HttpUrl.Builder urlBuilder) {
+        super.populateQueryParameters(urlBuilder);
+        return appendIfNotEmpty(urlBuilder, appendToResponse);
+    }
 }
@@ -30,7 +30,7 @@ import java.util.List;
  *
  * @see NamedResource
  */
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @Getter
 @ToString(callSuper = true)
 public class GetPersonDetailsResponse extends NamedResource<Integer, GetPersonDetailsResponse> {
@@ -40,6 +40,8 @@ public class GetPersonDetailsResponse extends NamedResource<Integer, GetPersonDe
     private final List<String> alsoKnownAs;
     /** Biography. */
     private final String biography;
+    /** Date of birth, if available. */
+    private final LocalDate birthDate;
     /** Date of death, if available. */
     private final LocalDate deathDate;
     /** Gender identifier. */
@@ -56,4 +58,18 @@ public class GetPersonDetailsResponse extends NamedResource<Integer, GetPersonDe
     private final Double popularity;
     /** Relative path to the person's profile. */
     private final String profilePath;
+    /** The changes (only populated when appended to the response). */
+    private final GetChangesResponse changes;
+    /** The combined movie and TV credits (only populated when appended to the response). */
+    private final GetCombinedCreditsResponse combinedCredits;
+    /** The external identifiers (only populated when appended to the response). */
+    private final GetExternalIDsResponse externalIds;
+    /** The images (only populated when appended to the response). */
+    private final GetImagesResponse images;
+    /** The movie credits (only populated when appended to the response). */
+    private final GetMovieCreditsResponse movieCredits;
+    /** The translations (only populated when appended to the response). */
+    private final GetTranslationsResponse translations;
+    /** The TV credits (only populated when appended to the response). */
+    private final GetTvCreditsResponse tvCredits;
 }
@@ -0,0 +1,55 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.model.people.type;
+
+import com.amilesend.tmdb.client.model.AppendToResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Defines the sub-resources that can be appended to a person details response.
+ *
+ * @see com.amilesend.tmdb.client.model.people.GetPersonDetailsRequest
+ * @see com.amilesend.tmdb.client.model.people.GetPersonDetailsResponse
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PersonAppendToResponse implements AppendToResponse {
+    /** Appends the changes. */
+    CHANGES("changes"),
+    /** Appends the combined movie and TV credits. */
+    COMBINED_CREDITS("combined_credits"),
+    /** Appends the external identifiers. */
+    EXTERNAL_IDS("external_ids"),
+    /** Appends the images. */
+    IMAGES("images"),
+    /** Appends the movie credits. */
+    MOVIE_CREDITS("movie_credits"),
+    /** Appends the translations. */
+    TRANSLATIONS("translations"),
+    /** Appends the TV credits. */
+    TV_CREDITS("tv_credits");
+
+    /** The append_to_response value. */
+    private final String value;
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -33,7 +33,7 @@ import static com.amilesend.tmdb.client.model.QueryParameterBasedRequest.appendI
  *
  * @see PersonIdRequestBase
  */
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @Getter
 @EqualsAndHashCode(callSuper = true)
 @ToString(callSuper = true)
@@ -29,7 +29,7 @@ import okhttp3.HttpUrl;
  *
  * @see QueryParameterBasedRequest
  */
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @Data
 public class PersonIdRequestBase implements QueryParameterBasedRequest {
     /** The person identifier (required). */
@@ -25,9 +25,6 @@ import lombok.NonNull;
 import lombok.experimental.SuperBuilder;
 import okhttp3.HttpUrl;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
 import static com.amilesend.tmdb.client.model.QueryParameterBasedRequest.appendIfNotNull;
 
 /**
@@ -48,7 +45,7 @@ public class SearchRequestBase implements QueryParameterBasedRequest {
     @Override
     public HttpUrl.Builder populateQueryParameters(@NonNull final HttpUrl.Builder urlBuilder) {
         Validate.notBlank(query, "query must not be blank");
-        urlBuilder.addQueryParameter("query", URLEncoder.encode(query, StandardCharsets.UTF_8));
+        urlBuilder.addQueryParameter("query", query);
         return appendIfNotNull(urlBuilder, "page", page);
     }
 }
@@ -18,6 +18,7 @@
 package com.amilesend.tmdb.client.model.tv.episodes;
 
 import com.amilesend.tmdb.client.model.QueryParameter;
+import com.amilesend.tmdb.client.model.tv.episodes.type.EpisodeAppendToResponse;
 import com.amilesend.tmdb.client.model.tv.episodes.type.EpisodeRequestBase;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -26,7 +27,10 @@ import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import okhttp3.HttpUrl;
 
+import java.util.Set;
+
 import static com.amilesend.tmdb.client.model.QueryParameterBasedRequest.appendIfNotBlank;
+import static com.amilesend.tmdb.client.model.QueryParameterBasedRequest.appendIfNotEmpty;
 
 /**
  * The request to fetch the details for a TV episode.
@@ -41,10 +45,14 @@ public class GetEpisodeDetailsRequest extends EpisodeRequestBase {
     /** The optional language tag (defaults to en-US). */
     @QueryParameter
     private final String language;
+    /** The sub-resources to include within the response (optional). */
+    @QueryParameter
+    private final Set<EpisodeAppendToResponse> appendToResponse;
 
     @Override
     public HttpUrl.Builder populateQueryParameters(@NonNull HttpUrl.Builder urlBuilder) {
         urlBuilder = super.populateQueryParameters(urlBuilder);
-        return appendIfNotBlank(urlBuilder, "language", language);
+        urlBuilder = appendIfNotBlank(urlBuilder, "language", language);
+        return appendIfNotEmpty(urlBuilder, appendToResponse);
     }
 }
@@ -39,4 +39,14 @@ public class GetEpisodeDetailsResponse extends TvEpisode {
     private final List<CrewCredit> crew;
     /** The list of guest star credits. */
     private final List<CastCredit> guestStars;
+    /** The credits (only populated when appended to the response). */
+    private final GetCreditsResponse credits;
+    /** The external identifiers (only populated when appended to the response). */
+    private final GetExternalIdsResponse externalIds;
+    /** The images (only populated when appended to the response). */
+    private final GetImagesResponse images;
+    /** The translations (only populated when appended to the response). */
+    private final GetTranslationsResponse translations;
+    /** The videos (only populated when appended to the response). */
+    private final GetVideosResponse videos;
 }
@@ -18,6 +18,7 @@
 package com.amilesend.tmdb.client.model.tv.seasons;
 
 import com.amilesend.tmdb.client.model.QueryParameter;
+import com.amilesend.tmdb.client.model.tv.seasons.type.SeasonAppendToResponse;
 import com.amilesend.tmdb.client.model.tv.seasons.type.SeasonRequestBase;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -26,7 +27,10 @@ import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import okhttp3.HttpUrl;
 
+import java.util.Set;
+
 import static com.amilesend.tmdb.client.model.QueryParameterBasedRequest.appendIfNotBlank;
+import static com.amilesend.tmdb.client.model.QueryParameterBasedRequest.appendIfNotEmpty;
 
 /**
  * The request to fetch the details for a TV season.
@@ -41,10 +45,14 @@ public class GetSeasonDetailsRequest extends SeasonRequestBase {
     /** The optional language tag (defaults to en-US) (optional). */
     @QueryParameter
     private final String language;
+    /** The sub-resources to include within the response (optional). */
+    @QueryParameter
+    private final Set<SeasonAppendToResponse> appendToResponse;
 
     @Override
     public HttpUrl.Builder populateQueryParameters(@NonNull HttpUrl.Builder urlBuilder) {
         urlBuilder = super.populateQueryParameters(urlBuilder);
-        return appendIfNotBlank(urlBuilder, "language", language);
+        urlBuilder = appendIfNotBlank(urlBuilder, "language", language);
+        return appendIfNotEmpty(urlBuilder, appendToResponse);
     }
 }
@@ -19,6 +19,7 @@ package com.amilesend.tmdb.client.model.tv.seasons;
 
 import com.amilesend.tmdb.client.model.tv.episodes.GetEpisodeDetailsResponse;
 import com.amilesend.tmdb.client.model.tv.seasons.type.TvSeason;
+import com.google.gson.annotations.SerializedName;
 import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
@@ -36,4 +37,19 @@ import java.util.List;
 public class GetSeasonDetailsResponse extends TvSeason {
     /** The list of episode details. */
     private final List<GetEpisodeDetailsResponse> episodes;
+    /** The aggregate credits (only populated when appended to the response). */
+    private final GetAggregateCreditsResponse aggregateCredits;
+    /** The credits (only populated when appended to the response). */
+    private final GetCreditsResponse credits;
+    /** The external identifiers (only populated when appended to the response). */
+    private final GetExternalIdsResponse externalIds;
+    /** The images (only populated when appended to the response). */
+    private final GetImagesResponse images;
+    /** The translations (only populated when appended to the response). */
+    private final GetTranslationsResponse translations;
+    /** The videos (only populated when appended to the response). */
+    private final GetVideosResponse videos;
+    /** The streaming providers (only populated when appended to the response). */
+    @SerializedName("watch/providers")
+    private final GetWatchProvidersResponse watchProviders;
 }
@@ -18,6 +18,7 @@
 package com.amilesend.tmdb.client.model.tv.series;
 
 import com.amilesend.tmdb.client.model.QueryParameter;
+import com.amilesend.tmdb.client.model.tv.series.type.SeriesAppendToResponse;
 import com.amilesend.tmdb.client.model.tv.series.type.SeriesRequestBase;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -26,14 +27,17 @@ import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import okhttp3.HttpUrl;
 
+import java.util.Set;
+
 import static com.amilesend.tmdb.client.model.QueryParameterBasedRequest.appendIfNotBlank;
+import static com.amilesend.tmdb.client.model.QueryParameterBasedRequest.appendIfNotEmpty;
 
 /**
  * The request to fetch the details for a TV series.
  *
  * @see SeriesRequestBase
  */
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @Getter
 @EqualsAndHashCode(callSuper = true)
 @ToString(callSuper = true)
@@ -41,10 +45,15 @@ public class GetSeriesDetailsRequest extends SeriesRequestBase {
     /** The optional language tag (defaults to en-US) (optional). */
     @QueryParameter
     private final String language;
+    /** The sub-resources to include within the response (optional). */
+    @QueryParameter
+    private final Set<SeriesAppendToResponse> appendToResponse;
+
 
     @Override
     public HttpUrl.Builder populateQueryParameters(@NonNull HttpUrl.Builder urlBuilder) {
         urlBuilder = super.populateQueryParameters(urlBuilder);
-        return appendIfNotBlank(urlBuilder, "language", language);
+        urlBuilder = appendIfNotBlank(urlBuilder, "language", language);
+        return appendIfNotEmpty(urlBuilder, appendToResponse);
     }
 }
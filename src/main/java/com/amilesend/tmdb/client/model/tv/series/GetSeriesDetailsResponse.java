@@ -26,6 +26,7 @@ import com.amilesend.tmdb.client.model.type.Genre;
 import com.amilesend.tmdb.client.model.type.Language;
 import com.amilesend.tmdb.client.model.type.ProductionCompany;
 import com.amilesend.tmdb.client.model.type.ProductionCountry;
+import com.google.gson.annotations.SerializedName;
 import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
@@ -38,7 +39,7 @@ import java.util.List;
  *
  * @see NamedResource
  */
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @Getter
 @ToString(callSuper = true)
 public class GetSeriesDetailsResponse extends NamedResource<Integer, GetSeriesDetailsResponse> {
@@ -102,4 +103,39 @@ public class GetSeriesDetailsResponse extends NamedResource<Integer, GetSeriesDe
     private final Double voteAverage;
     /** The total number of votes for the series. */
     private final Integer voteCount;
+    /** The aggregate credits (only populated when appended to the response). */
+    private final GetAggregateCreditsResponse aggregateCredits;
+    /** The alternative titles (only populated when appended to the response). */
+    private final GetAlternativeTitlesResponse alternativeTitles;
+    /** The changes (only populated when appended to the response). */
+    private final GetChangesResponse changes;
+    /** The content ratings (only populated when appended to the response). */
+    private final GetContentRatingsResponse contentRatings;
+    /** The credits (only populated when appended to the response). */
+    private final GetCreditsResponse credits;
+    /** The episode groups (only populated when appended to the response). */
+    private final GetEpisodeGroupsResponse episodeGroups;
+    /** The external identifiers (only populated when appended to the response). */
+    private final GetExternalIdsResponse externalIds;
+    /** The images (only populated when appended to the response). */
+    private final GetImagesResponse images;
+    /** The keywords (only populated when appended to the response). */
+    private final GetKeywordsResponse keywords;
+    /** The lists that include the TV series (only populated when appended to the response). */
+    private final GetListsResponse lists;
+    /** The recommendations (only populated when appended to the response). */
+    private final GetRecommendationsResponse recommendations;
+    /** The reviews (only populated when appended to the response). */
+    private final GetReviewsResponse reviews;
+    /** The episodes screened theatrically (only populated when appended to the response). */
+    private final GetScreenedTheatricallyResponse screenedTheatrically;
+    /** The similar TV seriess (only populated when appended to the response). */
+    private final GetSimilarResponse similar;
+    /** The translations (only populated when appended to the response). */
+    private final GetTranslationsResponse translations;
+    /** The videos (only populated when appended to the response). */
+    private final GetVideosResponse videos;
+    /** The streaming providers (only populated when appended to the response). */
+    @SerializedName("watch/providers")
+    private final GetWatchProvidersResponse watchProviders;
 }
@@ -30,7 +30,7 @@ import okhttp3.HttpUrl;
  *
  * @see QueryParameterBasedRequest
  */
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @Data
 public class SeriesRequestBase implements QueryParameterBasedRequest {
     /** The TV series identifier (required). */
@@ -17,7 +17,9 @@
  */
 package com.amilesend.tmdb.client.model.type;
 
+import com.amilesend.client.parse.strategy.GsonExclude;
 import com.amilesend.tmdb.client.model.Resource;
+import com.google.gson.JsonElement;
 import com.google.gson.annotations.SerializedName;
 import lombok.Getter;
 import lombok.ToString;
@@ -49,4 +51,13 @@ public class ChangeItem<T> extends Resource<String, ChangeItem> {
     private final T value;
     /** The previous unchanged value. */
     private final T originalValue;
+    /**
+     * The changed value as JSON. As the shape of the value depends on the changed attribute, this is available even
+     * when the value cannot be represented as the value type (in which case {@link #getValue()} is {@code null}).
+     */
+    @GsonExclude
+    private final JsonElement rawValue;
+    /** The previous unchanged value as JSON. */
+    @GsonExclude
+    private final JsonElement rawOriginalValue;
 }
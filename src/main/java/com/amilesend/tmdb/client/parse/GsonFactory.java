@@ -22,41 +22,93 @@ import com.amilesend.client.parse.GsonFactoryBase;
 import com.amilesend.client.parse.strategy.AnnotationBasedExclusionStrategy;
 import com.amilesend.client.parse.strategy.AnnotationBasedSerializationExclusionStrategy;
 import com.amilesend.tmdb.client.model.search.type.MediaType;
-import com.amilesend.tmdb.client.model.search.type.PersonCredit;
-import com.amilesend.tmdb.client.model.search.type.SearchResult;
 import com.amilesend.tmdb.client.model.trending.type.TimeWindow;
 import com.amilesend.tmdb.client.model.tv.episodes.groups.type.TvEpisodeGroupType;
+import com.amilesend.tmdb.client.parse.adapters.ChangeItemTypeAdapterFactory;
+import com.amilesend.tmdb.client.parse.adapters.GeneratedModelTypeAdapterFactory;
 import com.amilesend.tmdb.client.parse.adapters.LocalDateTimeTypeAdapter;
 import com.amilesend.tmdb.client.parse.adapters.LocalDateTypeAdapter;
 import com.amilesend.tmdb.client.parse.adapters.LocalTimeTypeAdapter;
 import com.amilesend.tmdb.client.parse.adapters.MediaTypeTypeAdapter;
-import com.amilesend.tmdb.client.parse.adapters.PersonCreditDeserializer;
-import com.amilesend.tmdb.client.parse.adapters.SearchResultDeserializer;
+import com.amilesend.tmdb.client.parse.adapters.PersonCreditTypeAdapterFactory;
+import com.amilesend.tmdb.client.parse.adapters.SearchResultTypeAdapterFactory;
 import com.amilesend.tmdb.client.parse.adapters.TimeWindowTypeAdapter;
 import com.amilesend.tmdb.client.parse.adapters.TvEpisodeGroupTypeTypeAdapter;
 import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
 import io.gsonfire.GsonFireBuilder;
-import lombok.NoArgsConstructor;
+import lombok.NonNull;
 
+import java.lang.reflect.Type;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
-/** Factory that vends new pre-configured {@link Gson} instances. */
-@NoArgsConstructor
+/**
+ * Factory that vends pre-configured {@link Gson} instances. A single {@link Gson} instance is created and shared
+ * for each {@link Connection} so that the builder configuration and the created
+ * {@link com.google.gson.TypeAdapter}s are reused across all requests.
+ * <p>
+ * The concrete model types are adapted by the streaming adapters that are generated at build time (see
+ * {@link GeneratedModelTypeAdapterFactory}) rather than by reflection. The generated adapters assume the field
+ * naming policy and exclusion strategies configured here.
+ */
 public class GsonFactory extends GsonFactoryBase<Connection> {
-       @Override
+    private final Map<Connection, Gson> instances = Collections.synchronizedMap(new WeakHashMap<>());
+    private final List<Type> prewarmTypes;
+
+    /** Creates a new {@code GsonFactory} that creates {@link com.google.gson.TypeAdapter}s upon first use. */
+    public GsonFactory() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     * Creates a new {@code GsonFactory} that creates the {@link com.google.gson.TypeAdapter}s for the given types
+     * when the {@link Gson} instance for a connection is created, rather than on the first request that uses them.
+     *
+     * @param prewarmTypes the types to create adapters for
+     * @see ModelTypes#getBodyBasedRequestAndResponseTypes()
+     */
+    public GsonFactory(@NonNull final Collection<? extends Type> prewarmTypes) {
+        this.prewarmTypes = List.copyOf(prewarmTypes);
+    }
+
+    /**
+     * Gets the shared {@link Gson} instance for the given connection, creating it upon first use.
+     *
+     * @param connection the connection
+     * @return the Gson instance
+     */
+    @Override
+    public Gson getInstance(@NonNull final Connection connection) {
+        return instances.computeIfAbsent(connection, c -> prewarm(super.getInstance(c)));
+    }
+
+    private Gson prewarm(final Gson gson) {
+        prewarmTypes.forEach(type -> gson.getAdapter(TypeToken.get(type)));
+        return gson;
+    }
+
+    @Override
     protected GsonBuilder configure(final GsonBuilder gsonBuilder, final Connection connection) {
+        // Registered first, as later registrations take precedence over the generated model type adapters
         return gsonBuilder.setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .registerTypeAdapterFactory(new GeneratedModelTypeAdapterFactory())
                 .registerTypeAdapter(LocalDate.class, new LocalDateTypeAdapter())
                 .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeTypeAdapter())
                 .registerTypeAdapter(LocalTime.class, new LocalTimeTypeAdapter())
                 .registerTypeAdapter(MediaType.class, new MediaTypeTypeAdapter())
                 .registerTypeAdapter(TvEpisodeGroupType.class, new TvEpisodeGroupTypeTypeAdapter())
-                .registerTypeAdapter(SearchResult.class, new SearchResultDeserializer())
-                .registerTypeAdapter(PersonCredit.class, new PersonCreditDeserializer())
+                .registerTypeAdapterFactory(new SearchResultTypeAdapterFactory())
+                .registerTypeAdapterFactory(new PersonCreditTypeAdapterFactory())
+                .registerTypeAdapterFactory(new ChangeItemTypeAdapterFactory())
                 .registerTypeAdapter(TimeWindow.class, new TimeWindowTypeAdapter());
     }
 
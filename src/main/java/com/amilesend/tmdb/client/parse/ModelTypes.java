@@ -0,0 +1,45 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.parse;
+
+import com.amilesend.tmdb.client.model.BodyBasedRequest;
+import com.amilesend.tmdb.client.parse.adapters.GeneratedModelTypes;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Lists the request and response model types that are serialized or deserialized by the client so that their
+ * {@link com.google.gson.TypeAdapter}s can be created ahead of the first request. The types are enumerated at build
+ * time by the model type annotation processor (see {@link GeneratedModelTypes}), so no class path scanning is
+ * performed at runtime.
+ *
+ * @see GsonFactory
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ModelTypes {
+    /**
+     * Gets the concrete {@link BodyBasedRequest} and response types within the model package.
+     *
+     * @return the immutable list of request and response types
+     */
+    public static List<Class<?>> getBodyBasedRequestAndResponseTypes() {
+        return GeneratedModelTypes.BODY_BASED_REQUEST_AND_RESPONSE_TYPES;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.parse;
+
+import com.amilesend.client.parse.parser.GsonParser;
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Parses a response body by streaming it through a {@link JsonReader} as it is read from the connection. The body
+ * is decoded as UTF-8 directly from the response's Okio-backed byte stream and is never buffered into a
+ * {@code String} or {@code byte[]}, so peak heap per response is bounded by the deserialized model rather than by
+ * the size of the body.
+ * <p>
+ * The entire document must be consumed; trailing content after the top-level value is rejected.
+ *
+ * @param <T> the deserialized type
+ */
+public class StreamingParser<T> implements GsonParser<T> {
+    /** The type to deserialize. */
+    @Getter
+    private final TypeToken<T> typeToken;
+
+    /**
+     * Creates a new {@code StreamingParser} for the given class.
+     *
+     * @param type the deserialized type
+     */
+    public StreamingParser(@NonNull final Class<T> type) {
+        this(TypeToken.get(type));
+    }
+
+    /**
+     * Creates a new {@code StreamingParser} for the given type token (e.g., for parameterized types).
+     *
+     * @param typeToken the deserialized type
+     */
+    public StreamingParser(@NonNull final TypeToken<T> typeToken) {
+        this.typeToken = typeToken;
+    }
+
+    /**
+     * Creates a new {@code StreamingParser} that deserializes a JSON array into a {@link List}.
+     *
+     * @param elementType the list element type
+     * @return the parser
+     * @param <E> the list element type
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> StreamingParser<List<E>> forList(@NonNull final Class<E> elementType) {
+        return new StreamingParser<>((TypeToken<List<E>>) TypeToken.getParameterized(List.class, elementType));
+    }
+
+    @Override
+    public T parse(@NonNull final Gson gson, @NonNull final InputStream jsonStream) {
+        try (Reader reader = new InputStreamReader(jsonStream, StandardCharsets.UTF_8)) {
+            final JsonReader jsonReader = gson.newJsonReader(reader);
+            final T result = gson.fromJson(jsonReader, typeToken);
+            if (Objects.nonNull(result) && jsonReader.peek() != JsonToken.END_DOCUMENT) {
+                throw new JsonSyntaxException("JSON document was not fully consumed");
+            }
+            return result;
+        } catch (final MalformedJsonException ex) {
+            throw new JsonSyntaxException(ex);
+        } catch (final IOException ex) {
+            throw new JsonIOException(ex);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StreamingParser(" + typeToken + ")";
+    }
+}
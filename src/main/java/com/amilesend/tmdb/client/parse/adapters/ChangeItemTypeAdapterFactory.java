@@ -0,0 +1,128 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.parse.adapters;
+
+import com.amilesend.tmdb.client.model.type.ChangeItem;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+/**
+ * GSON type adapter factory for {@link ChangeItem}s. The shape of a change's value depends on the changed attribute
+ * (e.g., a string for {@code title}, a number for {@code runtime}, or an object for {@code images}), so the value is
+ * retained as raw JSON and is only converted to the declared value type when its shape matches. This prevents a
+ * single change of an unexpected shape from failing the deserialization of the entire response.
+ *
+ * @see ChangeItem#getRawValue()
+ */
+@Slf4j
+public class ChangeItemTypeAdapterFactory implements TypeAdapterFactory {
+    private static final String VALUE = "value";
+    private static final String ORIGINAL_VALUE = "original_value";
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(final Gson gson, final TypeToken<T> type) {
+        if (type.getRawType() != ChangeItem.class) {
+            return null;
+        }
+
+        final TypeAdapter<ChangeItem<Object>> delegate =
+                (TypeAdapter<ChangeItem<Object>>) gson.getDelegateAdapter(this, type);
+        final TypeAdapter<Object> valueAdapter = (TypeAdapter<Object>) gson.getAdapter(getValueType(type.getType()));
+        final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+        return (TypeAdapter<T>) new ChangeItemTypeAdapter(delegate, valueAdapter, elementAdapter);
+    }
+
+    private static TypeToken<?> getValueType(final Type changeItemType) {
+        if (changeItemType instanceof ParameterizedType) {
+            return TypeToken.get(((ParameterizedType) changeItemType).getActualTypeArguments()[0]);
+        }
+
+        return TypeToken.get(Object.class);
+    }
+
+    /** Reads the item attributes via the delegate adapter, and converts the values separately. */
+    private static class ChangeItemTypeAdapter extends TypeAdapter<ChangeItem<Object>> {
+        private final TypeAdapter<ChangeItem<Object>> delegate;
+        private final TypeAdapter<Object> valueAdapter;
+        private final TypeAdapter<JsonElement> elementAdapter;
+
+        ChangeItemTypeAdapter(
+                final TypeAdapter<ChangeItem<Object>> delegate,
+                final TypeAdapter<Object> valueAdapter,
+                final TypeAdapter<JsonElement> elementAdapter) {
+            this.delegate = delegate;
+            this.valueAdapter = valueAdapter;
+            this.elementAdapter = elementAdapter;
+        }
+
+        @Override
+        public void write(final JsonWriter out, final ChangeItem<Object> value) throws IOException {
+            delegate.write(out, value);
+        }
+
+        @Override
+        public ChangeItem<Object> read(final JsonReader in) throws IOException {
+            final JsonElement element = elementAdapter.read(in);
+            if (element == null || !element.isJsonObject()) {
+                return element == null || element.isJsonNull() ? null : delegate.fromJsonTree(element);
+            }
+
+            final JsonObject json = element.getAsJsonObject();
+            final JsonElement rawValue = json.remove(VALUE);
+            final JsonElement rawOriginalValue = json.remove(ORIGINAL_VALUE);
+            final ChangeItem<Object> item = delegate.fromJsonTree(json);
+            return ChangeItem.builder()
+                    .id(item.getId())
+                    .action(item.getAction())
+                    .time(item.getTime())
+                    .languageCode(item.getLanguageCode())
+                    .countryCode(item.getCountryCode())
+                    .value(convert(rawValue))
+                    .originalValue(convert(rawOriginalValue))
+                    .rawValue(rawValue)
+                    .rawOriginalValue(rawOriginalValue)
+                    .build();
+        }
+
+        private Object convert(final JsonElement rawValue) {
+            if (rawValue == null || rawValue.isJsonNull()) {
+                return null;
+            }
+
+            try {
+                return valueAdapter.fromJsonTree(rawValue);
+            } catch (final JsonParseException | IllegalStateException | UnsupportedOperationException ex) {
+                log.debug("Change value does not match the expected type: {}", rawValue);
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.parse.adapters;
+
+import com.amilesend.tmdb.client.model.search.type.MediaType;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.amilesend.tmdb.client.model.search.type.MediaType.MEDIA_TYPE_OBJ_NAME;
+
+/**
+ * Base GSON {@link TypeAdapterFactory} for polymorphic types whose concrete type is determined by the
+ * {@code media_type} attribute. Unlike a {@link com.google.gson.JsonDeserializer}, the JSON object is not first
+ * materialized as a {@link com.google.gson.JsonElement} tree. Instead, only the attributes that precede the
+ * {@code media_type} attribute are buffered as tokens, since it is not guaranteed to be the first attribute of the
+ * object. The concrete type's adapter then replays the buffered tokens and continues streaming the remainder of the
+ * object directly from the underlying reader.
+ *
+ * @param <T> the polymorphic base type
+ * @see SearchResultTypeAdapterFactory
+ * @see PersonCreditTypeAdapterFactory
+ */
+public abstract class MediaTypeDelegatingTypeAdapterFactory<T> implements TypeAdapterFactory {
+    /**
+     * Readers available for reuse by the current thread. A stack is used as polymorphic objects can be nested
+     * (e.g., the credits that a person search result is known for).
+     */
+    private static final ThreadLocal<Deque<PrefixReplayingJsonReader>> READERS =
+            ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final Class<T> baseType;
+    private final Map<MediaType, Class<? extends T>> concreteTypes;
+
+    /**
+     * Creates a new {@code MediaTypeDelegatingTypeAdapterFactory}.
+     *
+     * @param baseType the polymorphic base type
+     * @param concreteTypes the concrete types keyed by the supported media types
+     */
+    protected MediaTypeDelegatingTypeAdapterFactory(
+            @NonNull final Class<T> baseType,
+            @NonNull final Map<MediaType, Class<? extends T>> concreteTypes) {
+        this.baseType = baseType;
+        this.concreteTypes = new EnumMap<>(concreteTypes);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> TypeAdapter<R> create(final Gson gson, final TypeToken<R> typeToken) {
+        if (typeToken.getRawType() != baseType) {
+            return null;
+        }
+
+        final Map<MediaType, TypeAdapter<? extends T>> adapters = new EnumMap<>(MediaType.class);
+        concreteTypes.forEach((mediaType, concreteType) -> adapters.put(mediaType, gson.getAdapter(concreteType)));
+        return (TypeAdapter<R>) new MediaTypeDelegatingTypeAdapter(adapters).nullSafe();
+    }
+
+    /** Reads the media type once and delegates to the adapter for the associated concrete type. */
+    private class MediaTypeDelegatingTypeAdapter extends TypeAdapter<T> {
+        private final Map<MediaType, TypeAdapter<? extends T>> adapters;
+
+        MediaTypeDelegatingTypeAdapter(final Map<MediaType, TypeAdapter<? extends T>> adapters) {
+            this.adapters = adapters;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void write(final JsonWriter out, final T value) throws IOException {
+            for (final Map.Entry<MediaType, Class<? extends T>> entry : concreteTypes.entrySet()) {
+                if (entry.getValue() == value.getClass()) {
+                    ((TypeAdapter<T>) adapters.get(entry.getKey())).write(out, value);
+                    return;
+                }
+            }
+
+            throw new JsonParseException("Unsupported " + baseType.getSimpleName() + " type: " + value.getClass());
+        }
+
+        @Override
+        public T read(final JsonReader in) throws IOException {
+            final Deque<PrefixReplayingJsonReader> readers = READERS.get();
+            final PrefixReplayingJsonReader reader = Objects.requireNonNullElseGet(
+                    readers.poll(),
+                    PrefixReplayingJsonReader::new).reset(in);
+            try {
+                return read(in, reader);
+            } finally {
+                readers.push(reader.reset(null));
+            }
+        }
+
+        private T read(final JsonReader in, final PrefixReplayingJsonReader reader) throws IOException {
+            in.beginObject();
+            reader.buffer(JsonToken.BEGIN_OBJECT);
+
+            MediaType mediaType = null;
+            while (Objects.isNull(mediaType) && in.hasNext()) {
+                final String name = in.nextName();
+                reader.buffer(JsonToken.NAME, name);
+                if (MEDIA_TYPE_OBJ_NAME.equals(name) && in.peek() == JsonToken.STRING) {
+                    final String value = in.nextString();
+                    reader.buffer(JsonToken.STRING, value);
+                    mediaType = MediaType.fromValue(value);
+                    continue;
+                }
+
+                reader.bufferNext();
+            }
+
+            if (Objects.isNull(mediaType)) {
+                throw new JsonParseException("\"" + MEDIA_TYPE_OBJ_NAME + "\" does not exist");
+            }
+
+            final TypeAdapter<? extends T> adapter = adapters.get(mediaType);
+            if (Objects.isNull(adapter)) {
+                throw new JsonParseException("Unknown/unsupported media type: " + mediaType.name());
+            }
+
+            return adapter.read(reader);
+        }
+    }
+}
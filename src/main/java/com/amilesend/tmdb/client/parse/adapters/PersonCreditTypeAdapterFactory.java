@@ -0,0 +1,41 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.parse.adapters;
+
+import com.amilesend.tmdb.client.model.search.type.MediaType;
+import com.amilesend.tmdb.client.model.search.type.MovieCastCredit;
+import com.amilesend.tmdb.client.model.search.type.PersonCredit;
+import com.amilesend.tmdb.client.model.search.type.TvCastCredit;
+
+import java.util.Map;
+
+/**
+ * GSON type adapter factory that inspects the {@code media_type} attribute and returns the associated POJO type.
+ *
+ * @see PersonCredit
+ * @see MovieCastCredit
+ * @see TvCastCredit
+ */
+public class PersonCreditTypeAdapterFactory extends MediaTypeDelegatingTypeAdapterFactory<PersonCredit> {
+    /** Creates a new {@code PersonCreditTypeAdapterFactory}. */
+    public PersonCreditTypeAdapterFactory() {
+        super(PersonCredit.class, Map.of(
+                MediaType.MOVIE, MovieCastCredit.class,
+                MediaType.TV, TvCastCredit.class));
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.parse.adapters;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * A {@link JsonReader} that first replays a buffered prefix of tokens and then continues reading from the
+ * underlying {@code delegate} reader. This allows the attributes preceding a discriminator attribute (e.g.,
+ * {@code media_type}) to be consumed from the stream and then read again by the concrete type's adapter without
+ * buffering the remainder of the object.
+ * <p>
+ * Names and string values are buffered as {@link String}s, numbers are buffered with their original textual
+ * representation, and booleans are buffered as {@link Boolean}s.
+ */
+class PrefixReplayingJsonReader extends JsonReader {
+    private static final int INITIAL_CAPACITY = 32;
+    private static final Reader UNREADABLE_READER = new Reader() {
+        @Override
+        public int read(final char[] buffer, final int offset, final int count) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void close() {
+            throw new AssertionError();
+        }
+    };
+
+    private JsonReader delegate;
+    private JsonToken[] tokens = new JsonToken[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int size;
+    private int position;
+
+    /** Creates a new {@code PrefixReplayingJsonReader} that must be {@link #reset(JsonReader)} before use. */
+    PrefixReplayingJsonReader() {
+        super(UNREADABLE_READER);
+    }
+
+    /**
+     * Resets this reader to read from the given delegate with an empty buffer. As each {@link JsonReader} allocates
+     * its own internal character buffer, readers are reused rather than created for each object.
+     *
+     * @param delegate the underlying reader to continue reading from once the buffered prefix is consumed
+     * @return this reader
+     */
+    PrefixReplayingJsonReader reset(final JsonReader delegate) {
+        Arrays.fill(values, 0, size, null);
+        this.delegate = delegate;
+        size = 0;
+        position = 0;
+        return this;
+    }
+
+    /**
+     * Buffers a structural token (e.g., {@link JsonToken#BEGIN_OBJECT}) that was consumed from the delegate.
+     *
+     * @param token the token
+     */
+    void buffer(final JsonToken token) {
+        buffer(token, null);
+    }
+
+    /**
+     * Buffers the next name or value from the delegate, including all nested elements for objects and arrays.
+     *
+     * @throws IOException if an error occurred while reading from the delegate
+     */
+    void bufferNext() throws IOException {
+        final JsonToken token = delegate.peek();
+        switch (token) {
+            case BEGIN_ARRAY:
+                delegate.beginArray();
+                buffer(token);
+                while (delegate.hasNext()) {
+                    bufferNext();
+                }
+                delegate.endArray();
+                buffer(JsonToken.END_ARRAY);
+                break;
+            case BEGIN_OBJECT:
+                delegate.beginObject();
+                buffer(token);
+                while (delegate.hasNext()) {
+                    bufferNext();
+                    bufferNext();
+                }
+                delegate.endObject();
+                buffer(JsonToken.END_OBJECT);
+                break;
+            case NAME:
+                buffer(token, delegate.nextName());
+                break;
+            case STRING:
+            case NUMBER:
+                buffer(token, delegate.nextString());
+                break;
+            case BOOLEAN:
+                buffer(token, delegate.nextBoolean());
+                break;
+            case NULL:
+                delegate.nextNull();
+                buffer(token);
+                break;
+            default:
+                throw new IllegalStateException("Unexpected JSON token: " + token + delegate.getPath());
+        }
+    }
+
+    /**
+     * Buffers a name or value that was consumed from the delegate.
+     *
+     * @param token the token type
+     * @param value the name or value
+     */
+    void buffer(final JsonToken token, final Object value) {
+        if (size == tokens.length) {
+            tokens = Arrays.copyOf(tokens, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+
+        tokens[size] = token;
+        values[size++] = value;
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        if (isReplaying()) {
+            consume(JsonToken.BEGIN_ARRAY);
+            return;
+        }
+
+        delegate.beginArray();
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        if (isReplaying()) {
+            consume(JsonToken.END_ARRAY);
+            return;
+        }
+
+        delegate.endArray();
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        if (isReplaying()) {
+            consume(JsonToken.BEGIN_OBJECT);
+            return;
+        }
+
+        delegate.beginObject();
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        if (isReplaying()) {
+            consume(JsonToken.END_OBJECT);
+            return;
+        }
+
+        delegate.endObject();
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        final JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        return isReplaying() ? tokens[position] : delegate.peek();
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        return isReplaying() ? (String) consume(JsonToken.NAME) : delegate.nextName();
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        if (isReplaying()) {
+            return tokens[position] == JsonToken.NUMBER
+                    ? (String) consume(JsonToken.NUMBER)
+                    : (String) consume(JsonToken.STRING);
+        }
+
+        return delegate.nextString();
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        return isReplaying() ? (Boolean) consume(JsonToken.BOOLEAN) : delegate.nextBoolean();
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        if (isReplaying()) {
+            consume(JsonToken.NULL);
+            return;
+        }
+
+        delegate.nextNull();
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        return isReplaying() ? Double.parseDouble(nextNumber()) : delegate.nextDouble();
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        if (!isReplaying()) {
+            return delegate.nextLong();
+        }
+
+        final String value = nextNumber();
+        try {
+            return Long.parseLong(value);
+        } catch (final NumberFormatException ex) {
+            final double asDouble = Double.parseDouble(value);
+            final long result = (long) asDouble;
+            if (result != asDouble) {
+                throw new NumberFormatException("Expected a long but was " + value);
+            }
+
+            return result;
+        }
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        if (!isReplaying()) {
+            return delegate.nextInt();
+        }
+
+        final String value = nextNumber();
+        try {
+            return Integer.parseInt(value);
+        } catch (final NumberFormatException ex) {
+            final double asDouble = Double.parseDouble(value);
+            final int result = (int) asDouble;
+            if (result != asDouble) {
+                throw new NumberFormatException("Expected an int but was " + value);
+            }
+
+            return result;
+        }
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        if (!isReplaying()) {
+            delegate.skipValue();
+            return;
+        }
+
+        int depth = 0;
+        do {
+            final JsonToken token = tokens[position++];
+            if (token == JsonToken.BEGIN_ARRAY || token == JsonToken.BEGIN_OBJECT) {
+                ++depth;
+            } else if (token == JsonToken.END_ARRAY || token == JsonToken.END_OBJECT) {
+                --depth;
+            }
+        } while (depth > 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        position = size;
+        delegate.close();
+    }
+
+    @Override
+    public String getPath() {
+        return delegate.getPath();
+    }
+
+    @Override
+    public String getPreviousPath() {
+        return delegate.getPreviousPath();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + delegate.getPath();
+    }
+
+    private boolean isReplaying() {
+        return position < size;
+    }
+
+    private String nextNumber() {
+        final JsonToken token = tokens[position];
+        if (token != JsonToken.NUMBER && token != JsonToken.STRING) {
+            throw unexpectedToken(JsonToken.NUMBER);
+        }
+
+        return (String) values[position++];
+    }
+
+    private Object consume(final JsonToken expected) {
+        if (tokens[position] != expected) {
+            throw unexpectedToken(expected);
+        }
+
+        return values[position++];
+    }
+
+    private IllegalStateException unexpectedToken(final JsonToken expected) {
+        return new IllegalStateException("Expected " + expected + " but was " + tokens[position] + getPath());
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.parse.adapters;
+
+import com.amilesend.tmdb.client.model.search.type.MediaType;
+import com.amilesend.tmdb.client.model.search.type.MovieSearchResult;
+import com.amilesend.tmdb.client.model.search.type.PersonSearchResult;
+import com.amilesend.tmdb.client.model.search.type.SearchResult;
+import com.amilesend.tmdb.client.model.search.type.TvSeriesSearchResult;
+
+import java.util.Map;
+
+/**
+ * GSON type adapter factory that inspects the {@code media_type} attribute and returns the associated POJO type.
+ *
+ * @see SearchResult
+ * @see MovieSearchResult
+ * @see PersonSearchResult
+ * @see TvSeriesSearchResult
+ */
+public class SearchResultTypeAdapterFactory extends MediaTypeDelegatingTypeAdapterFactory<SearchResult> {
+    /** Creates a new {@code SearchResultTypeAdapterFactory}. */
+    public SearchResultTypeAdapterFactory() {
+        super(SearchResult.class, Map.of(
+                MediaType.MOVIE, MovieSearchResult.class,
+                MediaType.PERSON, PersonSearchResult.class,
+                MediaType.TV, TvSeriesSearchResult.class));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.sync;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.util.Set;
+
+/**
+ * The outcome of applying a resource's changes to its cached details.
+ *
+ * @param <T> the details type
+ * @see ChangeApplier
+ */
+@Builder
+@Getter
+@ToString
+public class AppliedChanges<T> {
+    /** The updated details (or the given details if no changes were applied). */
+    @NonNull
+    private final T details;
+    /** The changed attribute keys that were applied to the details. */
+    @NonNull
+    private final Set<String> appliedKeys;
+    /** The changed attribute keys that cannot be applied, and require the details to be refetched. */
+    @NonNull
+    private final Set<String> refetchKeys;
+
+    /**
+     * Determines if the details must be refetched to reflect all changes.
+     *
+     * @return {@code true} if the details must be refetched; else, {@code false}
+     */
+    public boolean isRefetchRequired() {
+        return !refetchKeys.isEmpty();
+    }
+}
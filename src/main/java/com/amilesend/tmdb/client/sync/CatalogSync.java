@@ -0,0 +1,234 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.sync;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.tmdb.client.Tmdb;
+import com.amilesend.tmdb.client.api.BatchResultSink;
+import com.amilesend.tmdb.client.api.ChangesApi;
+import com.amilesend.tmdb.client.api.MoviesApi;
+import com.amilesend.tmdb.client.api.PeopleApi;
+import com.amilesend.tmdb.client.api.TvSeriesApi;
+import com.amilesend.tmdb.client.model.movie.GetMovieDetailsRequest;
+import com.amilesend.tmdb.client.model.movie.GetMovieDetailsResponse;
+import com.amilesend.tmdb.client.model.people.GetPersonDetailsRequest;
+import com.amilesend.tmdb.client.model.people.GetPersonDetailsResponse;
+import com.amilesend.tmdb.client.model.tv.series.GetSeriesDetailsRequest;
+import com.amilesend.tmdb.client.model.tv.series.GetSeriesDetailsResponse;
+import com.amilesend.tmdb.client.util.IntHashSet;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+
+/**
+ * Keeps a local mirror of the TMDB catalog current by scanning the change feed for each resource type since the last
+ * checkpoint, and then refetching the details of each changed resource.
+ * <p>
+ * Each synchronization:
+ * <ol>
+ *   <li>scans all pages of the change feed from the last checkpoint (or the configured look-back for the first
+ *       synchronization) through today via a {@link ChangesScanner}, which de-duplicates the changed
+ *       identifiers;</li>
+ *   <li>refetches the details for each changed resource concurrently via the batch detail APIs and reports each
+ *       response (or failure) to the given sink; and</li>
+ *   <li>records today as the new checkpoint.</li>
+ * </ol>
+ * Example:
+ * <pre>
+ * CatalogSync sync = CatalogSync.builder()
+ *         .tmdb(tmdb)
+ *         .checkpointStore(new FileSyncCheckpointStore(Path.of("/var/lib/tmdb/checkpoints.properties")))
+ *         .maxConcurrency(8)
+ *         .build();
+ * SyncResult result = sync.syncMovies(GetMovieDetailsRequest.builder().build(), movieUpserter);
+ * </pre>
+ * The checkpoint advances once every changed resource has been reported to the sink, including those that failed
+ * (see {@link SyncResult#getFailedIds()}), as the sink is responsible for retrying them. The checkpoint does not
+ * advance if scanning the change feed fails. Since the current day is rescanned by the next synchronization,
+ * sinks should treat updates as idempotent upserts.
+ */
+@Slf4j
+public class CatalogSync {
+    private static final int DEFAULT_MAX_CONCURRENCY = 4;
+    private static final int DEFAULT_INITIAL_LOOKBACK_DAYS = 1;
+
+    private final ChangesApi changesApi;
+    private final MoviesApi moviesApi;
+    private final TvSeriesApi tvSeriesApi;
+    private final PeopleApi peopleApi;
+    private final SyncCheckpointStore checkpointStore;
+    private final int maxConcurrency;
+    private final int initialLookbackDays;
+    private final Clock clock;
+
+    /**
+     * Creates a new {@code CatalogSync}.
+     *
+     * @param tmdb the client used to access the change feeds and details APIs
+     * @param checkpointStore the store that persists the last synchronized date for each resource type
+     * @param maxConcurrency the maximum number of concurrent requests (defaults to 4)
+     * @param initialLookbackDays the number of days prior to today to scan when there is no checkpoint (defaults to 1)
+     * @param clock the clock used to determine the current date (defaults to the UTC system clock)
+     */
+    @Builder
+    private CatalogSync(
+            @NonNull final Tmdb tmdb,
+            @NonNull final SyncCheckpointStore checkpointStore,
+            final Integer maxConcurrency,
+            final Integer initialLookbackDays,
+            final Clock clock) {
+        this.changesApi = tmdb.getChangesApi();
+        this.moviesApi = tmdb.getMoviesApi();
+        this.tvSeriesApi = tmdb.getTvSeriesApi();
+        this.peopleApi = tmdb.getPeopleApi();
+        this.checkpointStore = checkpointStore;
+        this.maxConcurrency = Objects.requireNonNullElse(maxConcurrency, DEFAULT_MAX_CONCURRENCY);
+        this.initialLookbackDays = Objects.requireNonNullElse(initialLookbackDays, DEFAULT_INITIAL_LOOKBACK_DAYS);
+        this.clock = Objects.requireNonNullElse(clock, Clock.systemUTC());
+        Validate.isTrue(this.maxConcurrency > 0, "maxConcurrency must be positive");
+        Validate.isTrue(this.initialLookbackDays >= 0, "initialLookbackDays must not be negative");
+    }
+
+    /**
+     * Synchronizes the movies that changed since the last checkpoint.
+     *
+     * @param template the request that defines the parameters used to fetch each movie's details
+     * @param sink the sink that receives the refreshed details (or failure) for each changed movie
+     * @return the result
+     */
+    public SyncResult syncMovies(
+            @NonNull final GetMovieDetailsRequest template,
+            @NonNull final BatchResultSink<? super GetMovieDetailsResponse> sink) {
+        return sync(
+                SyncResourceType.MOVIE,
+                (ids, failureTracker) -> moviesApi.getMovieDetailsAsync(
+                        ids,
+                        template,
+                        maxConcurrency,
+                        new FailureTrackingSink<>(sink, failureTracker)));
+    }
+
+    /**
+     * Synchronizes the TV series that changed since the last checkpoint.
+     *
+     * @param template the request that defines the parameters used to fetch each TV series' details
+     * @param sink the sink that receives the refreshed details (or failure) for each changed TV series
+     * @return the result
+     */
+    public SyncResult syncTvSeries(
+            @NonNull final GetSeriesDetailsRequest template,
+            @NonNull final BatchResultSink<? super GetSeriesDetailsResponse> sink) {
+        return sync(
+                SyncResourceType.TV_SERIES,
+                (ids, failureTracker) -> tvSeriesApi.getSeriesDetailsAsync(
+                        ids,
+                        template,
+                        maxConcurrency,
+                        new FailureTrackingSink<>(sink, failureTracker)));
+    }
+
+    /**
+     * Synchronizes the people that changed since the last checkpoint.
+     *
+     * @param template the request that defines the parameters used to fetch each person's details
+     * @param sink the sink that receives the refreshed details (or failure) for each changed person
+     * @return the result
+     */
+    public SyncResult syncPeople(
+            @NonNull final GetPersonDetailsRequest template,
+            @NonNull final BatchResultSink<? super GetPersonDetailsResponse> sink) {
+        return sync(
+                SyncResourceType.PERSON,
+                (ids, failureTracker) -> peopleApi.getPersonDetailsAsync(
+                        ids,
+                        template,
+                        maxConcurrency,
+                        new FailureTrackingSink<>(sink, failureTracker)));
+    }
+
+    private SyncResult sync(
+            final SyncResourceType resourceType,
+            final BiFunction<IntHashSet, IntHashSet, CompletableFuture<Void>> detailsFetcher) {
+        final LocalDate endDate = LocalDate.now(clock);
+        final LocalDate startDate = checkpointStore.getLastSyncedDate(resourceType)
+                .filter(lastSyncedDate -> !lastSyncedDate.isAfter(endDate))
+                .orElseGet(() -> endDate.minusDays(initialLookbackDays));
+
+        final IntHashSet changedIds = ChangesScanner.builder()
+                .changesApi(changesApi)
+                .resourceType(resourceType)
+                .startDate(startDate)
+                .endDate(endDate)
+                .maxConcurrency(maxConcurrency)
+                .build()
+                .scan();
+        log.debug("Found {} changed {} resources between {} and {}",
+                changedIds.size(), resourceType, startDate, endDate);
+
+        final IntHashSet failedIds = new IntHashSet();
+        join(detailsFetcher.apply(changedIds, failedIds));
+        checkpointStore.setLastSyncedDate(resourceType, endDate);
+
+        return SyncResult.builder()
+                .resourceType(resourceType)
+                .startDate(startDate)
+                .endDate(endDate)
+                .changedCount(changedIds.size())
+                .failedIds(Collections.unmodifiableSet(failedIds))
+                .build();
+    }
+
+    private static void join(final CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+
+            throw ex;
+        }
+    }
+
+    /** Records the identifiers of failed lookups before delegating to the caller's sink. */
+    @RequiredArgsConstructor
+    private static class FailureTrackingSink<T> implements BatchResultSink<T> {
+        private final BatchResultSink<? super T> delegate;
+        private final IntHashSet failedIds;
+
+        @Override
+        public void onSuccess(final int id, final T result) {
+            delegate.onSuccess(id, result);
+        }
+
+        @Override
+        public void onFailure(final int id, final Throwable cause) {
+            failedIds.add(id);
+            delegate.onFailure(id, cause);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.sync;
+
+import com.amilesend.client.connection.Connection;
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.tmdb.client.model.movie.GetMovieDetailsResponse;
+import com.amilesend.tmdb.client.model.movie.GetMovieDetailsResponse.GetMovieDetailsResponseBuilder;
+import com.amilesend.tmdb.client.model.people.GetPersonDetailsResponse;
+import com.amilesend.tmdb.client.model.people.GetPersonDetailsResponse.GetPersonDetailsResponseBuilder;
+import com.amilesend.tmdb.client.model.tv.series.GetSeriesDetailsResponse;
+import com.amilesend.tmdb.client.model.tv.series.GetSeriesDetailsResponse.GetSeriesDetailsResponseBuilder;
+import com.amilesend.tmdb.client.model.type.Change;
+import com.amilesend.tmdb.client.model.type.ChangeItem;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import lombok.Builder;
+import lombok.NonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Map.entry;
+
+/**
+ * Applies the changes reported by a resource's change feed (e.g., {@code MoviesApi.getChanges}) to its cached
+ * details so that the details only need to be refetched when a structural attribute changed.
+ * <p>
+ * Scalar attributes (e.g., {@code title}, {@code overview}, {@code runtime}, {@code release_date}, and
+ * {@code poster_path}) are patched with the value of their most recent change item. Items for other languages than
+ * the configured language are ignored. All other attributes (e.g., {@code genres}, {@code images}, or
+ * {@code cast}) are reported via {@link AppliedChanges#getRefetchKeys()}. The changes are applied to a copy made with
+ * the details' builder, so all other attributes are retained as cached.
+ * <p>
+ * Example:
+ * <pre>
+ * ChangeApplier applier = ChangeApplier.builder()
+ *         .connection(tmdb.getConnection())
+ *         .build();
+ * AppliedChanges&lt;GetMovieDetailsResponse&gt; applied = applier.applyMovieChanges(
+ *         cachedDetails,
+ *         moviesApi.getChanges(GetChangesRequest.builder().movieId(cachedDetails.getId()).build()).getChanges());
+ * GetMovieDetailsResponse details = applied.isRefetchRequired()
+ *         ? moviesApi.getMovieDetails(GetMovieDetailsRequest.builder().movieId(cachedDetails.getId()).build())
+ *         : applied.getDetails();
+ * </pre>
+ */
+public class ChangeApplier {
+    private static final String DEFAULT_LANGUAGE_CODE = "en";
+    private static final String DELETED_ACTION = "deleted";
+    /** Patches the scalar movie attributes by their change key. */
+    private static final Map<String, AttributePatcher<GetMovieDetailsResponseBuilder<?, ?>>> MOVIE_ATTRIBUTES =
+            Map.ofEntries(
+                    entry("adult", attribute(Boolean.class, false, (b, v) -> b.adult(v))),
+                    entry("backdrop_path", attribute(String.class, (b, v) -> b.backdropPath(v))),
+                    entry("budget", attribute(Integer.class, 0, (b, v) -> b.budget(v))),
+                    entry("homepage", attribute(String.class, (b, v) -> b.homepage(v))),
+                    entry("imdb_id", attribute(String.class, (b, v) -> b.imdbId(v))),
+                    entry("original_language", attribute(String.class, (b, v) -> b.originalLanguage(v))),
+                    entry("original_title", attribute(String.class, (b, v) -> b.originalTitle(v))),
+                    entry("overview", attribute(String.class, (b, v) -> b.overview(v))),
+                    entry("poster_path", attribute(String.class, (b, v) -> b.posterPath(v))),
+                    entry("release_date", attribute(LocalDate.class, (b, v) -> b.releaseDate(v))),
+                    entry("revenue", attribute(Long.class, 0L, (b, v) -> b.revenue(v))),
+                    entry("runtime", attribute(Integer.class, 0, (b, v) -> b.runtime(v))),
+                    entry("status", attribute(String.class, (b, v) -> b.status(v))),
+                    entry("tagline", attribute(String.class, (b, v) -> b.tagline(v))),
+                    entry("title", attribute(String.class, (b, v) -> b.title(v))),
+                    entry("video", attribute(Boolean.class, false, (b, v) -> b.video(v))));
+    /** Patches the scalar TV series attributes by their change key. */
+    private static final Map<String, AttributePatcher<GetSeriesDetailsResponseBuilder<?, ?>>> SERIES_ATTRIBUTES =
+            Map.ofEntries(
+                    entry("adult", attribute(Boolean.class, (b, v) -> b.adult(v))),
+                    entry("backdrop_path", attribute(String.class, (b, v) -> b.backdropPath(v))),
+                    entry("first_air_date", attribute(LocalDate.class, (b, v) -> b.firstAirDate(v))),
+                    entry("homepage", attribute(String.class, (b, v) -> b.homepage(v))),
+                    entry("in_production", attribute(Boolean.class, (b, v) -> b.inProduction(v))),
+                    entry("last_air_date", attribute(LocalDate.class, (b, v) -> b.lastAirDate(v))),
+                    entry("name", attribute(String.class, (b, v) -> b.name(v))),
+                    entry("number_of_episodes", attribute(Integer.class, (b, v) -> b.numberOfEpisodes(v))),
+                    entry("number_of_seasons", attribute(Integer.class, (b, v) -> b.numberOfSeasons(v))),
+                    entry("original_language", attribute(String.class, (b, v) -> b.originalLanguage(v))),
+                    entry("original_name", attribute(String.class, (b, v) -> b.originalName(v))),
+                    entry("overview", attribute(String.class, (b, v) -> b.overview(v))),
+                    entry("poster_path", attribute(String.class, (b, v) -> b.posterPath(v))),
+                    entry("status", attribute(String.class, (b, v) -> b.status(v))),
+                    entry("tagline", attribute(String.class, (b, v) -> b.tagline(v))),
+                    entry("type", attribute(String.class, (b, v) -> b.type(v))));
+    /** Patches the scalar person attributes by their change key. */
+    private static final Map<String, AttributePatcher<GetPersonDetailsResponseBuilder<?, ?>>> PERSON_ATTRIBUTES =
+            Map.ofEntries(
+                    entry("adult", attribute(Boolean.class, (b, v) -> b.adult(v))),
+                    entry("biography", attribute(String.class, (b, v) -> b.biography(v))),
+                    entry("birthday", attribute(LocalDate.class, (b, v) -> b.birthDate(v))),
+                    entry("deathday", attribute(LocalDate.class, (b, v) -> b.deathDate(v))),
+                    entry("gender", attribute(Integer.class, (b, v) -> b.gender(v))),
+                    entry("homepage", attribute(String.class, (b, v) -> b.homepage(v))),
+                    entry("imdb_id", attribute(String.class, (b, v) -> b.imdbId(v))),
+                    entry("known_for_department", attribute(String.class, (b, v) -> b.knownForDepartment(v))),
+                    entry("name", attribute(String.class, (b, v) -> b.name(v))),
+                    entry("place_of_birth", attribute(String.class, (b, v) -> b.placeOfBirth(v))),
+                    entry("profile_path", attribute(String.class, (b, v) -> b.profilePath(v))));
+    private static final Comparator<ChangeItem<?>> BY_TIME = Comparator.comparing(
+            ChangeItem::getTime,
+            Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()));
+
+    private final Gson gson;
+    private final String languageCode;
+
+    /**
+     * Creates a new {@code ChangeApplier}.
+     *
+     * @param connection the connection whose {@link Gson} instance is used to patch the details
+     * @param languageCode the ISO-639-1 language code of the cached details (defaults to "en")
+     */
+    @Builder
+    private ChangeApplier(@NonNull final Connection connection, final String languageCode) {
+        this.gson = connection.getGsonFactory().getInstance(connection);
+        this.languageCode = Objects.requireNonNullElse(languageCode, DEFAULT_LANGUAGE_CODE);
+    }
+
+    /**
+     * Applies the changes for a movie to its cached details.
+     *
+     * @param details the cached details
+     * @param changes the changes for the movie
+     * @return the outcome
+     */
+    public AppliedChanges<GetMovieDetailsResponse> applyMovieChanges(
+            @NonNull final GetMovieDetailsResponse details,
+            @NonNull final List<? extends Change<?>> changes) {
+        return apply(details, details::toBuilder, GetMovieDetailsResponseBuilder::build, MOVIE_ATTRIBUTES, changes);
+    }
+
+    /**
+     * Applies the changes for a TV series to its cached details.
+     *
+     * @param details the cached details
+     * @param changes the changes for the TV series
+     * @return the outcome
+     */
+    public AppliedChanges<GetSeriesDetailsResponse> applySeriesChanges(
+            @NonNull final GetSeriesDetailsResponse details,
+            @NonNull final List<? extends Change<?>> changes) {
+        return apply(details, details::toBuilder, GetSeriesDetailsResponseBuilder::build, SERIES_ATTRIBUTES, changes);
+    }
+
+    /**
+     * Applies the changes for a person to their cached details.
+     *
+     * @param details the cached details
+     * @param changes the changes for the person
+     * @return the outcome
+     */
+    public AppliedChanges<GetPersonDetailsResponse> applyPersonChanges(
+            @NonNull final GetPersonDetailsResponse details,
+            @NonNull final List<? extends Change<?>> changes) {
+        return apply(details, details::toBuilder, GetPersonDetailsResponseBuilder::build, PERSON_ATTRIBUTES, changes);
+    }
+
+    private <T, B> AppliedChanges<T> apply(
+            final T details,
+            final Supplier<B> toBuilder,
+            final Function<B, ? extends T> build,
+            final Map<String, AttributePatcher<B>> patchers,
+            final List<? extends Change<?>> changes) {
+        final Set<String> appliedKeys = new TreeSet<>();
+        final Set<String> refetchKeys = new TreeSet<>();
+        B builder = null;
+        for (final Change<?> change : changes) {
+            final String key = change.getKey();
+            final Optional<? extends ChangeItem<?>> latestItem = getLatestItem(change);
+            if (key == null || latestItem.isEmpty()) {
+                continue;
+            }
+
+            final AttributePatcher<B> patcher = patchers.get(key);
+            final Optional<JsonElement> value = getScalarValue(latestItem.get());
+            if (patcher == null || value.isEmpty()) {
+                refetchKeys.add(key);
+                continue;
+            }
+
+            if (builder == null) {
+                builder = toBuilder.get();
+            }
+
+            patcher.patch(gson, builder, value.get());
+            appliedKeys.add(key);
+        }
+
+        return AppliedChanges.<T>builder()
+                .details(builder == null ? details : build.apply(builder))
+                .appliedKeys(Collections.unmodifiableSet(appliedKeys))
+                .refetchKeys(Collections.unmodifiableSet(refetchKeys))
+                .build();
+    }
+
+    private Optional<? extends ChangeItem<?>> getLatestItem(final Change<?> change) {
+        return Optional.ofNullable(change.getItems())
+                .orElse(Collections.emptyList())
+                .stream()
+                .filter(item -> StringUtils.isBlank(item.getLanguageCode())
+                        || languageCode.equalsIgnoreCase(item.getLanguageCode()))
+                .max(BY_TIME);
+    }
+
+    private static <B, V> AttributePatcher<B> attribute(final Class<V> type, final BiConsumer<B, V> setter) {
+        return attribute(type, null, setter);
+    }
+
+    /**
+     * Creates a patcher that reads the attribute's value with the adapter for its type and sets it on the builder.
+     *
+     * @param type the attribute type
+     * @param deletedValue the value to set if the attribute was deleted
+     * @param setter sets the attribute on the builder
+     */
+    private static <B, V> AttributePatcher<B> attribute(
+            final Class<V> type,
+            final V deletedValue,
+            final BiConsumer<B, V> setter) {
+        return (gson, builder, value) ->
+                setter.accept(builder, value.isJsonNull() ? deletedValue : gson.getAdapter(type).fromJsonTree(value));
+    }
+
+    /** Gets the new value of the item if it is a scalar (or null if the value was deleted). */
+    private static Optional<JsonElement> getScalarValue(final ChangeItem<?> item) {
+        if (DELETED_ACTION.equals(item.getAction())) {
+            return Optional.of(JsonNull.INSTANCE);
+        }
+
+        final JsonElement value = item.getRawValue();
+        return value != null && (value.isJsonPrimitive() || value.isJsonNull())
+                ? Optional.of(value)
+                : Optional.empty();
+    }
+
+    /** Sets an attribute's new value on the builder of the patched details. */
+    @FunctionalInterface
+    private interface AttributePatcher<B> {
+        void patch(Gson gson, B builder, JsonElement value);
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.sync;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.tmdb.client.api.ChangesApi;
+import com.amilesend.tmdb.client.model.change.GetMovieChangesRequest;
+import com.amilesend.tmdb.client.model.change.GetPersonChangesRequest;
+import com.amilesend.tmdb.client.model.change.GetTvChangesRequest;
+import com.amilesend.tmdb.client.model.change.type.Change;
+import com.amilesend.tmdb.client.model.change.type.GetChangesResponseBase;
+import com.amilesend.tmdb.client.util.BoundedAsyncExecutor;
+import com.amilesend.tmdb.client.util.IntHashSet;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Scans the change feed of a resource type for an arbitrary date range. As the service limits each changes query to
+ * 14 days, the date range is split into consecutive windows of up to 14 days. The first page of each window is
+ * fetched concurrently, and the remaining pages of a window are fetched as soon as its total number of pages is
+ * known, with at most {@code maxConcurrency} requests in-flight overall.
+ * <p>
+ * Example:
+ * <pre>
+ * IntHashSet changedMovieIds = ChangesScanner.builder()
+ *         .changesApi(tmdb.getChangesApi())
+ *         .resourceType(SyncResourceType.MOVIE)
+ *         .startDate(LocalDate.of(2024, 1, 1))
+ *         .endDate(LocalDate.of(2024, 6, 30))
+ *         .maxConcurrency(8)
+ *         .build()
+ *         .scan();
+ * </pre>
+ * Note that the number of concurrent requests is also bounded by the {@code OkHttpClient}'s
+ * {@link okhttp3.Dispatcher} (by default, 5 requests per host).
+ *
+ * @see CatalogSync
+ */
+public class ChangesScanner {
+    /** The maximum number of days (inclusive) that the service allows within a single changes query. */
+    public static final int MAX_WINDOW_DAYS = 14;
+    private static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+    private final ChangesApi changesApi;
+    private final SyncResourceType resourceType;
+    private final List<Window> windows;
+    private final int maxConcurrency;
+
+    /**
+     * Creates a new {@code ChangesScanner}.
+     *
+     * @param changesApi the changes API
+     * @param resourceType the type of resource to scan the changes for
+     * @param startDate the first date of the range (inclusive)
+     * @param endDate the last date of the range (inclusive)
+     * @param maxConcurrency the maximum number of concurrent requests (defaults to 4)
+     */
+    @Builder
+    private ChangesScanner(
+            @NonNull final ChangesApi changesApi,
+            @NonNull final SyncResourceType resourceType,
+            @NonNull final LocalDate startDate,
+            @NonNull final LocalDate endDate,
+            final Integer maxConcurrency) {
+        Validate.isTrue(!endDate.isBefore(startDate), "endDate must not be before startDate");
+        this.changesApi = changesApi;
+        this.resourceType = resourceType;
+        this.windows = splitIntoWindows(startDate, endDate);
+        this.maxConcurrency = Objects.requireNonNullElse(maxConcurrency, DEFAULT_MAX_CONCURRENCY);
+        Validate.isTrue(this.maxConcurrency > 0, "maxConcurrency must be positive");
+    }
+
+    /**
+     * Scans the changes and blocks until complete.
+     *
+     * @return the distinct identifiers of the changed resources
+     */
+    public IntHashSet scan() {
+        final Execution execution = new Execution(id -> { });
+        try {
+            execution.start().join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+
+            throw ex;
+        }
+
+        return execution.seenIds;
+    }
+
+    /**
+     * Asynchronously scans the changes, passing the identifier of each changed resource to the given consumer the
+     * first time that it is seen across all windows and pages. The consumer is never invoked concurrently. Cancelling
+     * the returned future cancels the in-flight requests.
+     *
+     * @param consumer the consumer of the distinct changed identifiers
+     * @return the future that completes once all pages are scanned, or exceptionally if a page could not be fetched
+     */
+    public CompletableFuture<Void> scanAsync(@NonNull final IntConsumer consumer) {
+        return new Execution(consumer).start();
+    }
+
+    private static List<Window> splitIntoWindows(final LocalDate startDate, final LocalDate endDate) {
+        final List<Window> windows = new ArrayList<>();
+        LocalDate windowStartDate = startDate;
+        while (!windowStartDate.isAfter(endDate)) {
+            final LocalDate maxWindowEndDate = windowStartDate.plusDays(MAX_WINDOW_DAYS - 1L);
+            final LocalDate windowEndDate = maxWindowEndDate.isBefore(endDate) ? maxWindowEndDate : endDate;
+            windows.add(new Window(windowStartDate, windowEndDate));
+            windowStartDate = windowEndDate.plusDays(1L);
+        }
+
+        return Collections.unmodifiableList(windows);
+    }
+
+    private CompletableFuture<? extends GetChangesResponseBase> fetchPage(final Window window, final int page) {
+        switch (resourceType) {
+            case MOVIE:
+                return changesApi.getMovieChangesAsync(GetMovieChangesRequest.builder()
+                        .startDate(window.startDate)
+                        .endDate(window.endDate)
+                        .page(page)
+                        .build());
+            case TV_SERIES:
+                return changesApi.getTvChangesAsync(GetTvChangesRequest.builder()
+                        .startDate(window.startDate)
+                        .endDate(window.endDate)
+                        .page(page)
+                        .build());
+            case PERSON:
+                return changesApi.getPersonChangesAsync(GetPersonChangesRequest.builder()
+                        .startDate(window.startDate)
+                        .endDate(window.endDate)
+                        .page(page)
+                        .build());
+            default:
+                throw new IllegalStateException("Unsupported resource type: " + resourceType);
+        }
+    }
+
+    /** A date range (inclusive) within the service's limit for a single changes query. */
+    @RequiredArgsConstructor
+    private static class Window {
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+    }
+
+    /** A page of a window to fetch. */
+    @RequiredArgsConstructor
+    private static class PageTask {
+        private final Window window;
+        private final int page;
+    }
+
+    /** Tracks the progress of a single scan. */
+    private class Execution {
+        private final IntConsumer consumer;
+        private final IntHashSet seenIds = new IntHashSet();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private final Queue<PageTask> pendingPages = new ConcurrentLinkedQueue<>();
+        private final BoundedAsyncExecutor<GetChangesResponseBase> executor =
+                new BoundedAsyncExecutor<>(maxConcurrency, this::nextPage);
+        /** The number of pages that are pending or in-flight. */
+        private final AtomicInteger outstandingPages = new AtomicInteger();
+        private final Object resultLock = new Object();
+
+        Execution(final IntConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        CompletableFuture<Void> start() {
+            completion.whenComplete((ignored, ex) -> {
+                if (completion.isCancelled()) {
+                    executor.cancel();
+                }
+            });
+            windows.forEach(window -> enqueue(new PageTask(window, 1)));
+            executor.drain();
+            return completion;
+        }
+
+        private void enqueue(final PageTask task) {
+            outstandingPages.incrementAndGet();
+            pendingPages.add(task);
+        }
+
+        private BoundedAsyncExecutor.Task<GetChangesResponseBase> nextPage() {
+            final PageTask task = completion.isDone() ? null : pendingPages.poll();
+            return task == null
+                    ? null
+                    : BoundedAsyncExecutor.Task.of(
+                            () -> fetchPage(task.window, task.page),
+                            (response, ex) -> onPage(task, response, ex));
+        }
+
+        private void onPage(final PageTask task, final GetChangesResponseBase response, final Throwable ex) {
+            if (completion.isDone()) {
+                return;
+            }
+
+            if (ex != null) {
+                fail(ex);
+                return;
+            }
+
+            if (task.page == 1) {
+                final int totalPages = Objects.requireNonNullElse(response.getTotalPages(), 1);
+                for (int page = 2; page <= totalPages; ++page) {
+                    enqueue(new PageTask(task.window, page));
+                }
+            }
+
+            try {
+                emit(Objects.requireNonNullElse(response.getResults(), Collections.emptyList()));
+            } catch (final RuntimeException consumerEx) {
+                fail(consumerEx);
+                return;
+            }
+
+            if (outstandingPages.decrementAndGet() == 0) {
+                completion.complete(null);
+            }
+        }
+
+        private void emit(final List<Change> changes) {
+            synchronized (resultLock) {
+                for (final Change change : changes) {
+                    if (Objects.nonNull(change.getId()) && seenIds.add(change.getId().intValue())) {
+                        consumer.accept(change.getId());
+                    }
+                }
+            }
+        }
+
+        private void fail(final Throwable cause) {
+            completion.completeExceptionally(cause);
+            executor.cancel();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.sync;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * A {@link SyncCheckpointStore} that persists the checkpoints to a properties file. The file is replaced atomically
+ * (where supported by the file system) so that a crash while saving never leaves a partially written checkpoint.
+ */
+public class FileSyncCheckpointStore implements SyncCheckpointStore {
+    private final Path file;
+
+    /**
+     * Creates a new {@code FileSyncCheckpointStore}.
+     *
+     * @param file the path to the checkpoint file (created on the first checkpoint if it does not exist)
+     */
+    public FileSyncCheckpointStore(@NonNull final Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public synchronized Optional<LocalDate> getLastSyncedDate(@NonNull final SyncResourceType resourceType) {
+        return Optional.ofNullable(load().getProperty(resourceType.name()))
+                .map(LocalDate::parse);
+    }
+
+    @Override
+    public synchronized void setLastSyncedDate(
+            @NonNull final SyncResourceType resourceType,
+            @NonNull final LocalDate lastSyncedDate) {
+        final Properties checkpoints = load();
+        checkpoints.setProperty(resourceType.name(), lastSyncedDate.toString());
+        save(checkpoints);
+    }
+
+    private Properties load() {
+        final Properties checkpoints = new Properties();
+        if (!Files.exists(file)) {
+            return checkpoints;
+        }
+
+        try (InputStream in = Files.newInputStream(file)) {
+            checkpoints.load(in);
+            return checkpoints;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Unable to read sync checkpoints from " + file, ex);
+        }
+    }
+
+    private void save(final Properties checkpoints) {
+        try {
+            final Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            final Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                checkpoints.store(out, "TMDB sync checkpoints");
+            }
+
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException ex) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Unable to write sync checkpoints to " + file, ex);
+        }
+    }
+}
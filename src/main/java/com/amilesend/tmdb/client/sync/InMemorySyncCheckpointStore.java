@@ -0,0 +1,42 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.sync;
+
+import lombok.NonNull;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** A {@link SyncCheckpointStore} that holds the checkpoints in-memory for the lifetime of the process. */
+public class InMemorySyncCheckpointStore implements SyncCheckpointStore {
+    private final Map<SyncResourceType, LocalDate> checkpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<LocalDate> getLastSyncedDate(@NonNull final SyncResourceType resourceType) {
+        return Optional.ofNullable(checkpoints.get(resourceType));
+    }
+
+    @Override
+    public void setLastSyncedDate(
+            @NonNull final SyncResourceType resourceType,
+            @NonNull final LocalDate lastSyncedDate) {
+        checkpoints.put(resourceType, lastSyncedDate);
+    }
+}
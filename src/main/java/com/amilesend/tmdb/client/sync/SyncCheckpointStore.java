@@ -0,0 +1,45 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.sync;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Persists the date through which each resource type was last synchronized so that the next synchronization only
+ * scans the changes made since.
+ *
+ * @see CatalogSync
+ */
+public interface SyncCheckpointStore {
+    /**
+     * Gets the date through which the given resource type was last synchronized.
+     *
+     * @param resourceType the resource type
+     * @return the date, or empty if the resource type was never synchronized
+     */
+    Optional<LocalDate> getLastSyncedDate(SyncResourceType resourceType);
+
+    /**
+     * Sets the date through which the given resource type was synchronized.
+     *
+     * @param resourceType the resource type
+     * @param lastSyncedDate the date
+     */
+    void setLastSyncedDate(SyncResourceType resourceType, LocalDate lastSyncedDate);
+}
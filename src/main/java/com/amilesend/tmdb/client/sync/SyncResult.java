@@ -0,0 +1,51 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.sync;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Describes the outcome of synchronizing a resource type.
+ *
+ * @see CatalogSync
+ */
+@Builder
+@Getter
+@ToString
+public class SyncResult {
+    /** The resource type that was synchronized. */
+    @NonNull
+    private final SyncResourceType resourceType;
+    /** The first date of the scanned changes (inclusive). */
+    @NonNull
+    private final LocalDate startDate;
+    /** The last date of the scanned changes (inclusive), which is recorded as the new checkpoint. */
+    @NonNull
+    private final LocalDate endDate;
+    /** The number of distinct resources that changed within the date range. */
+    private final int changedCount;
+    /** The identifiers of the changed resources whose details could not be fetched. */
+    @NonNull
+    private final Set<Integer> failedIds;
+}
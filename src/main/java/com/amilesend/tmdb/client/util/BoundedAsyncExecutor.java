@@ -0,0 +1,166 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.util;
+
+import com.amilesend.client.util.Validate;
+import lombok.NonNull;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Starts asynchronous tasks pulled from a task source while bounding the number of tasks that are in-flight at any
+ * given time. Whenever a task completes, its permit is released and the next pending tasks are started. Tasks are
+ * pulled lazily, so a large number of pending tasks need not be materialized up front.
+ * <p>
+ * Tasks that complete synchronously (e.g., cached responses) re-enter {@link #drain()}, so only the first caller
+ * loops to avoid unbounded recursion. Used by the batch lookups, the change feed scanner, and the image downloader.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <T> the task result type
+ */
+public final class BoundedAsyncExecutor<T> {
+    private final Supplier<? extends Task<T>> taskSource;
+    private final Set<CompletableFuture<? extends T>> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger availablePermits;
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private volatile boolean isCancelled;
+
+    /**
+     * Creates a new {@code BoundedAsyncExecutor}.
+     *
+     * @param maxConcurrency the maximum number of in-flight tasks
+     * @param taskSource supplies the next pending task, or {@code null} if no task is pending. The source is only
+     *                   invoked while a permit is available, and never concurrently.
+     */
+    public BoundedAsyncExecutor(final int maxConcurrency, @NonNull final Supplier<? extends Task<T>> taskSource) {
+        Validate.isTrue(maxConcurrency > 0, "maxConcurrency must be positive");
+        this.taskSource = taskSource;
+        this.availablePermits = new AtomicInteger(maxConcurrency);
+    }
+
+    /**
+     * Starts pending tasks from the task source while permits are available. This should be invoked whenever a
+     * task is added to the source; completed tasks invoke it automatically.
+     */
+    public void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+
+        do {
+            while (!isCancelled && availablePermits.get() > 0) {
+                final Task<T> task = taskSource.get();
+                if (task == null) {
+                    break;
+                }
+
+                availablePermits.decrementAndGet();
+                start(task);
+            }
+        } while (drainRequests.decrementAndGet() != 0);
+    }
+
+    /** Stops starting pending tasks and cancels the in-flight tasks. */
+    public void cancel() {
+        isCancelled = true;
+        inFlight.forEach(future -> future.cancel(true));
+    }
+
+    private void start(final Task<T> task) {
+        CompletableFuture<? extends T> future;
+        try {
+            future = Objects.requireNonNull(task.start(), "task returned null");
+        } catch (final RuntimeException ex) {
+            future = CompletableFuture.failedFuture(ex);
+        }
+
+        final CompletableFuture<? extends T> taskFuture = future;
+        inFlight.add(taskFuture);
+        if (isCancelled) {
+            // Cancelled while the task was starting
+            taskFuture.cancel(true);
+        }
+
+        taskFuture.whenComplete((result, ex) -> {
+            inFlight.remove(taskFuture);
+            try {
+                task.onComplete(result, ex instanceof CompletionException && ex.getCause() != null
+                        ? ex.getCause()
+                        : ex);
+            } finally {
+                availablePermits.incrementAndGet();
+                drain();
+            }
+        });
+    }
+
+    /**
+     * An asynchronous task.
+     *
+     * @param <T> the task result type
+     */
+    public interface Task<T> {
+        /**
+         * Creates a task from the given functions.
+         *
+         * @param start the function that starts the task
+         * @param onComplete the function that receives the result or failure of the task
+         * @return the task
+         * @param <T> the task result type
+         */
+        static <T> Task<T> of(
+                @NonNull final Supplier<? extends CompletableFuture<? extends T>> start,
+                @NonNull final BiConsumer<? super T, Throwable> onComplete) {
+            return new Task<>() {
+                @Override
+                public CompletableFuture<? extends T> start() {
+                    return start.get();
+                }
+
+                @Override
+                public void onComplete(final T result, final Throwable cause) {
+                    onComplete.accept(result, cause);
+                }
+            };
+        }
+
+        /**
+         * Starts the task.
+         *
+         * @return the future that completes with the task result
+         */
+        CompletableFuture<? extends T> start();
+
+        /**
+         * Invoked once the task completes, before its permit is released.
+         *
+         * @param result the result, or {@code null} if the task failed
+         * @param cause the failure (unwrapped from a {@link CompletionException}), or {@code null} if the task
+         *              succeeded
+         */
+        void onComplete(T result, Throwable cause);
+    }
+}
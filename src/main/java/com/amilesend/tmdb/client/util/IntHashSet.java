@@ -0,0 +1,235 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.util;
+
+import com.amilesend.client.util.Validate;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of primitive {@code int} values backed by an open-addressed hash table. Compared to a
+ * {@code HashSet<Integer>}, values are not boxed when added or queried via the primitive methods, and each value
+ * occupies a single slot within an array instead of an entry object. This is suited to de-duplicating large numbers
+ * of resource identifiers.
+ * <p>
+ * Values cannot be removed once added (other than by {@link #clear()}). This class is not thread-safe.
+ */
+public class IntHashSet extends AbstractSet<Integer> {
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final float LOAD_FACTOR = 0.5F;
+    /** Denotes an empty slot. The value itself is tracked separately via {@link #hasEmptyValue}. */
+    private static final int EMPTY = 0;
+
+    private int[] slots;
+    private int resizeThreshold;
+    private int size;
+    private boolean hasEmptyValue;
+
+    /** Creates a new empty {@code IntHashSet}. */
+    public IntHashSet() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty {@code IntHashSet} that can hold the given number of values without resizing.
+     *
+     * @param expectedSize the expected number of values
+     */
+    public IntHashSet(final int expectedSize) {
+        Validate.isTrue(expectedSize >= 0, "expectedSize must not be negative");
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Adds the given value.
+     *
+     * @param value the value
+     * @return {@code true} if the value was not already present; else, {@code false}
+     */
+    public boolean add(final int value) {
+        if (value == EMPTY) {
+            if (hasEmptyValue) {
+                return false;
+            }
+
+            hasEmptyValue = true;
+            ++size;
+            return true;
+        }
+
+        final int mask = slots.length - 1;
+        int index = hash(value) & mask;
+        while (slots[index] != EMPTY) {
+            if (slots[index] == value) {
+                return false;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        slots[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(slots.length << 1);
+        }
+
+        return true;
+    }
+
+    /**
+     * Determines if the given value is present.
+     *
+     * @param value the value
+     * @return {@code true} if present; else, {@code false}
+     */
+    public boolean contains(final int value) {
+        if (value == EMPTY) {
+            return hasEmptyValue;
+        }
+
+        final int mask = slots.length - 1;
+        int index = hash(value) & mask;
+        while (slots[index] != EMPTY) {
+            if (slots[index] == value) {
+                return true;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        return false;
+    }
+
+    /**
+     * Performs the given action for each value without boxing.
+     *
+     * @param action the action
+     */
+    public void forEachInt(final IntConsumer action) {
+        if (hasEmptyValue) {
+            action.accept(EMPTY);
+        }
+
+        for (final int slot : slots) {
+            if (slot != EMPTY) {
+                action.accept(slot);
+            }
+        }
+    }
+
+    /**
+     * Copies the values to a new array in no particular order.
+     *
+     * @return the array of values
+     */
+    public int[] toIntArray() {
+        final int[] values = new int[size];
+        int index = 0;
+        if (hasEmptyValue) {
+            values[index++] = EMPTY;
+        }
+
+        for (final int slot : slots) {
+            if (slot != EMPTY) {
+                values[index++] = slot;
+            }
+        }
+
+        return values;
+    }
+
+    @Override
+    public boolean add(final Integer value) {
+        return add(value.intValue());
+    }
+
+    @Override
+    public boolean contains(final Object value) {
+        return value instanceof Integer && contains(((Integer) value).intValue());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(slots, EMPTY);
+        hasEmptyValue = false;
+        size = 0;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<>() {
+            private final int[] values = toIntArray();
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < values.length;
+            }
+
+            @Override
+            public Integer next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return values[index++];
+            }
+        };
+    }
+
+    private void rehash(final int newCapacity) {
+        final int[] oldSlots = slots;
+        allocate(newCapacity);
+        final int mask = slots.length - 1;
+        for (final int value : oldSlots) {
+            if (value != EMPTY) {
+                int index = hash(value) & mask;
+                while (slots[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+
+                slots[index] = value;
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        slots = new int[capacity];
+        resizeThreshold = capacity == MAX_CAPACITY ? Integer.MAX_VALUE : (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        final long minCapacity = Math.max((long) Math.ceil(expectedSize / (double) LOAD_FACTOR), 2L);
+        return (int) Math.min(Long.highestOneBit(minCapacity - 1L) << 1, MAX_CAPACITY);
+    }
+
+    /** Spreads sequential identifiers across the table to keep probe sequences short. */
+    private static int hash(final int value) {
+        final int hash = value * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
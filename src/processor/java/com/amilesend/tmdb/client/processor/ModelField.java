@@ -0,0 +1,107 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.processor;
+
+import java.util.List;
+
+/**
+ * A serialized field of a {@link ModelType}, along with the source fragments used to bind it in the generated
+ * type adapter.
+ */
+final class ModelField {
+    private final String name;
+    private final String serializedName;
+    private final List<String> alternateNames;
+    private final String typeName;
+    private final String adapterTypeName;
+    private final String adapterExpression;
+    private final String getterName;
+    private final String runtimeTypeCheck;
+    private final boolean isPrimitive;
+
+    /**
+     * Creates a new {@code ModelField}.
+     *
+     * @param name the field name, which is also the name of the builder method
+     * @param serializedName the JSON attribute name
+     * @param alternateNames the alternate JSON attribute names accepted when reading
+     * @param typeName the source representation of the field type
+     * @param adapterTypeName the source representation of the adapted (i.e., boxed) type
+     * @param adapterExpression the expression that obtains the {@code TypeAdapter} from a {@code gson} variable
+     * @param getterName the Lombok-generated getter name, or {@code null} if the field has no getter
+     * @param runtimeTypeCheck the class literal to compare to the runtime type of a written value, or {@code null}
+     *                         if the declared type adapter is always used
+     * @param isPrimitive {@code true} if the field type is primitive
+     */
+    ModelField(
+            final String name,
+            final String serializedName,
+            final List<String> alternateNames,
+            final String typeName,
+            final String adapterTypeName,
+            final String adapterExpression,
+            final String getterName,
+            final String runtimeTypeCheck,
+            final boolean isPrimitive) {
+        this.name = name;
+        this.serializedName = serializedName;
+        this.alternateNames = List.copyOf(alternateNames);
+        this.typeName = typeName;
+        this.adapterTypeName = adapterTypeName;
+        this.adapterExpression = adapterExpression;
+        this.getterName = getterName;
+        this.runtimeTypeCheck = runtimeTypeCheck;
+        this.isPrimitive = isPrimitive;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getSerializedName() {
+        return serializedName;
+    }
+
+    List<String> getAlternateNames() {
+        return alternateNames;
+    }
+
+    String getTypeName() {
+        return typeName;
+    }
+
+    String getAdapterTypeName() {
+        return adapterTypeName;
+    }
+
+    String getAdapterExpression() {
+        return adapterExpression;
+    }
+
+    String getGetterName() {
+        return getterName;
+    }
+
+    String getRuntimeTypeCheck() {
+        return runtimeTypeCheck;
+    }
+
+    boolean isPrimitive() {
+        return isPrimitive;
+    }
+}
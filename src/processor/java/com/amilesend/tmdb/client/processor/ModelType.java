@@ -0,0 +1,73 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.processor;
+
+import java.util.List;
+import java.util.Objects;
+
+/** A concrete, builder-based model type for which a type adapter is generated. */
+final class ModelType {
+    private final String qualifiedName;
+    private final String binaryName;
+    private final String adapterName;
+    private final List<ModelField> fields;
+
+    /**
+     * Creates a new {@code ModelType}.
+     *
+     * @param qualifiedName the canonical name of the model type
+     * @param binaryName the binary name of the model type (i.e., as returned by {@link Class#getName()})
+     * @param adapterName the simple name of the generated type adapter class
+     * @param fields the serialized fields, in the order they are written
+     */
+    ModelType(
+            final String qualifiedName,
+            final String binaryName,
+            final String adapterName,
+            final List<ModelField> fields) {
+        this.qualifiedName = qualifiedName;
+        this.binaryName = binaryName;
+        this.adapterName = adapterName;
+        this.fields = List.copyOf(fields);
+    }
+
+    String getQualifiedName() {
+        return qualifiedName;
+    }
+
+    String getBinaryName() {
+        return binaryName;
+    }
+
+    String getAdapterName() {
+        return adapterName;
+    }
+
+    List<ModelField> getFields() {
+        return fields;
+    }
+
+    /**
+     * Determines if every serialized field has a getter, so that the type can be written without reflection.
+     *
+     * @return {@code true} if the type is writable by the generated adapter
+     */
+    boolean isWritable() {
+        return fields.stream().map(ModelField::getGetterName).allMatch(Objects::nonNull);
+    }
+}
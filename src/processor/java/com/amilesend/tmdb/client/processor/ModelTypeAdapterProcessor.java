@@ -0,0 +1,500 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a streaming GSON {@code TypeAdapter} for each concrete model type so that responses are deserialized
+ * without reflection. A model type is any public, non-abstract, non-generic class within the model package that is
+ * annotated with Lombok's {@code @Builder} or {@code @SuperBuilder}. The generated adapters populate the model via
+ * its builder and write it via its getters, and are vended by a single generated
+ * {@code GeneratedModelTypeAdapterFactory}.
+ * <p>
+ * The generated adapters bind fields the same way as GSON's reflective adapter configured by {@code GsonFactory}:
+ * static, transient and {@code @GsonExclude} fields are skipped, {@code @SerializedName} is honored, and all other
+ * attribute names are translated with {@code FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES}. Each field value is
+ * read and written with the adapter that the {@code Gson} instance provides for the field type, so registered
+ * adapters continue to apply. Types that cannot be bound this way are skipped, and remain reflectively adapted.
+ * <p>
+ * The processor also lists the concrete {@code BodyBasedRequest} and response types within the model package in a
+ * generated {@code GeneratedModelTypes} class, so that their adapters can be created ahead of the first request
+ * without scanning the class path.
+ */
+@SupportedAnnotationTypes("*")
+public class ModelTypeAdapterProcessor extends AbstractProcessor {
+    /** The package that contains the model types. */
+    static final String MODEL_PACKAGE = "com.amilesend.tmdb.client.model";
+
+    private static final String BUILDER = "lombok.Builder";
+    private static final String SUPER_BUILDER = "lombok.experimental.SuperBuilder";
+    private static final Set<String> GETTERS = Set.of("lombok.Getter", "lombok.Data", "lombok.Value");
+    private static final String GSON_EXCLUDE = "com.amilesend.client.parse.strategy.GsonExclude";
+    private static final String SERIALIZED_NAME = "com.google.gson.annotations.SerializedName";
+    private static final String OBJECT = "java.lang.Object";
+    private static final String BODY_BASED_REQUEST = MODEL_PACKAGE + ".BodyBasedRequest";
+    private static final String RESPONSE_SUFFIX = "Response";
+
+    private boolean isGenerated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (isGenerated || roundEnv.processingOver()) {
+            return false;
+        }
+
+        final List<ModelType> modelTypes = new ArrayList<>();
+        final List<String> requestAndResponseTypeNames = new ArrayList<>();
+        for (final TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            collect(type, modelTypes);
+            if (isRequestOrResponseType(type)) {
+                requestAndResponseTypeNames.add(type.getQualifiedName().toString());
+            }
+        }
+        if (modelTypes.isEmpty()) {
+            return false;
+        }
+
+        modelTypes.sort(Comparator.comparing(ModelType::getQualifiedName));
+        Collections.sort(requestAndResponseTypeNames);
+        try {
+            new TypeAdapterFactoryWriter(modelTypes).write(processingEnv.getFiler());
+            new ModelTypeListWriter(requestAndResponseTypeNames).write(processingEnv.getFiler());
+        } catch (final IOException ex) {
+            getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write type adapters: " + ex.getMessage());
+        }
+
+        isGenerated = true;
+        // Never claim the annotations, as they are also processed by Lombok
+        return false;
+    }
+
+    private void collect(final TypeElement type, final List<ModelType> modelTypes) {
+        ElementFilter.typesIn(type.getEnclosedElements()).forEach(nested -> collect(nested, modelTypes));
+        if (!isModelType(type)) {
+            return;
+        }
+
+        final List<ModelField> fields = getFields(type);
+        if (fields == null) {
+            return;
+        }
+
+        final Set<String> adapterNames = modelTypes.stream()
+                .map(ModelType::getAdapterName)
+                .collect(Collectors.toSet());
+        modelTypes.add(new ModelType(
+                type.getQualifiedName().toString(),
+                processingEnv.getElementUtils().getBinaryName(type).toString(),
+                toAdapterName(type, adapterNames),
+                fields));
+    }
+
+    private boolean isModelType(final TypeElement type) {
+        return type.getKind() == ElementKind.CLASS
+                && type.getQualifiedName().toString().startsWith(MODEL_PACKAGE + ".")
+                && !type.getModifiers().contains(Modifier.ABSTRACT)
+                && type.getTypeParameters().isEmpty()
+                && isAccessible(type)
+                && (hasAnnotation(type, BUILDER) || hasAnnotation(type, SUPER_BUILDER));
+    }
+
+    /** Determines if the type is a top-level concrete {@code BodyBasedRequest} or response type. */
+    private boolean isRequestOrResponseType(final TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS
+                || !type.getQualifiedName().toString().startsWith(MODEL_PACKAGE + ".")
+                || type.getModifiers().contains(Modifier.ABSTRACT)
+                || !type.getTypeParameters().isEmpty()
+                || !type.getModifiers().contains(Modifier.PUBLIC)) {
+            return false;
+        }
+
+        final TypeElement bodyBasedRequest = processingEnv.getElementUtils().getTypeElement(BODY_BASED_REQUEST);
+        return type.getSimpleName().toString().endsWith(RESPONSE_SUFFIX)
+                || bodyBasedRequest != null
+                && types().isAssignable(types().erasure(type.asType()), types().erasure(bodyBasedRequest.asType()));
+    }
+
+    private static boolean isAccessible(final TypeElement type) {
+        if (!type.getModifiers().contains(Modifier.PUBLIC)) {
+            return false;
+        }
+
+        if (type.getNestingKind() == NestingKind.TOP_LEVEL) {
+            return true;
+        }
+
+        return type.getNestingKind() == NestingKind.MEMBER
+                && type.getModifiers().contains(Modifier.STATIC)
+                && isAccessible((TypeElement) type.getEnclosingElement());
+    }
+
+    /**
+     * Gets the serialized fields in the order they are bound by GSON: the type's own fields in declaration order,
+     * followed by those of each superclass.
+     *
+     * @return the fields, or {@code null} if the type is not supported
+     */
+    private List<ModelField> getFields(final TypeElement type) {
+        final DeclaredType declaredType = (DeclaredType) type.asType();
+        final boolean isSuperBuilder = hasAnnotation(type, SUPER_BUILDER);
+        final List<ModelField> fields = new ArrayList<>();
+        final Set<String> serializedNames = new HashSet<>();
+        for (TypeElement current = type; current != null; current = getSuperclass(current)) {
+            for (final VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                final Set<Modifier> modifiers = field.getModifiers();
+                if (modifiers.contains(Modifier.STATIC)
+                        || modifiers.contains(Modifier.TRANSIENT)
+                        || hasAnnotation(field, GSON_EXCLUDE)) {
+                    continue;
+                }
+
+                if (current != type && !isSuperBuilder) {
+                    return skip(type, "@Builder does not set inherited field " + field.getSimpleName());
+                }
+
+                final ModelField modelField = toModelField(current, field, types().asMemberOf(declaredType, field));
+                if (modelField == null) {
+                    return skip(type, "unsupported type for field " + field.getSimpleName());
+                }
+
+                final List<String> names = new ArrayList<>(modelField.getAlternateNames());
+                names.add(modelField.getSerializedName());
+                for (final String name : names) {
+                    if (!serializedNames.add(name)) {
+                        return skip(type, "multiple fields named " + name);
+                    }
+                }
+
+                fields.add(modelField);
+            }
+        }
+
+        return fields;
+    }
+
+    private List<ModelField> skip(final TypeElement type, final String reason) {
+        getMessager().printMessage(
+                Diagnostic.Kind.NOTE,
+                "Using reflection to adapt " + type.getQualifiedName() + ": " + reason,
+                type);
+        return null;
+    }
+
+    private TypeElement getSuperclass(final TypeElement type) {
+        final TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        final TypeElement element = (TypeElement) types().asElement(superclass);
+        return OBJECT.contentEquals(element.getQualifiedName()) ? null : element;
+    }
+
+    private ModelField toModelField(
+            final TypeElement declaringType,
+            final VariableElement field,
+            final TypeMirror fieldType) {
+        final String typeName = toSourceName(fieldType);
+        final String adapterExpression = toAdapterExpression(fieldType);
+        if (typeName == null || adapterExpression == null) {
+            return null;
+        }
+
+        final boolean isPrimitive = fieldType.getKind().isPrimitive();
+        final String name = field.getSimpleName().toString();
+        final AnnotationMirror serializedName = getAnnotation(field, SERIALIZED_NAME);
+        return new ModelField(
+                name,
+                serializedName == null ? translateName(name) : (String) getValue(serializedName, "value"),
+                serializedName == null ? Collections.emptyList() : getAlternateNames(serializedName),
+                typeName,
+                isPrimitive ? boxedName(fieldType) : typeName,
+                adapterExpression,
+                hasGetter(declaringType, field) ? toGetterName(field) : null,
+                isPolymorphic(fieldType) ? toRawName(fieldType) + ".class" : null,
+                isPrimitive);
+    }
+
+    private boolean hasGetter(final TypeElement declaringType, final VariableElement field) {
+        return GETTERS.stream()
+                .anyMatch(getter -> hasAnnotation(field, getter) || hasAnnotation(declaringType, getter));
+    }
+
+    /** Mirrors Lombok's getter naming, where only {@code boolean} fields use the {@code is} prefix. */
+    private static String toGetterName(final VariableElement field) {
+        final String name = field.getSimpleName().toString();
+        if (field.asType().getKind() == TypeKind.BOOLEAN) {
+            return name.startsWith("is") && name.length() > 2 && Character.isUpperCase(name.charAt(2))
+                    ? name
+                    : "is" + capitalize(name);
+        }
+
+        return "get" + capitalize(name);
+    }
+
+    /** Mirrors {@code FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES}. */
+    static String translateName(final String name) {
+        final StringBuilder translation = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); ++i) {
+            final char c = name.charAt(i);
+            if (Character.isUpperCase(c) && translation.length() > 0) {
+                translation.append('_');
+            }
+            translation.append(c);
+        }
+
+        return translation.toString().toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Determines if values of the given type may be a subtype. Like GSON's reflective adapter, such values are
+     * written with the adapter for their runtime type.
+     */
+    private boolean isPolymorphic(final TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED || !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            return false;
+        }
+
+        final Element element = types().asElement(type);
+        return (element.getKind() == ElementKind.CLASS || element.getKind() == ElementKind.INTERFACE)
+                && !element.getModifiers().contains(Modifier.FINAL);
+    }
+
+    private String toAdapterExpression(final TypeMirror type) {
+        if (!isParameterized(type)) {
+            final String rawName = toRawName(type);
+            return rawName == null ? null : "gson.getAdapter(" + rawName + ".class)";
+        }
+
+        final String typeName = toSourceName(type);
+        final String typeToken = toTypeToken(type);
+        return typeName == null || typeToken == null
+                ? null
+                : "(TypeAdapter<" + typeName + ">) gson.getAdapter(" + typeToken + ")";
+    }
+
+    /** Gets the expression that creates the {@code TypeToken} for a parameterized type. */
+    private String toTypeToken(final TypeMirror type) {
+        if (type.getKind() == TypeKind.DECLARED) {
+            final List<String> arguments = new ArrayList<>();
+            for (final TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+                final String reflectType = toReflectType(argument);
+                if (reflectType == null) {
+                    return toAnonymousTypeToken(type);
+                }
+                arguments.add(reflectType);
+            }
+
+            return "TypeToken.getParameterized(" + toRawName(type) + ".class, " + String.join(", ", arguments) + ")";
+        }
+
+        return toAnonymousTypeToken(type);
+    }
+
+    /** Gets the expression for the {@code java.lang.reflect.Type} of a type argument. */
+    private String toReflectType(final TypeMirror type) {
+        if (!isParameterized(type)) {
+            final String rawName = toRawName(type);
+            return type.getKind() == TypeKind.WILDCARD || rawName == null ? null : rawName + ".class";
+        }
+
+        return type.getKind() == TypeKind.DECLARED ? toTypeToken(type) + ".getType()" : null;
+    }
+
+    private String toAnonymousTypeToken(final TypeMirror type) {
+        final String typeName = toSourceName(type);
+        return typeName == null ? null : "new TypeToken<" + typeName + ">() { }";
+    }
+
+    private boolean isParameterized(final TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return isParameterized(((ArrayType) type).getComponentType());
+            case DECLARED:
+                return !((DeclaredType) type).getTypeArguments().isEmpty();
+            default:
+                return false;
+        }
+    }
+
+    private String toRawName(final TypeMirror type) {
+        if (type.getKind() == TypeKind.WILDCARD) {
+            return null;
+        }
+
+        return toSourceName(types().erasure(type));
+    }
+
+    /**
+     * Gets the source representation of the given type using fully qualified names.
+     *
+     * @return the source representation, or {@code null} if the type is not supported (e.g., a type variable)
+     */
+    private String toSourceName(final TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase(Locale.ROOT);
+        }
+
+        switch (type.getKind()) {
+            case ARRAY: {
+                final String componentName = toSourceName(((ArrayType) type).getComponentType());
+                return componentName == null ? null : componentName + "[]";
+            }
+            case DECLARED: {
+                final DeclaredType declaredType = (DeclaredType) type;
+                final String name = ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+                if (declaredType.getTypeArguments().isEmpty()) {
+                    return name;
+                }
+
+                final List<String> arguments = new ArrayList<>();
+                for (final TypeMirror argument : declaredType.getTypeArguments()) {
+                    final String argumentName = toSourceName(argument);
+                    if (argumentName == null) {
+                        return null;
+                    }
+                    arguments.add(argumentName);
+                }
+
+                return name + "<" + String.join(", ", arguments) + ">";
+            }
+            case WILDCARD: {
+                final WildcardType wildcardType = (WildcardType) type;
+                if (wildcardType.getExtendsBound() != null) {
+                    final String boundName = toSourceName(wildcardType.getExtendsBound());
+                    return boundName == null ? null : "? extends " + boundName;
+                }
+                if (wildcardType.getSuperBound() != null) {
+                    final String boundName = toSourceName(wildcardType.getSuperBound());
+                    return boundName == null ? null : "? super " + boundName;
+                }
+                return "?";
+            }
+            default:
+                return null;
+        }
+    }
+
+    private String boxedName(final TypeMirror type) {
+        return types().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+    }
+
+    /** Derives a unique adapter name from the type's name relative to the model package. */
+    private static String toAdapterName(final TypeElement type, final Set<String> existingNames) {
+        final String relativeName = type.getQualifiedName().toString().substring(MODEL_PACKAGE.length() + 1);
+        final StringBuilder name = new StringBuilder();
+        for (final String segment : relativeName.split("\\.")) {
+            name.append(capitalize(segment));
+        }
+
+        final String baseName = name.append("TypeAdapter").toString();
+        String adapterName = baseName;
+        for (int i = 2; existingNames.contains(adapterName); ++i) {
+            adapterName = baseName + i;
+        }
+
+        return adapterName;
+    }
+
+    private static String capitalize(final String name) {
+        return name.isEmpty() ? name : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static boolean hasAnnotation(final Element element, final String annotationType) {
+        return getAnnotation(element, annotationType) != null;
+    }
+
+    private static AnnotationMirror getAnnotation(final Element element, final String annotationType) {
+        for (final AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            final TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(annotationType)) {
+                return annotation;
+            }
+        }
+
+        return null;
+    }
+
+    private static Object getValue(final AnnotationMirror annotation, final String name) {
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+
+        return null;
+    }
+
+    private static List<String> getAlternateNames(final AnnotationMirror serializedName) {
+        final Object alternates = getValue(serializedName, "alternate");
+        if (!(alternates instanceof List)) {
+            return Collections.emptyList();
+        }
+
+        return ((List<?>) alternates).stream()
+                .map(value -> (String) ((AnnotationValue) value).getValue())
+                .collect(Collectors.toList());
+    }
+
+    private Types types() {
+        return processingEnv.getTypeUtils();
+    }
+
+    private Messager getMessager() {
+        return processingEnv.getMessager();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.processor;
+
+import javax.annotation.processing.Filer;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes the source of the {@code GeneratedModelTypes} that lists the concrete request and response model types, so
+ * that they can be located at runtime without scanning the class path.
+ */
+final class ModelTypeListWriter {
+    /** The simple name of the generated class. */
+    static final String CLASS_NAME = "GeneratedModelTypes";
+
+    private final List<String> typeNames;
+
+    /**
+     * Creates a new {@code ModelTypeListWriter}.
+     *
+     * @param typeNames the qualified names of the types, in the order they are listed
+     */
+    ModelTypeListWriter(final List<String> typeNames) {
+        this.typeNames = List.copyOf(typeNames);
+    }
+
+    /**
+     * Writes the generated source file.
+     *
+     * @param filer the filer used to create the source file
+     * @throws IOException if an error occurred while writing the source file
+     */
+    void write(final Filer filer) throws IOException {
+        final JavaFileObject sourceFile =
+                filer.createSourceFile(TypeAdapterFactoryWriter.FACTORY_PACKAGE + "." + CLASS_NAME);
+        try (Writer writer = sourceFile.openWriter(); PrintWriter out = new PrintWriter(writer)) {
+            write(out);
+        }
+    }
+
+    void write(final PrintWriter out) {
+        out.println("package " + TypeAdapterFactoryWriter.FACTORY_PACKAGE + ";");
+        out.println();
+        out.println("import java.util.List;");
+        out.println();
+        out.println("/** The " + typeNames.size() + " concrete request and response model types. */");
+        out.println("public final class " + CLASS_NAME + " {");
+        out.println("    /** The concrete {@code BodyBasedRequest} and response types. */");
+        out.println("    public static final List<Class<?>> BODY_BASED_REQUEST_AND_RESPONSE_TYPES = List.of(");
+        for (int i = 0; i < typeNames.size(); ++i) {
+            out.println("            " + typeNames.get(i) + ".class" + (i < typeNames.size() - 1 ? "," : ");"));
+        }
+        if (typeNames.isEmpty()) {
+            out.println("            );");
+        }
+        out.println();
+        out.println("    private " + CLASS_NAME + "() {");
+        out.println("    }");
+        out.println("}");
+    }
+}
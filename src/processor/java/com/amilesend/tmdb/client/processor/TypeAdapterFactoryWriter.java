@@ -0,0 +1,254 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.processor;
+
+import javax.annotation.processing.Filer;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.List;
+
+/** Writes the source of the {@code GeneratedModelTypeAdapterFactory} for the given model types. */
+final class TypeAdapterFactoryWriter {
+    /** The package of the generated factory. */
+    static final String FACTORY_PACKAGE = "com.amilesend.tmdb.client.parse.adapters";
+    /** The simple name of the generated factory. */
+    static final String FACTORY_NAME = "GeneratedModelTypeAdapterFactory";
+
+    private final List<ModelType> modelTypes;
+
+    /**
+     * Creates a new {@code TypeAdapterFactoryWriter}.
+     *
+     * @param modelTypes the model types, in the order the adapters are written
+     */
+    TypeAdapterFactoryWriter(final List<ModelType> modelTypes) {
+        this.modelTypes = List.copyOf(modelTypes);
+    }
+
+    /**
+     * Writes the generated factory source file.
+     *
+     * @param filer the filer used to create the source file
+     * @throws IOException if an error occurred while writing the source file
+     */
+    void write(final Filer filer) throws IOException {
+        final JavaFileObject sourceFile = filer.createSourceFile(FACTORY_PACKAGE + "." + FACTORY_NAME);
+        try (Writer writer = sourceFile.openWriter(); PrintWriter out = new PrintWriter(writer)) {
+            write(out);
+        }
+    }
+
+    void write(final PrintWriter out) {
+        out.println("package " + FACTORY_PACKAGE + ";");
+        out.println();
+        out.println("import com.google.gson.Gson;");
+        out.println("import com.google.gson.TypeAdapter;");
+        out.println("import com.google.gson.TypeAdapterFactory;");
+        out.println("import com.google.gson.reflect.TypeToken;");
+        out.println("import com.google.gson.stream.JsonReader;");
+        out.println("import com.google.gson.stream.JsonWriter;");
+        out.println();
+        out.println("import java.io.IOException;");
+        out.println();
+        out.println("/**");
+        out.println(" * GSON {@link TypeAdapterFactory} that vends the streaming type adapters generated for the "
+                + modelTypes.size() + " concrete");
+        out.println(" * model types. The adapters populate each model via its builder rather than by reflection.");
+        out.println(" * <p>");
+        out.println(" * Generated by {@code " + ModelTypeAdapterProcessor.class.getName() + "}; do not edit.");
+        out.println(" */");
+        out.println("public final class " + FACTORY_NAME + " implements TypeAdapterFactory {");
+        writeCreate(out);
+        writeRuntimeTypeWriter(out);
+        modelTypes.forEach(modelType -> writeAdapter(out, modelType));
+        out.println("}");
+    }
+
+    private void writeCreate(final PrintWriter out) {
+        out.println("    @Override");
+        out.println("    @SuppressWarnings(\"unchecked\")");
+        out.println("    public <T> TypeAdapter<T> create(final Gson gson, final TypeToken<T> type) {");
+        out.println("        final Class<? super T> rawType = type.getRawType();");
+        // A type of the same name is only the model type if it was loaded by the same class loader
+        out.println("        if (rawType.getClassLoader() != " + FACTORY_NAME + ".class.getClassLoader()) {");
+        out.println("            return null;");
+        out.println("        }");
+        out.println();
+        out.println("        final TypeAdapter<?> adapter;");
+        // Match by name so that the model types are only loaded as they are adapted
+        out.println("        switch (rawType.getName()) {");
+        for (final ModelType modelType : modelTypes) {
+            out.println("            case " + toStringLiteral(modelType.getBinaryName()) + ":");
+            out.println("                adapter = new " + modelType.getAdapterName()
+                    + (modelType.isWritable() ? "(gson);" : "(gson, this);"));
+            out.println("                break;");
+        }
+        out.println("            default:");
+        out.println("                return null;");
+        out.println("        }");
+        out.println();
+        out.println("        return (TypeAdapter<T>) adapter.nullSafe();");
+        out.println("    }");
+    }
+
+    private static void writeRuntimeTypeWriter(final PrintWriter out) {
+        out.println();
+        out.println("    /**");
+        out.println("     * Writes the value with the adapter for its runtime type if it is a subtype of the declared");
+        out.println("     * type, as GSON's reflective adapter does.");
+        out.println("     */");
+        out.println("    @SuppressWarnings(\"unchecked\")");
+        out.println("    private static <T> void writeRuntimeType(");
+        out.println("            final Gson gson,");
+        out.println("            final JsonWriter out,");
+        out.println("            final TypeAdapter<T> declaredTypeAdapter,");
+        out.println("            final Class<?> declaredType,");
+        out.println("            final T value) throws IOException {");
+        out.println("        if (value != null && value.getClass() != declaredType) {");
+        out.println("            ((TypeAdapter<T>) gson.getAdapter(value.getClass())).write(out, value);");
+        out.println("            return;");
+        out.println("        }");
+        out.println();
+        out.println("        declaredTypeAdapter.write(out, value);");
+        out.println("    }");
+    }
+
+    private static void writeAdapter(final PrintWriter out, final ModelType modelType) {
+        final String typeName = modelType.getQualifiedName();
+        final List<ModelField> fields = modelType.getFields();
+        out.println();
+        out.println("    /** Streaming adapter for {@link " + typeName + "}. */");
+        out.println("    private static final class " + modelType.getAdapterName()
+                + " extends TypeAdapter<" + typeName + "> {");
+        out.println("        private final Gson gson;");
+        if (!modelType.isWritable()) {
+            out.println("        private final TypeAdapter<" + typeName + "> writeDelegate;");
+        }
+        for (final ModelField field : fields) {
+            out.println("        private final TypeAdapter<" + field.getAdapterTypeName() + "> "
+                    + adapterFieldName(field) + ";");
+        }
+
+        // Constructor
+        out.println();
+        if (fields.stream().anyMatch(field -> field.getAdapterExpression().startsWith("("))) {
+            out.println("        @SuppressWarnings(\"unchecked\")");
+        }
+        out.println("        " + modelType.getAdapterName() + "(final Gson gson"
+                + (modelType.isWritable() ? "" : ", final TypeAdapterFactory factory") + ") {");
+        out.println("            this.gson = gson;");
+        if (!modelType.isWritable()) {
+            out.println("            this.writeDelegate = gson.getDelegateAdapter(factory, TypeToken.get("
+                    + typeName + ".class));");
+        }
+        for (final ModelField field : fields) {
+            out.println("            this." + adapterFieldName(field) + " = " + field.getAdapterExpression() + ";");
+        }
+        out.println("        }");
+
+        writeWrite(out, modelType);
+        writeRead(out, modelType);
+        out.println("    }");
+    }
+
+    private static void writeWrite(final PrintWriter out, final ModelType modelType) {
+        out.println();
+        out.println("        @Override");
+        out.println("        public void write(final JsonWriter out, final " + modelType.getQualifiedName()
+                + " value) throws IOException {");
+        if (!modelType.isWritable()) {
+            out.println("            writeDelegate.write(out, value);");
+            out.println("        }");
+            return;
+        }
+
+        out.println("            out.beginObject();");
+        for (final ModelField field : modelType.getFields()) {
+            final String getter = "value." + field.getGetterName() + "()";
+            out.println("            out.name(" + toStringLiteral(field.getSerializedName()) + ");");
+            if (field.getRuntimeTypeCheck() != null) {
+                out.println("            writeRuntimeType(gson, out, " + adapterFieldName(field) + ", "
+                        + field.getRuntimeTypeCheck() + ", " + getter + ");");
+            } else {
+                out.println("            " + adapterFieldName(field) + ".write(out, " + getter + ");");
+            }
+        }
+        out.println("            out.endObject();");
+        out.println("        }");
+    }
+
+    private static void writeRead(final PrintWriter out, final ModelType modelType) {
+        out.println();
+        out.println("        @Override");
+        out.println("        public " + modelType.getQualifiedName()
+                + " read(final JsonReader in) throws IOException {");
+        out.println("            final var builder = " + modelType.getQualifiedName() + ".builder();");
+        out.println("            in.beginObject();");
+        out.println("            while (in.hasNext()) {");
+        out.println("                switch (in.nextName()) {");
+        for (final ModelField field : modelType.getFields()) {
+            for (final String alternateName : field.getAlternateNames()) {
+                out.println("                    case " + toStringLiteral(alternateName) + ":");
+            }
+            if (field.isPrimitive()) {
+                // Like GSON's reflective adapter, null values leave primitive fields unset
+                out.println("                    case " + toStringLiteral(field.getSerializedName()) + ": {");
+                out.println("                        final " + field.getAdapterTypeName() + " value = "
+                        + adapterFieldName(field) + ".read(in);");
+                out.println("                        if (value != null) {");
+                out.println("                            builder." + field.getName() + "(value);");
+                out.println("                        }");
+                out.println("                        break;");
+                out.println("                    }");
+            } else {
+                out.println("                    case " + toStringLiteral(field.getSerializedName()) + ":");
+                out.println("                        builder." + field.getName() + "("
+                        + adapterFieldName(field) + ".read(in));");
+                out.println("                        break;");
+            }
+        }
+        out.println("                    default:");
+        out.println("                        in.skipValue();");
+        out.println("                        break;");
+        out.println("                }");
+        out.println("            }");
+        out.println("            in.endObject();");
+        out.println();
+        out.println("            return builder.build();");
+        out.println("        }");
+    }
+
+    private static String adapterFieldName(final ModelField field) {
+        return field.getName() + "Adapter";
+    }
+
+    private static String toStringLiteral(final String value) {
+        final StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); ++i) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                literal.append('\\');
+            }
+            literal.append(c);
+        }
+
+        return literal.append('"').toString();
+    }
+}
@@ -27,13 +27,17 @@ import com.amilesend.tmdb.client.data.SerializedResource;
 import com.amilesend.tmdb.client.parse.GsonFactory;
 import lombok.Getter;
 import lombok.SneakyThrows;
+import mockwebserver3.Dispatcher;
 import mockwebserver3.MockResponse;
 import mockwebserver3.MockWebServer;
+import mockwebserver3.RecordedRequest;
 import okhttp3.OkHttpClient;
 import okio.Buffer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 
+import java.util.concurrent.TimeUnit;
+
 public class FunctionalTestBase {
     public static final int SUCCESS_STATUS_CODE = 200;
     protected static final String READ_ACCESS_TOKEN = "ReadAccessTokenValue";
@@ -64,11 +68,19 @@ public class FunctionalTestBase {
         setUpMockResponse(responseCode, (SerializedResource) null);
     }
 
-    @SneakyThrows
     protected void setUpMockResponse(final int responseCode, final SerializedResource responseBodyResource) {
+        setUpMockResponse(responseCode, responseBodyResource, 0L);
+    }
+
+    @SneakyThrows
+    protected void setUpMockResponse(
+            final int responseCode,
+            final SerializedResource responseBodyResource,
+            final long headersDelayMillis) {
         if (responseBodyResource == null) {
             mockWebServer.enqueue(new MockResponse.Builder()
                     .code(responseCode)
+                    .headersDelay(headersDelayMillis, TimeUnit.MILLISECONDS)
                     .build());
             return;
         }
@@ -76,22 +88,48 @@ public class FunctionalTestBase {
         mockWebServer.enqueue(new MockResponse.Builder()
                 .code(responseCode)
                 .addHeader("Content-Type", "application/json; charset=utf-8")
+                .headersDelay(headersDelayMillis, TimeUnit.MILLISECONDS)
                 .body(new Buffer().write(responseBodyResource.toBytes()))
                 .build());
     }
 
+    protected void enqueueMockResponse(final MockResponse response) {
+        mockWebServer.enqueue(response);
+    }
+
+    protected void setUpMockDispatcher(final Dispatcher dispatcher) {
+        mockWebServer.setDispatcher(dispatcher);
+    }
+
+    @SneakyThrows
+    protected RecordedRequest takeRecordedRequest() {
+        return mockWebServer.takeRequest();
+    }
+
+    protected int getRequestCount() {
+        return mockWebServer.getRequestCount();
+    }
+
     protected String getMockWebServerUrl() {
         return String.format("http://%s:%d", mockWebServer.getHostName(), mockWebServer.getPort());
     }
 
-    private void setUpTMDB() {
-        connection = new DefaultConnectionBuilder()
+    protected Connection newConnection(final OkHttpClient httpClient) {
+        return new DefaultConnectionBuilder()
                 .baseUrl(getMockWebServerUrl())
                 .gsonFactory(new GsonFactory())
                 .httpClient(httpClient)
                 .userAgent("TestClient/1.0")
                 .authManager(new TokenAuthManager(new TokenAuthInfo(READ_ACCESS_TOKEN)))
                 .build();
+    }
+
+    protected OkHttpClient.Builder newHttpClientBuilder() {
+        return httpClient.newBuilder();
+    }
+
+    private void setUpTMDB() {
+        connection = newConnection(httpClient);
         client = new Tmdb(connection);
     }
 }
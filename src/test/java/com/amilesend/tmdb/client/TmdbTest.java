@@ -0,0 +1,69 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client;
+
+import com.amilesend.tmdb.client.connection.ratelimit.RateLimitInterceptor;
+import com.amilesend.tmdb.client.connection.ratelimit.TokenBucketRateLimiter;
+import com.amilesend.tmdb.client.connection.retry.RetryInterceptor;
+import okhttp3.Interceptor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TmdbTest {
+    @Test
+    public void ctor_withAccessToken_shouldNotRetryRequests() {
+        final Tmdb tmdb = new Tmdb("Token");
+
+        assertAll(
+                () -> assertTrue(tmdb.getConnection().getHttpClient().interceptors().isEmpty()),
+                () -> assertEquals(Tmdb.USER_AGENT, tmdb.getConnection().getUserAgent()));
+    }
+
+    @Test
+    public void builder_withoutRetryInterceptor_shouldNotRetryRequests() {
+        final Tmdb tmdb = Tmdb.builder()
+                .readAccessToken("Token")
+                .build();
+
+        assertTrue(tmdb.getConnection().getHttpClient().interceptors().isEmpty());
+    }
+
+    @Test
+    public void builder_withRetryInterceptorAndRateLimiter_shouldRetryBeforeThrottling() {
+        final RetryInterceptor retryInterceptor = RetryInterceptor.builder().build();
+
+        final Tmdb tmdb = Tmdb.builder()
+                .readAccessToken("Token")
+                .retryInterceptor(retryInterceptor)
+                .rateLimiter(TokenBucketRateLimiter.builder().build())
+                .build();
+
+        final List<Interceptor> actual = tmdb.getConnection().getHttpClient().interceptors();
+        assertAll(
+                () -> assertEquals(2, actual.size()),
+                () -> assertSame(retryInterceptor, actual.get(0)),
+                () -> assertInstanceOf(RateLimitInterceptor.class, actual.get(1)));
+    }
+}
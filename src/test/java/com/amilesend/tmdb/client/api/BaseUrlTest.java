@@ -0,0 +1,59 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.api;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BaseUrlTest {
+    @Test
+    public void resolve_withBasePath_shouldAppendSegments() {
+        final BaseUrl baseUrl = BaseUrl.of("https://api.themoviedb.org/3");
+
+        assertAll(
+                () -> assertEquals("https://api.themoviedb.org/3/movie/550/credits",
+                        baseUrl.resolve("/movie/550/credits").toString()),
+                () -> assertEquals("https://api.themoviedb.org/3/configuration",
+                        baseUrl.resolve("/configuration").toString()),
+                () -> assertEquals("https://api.themoviedb.org/3", baseUrl.resolve("/").toString()));
+    }
+
+    @Test
+    public void resolve_withRootOrTrailingSlashBase_shouldNotAddEmptySegments() {
+        assertAll(
+                () -> assertEquals("http://localhost:8080/movie/550",
+                        BaseUrl.of("http://localhost:8080").resolve("/movie/550").toString()),
+                () -> assertEquals("https://api.themoviedb.org/3/movie/550",
+                        BaseUrl.of("https://api.themoviedb.org/3/").resolve("/movie/550").toString()));
+    }
+
+    @Test
+    public void resolve_withEncodedPath_shouldNotEncodeAgain() {
+        final BaseUrl baseUrl = BaseUrl.of("https://api.themoviedb.org/3");
+
+        assertEquals("/3/list/Star%20Wars", baseUrl.resolve("/list/Star%20Wars").encodedPath());
+    }
+
+    @Test
+    public void of_withInvalidUrl_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> BaseUrl.of("not a url"));
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchLookupTest {
+    private final Map<Integer, CompletableFuture<String>> pendingLookups = new HashMap<>();
+    private final List<Integer> requestedIds = new ArrayList<>();
+
+    @Test
+    public void executeAsync_withMaxConcurrency_shouldBoundInFlightLookups() {
+        final BatchResult<String> result = new BatchResult<>();
+        final CompletableFuture<Void> actual = newDeferredBatchLookup(List.of(1, 2, 3, 4, 5), 2).executeAsync(result);
+        assertEquals(List.of(1, 2), requestedIds);
+
+        pendingLookups.get(2).complete("2");
+        assertEquals(List.of(1, 2, 3), requestedIds);
+
+        pendingLookups.get(1).complete("1");
+        pendingLookups.get(3).complete("3");
+        assertEquals(List.of(1, 2, 3, 4, 5), requestedIds);
+        assertFalse(actual.isDone());
+
+        pendingLookups.get(4).complete("4");
+        pendingLookups.get(5).complete("5");
+
+        assertAll(
+                () -> assertTrue(actual.isDone()),
+                () -> assertEquals(Map.of(1, "1", 2, "2", 3, "3", 4, "4", 5, "5"), result.getResults()),
+                () -> assertFalse(result.hasFailures()));
+    }
+
+    @Test
+    public void execute_withFailedLookups_shouldReportFailuresWithoutAbortingBatch() {
+        final IllegalStateException expected = new IllegalStateException("Expected");
+        final BatchResult<String> actual = BatchLookup.<String>builder()
+                .ids(List.of(1, 2, 3, 4))
+                .lookup(id -> {
+                    if (id == 2) {
+                        throw expected;
+                    }
+
+                    return id == 3
+                            ? CompletableFuture.failedFuture(new IllegalArgumentException("Bad id"))
+                            : CompletableFuture.completedFuture(String.valueOf(id));
+                })
+                .maxConcurrency(1)
+                .build()
+                .execute();
+
+        assertAll(
+                () -> assertEquals(Map.of(1, "1", 4, "4"), actual.getResults()),
+                () -> assertTrue(actual.hasFailures()),
+                () -> assertEquals(expected, actual.getFailures().get(2)),
+                () -> assertInstanceOf(IllegalArgumentException.class, actual.getFailures().get(3)));
+    }
+
+    @Test
+    public void execute_withManySynchronousLookups_shouldNotOverflowStack() {
+        final List<Integer> ids = IntStream.rangeClosed(1, 100_000).boxed().collect(Collectors.toList());
+
+        final BatchResult<String> actual = BatchLookup.<String>builder()
+                .ids(ids)
+                .lookup(id -> CompletableFuture.completedFuture(String.valueOf(id)))
+                .maxConcurrency(1)
+                .build()
+                .execute();
+
+        assertEquals(ids.size(), actual.getResults().size());
+    }
+
+    @Test
+    public void execute_withDuplicateIds_shouldLookUpEachIdOnce() {
+        final BatchResult<String> actual = newBatchLookup(List.of(1, 2, 1, 2, 3), 8).execute();
+
+        assertAll(
+                () -> assertEquals(List.of(1, 2, 3), requestedIds),
+                () -> assertEquals(3, actual.getResults().size()));
+    }
+
+    @Test
+    public void execute_withNoIds_shouldReturnEmptyResult() {
+        final BatchResult<String> actual = newBatchLookup(List.of(), 2).execute();
+
+        assertAll(
+                () -> assertTrue(actual.getResults().isEmpty()),
+                () -> assertTrue(requestedIds.isEmpty()));
+    }
+
+    @Test
+    public void executeAsync_withFailingSink_shouldCompleteExceptionallyAndStopLookups() {
+        final IllegalStateException expected = new IllegalStateException("Sink failure");
+        final CompletableFuture<Void> actual = newDeferredBatchLookup(List.of(1, 2, 3), 1)
+                .executeAsync(new BatchResultSink<>() {
+                    @Override
+                    public void onSuccess(final int id, final String result) {
+                        throw expected;
+                    }
+
+                    @Override
+                    public void onFailure(final int id, final Throwable cause) {
+                    }
+                });
+
+        pendingLookups.get(1).complete("1");
+
+        assertAll(
+                () -> assertTrue(actual.isCompletedExceptionally()),
+                () -> assertEquals(List.of(1), requestedIds));
+    }
+
+    @Test
+    public void executeAsync_whenCancelled_shouldCancelInFlightLookups() {
+        final CompletableFuture<Void> actual =
+                newDeferredBatchLookup(List.of(1, 2, 3), 2).executeAsync(new BatchResult<>());
+
+        actual.cancel(true);
+
+        assertAll(
+                () -> assertTrue(pendingLookups.get(1).isCancelled()),
+                () -> assertTrue(pendingLookups.get(2).isCancelled()),
+                () -> assertEquals(List.of(1, 2), requestedIds));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> newBatchLookup(List.of(1), 0)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> newBatchLookup(Arrays.asList(1, null), 1)),
+                () -> assertThrows(NullPointerException.class, () -> BatchLookup.<String>builder()
+                        .ids(List.of(1))
+                        .build()));
+    }
+
+    private BatchLookup<String> newBatchLookup(final List<Integer> ids, final int maxConcurrency) {
+        return BatchLookup.<String>builder()
+                .ids(ids)
+                .lookup(id -> {
+                    requestedIds.add(id);
+                    return CompletableFuture.completedFuture(String.valueOf(id));
+                })
+                .maxConcurrency(maxConcurrency)
+                .build();
+    }
+
+    private BatchLookup<String> newDeferredBatchLookup(final List<Integer> ids, final int maxConcurrency) {
+        return BatchLookup.<String>builder()
+                .ids(ids)
+                .lookup(id -> {
+                    requestedIds.add(id);
+                    final CompletableFuture<String> future = new CompletableFuture<>();
+                    pendingLookups.put(id, future);
+                    return future;
+                })
+                .maxConcurrency(maxConcurrency)
+                .build();
+    }
+}
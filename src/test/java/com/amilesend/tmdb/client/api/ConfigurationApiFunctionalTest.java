@@ -24,9 +24,12 @@ import com.amilesend.tmdb.client.model.configuration.GetJobsResponse;
 import com.amilesend.tmdb.client.model.configuration.GetLanguagesResponse;
 import com.amilesend.tmdb.client.model.configuration.GetPrimaryTranslationsResponse;
 import com.amilesend.tmdb.client.model.configuration.GetTimezonesResponse;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.TimeUnit;
+
 import static com.amilesend.tmdb.client.data.config.ConfigurationApiDataHelper.Responses.CONFIGURATION_DETAILS;
 import static com.amilesend.tmdb.client.data.config.ConfigurationApiDataHelper.Responses.COUNTRIES;
 import static com.amilesend.tmdb.client.data.config.ConfigurationApiDataHelper.Responses.JOBS;
@@ -108,4 +111,15 @@ public class ConfigurationApiFunctionalTest extends FunctionalTestBase {
 
         assertEquals(expected, actual);
     }
+
+    @Test
+    @SneakyThrows
+    public void getCountriesAsync_withValidRequest_shouldReturnResponse() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, COUNTRIES);
+        final GetCountriesResponse expected = newGetCountriesResponse();
+
+        final GetCountriesResponse actual = apiUnderTest.getCountriesAsync().get(5L, TimeUnit.SECONDS);
+
+        assertEquals(expected, actual);
+    }
 }
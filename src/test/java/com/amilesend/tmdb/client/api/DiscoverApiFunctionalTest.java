@@ -30,17 +30,32 @@ import com.amilesend.tmdb.client.model.discover.type.MovieReleaseType;
 import com.amilesend.tmdb.client.model.discover.type.SortBy;
 import com.amilesend.tmdb.client.model.discover.type.TvStatus;
 import com.amilesend.tmdb.client.model.discover.type.TvType;
+import com.amilesend.tmdb.client.model.movie.type.Movie;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.RecordedRequest;
+import okio.Buffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.amilesend.tmdb.client.data.discover.DiscoverApiDataHelper.Responses.DISCOVER_MOVIES_RESPONSE;
 import static com.amilesend.tmdb.client.data.discover.DiscoverApiDataHelper.Responses.DISCOVER_TV_RESPONSE;
 import static com.amilesend.tmdb.client.data.discover.DiscoverApiDataHelper.newDiscoverMoviesResponse;
 import static com.amilesend.tmdb.client.data.discover.DiscoverApiDataHelper.newDiscoverTvResponse;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DiscoverApiFunctionalTest extends FunctionalTestBase {
     private DiscoverApi apiUnderTest;
@@ -124,4 +139,62 @@ public class DiscoverApiFunctionalTest extends FunctionalTestBase {
 
         assertEquals(expected, actual);
     }
+
+    @SneakyThrows
+    @Test
+    public void discoverAllMovies_withMultiplePages_shouldReturnResultsInPageOrder() {
+        final int totalPages = 4;
+        setUpMockDispatcher(new PageDispatcher(new String(DISCOVER_MOVIES_RESPONSE.toBytes(), StandardCharsets.UTF_8)
+                .replace("\"total_pages\": 1", "\"total_pages\": " + totalPages)));
+        final List<String> expected = IntStream.rangeClosed(1, totalPages)
+                .boxed()
+                .flatMap(page -> newDiscoverMoviesResponse().getResults().stream()
+                        .map(movie -> "P" + page + " " + movie.getTitle()))
+                .collect(Collectors.toList());
+
+        final List<String> actual = apiUnderTest.discoverAllMovies(DiscoverMoviesRequest.builder()
+                                .sortBy(SortBy.ORIGINAL_TITLE_ASC)
+                                .build(),
+                        3)
+                .map(Movie::getTitle)
+                .collect(Collectors.toList());
+
+        assertAll(
+                () -> assertEquals(expected, actual),
+                () -> assertEquals(totalPages, getRequestCount()));
+    }
+
+    @Test
+    public void discoverAll_withStartPageOutOfRange_shouldThrowException() {
+        final Throwable thrown = assertThrows(IllegalArgumentException.class,
+                () -> apiUnderTest.discoverAllMovies(DiscoverMoviesRequest.builder()
+                        .page(DiscoverApi.MAX_PAGE + 1)
+                        .build(), 2));
+
+        assertAll(
+                () -> assertTrue(thrown.getMessage().contains("between 1 and " + DiscoverApi.MAX_PAGE)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> apiUnderTest.discoverAllTv(DiscoverTvRequest.builder()
+                                .page(DiscoverApi.MAX_PAGE + 1)
+                                .build(), 2)),
+                () -> assertEquals(0, getRequestCount()));
+    }
+
+    /** Responds with the page number prefixed to each title and delays page 2 so that later pages complete first. */
+    @RequiredArgsConstructor
+    private static class PageDispatcher extends Dispatcher {
+        private final String body;
+
+        @SneakyThrows
+        @Override
+        public MockResponse dispatch(final RecordedRequest request) {
+            final String page = request.getUrl().queryParameter("page");
+            return new MockResponse.Builder()
+                    .code(SUCCESS_STATUS_CODE)
+                    .addHeader("Content-Type", "application/json; charset=utf-8")
+                    .headersDelay("2".equals(page) ? 200L : 0L, TimeUnit.MILLISECONDS)
+                    .body(new Buffer().writeUtf8(body.replace("\"title\": \"", "\"title\": \"P" + page + " ")))
+                    .build();
+        }
+    }
 }
@@ -18,14 +18,17 @@
 package com.amilesend.tmdb.client.api;
 
 import com.amilesend.tmdb.client.FunctionalTestBase;
+import com.amilesend.tmdb.client.connection.cache.LruResponseCache;
 import com.amilesend.tmdb.client.model.genre.GetMovieGenresRequest;
 import com.amilesend.tmdb.client.model.genre.GetMovieGenresResponse;
 import com.amilesend.tmdb.client.model.genre.GetTvGenresRequest;
 import com.amilesend.tmdb.client.model.genre.GetTvGenresResponse;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 import static com.amilesend.tmdb.client.data.genre.GenresApiDataHelper.Responses.GET_MOVIE_GENRES_RESPONSE;
 import static com.amilesend.tmdb.client.data.genre.GenresApiDataHelper.Responses.GET_TV_GENRES_RESPONSE;
@@ -33,6 +36,9 @@ import static com.amilesend.tmdb.client.data.genre.GenresApiDataHelper.newGetMov
 import static com.amilesend.tmdb.client.data.genre.GenresApiDataHelper.newGetTvGenresResponse;
 import static com.amilesend.tmdb.client.data.genre.GenresApiDataValidator.assertSameGetMovieGenresResponse;
 import static com.amilesend.tmdb.client.data.genre.GenresApiDataValidator.assertSameGetTvGenresResponse;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class GenresApiFunctionalTest extends FunctionalTestBase {
     private GenresApi apiUnderTest;
@@ -63,4 +69,26 @@ public class GenresApiFunctionalTest extends FunctionalTestBase {
 
         assertSameGetTvGenresResponse(expected, actual);
     }
+
+    @SneakyThrows
+    @Test
+    public void getMovieGenres_withResponseCache_shouldOnlyRequestOnce() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, GET_MOVIE_GENRES_RESPONSE);
+        apiUnderTest = new GenresApi(getConnection(), ApiConfig.builder()
+                .responseCache(LruResponseCache.builder().build())
+                .build());
+        final GetMovieGenresRequest request = GetMovieGenresRequest.builder()
+                .language(Locale.US.getLanguage())
+                .build();
+
+        final GetMovieGenresResponse first = apiUnderTest.getMovieGenres(request);
+        final GetMovieGenresResponse second = apiUnderTest.getMovieGenres(request);
+        final GetMovieGenresResponse third = apiUnderTest.getMovieGenresAsync(request).get(5L, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertSameGetMovieGenresResponse(newGetMovieGenresResponse(), first),
+                () -> assertSame(first, second),
+                () -> assertSame(first, third),
+                () -> assertEquals(1, getRequestCount()));
+    }
 }
@@ -17,7 +17,16 @@
  */
 package com.amilesend.tmdb.client.api;
 
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
 import com.amilesend.tmdb.client.FunctionalTestBase;
+import com.amilesend.tmdb.client.connection.coalesce.RequestCoalescer;
+import com.amilesend.tmdb.client.connection.hedge.RequestHedger;
+import com.amilesend.tmdb.client.connection.metrics.EndpointStats;
+import com.amilesend.tmdb.client.connection.metrics.HistogramMetricsListener;
+import com.amilesend.tmdb.client.connection.metrics.RequestMetrics;
+import com.amilesend.tmdb.client.connection.metrics.RequestMetricsListener;
+import com.amilesend.tmdb.client.connection.metrics.RequestMetricsRecorder;
 import com.amilesend.tmdb.client.model.movie.AddRatingRequest;
 import com.amilesend.tmdb.client.model.movie.AddRatingResponse;
 import com.amilesend.tmdb.client.model.movie.DeleteRatingRequest;
@@ -55,11 +64,24 @@ import com.amilesend.tmdb.client.model.movie.GetVideosRequest;
 import com.amilesend.tmdb.client.model.movie.GetVideosResponse;
 import com.amilesend.tmdb.client.model.movie.GetWatchProvidersRequest;
 import com.amilesend.tmdb.client.model.movie.GetWatchProvidersResponse;
+import com.amilesend.tmdb.client.model.movie.type.MovieAppendToResponse;
+import lombok.SneakyThrows;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.RecordedRequest;
+import okio.Buffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static com.amilesend.tmdb.client.data.movie.MoviesApiDataHelper.Responses.ADD_RATING_RESPONSE;
 import static com.amilesend.tmdb.client.data.movie.MoviesApiDataHelper.Responses.DELETE_RATING_RESPONSE;
@@ -73,6 +95,7 @@ import static com.amilesend.tmdb.client.data.movie.MoviesApiDataHelper.Responses
 import static com.amilesend.tmdb.client.data.movie.MoviesApiDataHelper.Responses.GET_LATEST_RESPONSE;
 import static com.amilesend.tmdb.client.data.movie.MoviesApiDataHelper.Responses.GET_LISTS_RESPONSE;
 import static com.amilesend.tmdb.client.data.movie.MoviesApiDataHelper.Responses.GET_MOVIE_DETAILS_RESPONSE;
+import static com.amilesend.tmdb.client.data.movie.MoviesApiDataHelper.Responses.GET_MOVIE_DETAILS_WITH_APPENDED_RESPONSE;
 import static com.amilesend.tmdb.client.data.movie.MoviesApiDataHelper.Responses.GET_RECOMMENDATIONS_RESPONSE;
 import static com.amilesend.tmdb.client.data.movie.MoviesApiDataHelper.Responses.GET_RELEASE_DATES_RESPONSE;
 import static com.amilesend.tmdb.client.data.movie.MoviesApiDataHelper.Responses.GET_REVIEWS_RESPONSE;
@@ -116,11 +139,29 @@ import static com.amilesend.tmdb.client.data.movie.MoviesApiDataValidator.assert
 import static com.amilesend.tmdb.client.data.movie.MoviesApiDataValidator.assertSameGetVideosResponse;
 import static com.amilesend.tmdb.client.data.movie.MoviesApiDataValidator.assertSameGetWatchProvidersResponse;
 import static com.amilesend.tmdb.client.data.movie.MoviesApiDataValidator.assertSameMovieDetails;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class MoviesApiFunctionalTest extends FunctionalTestBase {
     private MoviesApi apiUnderTest;
 
+    private MoviesApi newMoviesApiWithMetrics(final RequestMetricsListener metricsListener) {
+        return new MoviesApi(
+                newConnection(newHttpClientBuilder()
+                        .eventListenerFactory(RequestMetricsRecorder.eventListenerFactory())
+                        .build()),
+                ApiConfig.builder()
+                        .metricsListener(metricsListener)
+                        .build());
+    }
+
     @BeforeEach
     public void setApi() {
         apiUnderTest = getClient().getMoviesApi();
@@ -139,6 +180,128 @@ public class MoviesApiFunctionalTest extends FunctionalTestBase {
         assertSameMovieDetails(expected, actual);
     }
 
+    @Test
+    public void getMovieDetails_withMetricsListener_shouldRecordMetrics() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, GET_MOVIE_DETAILS_RESPONSE);
+        setUpMockResponse(SUCCESS_STATUS_CODE, GET_MOVIE_DETAILS_RESPONSE);
+        final List<RequestMetrics> recorded = new CopyOnWriteArrayList<>();
+        apiUnderTest = newMoviesApiWithMetrics(recorded::add);
+        final GetMovieDetailsRequest request = GetMovieDetailsRequest.builder()
+                .movieId(1)
+                .build();
+
+        apiUnderTest.getMovieDetails(request);
+        apiUnderTest.getMovieDetailsAsync(request).join();
+
+        assertEquals(2, recorded.size());
+        assertAll(recorded.stream().map(metrics -> () -> assertAll(
+                () -> assertEquals("movies.getMovieDetails", metrics.getEndpoint()),
+                () -> assertEquals("GET", metrics.getMethod()),
+                () -> assertEquals(SUCCESS_STATUS_CODE, metrics.getStatusCode()),
+                () -> assertTrue(metrics.isSuccess()),
+                () -> assertFalse(metrics.isCached()),
+                () -> assertTrue(metrics.getResponseBytes() > 0L),
+                () -> assertNotNull(metrics.getQueueDuration()),
+                () -> assertNotNull(metrics.getNetworkDuration()),
+                () -> assertNotNull(metrics.getTimeToFirstByte()),
+                () -> assertNotNull(metrics.getDeserializationDuration()),
+                () -> assertTrue(metrics.getTotalDuration().compareTo(metrics.getNetworkDuration()) >= 0))));
+    }
+
+    @Test
+    public void getCredits_withMetricsListenerAndErrorResponse_shouldRecordFailure() {
+        setUpMockResponse(404);
+        final HistogramMetricsListener metricsListener = new HistogramMetricsListener();
+        apiUnderTest = newMoviesApiWithMetrics(metricsListener);
+
+        assertThrows(RequestException.class, () -> apiUnderTest.getCredits(GetCreditsRequest.builder()
+                .movieId(1)
+                .build()));
+
+        final EndpointStats actual = metricsListener.getEndpointStats("movies.getCredits");
+        assertAll(
+                () -> assertEquals(1L, actual.getRequestCount()),
+                () -> assertEquals(1L, actual.getErrorCount()),
+                () -> assertEquals(1L, actual.getTotalDuration().getCount()),
+                () -> assertEquals(0L, actual.getDeserializationDuration().getCount()));
+    }
+
+    @Test
+    public void getMovieDetails_withRequestCoalescer_shouldShareInFlightRequest() throws Exception {
+        setUpMockResponse(SUCCESS_STATUS_CODE, GET_MOVIE_DETAILS_RESPONSE, 200L);
+        final RequestCoalescer requestCoalescer = new RequestCoalescer();
+        apiUnderTest = new MoviesApi(getConnection(), ApiConfig.builder()
+                .requestCoalescer(requestCoalescer)
+                .build());
+        final GetMovieDetailsRequest request = GetMovieDetailsRequest.builder()
+                .movieId(1)
+                .build();
+
+        final CompletableFuture<GetMovieDetailsResponse> first = apiUnderTest.getMovieDetailsAsync(request);
+        final CompletableFuture<GetMovieDetailsResponse> second = apiUnderTest.getMovieDetailsAsync(request);
+        final CompletableFuture<GetMovieDetailsResponse> third =
+                CompletableFuture.supplyAsync(() -> apiUnderTest.getMovieDetails(request));
+
+        final GetMovieDetailsResponse actual = first.get(5L, TimeUnit.SECONDS);
+        assertAll(
+                () -> assertSameMovieDetails(newGetMovieDetailsResponse(), actual),
+                () -> assertSame(actual, second.get(5L, TimeUnit.SECONDS)),
+                () -> assertSame(actual, third.get(5L, TimeUnit.SECONDS)),
+                () -> assertEquals(1, getRequestCount()),
+                () -> assertEquals(2L, requestCoalescer.getCoalescedCount()));
+    }
+
+    @Test
+    public void getMovieDetails_withRequestHedger_shouldReturnFirstCompletedAttempt() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, GET_MOVIE_DETAILS_RESPONSE, 5000L);
+        setUpMockResponse(SUCCESS_STATUS_CODE, GET_MOVIE_DETAILS_RESPONSE);
+        final RequestHedger requestHedger = RequestHedger.builder()
+                .maxDelay(Duration.ofMillis(100L))
+                .endpointFilter("movies.getMovieDetails"::equals)
+                .build();
+        apiUnderTest = new MoviesApi(getConnection(), ApiConfig.builder()
+                .requestHedger(requestHedger)
+                .build());
+
+        final long startNanos = System.nanoTime();
+        final GetMovieDetailsResponse actual = apiUnderTest.getMovieDetails(GetMovieDetailsRequest.builder()
+                .movieId(1)
+                .build());
+
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        assertAll(
+                () -> assertSameMovieDetails(newGetMovieDetailsResponse(), actual),
+                () -> assertTrue(elapsed.compareTo(Duration.ofSeconds(5L)) < 0, "elapsed=" + elapsed),
+                () -> assertEquals(2, getRequestCount()),
+                () -> assertEquals(1L, requestHedger.getHedgedCount()),
+                () -> assertEquals(1L, requestHedger.getHedgeWinCount()));
+    }
+
+    @Test
+    public void getMovieDetails_withAppendToResponse_shouldReturnAppendedResponses() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, GET_MOVIE_DETAILS_WITH_APPENDED_RESPONSE);
+        final GetMovieDetailsResponse expected = newGetMovieDetailsResponse();
+
+        final GetMovieDetailsResponse actual = apiUnderTest.getMovieDetails(GetMovieDetailsRequest.builder()
+                .movieId(1)
+                .appendToResponse(Set.of(
+                        MovieAppendToResponse.WATCH_PROVIDERS,
+                        MovieAppendToResponse.CREDITS,
+                        MovieAppendToResponse.EXTERNAL_IDS))
+                .build());
+
+        assertAll(
+                () -> assertEquals("credits,external_ids,watch/providers",
+                        takeRecordedRequest().getUrl().queryParameter("append_to_response")),
+                () -> assertSameMovieDetails(expected, actual),
+                () -> assertSameGetCreditsResponse(newGetCreditsResponse(), actual.getCredits()),
+                () -> assertSameGetExternalIdsResponse(newGetExternalIdsResponse(), actual.getExternalIds()),
+                () -> assertSameGetWatchProvidersResponse(
+                        newGetWatchProvidersResponse(),
+                        actual.getWatchProviders()),
+                () -> assertNull(actual.getVideos()));
+    }
+
     @Test
     public void getAccountStates_withValidRequest_shouldReturnResponse() {
         setUpMockResponse(SUCCESS_STATUS_CODE, GET_ACCOUNT_STATES_RESPONSE);
@@ -374,4 +537,125 @@ public class MoviesApiFunctionalTest extends FunctionalTestBase {
 
         assertEquals(expected, actual);
     }
+
+    @Test
+    @SneakyThrows
+    public void getMovieDetailsAsync_withValidRequest_shouldReturnResponse() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, GET_MOVIE_DETAILS_RESPONSE);
+        final GetMovieDetailsResponse expected = newGetMovieDetailsResponse();
+
+        final GetMovieDetailsResponse actual = apiUnderTest.getMovieDetailsAsync(GetMovieDetailsRequest.builder()
+                        .movieId(1)
+                        .language(Locale.US.getLanguage())
+                        .build())
+                .get(5L, TimeUnit.SECONDS);
+
+        assertSameMovieDetails(expected, actual);
+    }
+
+    @Test
+    public void getMovieDetailsAsync_withClientError_shouldCompleteExceptionally() {
+        setUpMockResponse(404);
+
+        final CompletableFuture<GetMovieDetailsResponse> actual =
+                apiUnderTest.getMovieDetailsAsync(GetMovieDetailsRequest.builder()
+                        .movieId(1)
+                        .build());
+
+        final Throwable thrown = assertThrows(ExecutionException.class, () -> actual.get(5L, TimeUnit.SECONDS));
+        assertInstanceOf(RequestException.class, thrown.getCause());
+    }
+
+    @Test
+    public void getMovieDetailsAsync_withServerError_shouldCompleteExceptionally() {
+        setUpMockResponse(503);
+
+        final CompletableFuture<GetMovieDetailsResponse> actual =
+                apiUnderTest.getMovieDetailsAsync(GetMovieDetailsRequest.builder()
+                        .movieId(1)
+                        .build());
+
+        final Throwable thrown = assertThrows(ExecutionException.class, () -> actual.get(5L, TimeUnit.SECONDS));
+        assertInstanceOf(ResponseException.class, thrown.getCause());
+    }
+
+    @Test
+    public void getMovieDetails_withBatchOfIds_shouldReturnResponsesAndFailuresById() {
+        setUpMockDispatcher(new Dispatcher() {
+            @SneakyThrows
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) {
+                if (request.getUrl().encodedPath().equals("/movie/2")) {
+                    return new MockResponse.Builder()
+                            .code(404)
+                            .build();
+                }
+
+                return new MockResponse.Builder()
+                        .code(SUCCESS_STATUS_CODE)
+                        .addHeader("Content-Type", "application/json; charset=utf-8")
+                        .body(new Buffer().write(GET_MOVIE_DETAILS_RESPONSE.toBytes()))
+                        .build();
+            }
+        });
+
+        final BatchResult<GetMovieDetailsResponse> actual = apiUnderTest.getMovieDetails(
+                List.of(1, 2, 3),
+                GetMovieDetailsRequest.builder()
+                        .language(Locale.US.getLanguage())
+                        .build(),
+                2);
+
+        assertAll(
+                () -> assertEquals(Set.of(1, 3), actual.getResults().keySet()),
+                () -> assertSameMovieDetails(newGetMovieDetailsResponse(), actual.getResults().get(1)),
+                () -> assertEquals(Set.of(2), actual.getFailures().keySet()),
+                () -> assertInstanceOf(RequestException.class, actual.getFailures().get(2)),
+                () -> assertEquals(3, getRequestCount()));
+    }
+
+    @Test
+    public void getMovieDetails_withBatchOfIdsAndMetricsListener_shouldRecordEndpointName() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, GET_MOVIE_DETAILS_RESPONSE);
+        setUpMockResponse(SUCCESS_STATUS_CODE, GET_MOVIE_DETAILS_RESPONSE);
+        final HistogramMetricsListener metricsListener = new HistogramMetricsListener();
+        apiUnderTest = newMoviesApiWithMetrics(metricsListener);
+
+        apiUnderTest.getMovieDetails(List.of(1, 2), GetMovieDetailsRequest.builder().build(), 2);
+
+        assertAll(
+                () -> assertEquals(Set.of("movies.getMovieDetails"), metricsListener.getAllEndpointStats().keySet()),
+                () -> assertEquals(2L, metricsListener.getEndpointStats("movies.getMovieDetails").getRequestCount()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void addRatingAsync_withValidRequest_shouldReturnResponse() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, ADD_RATING_RESPONSE);
+        final AddRatingResponse expected = newAddRatingResponse();
+
+        final AddRatingResponse actual = apiUnderTest.addRatingAsync(AddRatingRequest.builder()
+                        .sessionId("SessionIdValue")
+                        .movieId(1)
+                        .value(8.5D)
+                        .build())
+                .get(5L, TimeUnit.SECONDS);
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @SneakyThrows
+    public void deleteRatingAsync_withValidRequest_shouldReturnResponse() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, DELETE_RATING_RESPONSE);
+        final DeleteRatingResponse expected = newDeleteRatingResponse();
+
+        final DeleteRatingResponse actual = apiUnderTest.deleteRatingAsync(DeleteRatingRequest.builder()
+                        .sessionId("SessionIdValue")
+                        .movieId(1)
+                        .build())
+                .get(5L, TimeUnit.SECONDS);
+
+        assertEquals(expected, actual);
+    }
 }
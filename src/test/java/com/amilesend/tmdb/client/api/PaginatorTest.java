@@ -0,0 +1,169 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.api;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.tmdb.client.model.PaginatedResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PaginatorTest {
+    private static final int PAGE_SIZE = 3;
+    private static final int TOTAL_PAGES = 4;
+
+    private final List<Integer> requestedPages = new ArrayList<>();
+    private final List<CompletableFuture<TestPage>> futures = new ArrayList<>();
+    private boolean isDeferringPrefetchedPages;
+
+    @Test
+    public void stream_withNoLimit_shouldReturnAllResultsInOrder() {
+        final List<Integer> actual = newPaginator(0, null).stream().collect(Collectors.toList());
+
+        assertAll(
+                () -> assertEquals(IntStream.range(0, PAGE_SIZE * TOTAL_PAGES).boxed().collect(Collectors.toList()),
+                        actual),
+                () -> assertEquals(List.of(1, 2, 3, 4), requestedPages));
+    }
+
+    @Test
+    public void iterator_withNoPrefetch_shouldFetchPagesLazily() {
+        final Iterator<Integer> iterator = newPaginator(0, null).iterator();
+        assertTrue(requestedPages.isEmpty());
+
+        for (int i = 0; i < PAGE_SIZE; ++i) {
+            iterator.next();
+        }
+        assertEquals(List.of(1), requestedPages);
+
+        iterator.next();
+        assertEquals(List.of(1, 2), requestedPages);
+    }
+
+    @Test
+    public void iterator_withPrefetch_shouldFetchPagesAhead() {
+        final Iterator<Integer> iterator = newPaginator(2, null).iterator();
+
+        iterator.next();
+
+        assertEquals(List.of(1, 2, 3), requestedPages);
+    }
+
+    @Test
+    public void stream_withMaxResults_shouldStopAtLimitAndNotOverFetch() {
+        final List<Integer> actual = newPaginator(3, 4L).stream().collect(Collectors.toList());
+
+        assertAll(
+                () -> assertEquals(List.of(0, 1, 2, 3), actual),
+                () -> assertEquals(List.of(1, 2), requestedPages));
+    }
+
+    @Test
+    public void stream_withEndPage_shouldNotFetchBeyondEndPage() {
+        final List<Integer> actual = Paginator.<Integer>builder()
+                .pageFetcher(page -> {
+                    requestedPages.add(page);
+                    return CompletableFuture.completedFuture(newTestPage(page));
+                })
+                .startPage(2)
+                .endPage(3)
+                .prefetchPages(4)
+                .build()
+                .stream()
+                .collect(Collectors.toList());
+
+        assertAll(
+                () -> assertEquals(List.of(3, 4, 5, 6, 7, 8), actual),
+                () -> assertEquals(List.of(2, 3), requestedPages));
+    }
+
+    @Test
+    public void stream_whenClosed_shouldCancelInFlightPages() {
+        isDeferringPrefetchedPages = true;
+        try (final Stream<Integer> stream = newPaginator(2, null).stream()) {
+            stream.findFirst();
+        }
+
+        assertAll(
+                () -> assertFalse(futures.get(0).isCancelled()),
+                () -> assertTrue(futures.get(1).isCancelled()),
+                () -> assertTrue(futures.get(2).isCancelled()));
+    }
+
+    @Test
+    public void iterator_withFailedPage_shouldThrowCause() {
+        final Paginator<Integer> paginator = Paginator.<Integer>builder()
+                .pageFetcher(page -> CompletableFuture.failedFuture(new RequestException("Error")))
+                .build();
+
+        final Throwable actual = assertThrows(RequestException.class, () -> paginator.iterator().hasNext());
+
+        assertEquals("Error", actual.getMessage());
+    }
+
+    @Test
+    public void builder_withInvalidStartPage_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> Paginator.<Integer>builder()
+                .pageFetcher(page -> CompletableFuture.completedFuture(newTestPage(page)))
+                .startPage(0)
+                .build());
+    }
+
+    private Paginator<Integer> newPaginator(final int prefetchPages, final Long maxResults) {
+        return Paginator.<Integer>builder()
+                .pageFetcher(page -> {
+                    requestedPages.add(page);
+                    final CompletableFuture<TestPage> future = new CompletableFuture<>();
+                    futures.add(future);
+                    if (!isDeferringPrefetchedPages || page == 1) {
+                        future.complete(newTestPage(page));
+                    }
+                    return future;
+                })
+                .prefetchPages(prefetchPages)
+                .maxResults(maxResults)
+                .build();
+    }
+
+    private static TestPage newTestPage(final int page) {
+        return new TestPage(
+                IntStream.range((page - 1) * PAGE_SIZE, page * PAGE_SIZE).boxed().collect(Collectors.toList()),
+                TOTAL_PAGES);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class TestPage implements PaginatedResponse<Integer> {
+        private final List<Integer> results;
+        private final Integer totalPages;
+    }
+}
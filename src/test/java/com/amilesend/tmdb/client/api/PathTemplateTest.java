@@ -0,0 +1,104 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.api;
+
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PathTemplateTest {
+    private static final PathTemplate SEASON_PATH = PathTemplate.of("/tv/{series_id}/season/{season_number}");
+
+    @Test
+    public void of_withVariables_shouldParseVariableNames() {
+        assertAll(
+                () -> assertEquals(List.of("series_id", "season_number"), SEASON_PATH.getVariableNames()),
+                () -> assertEquals(2, SEASON_PATH.getVariableCount()),
+                () -> assertEquals("/tv/{series_id}/season/{season_number}", SEASON_PATH.toString()));
+    }
+
+    @Test
+    public void expand_withNumericValues_shouldSubstituteSegments() {
+        final PathTemplate credits = PathTemplate.of("/movie/{movie_id}/credits");
+
+        assertAll(
+                () -> assertEquals("/movie/550/credits", credits.expand(550)),
+                () -> assertEquals("/movie/550/credits", credits.expand((Object) 550)),
+                () -> assertEquals("/tv/1399/season/2", SEASON_PATH.expand(1399, 2L)));
+    }
+
+    @Test
+    public void expand_withoutVariables_shouldReturnSameLiteral() {
+        final PathTemplate latest = PathTemplate.of("/movie/latest");
+
+        assertSame(latest.expand(), latest.expand());
+    }
+
+    @Test
+    public void expand_withReservedCharacters_shouldEncodeOnce() {
+        final PathTemplate list = PathTemplate.of("/list/{list_id}");
+
+        assertAll(
+                () -> assertEquals("/list/Star%20Wars", list.expand("Star Wars")),
+                () -> assertEquals("/list/a%2Fb%3Fc%23d%25e%2Bf%26g", list.expand("a/b?c#d%e+f&g")),
+                () -> assertEquals("/list/caf%C3%A9-%F0%9F%8E%AC", list.expand("café-🎬")),
+                () -> assertEquals("/list/tt0076759", list.expand("tt0076759")),
+                () -> assertEquals("/list/..a", list.expand("..a")));
+    }
+
+    @Test
+    public void expand_withReservedCharacters_shouldResolveToSingleSegment() {
+        final BaseUrl baseUrl = BaseUrl.of("https://api.themoviedb.org/3");
+        final PathTemplate list = PathTemplate.of("/list/{list_id}/items");
+
+        final HttpUrl actual = baseUrl.resolve(list.expand("a/b?c#d%e f"));
+
+        assertAll(
+                () -> assertEquals(List.of("3", "list", "a/b?c#d%e f", "items"), actual.pathSegments()),
+                () -> assertEquals("/3/list/a%2Fb%3Fc%23d%25e%20f/items", actual.encodedPath()),
+                () -> assertEquals(null, actual.query()));
+    }
+
+    @Test
+    public void expand_withInvalidValues_shouldThrowException() {
+        final PathTemplate list = PathTemplate.of("/list/{list_id}");
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> list.expand("")),
+                () -> assertThrows(IllegalArgumentException.class, () -> list.expand("..")),
+                () -> assertThrows(IllegalArgumentException.class, () -> list.expand(1, 2)),
+                () -> assertThrows(IllegalArgumentException.class, () -> SEASON_PATH.expand(1L)),
+                () -> assertThrows(NullPointerException.class, () -> list.expand((Object) null)));
+    }
+
+    @Test
+    public void of_withInvalidTemplate_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> PathTemplate.of("movie/{movie_id}")),
+                () -> assertThrows(IllegalArgumentException.class, () -> PathTemplate.of("/movie/{movie_id")),
+                () -> assertThrows(IllegalArgumentException.class, () -> PathTemplate.of("/movie/{}")),
+                () -> assertThrows(IllegalArgumentException.class, () -> PathTemplate.of("/movie/id{movie_id}")),
+                () -> assertThrows(IllegalArgumentException.class, () -> PathTemplate.of("/movie/{movie_id}?a=b")));
+    }
+}
@@ -17,7 +17,14 @@
  */
 package com.amilesend.tmdb.client.api;
 
+import com.amilesend.client.connection.ResponseException;
 import com.amilesend.tmdb.client.FunctionalTestBase;
+import com.amilesend.tmdb.client.connection.isolation.ApiFamily;
+import com.amilesend.tmdb.client.connection.isolation.ApiIsolation;
+import com.amilesend.tmdb.client.connection.isolation.CallNotPermittedException;
+import com.amilesend.tmdb.client.connection.isolation.CircuitBreaker;
+import com.amilesend.tmdb.client.model.movie.GetMovieDetailsRequest;
+import com.amilesend.tmdb.client.model.movie.GetMovieDetailsResponse;
 import com.amilesend.tmdb.client.model.search.SearchCollectionsRequest;
 import com.amilesend.tmdb.client.model.search.SearchCollectionsResponse;
 import com.amilesend.tmdb.client.model.search.SearchCompaniesRequest;
@@ -32,11 +39,15 @@ import com.amilesend.tmdb.client.model.search.SearchPeopleRequest;
 import com.amilesend.tmdb.client.model.search.SearchPeopleResponse;
 import com.amilesend.tmdb.client.model.search.SearchTvRequest;
 import com.amilesend.tmdb.client.model.search.SearchTvResponse;
+import okhttp3.HttpUrl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Locale;
 
+import static com.amilesend.tmdb.client.data.movie.MoviesApiDataHelper.Responses.GET_MOVIE_DETAILS_RESPONSE;
+import static com.amilesend.tmdb.client.data.movie.MoviesApiDataHelper.newGetMovieDetailsResponse;
+import static com.amilesend.tmdb.client.data.movie.MoviesApiDataValidator.assertSameMovieDetails;
 import static com.amilesend.tmdb.client.data.search.SearchApiDataHelper.Responses.SEARCH_COLLECTIONS_RESPONSE;
 import static com.amilesend.tmdb.client.data.search.SearchApiDataHelper.Responses.SEARCH_COMPANIES_RESPONSE;
 import static com.amilesend.tmdb.client.data.search.SearchApiDataHelper.Responses.SEARCH_KEYWORDS_RESPONSE;
@@ -58,6 +69,9 @@ import static com.amilesend.tmdb.client.data.search.SearchApiDataValidator.asser
 import static com.amilesend.tmdb.client.data.search.SearchApiDataValidator.assertSameSearchMultiResponse;
 import static com.amilesend.tmdb.client.data.search.SearchApiDataValidator.assertSameSearchPeopleResponse;
 import static com.amilesend.tmdb.client.data.search.SearchApiDataValidator.assertSameSearchTvResponse;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class SearchApiFunctionalTest extends FunctionalTestBase {
     private SearchApi apiUnderTest;
@@ -144,6 +158,63 @@ public class SearchApiFunctionalTest extends FunctionalTestBase {
         assertSameSearchMultiResponse(expected, actual);
     }
 
+    @Test
+    public void searchMulti_withReservedCharactersInQuery_shouldEncodeQueryOnce() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SEARCH_MULTI_RESPONSE);
+        final String query = "Star Wars: Episode IV & V? #1+2 = 100%/é";
+
+        apiUnderTest.searchMulti(SearchMultiRequest.builder()
+                .query(query)
+                .build());
+
+        final HttpUrl actual = takeRecordedRequest().getUrl();
+        assertAll(
+                () -> assertEquals(query, actual.queryParameter("query")),
+                () -> assertEquals(
+                        "Star%20Wars%3A%20Episode%20IV%20%26%20V%3F%20%231%2B2%20%3D%20100%25%2F%C3%A9",
+                        actual.encodedQuery().replaceFirst(".*query=([^&]*).*", "$1")),
+                () -> assertEquals("/search/multi", actual.encodedPath()));
+    }
+
+    @Test
+    public void searchMulti_withOpenCircuitBreaker_shouldFailFastAndNotAffectOtherFamilies() {
+        setUpMockResponse(500);
+        setUpMockResponse(500);
+        setUpMockResponse(SUCCESS_STATUS_CODE, GET_MOVIE_DETAILS_RESPONSE);
+        final ApiIsolation apiIsolation = ApiIsolation.builder()
+                .circuitBreakerSupplier(() -> CircuitBreaker.builder()
+                        .windowSize(2)
+                        .minimumCalls(2)
+                        .build())
+                .build();
+        final ApiConfig apiConfig = ApiConfig.builder()
+                .apiIsolation(apiIsolation)
+                .build();
+        apiUnderTest = new SearchApi(getConnection(), apiConfig);
+        final SearchMultiRequest request = SearchMultiRequest.builder()
+                .query("Search Query")
+                .build();
+
+        assertThrows(ResponseException.class, () -> apiUnderTest.searchMulti(request));
+        assertThrows(ResponseException.class, () -> apiUnderTest.searchMulti(request));
+        final CallNotPermittedException thrown =
+                assertThrows(CallNotPermittedException.class, () -> apiUnderTest.searchMulti(request));
+        final GetMovieDetailsResponse actual = new MoviesApi(getConnection(), apiConfig)
+                .getMovieDetails(GetMovieDetailsRequest.builder()
+                        .movieId(1)
+                        .build());
+
+        assertAll(
+                () -> assertEquals(ApiFamily.SEARCH, thrown.getApiFamily()),
+                () -> assertEquals(CircuitBreaker.State.OPEN, thrown.getState()),
+                () -> assertSameMovieDetails(newGetMovieDetailsResponse(), actual),
+                () -> assertEquals(3, getRequestCount()),
+                () -> assertEquals(1L, apiIsolation.getCircuitBreaker(ApiFamily.SEARCH).getNotPermittedCount()),
+                () -> assertEquals(
+                        CircuitBreaker.State.CLOSED,
+                        apiIsolation.getCircuitBreakerStates().get(ApiFamily.DETAILS)));
+    }
+
     @Test
     public void searchPeople_withValidRequest_shouldReturnResponse() {
         setUpMockResponse(SUCCESS_STATUS_CODE, SEARCH_PEOPLE_RESPONSE);
@@ -0,0 +1,113 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.google.gson.Gson;
+import okhttp3.Call;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class FutureCallbackTest {
+    private static final Executor REJECTING_EXECUTOR = command -> {
+        throw new RejectedExecutionException("Executor is shut down");
+    };
+
+    private final CompletableFuture<String> future = new CompletableFuture<>();
+
+    @Test
+    public void onResponse_withSuccessfulResponse_shouldCompleteFuture() {
+        newFutureCallback(Runnable::run).onResponse(mock(Call.class), newResponse(200));
+
+        assertEquals("parsed", future.join());
+    }
+
+    @Test
+    public void onResponse_withRedirectResponse_shouldCompleteFuture() {
+        newFutureCallback(Runnable::run).onResponse(mock(Call.class), newResponse(304));
+
+        assertEquals("parsed", future.join());
+    }
+
+    @Test
+    public void onResponse_withServerErrorResponse_shouldCompleteFutureExceptionally() {
+        newFutureCallback(Runnable::run).onResponse(mock(Call.class), newResponse(503));
+
+        final Throwable thrown = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(ResponseException.class, thrown.getCause());
+    }
+
+    @Test
+    public void onResponse_withRejectedCallbackExecutor_shouldCompleteFutureDirectly() {
+        newFutureCallback(REJECTING_EXECUTOR).onResponse(mock(Call.class), newResponse(200));
+
+        assertAll(
+                () -> assertTrue(future.isDone()),
+                () -> assertEquals("parsed", future.join()));
+    }
+
+    @Test
+    public void onResponse_withErrorResponseAndRejectedCallbackExecutor_shouldCompleteFutureExceptionally() {
+        newFutureCallback(REJECTING_EXECUTOR).onResponse(mock(Call.class), newResponse(404));
+
+        final Throwable thrown = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(RequestException.class, thrown.getCause());
+    }
+
+    @Test
+    public void onFailure_withRejectedCallbackExecutor_shouldCompleteFutureExceptionally() {
+        newFutureCallback(REJECTING_EXECUTOR).onFailure(mock(Call.class), new IOException("Connection reset"));
+
+        final Throwable thrown = assertThrows(CompletionException.class, future::join);
+        assertAll(
+                () -> assertInstanceOf(RequestException.class, thrown.getCause()),
+                () -> assertInstanceOf(IOException.class, thrown.getCause().getCause()));
+    }
+
+    private FutureCallback<String> newFutureCallback(final Executor callbackExecutor) {
+        return new FutureCallback<>(future, new Gson(), (gson, jsonStream) -> "parsed", callbackExecutor);
+    }
+
+    private static Response newResponse(final int code) {
+        return new Response.Builder()
+                .request(new Request.Builder().url("https://api.themoviedb.org/3/movie/550").build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message(code == 200 ? "OK" : "Not Found")
+                .body(ResponseBody.create("{}", MediaType.get("application/json")))
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EndpointCachePolicyTest {
+    @Test
+    public void getTimeToLive_withMultipleMatchingPrefixes_shouldUseLongestPrefix() {
+        final EndpointCachePolicy policyUnderTest = EndpointCachePolicy.builder()
+                .timeToLive("/movie/", Duration.ofMinutes(5L))
+                .timeToLive("/movie/popular", Duration.ofMinutes(1L))
+                .defaultTimeToLive(Duration.ofSeconds(10L))
+                .build();
+
+        assertAll(
+                () -> assertEquals(Duration.ofMinutes(1L), policyUnderTest.getTimeToLive("/movie/popular")),
+                () -> assertEquals(Duration.ofMinutes(5L), policyUnderTest.getTimeToLive("/movie/550")),
+                () -> assertEquals(Duration.ofSeconds(10L), policyUnderTest.getTimeToLive("/tv/1")));
+    }
+
+    @Test
+    public void referenceData_shouldOnlyCacheReferenceDataPaths() {
+        final EndpointCachePolicy policyUnderTest = EndpointCachePolicy.referenceData(Duration.ofHours(1L));
+
+        assertAll(
+                () -> assertTrue(policyUnderTest.isCacheable("/genre/movie/list")),
+                () -> assertTrue(policyUnderTest.isCacheable("/certification/tv/list")),
+                () -> assertTrue(policyUnderTest.isCacheable("/configuration/countries")),
+                () -> assertTrue(policyUnderTest.isCacheable("/watch/providers/regions")),
+                () -> assertFalse(policyUnderTest.isCacheable("/movie/550")));
+    }
+
+    @Test
+    public void none_shouldNotCache() {
+        assertFalse(CachePolicy.NONE.isCacheable("/genre/movie/list"));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.cache;
+
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class LruResponseCacheTest {
+    private static final Duration TTL = Duration.ofMinutes(1L);
+
+    @Mock
+    private Clock mockClock;
+
+    private LruResponseCache cacheUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        cacheUnderTest = LruResponseCache.builder()
+                .maxWeight(2L)
+                .clock(mockClock)
+                .build();
+    }
+
+    @Test
+    public void get_withCachedResponse_shouldReturnResponse() {
+        when(mockClock.millis()).thenReturn(0L);
+        final Object expected = new Object();
+        cacheUnderTest.put(newKey("a"), expected, TTL);
+
+        assertSame(expected, cacheUnderTest.get(newKey("a")));
+    }
+
+    @Test
+    public void get_withDifferentAuthIdentity_shouldReturnNull() {
+        when(mockClock.millis()).thenReturn(0L);
+        cacheUnderTest.put(newKey("a"), new Object(), TTL);
+
+        assertNull(cacheUnderTest.get(new CacheKey(HttpUrl.parse("https://localhost/a"), "Bearer other")));
+    }
+
+    @Test
+    public void get_withExpiredResponse_shouldReturnNullAndEvict() {
+        when(mockClock.millis()).thenReturn(0L, TTL.toMillis());
+        cacheUnderTest.put(newKey("a"), new Object(), TTL);
+
+        assertAll(
+                () -> assertNull(cacheUnderTest.get(newKey("a"))),
+                () -> assertEquals(0, cacheUnderTest.size()),
+                () -> assertEquals(0L, cacheUnderTest.getTotalWeight()));
+    }
+
+    @Test
+    public void put_withExceededMaxWeight_shouldEvictLeastRecentlyUsed() {
+        when(mockClock.millis()).thenReturn(0L);
+        final Object first = new Object();
+        cacheUnderTest.put(newKey("a"), first, TTL);
+        cacheUnderTest.put(newKey("b"), new Object(), TTL);
+        // Access "a" so that "b" becomes the least-recently-used entry
+        cacheUnderTest.get(newKey("a"));
+
+        cacheUnderTest.put(newKey("c"), new Object(), TTL);
+
+        assertAll(
+                () -> assertSame(first, cacheUnderTest.get(newKey("a"))),
+                () -> assertNull(cacheUnderTest.get(newKey("b"))),
+                () -> assertEquals(2, cacheUnderTest.size()),
+                () -> assertEquals(2L, cacheUnderTest.getTotalWeight()));
+    }
+
+    @Test
+    public void put_withCustomWeigher_shouldBoundByWeight() {
+        when(mockClock.millis()).thenReturn(0L);
+        cacheUnderTest = LruResponseCache.builder()
+                .maxWeight(5L)
+                .weigher((key, response) -> ((List<?>) response).size())
+                .clock(mockClock)
+                .build();
+        cacheUnderTest.put(newKey("a"), List.of(1, 2, 3), TTL);
+        cacheUnderTest.put(newKey("b"), List.of(1, 2), TTL);
+        cacheUnderTest.put(newKey("c"), List.of(1, 2, 3, 4, 5, 6), TTL);
+
+        cacheUnderTest.put(newKey("d"), List.of(1), TTL);
+
+        assertAll(
+                () -> assertNull(cacheUnderTest.get(newKey("a"))),
+                () -> assertNull(cacheUnderTest.get(newKey("c"))),
+                () -> assertEquals(List.of(1, 2), cacheUnderTest.get(newKey("b"))),
+                () -> assertEquals(List.of(1), cacheUnderTest.get(newKey("d"))),
+                () -> assertEquals(3L, cacheUnderTest.getTotalWeight()));
+    }
+
+    @Test
+    public void put_withExistingKey_shouldReplaceResponse() {
+        when(mockClock.millis()).thenReturn(0L);
+        final Object expected = new Object();
+        cacheUnderTest.put(newKey("a"), new Object(), TTL);
+
+        cacheUnderTest.put(newKey("a"), expected, TTL);
+
+        assertAll(
+                () -> assertSame(expected, cacheUnderTest.get(newKey("a"))),
+                () -> assertEquals(1L, cacheUnderTest.getTotalWeight()));
+    }
+
+    @Test
+    public void invalidateAll_shouldRemoveAllEntries() {
+        when(mockClock.millis()).thenReturn(0L);
+        cacheUnderTest.put(newKey("a"), new Object(), TTL);
+        cacheUnderTest.put(newKey("b"), new Object(), TTL);
+
+        cacheUnderTest.invalidateAll();
+
+        assertAll(
+                () -> assertEquals(0, cacheUnderTest.size()),
+                () -> assertEquals(0L, cacheUnderTest.getTotalWeight()));
+    }
+
+    @Test
+    public void builder_withInvalidMaxWeight_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> LruResponseCache.builder().maxWeight(0L).build());
+    }
+
+    private static CacheKey newKey(final String path) {
+        return new CacheKey(HttpUrl.parse("https://localhost/" + path), "Bearer token");
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.coalesce;
+
+import com.amilesend.tmdb.client.connection.cache.CacheKey;
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RequestCoalescerTest {
+    private static final CacheKey KEY = new CacheKey(HttpUrl.get("https://api.themoviedb.org/3/movie/1"), "Bearer 1");
+    private static final CacheKey OTHER_KEY = new CacheKey(HttpUrl.get("https://api.themoviedb.org/3/movie/1"), null);
+
+    private final RequestCoalescer coalescerUnderTest = new RequestCoalescer();
+
+    @Test
+    public void execute_withConcurrentIdenticalRequests_shouldExecuteOnce() throws Exception {
+        final CountDownLatch releaseLatch = new CountDownLatch(1);
+        final AtomicInteger executions = new AtomicInteger();
+        final Object response = new Object();
+        final CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() ->
+                coalescerUnderTest.execute(KEY, () -> {
+                    executions.incrementAndGet();
+                    await(releaseLatch);
+                    return response;
+                }));
+        awaitInFlight(1);
+
+        final CompletableFuture<Object> follower = CompletableFuture.supplyAsync(() ->
+                coalescerUnderTest.execute(KEY, () -> {
+                    executions.incrementAndGet();
+                    return new Object();
+                }));
+        awaitCoalesced(1L);
+        releaseLatch.countDown();
+
+        assertAll(
+                () -> assertSame(response, leader.get(5L, TimeUnit.SECONDS)),
+                () -> assertSame(response, follower.get(5L, TimeUnit.SECONDS)),
+                () -> assertEquals(1, executions.get()),
+                () -> assertEquals(1L, coalescerUnderTest.getExecutedCount()),
+                () -> assertEquals(1L, coalescerUnderTest.getCoalescedCount()),
+                () -> assertEquals(0, coalescerUnderTest.getInFlightCount()));
+    }
+
+    @Test
+    public void execute_withFailedRequest_shouldThrowSameExceptionToAllCallers() throws Exception {
+        final CountDownLatch releaseLatch = new CountDownLatch(1);
+        final IllegalStateException expected = new IllegalStateException("Failure");
+        final CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() ->
+                coalescerUnderTest.execute(KEY, () -> {
+                    await(releaseLatch);
+                    throw expected;
+                }));
+        awaitInFlight(1);
+        final CompletableFuture<Object> follower =
+                CompletableFuture.supplyAsync(() -> coalescerUnderTest.execute(KEY, Object::new));
+        awaitCoalesced(1L);
+        releaseLatch.countDown();
+
+        final ExecutionException leaderException =
+                assertThrows(ExecutionException.class, () -> leader.get(5L, TimeUnit.SECONDS));
+        final ExecutionException followerException =
+                assertThrows(ExecutionException.class, () -> follower.get(5L, TimeUnit.SECONDS));
+        assertAll(
+                () -> assertSame(expected, leaderException.getCause()),
+                () -> assertSame(expected, followerException.getCause()),
+                () -> assertEquals(0, coalescerUnderTest.getInFlightCount()));
+    }
+
+    @Test
+    public void execute_withSequentialRequests_shouldExecuteEachRequest() {
+        final Object first = coalescerUnderTest.execute(KEY, Object::new);
+        final Object second = coalescerUnderTest.execute(KEY, Object::new);
+
+        assertAll(
+                () -> assertFalse(first == second),
+                () -> assertEquals(2L, coalescerUnderTest.getExecutedCount()),
+                () -> assertEquals(0L, coalescerUnderTest.getCoalescedCount()));
+    }
+
+    @Test
+    public void executeAsync_withInFlightRequest_shouldShareResponse() throws Exception {
+        final CompletableFuture<Object> shared = new CompletableFuture<>();
+        final AtomicInteger executions = new AtomicInteger();
+        final Object response = new Object();
+
+        final CompletableFuture<Object> first = coalescerUnderTest.executeAsync(KEY, () -> {
+            executions.incrementAndGet();
+            return shared;
+        });
+        final CompletableFuture<Object> second = coalescerUnderTest.executeAsync(KEY, () -> {
+            executions.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        final CompletableFuture<Object> other = coalescerUnderTest.executeAsync(OTHER_KEY, () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedFuture(new Object());
+        });
+        shared.complete(response);
+
+        assertAll(
+                () -> assertSame(response, first.get(5L, TimeUnit.SECONDS)),
+                () -> assertSame(response, second.get(5L, TimeUnit.SECONDS)),
+                () -> assertFalse(other.get(5L, TimeUnit.SECONDS) == response),
+                () -> assertEquals(2, executions.get()),
+                () -> assertEquals(1L, coalescerUnderTest.getCoalescedCount()),
+                () -> assertEquals(0, coalescerUnderTest.getInFlightCount()));
+    }
+
+    @Test
+    public void executeAsync_withCancelledCaller_shouldNotCancelSharedRequest() throws Exception {
+        final CompletableFuture<Object> shared = new CompletableFuture<>();
+        final Object response = new Object();
+        final CompletableFuture<Object> first = coalescerUnderTest.executeAsync(KEY, () -> shared);
+        final CompletableFuture<Object> second = coalescerUnderTest.executeAsync(KEY, CompletableFuture::new);
+
+        first.cancel(true);
+        shared.complete(response);
+
+        assertAll(
+                () -> assertFalse(shared.isCancelled()),
+                () -> assertTrue(first.isCancelled()),
+                () -> assertSame(response, second.get(5L, TimeUnit.SECONDS)));
+    }
+
+    @Test
+    public void executeAsync_withFailedRequest_shouldCompleteAllCallersExceptionally() {
+        final CompletableFuture<Object> shared = new CompletableFuture<>();
+        final CompletableFuture<Object> first = coalescerUnderTest.executeAsync(KEY, () -> shared);
+        final CompletableFuture<Object> second = coalescerUnderTest.executeAsync(KEY, CompletableFuture::new);
+
+        shared.completeExceptionally(new IllegalStateException("Failure"));
+
+        assertAll(
+                () -> assertInstanceOf(IllegalStateException.class,
+                        assertThrows(ExecutionException.class, () -> first.get(5L, TimeUnit.SECONDS)).getCause()),
+                () -> assertInstanceOf(IllegalStateException.class,
+                        assertThrows(ExecutionException.class, () -> second.get(5L, TimeUnit.SECONDS)).getCause()),
+                () -> assertEquals(0, coalescerUnderTest.getInFlightCount()));
+    }
+
+    @Test
+    public void executeAsync_withSupplierException_shouldReturnFailedFuture() {
+        final CompletableFuture<Object> actual = coalescerUnderTest.executeAsync(KEY, () -> {
+            throw new IllegalStateException("Failure");
+        });
+
+        assertAll(
+                () -> assertTrue(actual.isCompletedExceptionally()),
+                () -> assertEquals(0, coalescerUnderTest.getInFlightCount()));
+    }
+
+    private void awaitInFlight(final int count) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        while (coalescerUnderTest.getInFlightCount() != count && System.nanoTime() < deadline) {
+            Thread.sleep(1L);
+        }
+    }
+
+    private void awaitCoalesced(final long count) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        while (coalescerUnderTest.getCoalescedCount() != count && System.nanoTime() < deadline) {
+            Thread.sleep(1L);
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5L, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
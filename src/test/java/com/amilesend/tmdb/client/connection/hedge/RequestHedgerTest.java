@@ -0,0 +1,198 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.hedge;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RequestHedgerTest {
+    private static final String ENDPOINT = "movies.getMovieDetails";
+
+    private final List<CompletableFuture<String>> attempts = new ArrayList<>();
+    private final Supplier<CompletableFuture<String>> attemptSupplier = () -> {
+        final CompletableFuture<String> attempt = new CompletableFuture<>();
+        synchronized (attempts) {
+            attempts.add(attempt);
+            attempts.notifyAll();
+        }
+        return attempt;
+    };
+
+    @Test
+    public void execute_withFastAttempt_shouldNotHedge() throws Exception {
+        final RequestHedger hedger = newHedger(Duration.ofMillis(50L), 1.0D);
+
+        final CompletableFuture<String> actual = hedger.execute(ENDPOINT, attemptSupplier);
+        attempts.get(0).complete("primary");
+
+        assertEquals("primary", actual.get(1L, TimeUnit.SECONDS));
+        TimeUnit.MILLISECONDS.sleep(100L);
+        assertAll(
+                () -> assertEquals(1, attempts.size()),
+                () -> assertEquals(1L, hedger.getRequestCount()),
+                () -> assertEquals(0L, hedger.getHedgedCount()));
+    }
+
+    @Test
+    public void execute_withSlowAttempt_shouldUseHedgeAndCancelPrimary() throws Exception {
+        final RequestHedger hedger = newHedger(Duration.ofMillis(20L), 1.0D);
+
+        final CompletableFuture<String> actual = hedger.execute(ENDPOINT, attemptSupplier);
+        awaitAttempts(2);
+        attempts.get(1).complete("hedge");
+
+        assertAll(
+                () -> assertEquals("hedge", actual.get(1L, TimeUnit.SECONDS)),
+                () -> assertTrue(attempts.get(0).isCancelled()),
+                () -> assertEquals(1L, hedger.getHedgedCount()),
+                () -> assertEquals(1L, hedger.getHedgeWinCount()));
+    }
+
+    @Test
+    public void execute_withSlowAttemptCompletingFirst_shouldCancelHedge() throws Exception {
+        final RequestHedger hedger = newHedger(Duration.ofMillis(20L), 1.0D);
+
+        final CompletableFuture<String> actual = hedger.execute(ENDPOINT, attemptSupplier);
+        awaitAttempts(2);
+        attempts.get(0).complete("primary");
+
+        assertEquals("primary", actual.get(1L, TimeUnit.SECONDS));
+        // The hedge may still be returning from the scheduler thread when the result completes
+        final long deadline = System.currentTimeMillis() + 1000L;
+        while (!attempts.get(1).isDone() && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+        assertAll(
+                () -> assertTrue(attempts.get(1).isCancelled()),
+                () -> assertEquals(0L, hedger.getHedgeWinCount()));
+    }
+
+    @Test
+    public void execute_withFailedAttemptBeforeDelay_shouldFailWithoutHedge() throws Exception {
+        final RequestHedger hedger = newHedger(Duration.ofMillis(50L), 1.0D);
+        final IllegalStateException expected = new IllegalStateException("Failed");
+
+        final CompletableFuture<String> actual = hedger.execute(ENDPOINT, attemptSupplier);
+        attempts.get(0).completeExceptionally(expected);
+
+        final ExecutionException thrown = assertThrows(ExecutionException.class, () -> actual.get(1L, TimeUnit.SECONDS));
+        TimeUnit.MILLISECONDS.sleep(100L);
+        assertAll(
+                () -> assertEquals(expected, thrown.getCause()),
+                () -> assertEquals(1, attempts.size()));
+    }
+
+    @Test
+    public void execute_withHedgedAttemptFailure_shouldWaitForOtherAttempt() throws Exception {
+        final RequestHedger hedger = newHedger(Duration.ofMillis(20L), 1.0D);
+
+        final CompletableFuture<String> actual = hedger.execute(ENDPOINT, attemptSupplier);
+        awaitAttempts(2);
+        attempts.get(0).completeExceptionally(new IllegalStateException("Primary failed"));
+        assertFalse(actual.isDone());
+        attempts.get(1).completeExceptionally(new IllegalArgumentException("Hedge failed"));
+
+        final ExecutionException thrown = assertThrows(ExecutionException.class, () -> actual.get(1L, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, thrown.getCause());
+    }
+
+    @Test
+    public void execute_withHedgeCreditsExhausted_shouldThrottleHedges() throws Exception {
+        final RequestHedger hedger = newHedger(Duration.ofMillis(10L), 0.01D);
+        final List<CompletableFuture<String>> results = new ArrayList<>();
+
+        for (int i = 0; i < 12; ++i) {
+            results.add(hedger.execute(ENDPOINT, attemptSupplier));
+        }
+        TimeUnit.MILLISECONDS.sleep(200L);
+        synchronized (attempts) {
+            attempts.forEach(attempt -> attempt.complete("done"));
+        }
+
+        for (final CompletableFuture<String> result : results) {
+            assertEquals("done", result.get(1L, TimeUnit.SECONDS));
+        }
+        assertAll(
+                () -> assertEquals(12L, hedger.getRequestCount()),
+                () -> assertEquals(10L, hedger.getHedgedCount()),
+                () -> assertEquals(2L, hedger.getThrottledCount()));
+    }
+
+    @Test
+    public void getHedgeDelay_withEnoughSamples_shouldUsePercentileWithinBounds() {
+        final RequestHedger hedger = RequestHedger.builder()
+                .minDelay(Duration.ofMillis(5L))
+                .maxDelay(Duration.ofSeconds(10L))
+                .minSamples(64)
+                .build();
+        assertEquals(Duration.ofSeconds(10L), hedger.getHedgeDelay(ENDPOINT));
+
+        for (int i = 0; i < 64; ++i) {
+            hedger.execute(ENDPOINT, () -> CompletableFuture.completedFuture("done"));
+        }
+
+        assertEquals(Duration.ofMillis(5L), hedger.getHedgeDelay(ENDPOINT));
+    }
+
+    @Test
+    public void builder_withInvalidSettings_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> RequestHedger.builder()
+                        .percentile(100.0D)
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> RequestHedger.builder()
+                        .minDelay(Duration.ofSeconds(2L))
+                        .maxDelay(Duration.ofSeconds(1L))
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> RequestHedger.builder()
+                        .maxHedgeRatio(0.0D)
+                        .build()));
+    }
+
+    private static RequestHedger newHedger(final Duration delay, final double maxHedgeRatio) {
+        return RequestHedger.builder()
+                .minDelay(delay)
+                .maxDelay(delay)
+                .maxHedgeRatio(maxHedgeRatio)
+                .build();
+    }
+
+    private void awaitAttempts(final int count) throws InterruptedException {
+        synchronized (attempts) {
+            final long deadline = System.currentTimeMillis() + 5000L;
+            while (attempts.size() < count && System.currentTimeMillis() < deadline) {
+                attempts.wait(100L);
+            }
+        }
+        assertEquals(count, attempts.size());
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.http;
+
+import lombok.SneakyThrows;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import okhttp3.Cache;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class HttpCacheStatsTest {
+    @TempDir
+    private Path cacheDirectory;
+
+    private final MockWebServer mockWebServer = new MockWebServer();
+    private HttpCacheStats statsUnderTest;
+    private OkHttpClient httpClient;
+
+    @SneakyThrows
+    @BeforeEach
+    public void setUp() {
+        mockWebServer.start();
+        statsUnderTest = new HttpCacheStats();
+        httpClient = new OkHttpClient.Builder()
+                .cache(new Cache(cacheDirectory.toFile(), 1024L * 1024L))
+                .eventListenerFactory(statsUnderTest.eventListenerFactory())
+                .build();
+    }
+
+    @SneakyThrows
+    @AfterEach
+    public void cleanUp() {
+        mockWebServer.close();
+        httpClient.cache().close();
+    }
+
+    @Test
+    public void execute_withFreshCachedResponse_shouldRecordHit() {
+        mockWebServer.enqueue(newCacheableResponse("max-age=60"));
+
+        assertAll(
+                () -> assertEquals("Body", execute()),
+                () -> assertEquals("Body", execute()),
+                () -> assertEquals(1L, statsUnderTest.getMissCount()),
+                () -> assertEquals(1L, statsUnderTest.getHitCount()),
+                () -> assertEquals(0L, statsUnderTest.getRevalidateCount()),
+                () -> assertEquals(0.5D, statsUnderTest.getHitRatio()),
+                () -> assertEquals(1, mockWebServer.getRequestCount()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void execute_withNotModifiedResponse_shouldRecordRevalidate() {
+        mockWebServer.enqueue(newCacheableResponse("no-cache"));
+        mockWebServer.enqueue(new MockResponse.Builder().code(304).build());
+
+        assertAll(
+                () -> assertEquals("Body", execute()),
+                () -> assertEquals("Body", execute()),
+                () -> assertEquals(1L, statsUnderTest.getMissCount()),
+                () -> assertEquals(0L, statsUnderTest.getHitCount()),
+                () -> assertEquals(1L, statsUnderTest.getRevalidateCount()));
+        mockWebServer.takeRequest();
+        assertEquals("\"etag\"", mockWebServer.takeRequest().getHeaders().get("If-None-Match"));
+    }
+
+    @Test
+    public void execute_withModifiedResponse_shouldRecordMiss() {
+        mockWebServer.enqueue(newCacheableResponse("no-cache"));
+        mockWebServer.enqueue(new MockResponse.Builder()
+                .code(200)
+                .body("Updated")
+                .build());
+
+        assertAll(
+                () -> assertEquals("Body", execute()),
+                () -> assertEquals("Updated", execute()),
+                () -> assertEquals(2L, statsUnderTest.getMissCount()),
+                () -> assertEquals(0L, statsUnderTest.getHitCount()),
+                () -> assertEquals(0L, statsUnderTest.getRevalidateCount()));
+    }
+
+    @SneakyThrows
+    private String execute() {
+        try (final Response response = httpClient.newCall(new Request.Builder()
+                .url(mockWebServer.url("/movie/1"))
+                .build()).execute()) {
+            return response.body().string();
+        }
+    }
+
+    private static MockResponse newCacheableResponse(final String cacheControl) {
+        return new MockResponse.Builder()
+                .code(200)
+                .addHeader("Cache-Control", cacheControl)
+                .addHeader("ETag", "\"etag\"")
+                .body("Body")
+                .build();
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.http;
+
+import com.amilesend.tmdb.client.Tmdb;
+import lombok.SneakyThrows;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import mockwebserver3.RecordedRequest;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SharedTransportTest {
+    private final MockWebServer mockWebServer = new MockWebServer();
+    private SharedTransport transportUnderTest;
+
+    @SneakyThrows
+    @BeforeEach
+    public void setUp() {
+        mockWebServer.start();
+        transportUnderTest = new SharedTransport(TransportProfile.BULK_INGEST);
+    }
+
+    @SneakyThrows
+    @AfterEach
+    public void cleanUp() {
+        transportUnderTest.close();
+        mockWebServer.close();
+    }
+
+    @Test
+    public void newHttpClientBuilder_shouldApplyProfileAndShareTransport() {
+        final OkHttpClient first = transportUnderTest.newHttpClientBuilder().build();
+        final OkHttpClient second = transportUnderTest.newHttpClientBuilder().build();
+
+        assertAll(
+                () -> assertSame(first.dispatcher(), second.dispatcher()),
+                () -> assertSame(first.connectionPool(), second.connectionPool()),
+                () -> assertEquals(128, first.dispatcher().getMaxRequests()),
+                () -> assertEquals(64, first.dispatcher().getMaxRequestsPerHost()),
+                () -> assertEquals(List.of(Protocol.HTTP_1_1), first.protocols()),
+                () -> assertEquals(10_000, first.connectTimeoutMillis()),
+                () -> assertEquals(30_000, first.readTimeoutMillis()),
+                () -> assertEquals(60_000, first.callTimeoutMillis()));
+    }
+
+    @Test
+    public void newHttpClientBuilder_withHttp2PreferredProfile_shouldPreferHttp2() {
+        try (SharedTransport transport = new SharedTransport(TransportProfile.INTERACTIVE)) {
+            assertEquals(
+                    List.of(Protocol.HTTP_2, Protocol.HTTP_1_1),
+                    transport.newHttpClientBuilder().build().protocols());
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    public void warmUp_shouldEstablishProfileConnections() {
+        for (int i = 0; i < TransportProfile.BULK_INGEST.getWarmUpConnections(); ++i) {
+            mockWebServer.enqueue(new MockResponse.Builder()
+                    .code(200)
+                    .headersDelay(200L, TimeUnit.MILLISECONDS)
+                    .build());
+        }
+
+        final OkHttpClient httpClient = transportUnderTest.newHttpClientBuilder()
+                .addInterceptor(chain -> chain.proceed(chain.request().newBuilder()
+                        .header("Authorization", "Bearer Token")
+                        .build()))
+                .build();
+
+        final int actual = transportUnderTest.warmUp(httpClient, newWarmUpRequest()).get(10L, TimeUnit.SECONDS);
+
+        final RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertAll(
+                () -> assertEquals(8, actual),
+                () -> assertEquals("HEAD", recordedRequest.getMethod()),
+                () -> assertEquals("Bearer Token", recordedRequest.getHeaders().get("Authorization")),
+                () -> assertEquals(8, mockWebServer.getRequestCount()),
+                () -> assertEquals(8, transportUnderTest.getConnectionCount()),
+                () -> assertEquals(0, transportUnderTest.getQueuedRequestCount()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void warmUp_withNoWarmUpConnections_shouldNotSendRequests() {
+        try (SharedTransport transport = new SharedTransport(TransportProfile.LOW_MEMORY)) {
+            assertAll(
+                    () -> assertEquals(0, transport.warmUp(transport.newHttpClientBuilder().build(), newWarmUpRequest())
+                            .get(10L, TimeUnit.SECONDS)),
+                    () -> assertEquals(0, mockWebServer.getRequestCount()));
+        }
+    }
+
+    @Test
+    public void warmUp_withClientOfOtherTransport_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> transportUnderTest.warmUp(new OkHttpClient(), newWarmUpRequest()));
+    }
+
+    @Test
+    public void tmdbBuilder_withSharedTransport_shouldShareConnectionPool() {
+        final Tmdb first = Tmdb.builder()
+                .readAccessToken("FirstToken")
+                .transport(transportUnderTest)
+                .isGsonPrewarmEnabled(false)
+                .build();
+        final Tmdb second = Tmdb.builder()
+                .readAccessToken("SecondToken")
+                .transport(transportUnderTest)
+                .isGsonPrewarmEnabled(false)
+                .build();
+        final Tmdb defaults = Tmdb.builder()
+                .readAccessToken("DefaultToken")
+                .isGsonPrewarmEnabled(false)
+                .build();
+
+        final OkHttpClient firstClient = first.getConnection().getHttpClient();
+        final OkHttpClient secondClient = second.getConnection().getHttpClient();
+        assertAll(
+                () -> assertSame(transportUnderTest, first.getTransport()),
+                () -> assertSame(firstClient.connectionPool(), secondClient.connectionPool()),
+                () -> assertSame(firstClient.dispatcher(), secondClient.dispatcher()),
+                () -> assertEquals(64, firstClient.dispatcher().getMaxRequestsPerHost()),
+                () -> assertNull(defaults.getTransport()),
+                () -> assertEquals(5, defaults.getConnection().getHttpClient().dispatcher().getMaxRequestsPerHost()));
+    }
+
+    @Test
+    public void tmdbBuilder_withTransportProfile_shouldCreateDedicatedTransport() {
+        final Tmdb tmdb = Tmdb.builder()
+                .readAccessToken("Token")
+                .transportProfile(TransportProfile.LOW_MEMORY)
+                .isGsonPrewarmEnabled(false)
+                .build();
+
+        assertAll(
+                () -> assertEquals(TransportProfile.LOW_MEMORY, tmdb.getTransport().getProfile()),
+                () -> assertEquals(4, tmdb.getConnection().getHttpClient().dispatcher().getMaxRequestsPerHost()));
+    }
+
+    private Request newWarmUpRequest() {
+        return new Request.Builder()
+                .url(mockWebServer.url("/configuration"))
+                .head()
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.isolation;
+
+import com.amilesend.client.connection.ResponseException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ApiIsolationTest {
+    @Test
+    public void execute_withOpenCircuitBreaker_shouldThrowCallNotPermittedException() {
+        final ApiIsolation isolationUnderTest = ApiIsolation.builder()
+                .circuitBreaker(ApiFamily.DISCOVER, CircuitBreaker.builder()
+                        .windowSize(1)
+                        .build())
+                .build();
+        final AtomicInteger callCount = new AtomicInteger();
+
+        assertThrows(ResponseException.class, () -> isolationUnderTest.execute(ApiFamily.DISCOVER, () -> {
+            callCount.incrementAndGet();
+            throw new ResponseException("Error with response: 503");
+        }));
+        final CallNotPermittedException thrown = assertThrows(CallNotPermittedException.class,
+                () -> isolationUnderTest.execute(ApiFamily.DISCOVER, callCount::incrementAndGet));
+
+        assertAll(
+                () -> assertEquals(ApiFamily.DISCOVER, thrown.getApiFamily()),
+                () -> assertEquals(1, callCount.get()),
+                () -> assertEquals(2, isolationUnderTest.execute(ApiFamily.DETAILS, callCount::incrementAndGet)),
+                () -> assertEquals(CircuitBreaker.State.OPEN,
+                        isolationUnderTest.getCircuitBreakerStates().get(ApiFamily.DISCOVER)),
+                () -> assertEquals(0, isolationUnderTest.getBulkhead(ApiFamily.DISCOVER).getActiveCount()));
+    }
+
+    @Test
+    public void executeAsync_withFullBulkhead_shouldQueueAndRejectPerFamily() {
+        final ApiIsolation isolationUnderTest = ApiIsolation.builder()
+                .bulkhead(ApiFamily.SEARCH, Bulkhead.builder()
+                        .maxConcurrentCalls(1)
+                        .maxQueuedCalls(1)
+                        .build())
+                .build();
+        final CompletableFuture<String> firstResponse = new CompletableFuture<>();
+        final AtomicInteger sentCount = new AtomicInteger();
+
+        final CompletableFuture<String> first = isolationUnderTest.executeAsync(ApiFamily.SEARCH, () -> {
+            sentCount.incrementAndGet();
+            return firstResponse;
+        });
+        final CompletableFuture<String> queued = isolationUnderTest.executeAsync(ApiFamily.SEARCH, () -> {
+            sentCount.incrementAndGet();
+            return CompletableFuture.completedFuture("queued");
+        });
+        final CompletableFuture<String> rejected = isolationUnderTest.executeAsync(
+                ApiFamily.SEARCH,
+                () -> CompletableFuture.completedFuture("rejected"));
+        final CompletableFuture<String> other = isolationUnderTest.executeAsync(
+                ApiFamily.LISTS,
+                () -> CompletableFuture.completedFuture("other"));
+
+        assertAll(
+                () -> assertEquals(1, sentCount.get()),
+                () -> assertFalse(queued.isDone()),
+                () -> assertEquals("other", other.getNow(null)),
+                () -> assertInstanceOf(BulkheadFullException.class,
+                        assertThrows(CompletionException.class, rejected::join).getCause()),
+                () -> assertEquals(1L, isolationUnderTest.getBulkhead(ApiFamily.SEARCH).getRejectedCount()));
+
+        firstResponse.complete("first");
+        assertAll(
+                () -> assertEquals("first", first.join()),
+                () -> assertEquals("queued", queued.join()),
+                () -> assertEquals(2, sentCount.get()),
+                () -> assertEquals(0, isolationUnderTest.getBulkhead(ApiFamily.SEARCH).getActiveCount()));
+    }
+
+    @Test
+    public void executeAsync_withCancelledResult_shouldCancelRequestAndReleasePermit() {
+        final ApiIsolation isolationUnderTest = ApiIsolation.defaultIsolation();
+        final CompletableFuture<String> response = new CompletableFuture<>();
+
+        final CompletableFuture<String> actual = isolationUnderTest.executeAsync(ApiFamily.ACCOUNT, () -> response);
+        actual.cancel(true);
+
+        assertAll(
+                () -> assertTrue(response.isCancelled()),
+                () -> assertEquals(0, isolationUnderTest.getBulkhead(ApiFamily.ACCOUNT).getActiveCount()),
+                () -> assertEquals(0.0D, isolationUnderTest.getCircuitBreaker(ApiFamily.ACCOUNT).getFailureRate()));
+    }
+}
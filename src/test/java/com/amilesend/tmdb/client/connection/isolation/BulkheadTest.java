@@ -0,0 +1,136 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.isolation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BulkheadTest {
+    @Test
+    public void acquire_withAvailablePermits_shouldGrantImmediately() {
+        final Bulkhead bulkhead = Bulkhead.builder()
+                .maxConcurrentCalls(2)
+                .build();
+
+        assertAll(
+                () -> assertTrue(bulkhead.acquire().getNow(Boolean.FALSE)),
+                () -> assertTrue(bulkhead.tryAcquire()),
+                () -> assertEquals(2, bulkhead.getActiveCount()),
+                () -> assertEquals(0, bulkhead.getQueuedCount()));
+    }
+
+    @Test
+    public void acquire_withNoAvailablePermits_shouldQueueUntilReleased() {
+        final Bulkhead bulkhead = Bulkhead.builder()
+                .maxConcurrentCalls(1)
+                .maxQueuedCalls(2)
+                .build();
+        assertTrue(bulkhead.tryAcquire());
+
+        final CompletableFuture<Boolean> first = bulkhead.acquire();
+        final CompletableFuture<Boolean> second = bulkhead.acquire();
+        assertAll(
+                () -> assertFalse(first.isDone()),
+                () -> assertFalse(second.isDone()),
+                () -> assertEquals(2, bulkhead.getQueuedCount()));
+
+        bulkhead.release();
+        assertAll(
+                () -> assertTrue(first.getNow(Boolean.FALSE)),
+                () -> assertFalse(second.isDone()),
+                () -> assertEquals(1, bulkhead.getActiveCount()),
+                () -> assertEquals(1, bulkhead.getQueuedCount()));
+
+        bulkhead.release();
+        assertTrue(second.getNow(Boolean.FALSE));
+    }
+
+    @Test
+    public void acquire_withFullQueue_shouldReject() {
+        final Bulkhead bulkhead = Bulkhead.builder()
+                .maxConcurrentCalls(1)
+                .maxQueuedCalls(1)
+                .build();
+        assertTrue(bulkhead.tryAcquire());
+        bulkhead.acquire();
+
+        final CompletableFuture<Boolean> actual = bulkhead.acquire();
+
+        assertAll(
+                () -> assertFalse(actual.getNow(Boolean.TRUE)),
+                () -> assertEquals(1L, bulkhead.getRejectedCount()));
+    }
+
+    @Test
+    public void tryAcquire_withElapsedWait_shouldRejectAndLeaveQueue() {
+        final Bulkhead bulkhead = Bulkhead.builder()
+                .maxConcurrentCalls(1)
+                .maxWait(Duration.ofMillis(50L))
+                .build();
+        assertTrue(bulkhead.tryAcquire());
+
+        assertAll(
+                () -> assertFalse(bulkhead.tryAcquire()),
+                () -> assertEquals(0, bulkhead.getQueuedCount()),
+                () -> assertEquals(1L, bulkhead.getRejectedCount()));
+
+        bulkhead.release();
+        assertAll(
+                () -> assertEquals(0, bulkhead.getActiveCount()),
+                () -> assertTrue(bulkhead.tryAcquire()));
+    }
+
+    @Test
+    public void acquire_withCancelledTicket_shouldNotConsumePermit() throws Exception {
+        final Bulkhead bulkhead = Bulkhead.builder()
+                .maxConcurrentCalls(1)
+                .build();
+        assertTrue(bulkhead.tryAcquire());
+        final CompletableFuture<Boolean> cancelled = bulkhead.acquire();
+        final CompletableFuture<Boolean> next = bulkhead.acquire();
+
+        cancelled.cancel(false);
+        bulkhead.release();
+
+        assertAll(
+                () -> assertTrue(next.get(1L, TimeUnit.SECONDS)),
+                () -> assertEquals(1, bulkhead.getActiveCount()),
+                () -> assertEquals(0, bulkhead.getQueuedCount()),
+                () -> assertEquals(0L, bulkhead.getRejectedCount()));
+    }
+
+    @Test
+    public void builder_withInvalidSettings_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> Bulkhead.builder().maxConcurrentCalls(0).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> Bulkhead.builder().maxQueuedCalls(-1).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> Bulkhead.builder().maxWait(Duration.ofMillis(-1L)).build()));
+    }
+}
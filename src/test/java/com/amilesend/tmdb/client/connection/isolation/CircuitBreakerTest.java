@@ -0,0 +1,175 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.isolation;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CircuitBreakerTest {
+    private static final long FAST_CALL_NANOS = Duration.ofMillis(10L).toNanos();
+    private static final long SLOW_CALL_NANOS = Duration.ofSeconds(10L).toNanos();
+    private static final ResponseException SERVER_ERROR = new ResponseException("Error with response: 500");
+
+    @Mock
+    private Clock mockClock;
+    private CircuitBreaker breakerUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(mockClock.millis()).thenReturn(0L);
+        breakerUnderTest = CircuitBreaker.builder()
+                .windowSize(4)
+                .minimumCalls(4)
+                .halfOpenCalls(2)
+                .openDuration(Duration.ofSeconds(30L))
+                .clock(mockClock)
+                .build();
+    }
+
+    @Test
+    public void onResult_withFailureRateAtThreshold_shouldOpen() {
+        recordCalls(2, SERVER_ERROR, FAST_CALL_NANOS);
+        recordCalls(1, null, FAST_CALL_NANOS);
+        assertEquals(CircuitBreaker.State.CLOSED, breakerUnderTest.getState());
+
+        recordCalls(1, null, FAST_CALL_NANOS);
+
+        assertAll(
+                () -> assertEquals(CircuitBreaker.State.OPEN, breakerUnderTest.getState()),
+                () -> assertFalse(breakerUnderTest.tryAcquirePermission()),
+                () -> assertEquals(1L, breakerUnderTest.getNotPermittedCount()),
+                () -> assertEquals(1L, breakerUnderTest.getOpenedCount()));
+    }
+
+    @Test
+    public void onResult_withSlowCallRateAboveThreshold_shouldOpen() {
+        recordCalls(1, null, FAST_CALL_NANOS);
+        recordCalls(3, null, SLOW_CALL_NANOS);
+        assertEquals(CircuitBreaker.State.CLOSED, breakerUnderTest.getState());
+
+        recordCalls(1, null, SLOW_CALL_NANOS);
+
+        assertEquals(CircuitBreaker.State.OPEN, breakerUnderTest.getState());
+    }
+
+    @Test
+    public void onResult_withClientErrors_shouldNotCountAsFailures() {
+        recordCalls(4, new RequestException("Error with request: 404"), FAST_CALL_NANOS);
+
+        assertAll(
+                () -> assertEquals(CircuitBreaker.State.CLOSED, breakerUnderTest.getState()),
+                () -> assertEquals(0.0D, breakerUnderTest.getFailureRate()));
+    }
+
+    @Test
+    public void onResult_withNetworkErrors_shouldCountAsFailures() {
+        recordCalls(4, new RequestException("Error with request", new IOException("reset")), FAST_CALL_NANOS);
+
+        assertEquals(CircuitBreaker.State.OPEN, breakerUnderTest.getState());
+    }
+
+    @Test
+    public void onResult_withRecoveredCalls_shouldEvictOldestOutcomes() {
+        recordCalls(1, SERVER_ERROR, FAST_CALL_NANOS);
+        recordCalls(7, null, FAST_CALL_NANOS);
+
+        assertAll(
+                () -> assertEquals(CircuitBreaker.State.CLOSED, breakerUnderTest.getState()),
+                () -> assertEquals(0.0D, breakerUnderTest.getFailureRate()));
+    }
+
+    @Test
+    public void tryAcquirePermission_afterOpenDuration_shouldPermitTrialCallsAndClose() {
+        recordCalls(4, SERVER_ERROR, FAST_CALL_NANOS);
+        when(mockClock.millis()).thenReturn(Duration.ofSeconds(30L).toMillis());
+
+        assertAll(
+                () -> assertTrue(breakerUnderTest.tryAcquirePermission()),
+                () -> assertTrue(breakerUnderTest.tryAcquirePermission()),
+                () -> assertFalse(breakerUnderTest.tryAcquirePermission()),
+                () -> assertEquals(CircuitBreaker.State.HALF_OPEN, breakerUnderTest.getState()));
+
+        recordCalls(2, null, FAST_CALL_NANOS);
+        assertEquals(CircuitBreaker.State.CLOSED, breakerUnderTest.getState());
+    }
+
+    @Test
+    public void tryAcquirePermission_withFailedTrialCalls_shouldReopen() {
+        recordCalls(4, SERVER_ERROR, FAST_CALL_NANOS);
+        when(mockClock.millis()).thenReturn(Duration.ofSeconds(30L).toMillis());
+        assertTrue(breakerUnderTest.tryAcquirePermission());
+        assertTrue(breakerUnderTest.tryAcquirePermission());
+
+        recordCalls(1, null, FAST_CALL_NANOS);
+        recordCalls(1, SERVER_ERROR, FAST_CALL_NANOS);
+
+        assertAll(
+                () -> assertEquals(CircuitBreaker.State.OPEN, breakerUnderTest.getState()),
+                () -> assertEquals(2L, breakerUnderTest.getOpenedCount()),
+                () -> assertFalse(breakerUnderTest.tryAcquirePermission()));
+    }
+
+    @Test
+    public void releasePermission_whileHalfOpen_shouldReturnTrialCall() {
+        recordCalls(4, SERVER_ERROR, FAST_CALL_NANOS);
+        when(mockClock.millis()).thenReturn(Duration.ofSeconds(30L).toMillis());
+        assertTrue(breakerUnderTest.tryAcquirePermission());
+        assertTrue(breakerUnderTest.tryAcquirePermission());
+
+        breakerUnderTest.releasePermission();
+
+        assertTrue(breakerUnderTest.tryAcquirePermission());
+    }
+
+    @Test
+    public void builder_withInvalidSettings_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> CircuitBreaker.builder().failureRateThreshold(0.0D).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> CircuitBreaker.builder().slowCallRateThreshold(101.0D).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> CircuitBreaker.builder().windowSize(10).minimumCalls(11).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> CircuitBreaker.builder().halfOpenCalls(0).build()));
+    }
+
+    private void recordCalls(final int count, final Throwable error, final long durationNanos) {
+        for (int i = 0; i < count; ++i) {
+            breakerUnderTest.onResult(durationNanos, error);
+        }
+    }
+}
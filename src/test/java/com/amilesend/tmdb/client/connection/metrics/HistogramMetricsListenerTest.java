@@ -0,0 +1,114 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HistogramMetricsListenerTest {
+    private final AtomicLong nanoTime = new AtomicLong();
+    private HistogramMetricsListener listenerUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        listenerUnderTest = new HistogramMetricsListener(nanoTime::get);
+    }
+
+    @Test
+    public void onRequestCompleted_withMetrics_shouldAggregatePerEndpoint() {
+        listenerUnderTest.onRequestCompleted(newRequestMetrics("movies.getCredits")
+                .statusCode(200)
+                .responseBytes(100L)
+                .build());
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1L));
+        listenerUnderTest.onRequestCompleted(newRequestMetrics("movies.getCredits")
+                .statusCode(404)
+                .failure(new IllegalStateException("Not found"))
+                .build());
+        listenerUnderTest.onRequestCompleted(newRequestMetrics("genres.getMovieGenres")
+                .cached(true)
+                .build());
+
+        final EndpointStats actual = listenerUnderTest.getEndpointStats("movies.getCredits");
+        assertAll(
+                () -> assertEquals(2, listenerUnderTest.getAllEndpointStats().size()),
+                () -> assertEquals(2L, actual.getRequestCount()),
+                () -> assertEquals(1L, actual.getErrorCount()),
+                () -> assertEquals(0.5D, actual.getErrorRate()),
+                () -> assertEquals(0L, actual.getCachedCount()),
+                () -> assertEquals(100L, actual.getResponseBytes()),
+                () -> assertEquals(2.0D, actual.getThroughput()),
+                () -> assertEquals(2L, actual.getTotalDuration().getCount()),
+                () -> assertEquals(Duration.ofMillis(10L), actual.getTimeToFirstByte().getPercentile(50.0D)),
+                () -> assertEquals(1L, listenerUnderTest.getEndpointStats("genres.getMovieGenres").getCachedCount()),
+                () -> assertTrue(actual.toString().contains("requestCount=2")));
+    }
+
+    @Test
+    public void onRequestCompleted_withoutNetworkTimings_shouldOnlyRecordTotalDuration() {
+        listenerUnderTest.onRequestCompleted(RequestMetrics.builder()
+                .endpoint("movies.getCredits")
+                .method("GET")
+                .totalDuration(Duration.ofMillis(1L))
+                .build());
+
+        final EndpointStats actual = listenerUnderTest.getEndpointStats("movies.getCredits");
+        assertAll(
+                () -> assertEquals(1L, actual.getTotalDuration().getCount()),
+                () -> assertEquals(0L, actual.getNetworkDuration().getCount()),
+                () -> assertEquals(0L, actual.getResponseBytes()),
+                () -> assertEquals(0.0D, actual.getThroughput()));
+    }
+
+    @Test
+    public void reset_shouldClearAllEndpoints() {
+        listenerUnderTest.onRequestCompleted(newRequestMetrics("movies.getCredits").build());
+
+        listenerUnderTest.reset();
+
+        assertAll(
+                () -> assertNull(listenerUnderTest.getEndpointStats("movies.getCredits")),
+                () -> assertTrue(listenerUnderTest.getAllEndpointStats().isEmpty()));
+    }
+
+    @Test
+    public void onRequestCompleted_withNullMetrics_shouldThrowException() {
+        assertThrows(NullPointerException.class, () -> listenerUnderTest.onRequestCompleted(null));
+    }
+
+    private static RequestMetrics.RequestMetricsBuilder newRequestMetrics(final String endpoint) {
+        return RequestMetrics.builder()
+                .endpoint(endpoint)
+                .method("GET")
+                .totalDuration(Duration.ofMillis(50L))
+                .queueDuration(Duration.ofMillis(1L))
+                .networkDuration(Duration.ofMillis(40L))
+                .timeToFirstByte(Duration.ofMillis(10L))
+                .deserializationDuration(Duration.ofMillis(5L));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+    private final LatencyHistogram histogramUnderTest = new LatencyHistogram();
+
+    @Test
+    public void getBucketIndex_withIncreasingValues_shouldReturnMonotonicIndexes() {
+        int previousIndex = -1;
+        for (long value = 0L; value < 100_000L; ++value) {
+            final int index = LatencyHistogram.getBucketIndex(value);
+            assertTrue(index == previousIndex || index == previousIndex + 1);
+            previousIndex = index;
+        }
+    }
+
+    @Test
+    public void getBucketMidpoint_withValue_shouldBeWithinRelativeError() {
+        for (long value = 1L; value < 10_000_000L; value += 997L) {
+            final long midpoint = LatencyHistogram.getBucketMidpoint(LatencyHistogram.getBucketIndex(value));
+            assertTrue(Math.abs(midpoint - value) <= value / 16.0D, "value=" + value + ", midpoint=" + midpoint);
+        }
+    }
+
+    @Test
+    public void getPercentile_withUniformValues_shouldReturnApproximateValues() {
+        IntStream.rangeClosed(1, 1000).forEach(i -> histogramUnderTest.record(Duration.ofMillis(i)));
+
+        assertAll(
+                () -> assertEquals(1000L, histogramUnderTest.getCount()),
+                () -> assertWithinRelativeError(Duration.ofMillis(500L), histogramUnderTest.getPercentile(50.0D)),
+                () -> assertWithinRelativeError(Duration.ofMillis(990L), histogramUnderTest.getPercentile(99.0D)),
+                () -> assertWithinRelativeError(Duration.ofMillis(1L), histogramUnderTest.getPercentile(0.0D)),
+                () -> assertEquals(Duration.ofMillis(1000L), histogramUnderTest.getPercentile(100.0D)),
+                () -> assertEquals(Duration.ofMillis(1000L), histogramUnderTest.getMax()),
+                () -> assertEquals(Duration.ofNanos(500_500_000L), histogramUnderTest.getMean()));
+    }
+
+    @Test
+    public void getPercentile_withNoValues_shouldReturnZero() {
+        assertAll(
+                () -> assertEquals(0L, histogramUnderTest.getCount()),
+                () -> assertEquals(Duration.ZERO, histogramUnderTest.getPercentile(99.0D)),
+                () -> assertEquals(Duration.ZERO, histogramUnderTest.getMean()),
+                () -> assertEquals(Duration.ZERO, histogramUnderTest.getMax()));
+    }
+
+    @Test
+    public void getPercentile_withInvalidPercentile_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> histogramUnderTest.getPercentile(-1.0D)),
+                () -> assertThrows(IllegalArgumentException.class, () -> histogramUnderTest.getPercentile(101.0D)));
+    }
+
+    @Test
+    public void record_withOutOfRangeValues_shouldClampValues() {
+        histogramUnderTest.record(-1L);
+        histogramUnderTest.record(Long.MAX_VALUE);
+
+        assertAll(
+                () -> assertEquals(2L, histogramUnderTest.getCount()),
+                () -> assertEquals(Duration.ZERO, histogramUnderTest.getPercentile(50.0D)),
+                () -> assertEquals(Duration.ofNanos((1L << 40) - 1L), histogramUnderTest.getMax()));
+    }
+
+    @Test
+    public void record_withConcurrentThreads_shouldRecordAllValues() throws InterruptedException {
+        final int threadCount = 8;
+        final int recordCount = 10_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        try {
+            IntStream.range(0, threadCount).forEach(t -> executor.execute(() -> {
+                try {
+                    startLatch.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                IntStream.rangeClosed(1, recordCount).forEach(histogramUnderTest::record);
+            }));
+            startLatch.countDown();
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10L, TimeUnit.SECONDS));
+        }
+
+        assertAll(
+                () -> assertEquals((long) threadCount * recordCount, histogramUnderTest.getCount()),
+                () -> assertEquals(Duration.ofNanos(recordCount), histogramUnderTest.getMax()));
+    }
+
+    private static void assertWithinRelativeError(final Duration expected, final Duration actual) {
+        final double error = Math.abs(expected.toNanos() - actual.toNanos()) / (double) expected.toNanos();
+        assertTrue(error <= 1.0D / 16.0D, "expected=" + expected + ", actual=" + actual);
+    }
+}
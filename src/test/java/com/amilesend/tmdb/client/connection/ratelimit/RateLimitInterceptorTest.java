@@ -0,0 +1,191 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.ratelimit;
+
+import lombok.SneakyThrows;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RateLimitInterceptorTest {
+    @Mock
+    private TokenBucketRateLimiter mockRateLimiter;
+
+    private final MockWebServer mockWebServer = new MockWebServer();
+    private RateLimitInterceptor interceptorUnderTest;
+    private OkHttpClient httpClient;
+
+    @SneakyThrows
+    @BeforeEach
+    public void setUp() {
+        mockWebServer.start();
+        interceptorUnderTest = RateLimitInterceptor.builder()
+                .rateLimiter(mockRateLimiter)
+                .maxRetries(1)
+                .build();
+        httpClient = new OkHttpClient.Builder()
+                .addInterceptor(interceptorUnderTest)
+                .build();
+    }
+
+    @SneakyThrows
+    @AfterEach
+    public void cleanUp() {
+        mockWebServer.close();
+    }
+
+    @SneakyThrows
+    @Test
+    public void intercept_withSuccess_shouldAcquirePermit() {
+        mockWebServer.enqueue(new MockResponse.Builder().code(200).build());
+
+        assertEquals(200, execute());
+        verify(mockRateLimiter).acquire();
+    }
+
+    @SneakyThrows
+    @Test
+    public void intercept_withTooManyRequests_shouldPauseAndRetry() {
+        mockWebServer.enqueue(new MockResponse.Builder()
+                .code(429)
+                .addHeader("Retry-After", "3")
+                .build());
+        mockWebServer.enqueue(new MockResponse.Builder().code(200).build());
+
+        assertAll(
+                () -> assertEquals(200, execute()),
+                () -> assertEquals(2, mockWebServer.getRequestCount()));
+        verify(mockRateLimiter).pause(Duration.ofSeconds(3L));
+        verify(mockRateLimiter, times(2)).acquire();
+    }
+
+    @SneakyThrows
+    @Test
+    public void intercept_withExhaustedRetries_shouldReturnTooManyRequests() {
+        mockWebServer.enqueue(new MockResponse.Builder().code(429).build());
+        mockWebServer.enqueue(new MockResponse.Builder().code(429).build());
+
+        assertEquals(429, execute());
+        verify(mockRateLimiter, times(2)).pause(Duration.ofSeconds(1L));
+    }
+
+    @SneakyThrows
+    @Test
+    public void intercept_withRetriesDisabled_shouldPauseAndReturnTooManyRequests() {
+        httpClient = new OkHttpClient.Builder()
+                .addInterceptor(RateLimitInterceptor.builder()
+                        .rateLimiter(mockRateLimiter)
+                        .maxRetries(0)
+                        .build())
+                .build();
+        mockWebServer.enqueue(new MockResponse.Builder()
+                .code(429)
+                .addHeader("Retry-After", "3")
+                .build());
+
+        assertAll(
+                () -> assertEquals(429, execute()),
+                () -> assertEquals(1, mockWebServer.getRequestCount()));
+        verify(mockRateLimiter).pause(Duration.ofSeconds(3L));
+    }
+
+    @SneakyThrows
+    @Test
+    public void intercept_withRetryAfterExceedingCallTimeout_shouldReturnTooManyRequests() {
+        httpClient = newHttpClientWithCallTimeout();
+        when(mockRateLimiter.tryAcquire(any(Duration.class))).thenReturn(true);
+        mockWebServer.enqueue(new MockResponse.Builder()
+                .code(429)
+                .addHeader("Retry-After", "30")
+                .build());
+
+        assertAll(
+                () -> assertEquals(429, execute()),
+                () -> assertEquals(1, mockWebServer.getRequestCount()));
+        verify(mockRateLimiter).pause(Duration.ofSeconds(30L));
+    }
+
+    @SneakyThrows
+    @Test
+    public void intercept_withPermitUnavailableBeforeCallTimeout_shouldThrowException() {
+        httpClient = newHttpClientWithCallTimeout();
+        when(mockRateLimiter.tryAcquire(any(Duration.class))).thenReturn(false);
+
+        assertAll(
+                () -> assertThrows(InterruptedIOException.class, this::execute),
+                () -> assertEquals(0, mockWebServer.getRequestCount()));
+        verify(mockRateLimiter, never()).acquire();
+    }
+
+    @Test
+    public void parseRetryAfter_withHttpDate_shouldReturnDurationUntilDate() {
+        final Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+        interceptorUnderTest = RateLimitInterceptor.builder()
+                .rateLimiter(mockRateLimiter)
+                .clock(clock)
+                .build();
+
+        assertAll(
+                () -> assertEquals(Duration.ofSeconds(5L),
+                        interceptorUnderTest.parseRetryAfter("Mon, 01 Jan 2024 00:00:05 GMT")),
+                () -> assertEquals(Duration.ZERO,
+                        interceptorUnderTest.parseRetryAfter("Sun, 31 Dec 2023 00:00:00 GMT")),
+                () -> assertEquals(Duration.ofSeconds(1L), interceptorUnderTest.parseRetryAfter("invalid")),
+                () -> assertEquals(Duration.ofSeconds(1L), interceptorUnderTest.parseRetryAfter(null)));
+    }
+
+    private OkHttpClient newHttpClientWithCallTimeout() {
+        return new OkHttpClient.Builder()
+                .addInterceptor(interceptorUnderTest)
+                .callTimeout(Duration.ofSeconds(10L))
+                .build();
+    }
+
+    @SneakyThrows
+    private int execute() {
+        try (final Response response = httpClient.newCall(new Request.Builder()
+                .url(mockWebServer.url("/movie/1"))
+                .build()).execute()) {
+            return response.code();
+        }
+    }
+}
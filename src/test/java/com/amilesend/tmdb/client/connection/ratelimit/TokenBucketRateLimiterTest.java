@@ -0,0 +1,123 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.ratelimit;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenBucketRateLimiterTest {
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1L);
+
+    private final List<Long> sleeps = new ArrayList<>();
+    private long nowNanos;
+    private TokenBucketRateLimiter limiterUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        // 10 permits per second (one every 100ms) with a burst of 2
+        limiterUnderTest = new TokenBucketRateLimiter(10.0D, 2, () -> nowNanos, nanos -> {
+            sleeps.add(nanos);
+            nowNanos += nanos;
+        });
+    }
+
+    @SneakyThrows
+    @Test
+    public void acquire_withinBurst_shouldNotWait() {
+        limiterUnderTest.acquire();
+        limiterUnderTest.acquire();
+
+        assertEquals(List.of(), sleeps);
+    }
+
+    @SneakyThrows
+    @Test
+    public void acquire_beyondBurst_shouldWaitForSustainedRate() {
+        for (int i = 0; i < 4; ++i) {
+            limiterUnderTest.acquire();
+        }
+
+        assertEquals(List.of(100L * MILLIS, 100L * MILLIS), sleeps);
+    }
+
+    @SneakyThrows
+    @Test
+    public void acquire_afterIdle_shouldReplenishUpToBurstSize() {
+        limiterUnderTest.acquire();
+        limiterUnderTest.acquire();
+        nowNanos += 10_000L * MILLIS;
+
+        for (int i = 0; i < 3; ++i) {
+            limiterUnderTest.acquire();
+        }
+
+        assertEquals(List.of(100L * MILLIS), sleeps);
+    }
+
+    @SneakyThrows
+    @Test
+    public void pause_shouldDelayNextPermitAndDiscardBurst() {
+        limiterUnderTest.pause(Duration.ofSeconds(2L));
+
+        limiterUnderTest.acquire();
+        limiterUnderTest.acquire();
+
+        assertEquals(List.of(2000L * MILLIS, 100L * MILLIS), sleeps);
+    }
+
+    @SneakyThrows
+    @Test
+    public void tryAcquire_withWaitExceedingTimeout_shouldNotReservePermit() {
+        limiterUnderTest.pause(Duration.ofSeconds(2L));
+
+        assertAll(
+                () -> assertFalse(limiterUnderTest.tryAcquire(Duration.ofSeconds(1L))),
+                () -> assertEquals(List.of(), sleeps),
+                () -> assertTrue(limiterUnderTest.tryAcquire(Duration.ofSeconds(2L))),
+                () -> assertEquals(List.of(2000L * MILLIS), sleeps),
+                () -> assertTrue(limiterUnderTest.tryAcquire(Duration.ofMillis(100L))),
+                () -> assertEquals(List.of(2000L * MILLIS, 100L * MILLIS), sleeps));
+    }
+
+    @Test
+    public void builder_withDefaults_shouldUseDefaultValues() {
+        final TokenBucketRateLimiter actual = TokenBucketRateLimiter.builder().build();
+
+        assertAll(
+                () -> assertEquals(TokenBucketRateLimiter.DEFAULT_PERMITS_PER_SECOND, actual.getPermitsPerSecond()),
+                () -> assertEquals(TokenBucketRateLimiter.DEFAULT_BURST_SIZE, actual.getBurstSize()));
+    }
+
+    @Test
+    public void builder_withInvalidPermitsPerSecond_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> TokenBucketRateLimiter.builder().permitsPerSecond(0.0D).build());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.retry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RetryBudgetTest {
+    @Test
+    public void recordFailure_withTokensAboveHalf_shouldPermitRetries() {
+        final RetryBudget budget = RetryBudget.builder().build();
+
+        for (int i = 0; i < 4; ++i) {
+            assertTrue(budget.recordFailure());
+        }
+        assertAll(
+                () -> assertFalse(budget.recordFailure()),
+                () -> assertEquals(5.0D, budget.getTokens()),
+                () -> assertEquals(1L, budget.getRejectedRetryCount()));
+    }
+
+    @Test
+    public void recordSuccess_shouldRefillBudgetUpToMax() {
+        final RetryBudget budget = RetryBudget.builder()
+                .maxTokens(4)
+                .tokenRatio(0.5D)
+                .build();
+        assertTrue(budget.recordFailure());
+        assertFalse(budget.recordFailure());
+        assertFalse(budget.recordFailure());
+
+        for (int i = 0; i < 4; ++i) {
+            budget.recordSuccess();
+        }
+        assertEquals(3.0D, budget.getTokens());
+
+        for (int i = 0; i < 10; ++i) {
+            budget.recordSuccess();
+        }
+        assertAll(
+                () -> assertEquals(4.0D, budget.getTokens()),
+                () -> assertTrue(budget.recordFailure()));
+    }
+
+    @Test
+    public void builder_withInvalidSettings_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> RetryBudget.builder().maxTokens(0).build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> RetryBudget.builder().tokenRatio(0.0D).build()));
+    }
+}
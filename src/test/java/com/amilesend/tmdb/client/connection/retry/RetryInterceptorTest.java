@@ -0,0 +1,265 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.connection.retry;
+
+import lombok.SneakyThrows;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import mockwebserver3.SocketEffect;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RetryInterceptorTest {
+    private static final long MILLIS_TO_NANOS = 1_000_000L;
+
+    private final MockWebServer mockWebServer = new MockWebServer();
+    private final List<Long> sleptNanos = new ArrayList<>();
+    private RetryBudget retryBudget;
+
+    @SneakyThrows
+    @BeforeEach
+    public void setUp() {
+        mockWebServer.start();
+        retryBudget = RetryBudget.builder().build();
+    }
+
+    @SneakyThrows
+    @AfterEach
+    public void cleanUp() {
+        mockWebServer.close();
+    }
+
+    @Test
+    public void intercept_withTransientServerErrors_shouldRetryWithExponentialBackoff() {
+        enqueue(503);
+        enqueue(502);
+        enqueue(504);
+        enqueue(200);
+
+        assertAll(
+                () -> assertEquals(200, execute(newInterceptor(3, RetryInterceptor::isIdempotent), newGet())),
+                () -> assertEquals(4, mockWebServer.getRequestCount()),
+                // The jitter returns the cap so that the exponential growth is observable
+                () -> assertEquals(List.of(100L, 200L, 400L), toMillis(sleptNanos)));
+    }
+
+    @Test
+    public void intercept_withBackoffExceedingMaxDelay_shouldCapDelay() {
+        retryBudget = RetryBudget.builder()
+                .maxTokens(100)
+                .build();
+        for (int i = 0; i < 6; ++i) {
+            enqueue(503);
+        }
+        enqueue(200);
+
+        assertAll(
+                () -> assertEquals(200, execute(newInterceptor(6, RetryInterceptor::isIdempotent), newGet())),
+                () -> assertEquals(List.of(100L, 200L, 400L, 800L, 1000L, 1000L), toMillis(sleptNanos)));
+    }
+
+    @Test
+    public void intercept_withTooManyRequests_shouldHonorRetryAfter() {
+        mockWebServer.enqueue(new MockResponse.Builder().code(429).addHeader("Retry-After", "2").build());
+        enqueue(200);
+
+        assertAll(
+                () -> assertEquals(200, execute(newInterceptor(3, RetryInterceptor::isIdempotent), newGet())),
+                () -> assertEquals(List.of(2000L), toMillis(sleptNanos)));
+    }
+
+    @Test
+    public void intercept_withRetryAfterExceedingMax_shouldReturnResponse() {
+        mockWebServer.enqueue(new MockResponse.Builder().code(429).addHeader("Retry-After", "3600").build());
+
+        assertAll(
+                () -> assertEquals(429, execute(newInterceptor(3, RetryInterceptor::isIdempotent), newGet())),
+                () -> assertEquals(1, mockWebServer.getRequestCount()),
+                () -> assertEquals(List.of(), sleptNanos));
+    }
+
+    @Test
+    public void intercept_withRetryAfterExceedingCallTimeout_shouldReturnResponse() {
+        mockWebServer.enqueue(new MockResponse.Builder().code(429).addHeader("Retry-After", "30").build());
+        final OkHttpClient httpClient = new OkHttpClient.Builder()
+                .addInterceptor(newInterceptor(3, RetryInterceptor::isIdempotent))
+                .callTimeout(Duration.ofSeconds(10L))
+                .build();
+
+        assertAll(
+                () -> assertEquals(429, execute(httpClient, newGet())),
+                () -> assertEquals(1, mockWebServer.getRequestCount()),
+                () -> assertEquals(List.of(), sleptNanos));
+    }
+
+    @Test
+    public void intercept_withRetriesExhausted_shouldReturnLastResponse() {
+        enqueue(503);
+        enqueue(503);
+        enqueue(503);
+
+        assertAll(
+                () -> assertEquals(503, execute(newInterceptor(2, RetryInterceptor::isIdempotent), newGet())),
+                () -> assertEquals(3, mockWebServer.getRequestCount()));
+    }
+
+    @Test
+    public void intercept_withNonRetryableStatus_shouldNotRetry() {
+        enqueue(500);
+        enqueue(404);
+
+        final RetryInterceptor interceptor = newInterceptor(3, RetryInterceptor::isIdempotent);
+        assertAll(
+                () -> assertEquals(500, execute(interceptor, newGet())),
+                () -> assertEquals(404, execute(interceptor, newGet())),
+                () -> assertEquals(2, mockWebServer.getRequestCount()));
+    }
+
+    @Test
+    public void intercept_withConnectionReset_shouldRetry() {
+        mockWebServer.enqueue(new MockResponse.Builder()
+                .onRequestStart(new SocketEffect.CloseSocket())
+                .build());
+        enqueue(200);
+
+        assertAll(
+                () -> assertEquals(200, execute(newInterceptor(3, RetryInterceptor::isIdempotent), newGet())),
+                () -> assertEquals(1, sleptNanos.size()));
+    }
+
+    @Test
+    public void intercept_withPost_shouldNotRetry() {
+        enqueue(503);
+
+        assertAll(
+                () -> assertEquals(503, execute(newInterceptor(3, RetryInterceptor::isIdempotent), newPost())),
+                () -> assertEquals(1, mockWebServer.getRequestCount()));
+    }
+
+    @Test
+    public void intercept_withPostMarkedSafe_shouldRetry() {
+        enqueue(503);
+        enqueue(201);
+
+        final Predicate<Request> predicate = request -> RetryInterceptor.isIdempotent(request)
+                || request.url().encodedPath().endsWith("/rating");
+        assertAll(
+                () -> assertEquals(201, execute(newInterceptor(3, predicate), newPost())),
+                () -> assertEquals(2, mockWebServer.getRequestCount()));
+    }
+
+    @Test
+    public void intercept_withExhaustedBudget_shouldNotRetry() {
+        retryBudget = RetryBudget.builder()
+                .maxTokens(4)
+                .build();
+        for (int i = 0; i < 4; ++i) {
+            enqueue(503);
+        }
+
+        final RetryInterceptor interceptor = newInterceptor(10, RetryInterceptor::isIdempotent);
+        assertAll(
+                // Tokens: 4 -> 3 (retry) -> 2 (budget exhausted)
+                () -> assertEquals(503, execute(interceptor, newGet())),
+                () -> assertEquals(2, mockWebServer.getRequestCount()),
+                // Tokens: 2 -> 1 (budget exhausted)
+                () -> assertEquals(503, execute(interceptor, newGet())),
+                () -> assertEquals(3, mockWebServer.getRequestCount()),
+                () -> assertEquals(2L, retryBudget.getRejectedRetryCount()));
+    }
+
+    @Test
+    public void builder_withInvalidDelays_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> RetryInterceptor.builder()
+                        .baseDelay(Duration.ZERO)
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> RetryInterceptor.builder()
+                        .baseDelay(Duration.ofSeconds(2L))
+                        .maxDelay(Duration.ofSeconds(1L))
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> RetryInterceptor.builder()
+                        .maxRetries(-1)
+                        .build()));
+    }
+
+    private RetryInterceptor newInterceptor(final int maxRetries, final Predicate<Request> predicate) {
+        return new RetryInterceptor(
+                maxRetries,
+                Duration.ofMillis(100L),
+                Duration.ofSeconds(1L),
+                Duration.ofSeconds(60L),
+                retryBudget,
+                predicate,
+                Clock.systemUTC(),
+                cap -> cap,
+                System::nanoTime,
+                sleptNanos::add);
+    }
+
+    private void enqueue(final int code) {
+        mockWebServer.enqueue(new MockResponse.Builder().code(code).build());
+    }
+
+    private Request newGet() {
+        return new Request.Builder().url(mockWebServer.url("/3/movie/550")).build();
+    }
+
+    private Request newPost() {
+        return new Request.Builder()
+                .url(mockWebServer.url("/3/movie/550/rating"))
+                .post(RequestBody.create("{\"value\":8.5}", MediaType.get("application/json")))
+                .build();
+    }
+
+    private static int execute(final RetryInterceptor interceptor, final Request request) throws IOException {
+        return execute(new OkHttpClient.Builder()
+                .addInterceptor(interceptor)
+                .retryOnConnectionFailure(false)
+                .build(), request);
+    }
+
+    private static int execute(final OkHttpClient httpClient, final Request request) throws IOException {
+        try (Response response = httpClient.newCall(request).execute()) {
+            return response.code();
+        }
+    }
+
+    private static List<Long> toMillis(final List<Long> nanos) {
+        final List<Long> millis = new ArrayList<>(nanos.size());
+        nanos.forEach(value -> millis.add(value / MILLIS_TO_NANOS));
+        return millis;
+    }
+}
@@ -597,6 +597,8 @@ public class MoviesApiDataHelper {
 
         public static final SerializedResource GET_MOVIE_DETAILS_RESPONSE =
                 new SerializedResource(RESOURCE_FOLDER + "GetMovieDetailsResponse.json");
+        public static final SerializedResource GET_MOVIE_DETAILS_WITH_APPENDED_RESPONSE =
+                new SerializedResource(RESOURCE_FOLDER + "GetMovieDetailsWithAppendedResponse.json");
         public static final SerializedResource GET_ACCOUNT_STATES_RESPONSE =
                 new SerializedResource(RESOURCE_FOLDER + "GetAccountStatesResponse.json");
         public static final SerializedResource GET_ALTERNATIVE_TITLES_RESPONSE =
@@ -59,6 +59,7 @@ public class PeopleApiDataHelper {
                 .adult(true)
                 .alsoKnownAs(List.of("Alias Value"))
                 .biography("Biography Value")
+                .birthDate(LocalDate.of(1950, 2 , 21))
                 .deathDate(LocalDate.of(2023, 8 , 13))
                 .gender(1)
                 .homepage("https://homepage")
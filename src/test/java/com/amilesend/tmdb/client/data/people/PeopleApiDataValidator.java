@@ -63,6 +63,7 @@ public class PeopleApiDataValidator {
                 () -> assertEquals(expected.getAdult(), actual.getAdult()),
                 () -> assertEquals(expected.getAlsoKnownAs(), actual.getAlsoKnownAs()),
                 () -> assertEquals(expected.getBiography(), actual.getBiography()),
+                () -> assertEquals(expected.getBirthDate(), actual.getBirthDate()),
                 () -> assertEquals(expected.getDeathDate(), actual.getDeathDate()),
                 () -> assertEquals(expected.getGender(), actual.getGender()),
                 () -> assertEquals(expected.getHomepage(), actual.getHomepage()),
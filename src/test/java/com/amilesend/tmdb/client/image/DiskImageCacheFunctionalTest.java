@@ -0,0 +1,226 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.image;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.tmdb.client.FunctionalTestBase;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.RecordedRequest;
+import okhttp3.HttpUrl;
+import okio.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DiskImageCacheFunctionalTest extends FunctionalTestBase {
+    private static final int IMAGE_SIZE = 1000;
+
+    @TempDir
+    private Path cacheDirectory;
+    private ImageDownloader downloader;
+    private DiskImageCache cacheUnderTest;
+
+    @BeforeEach
+    public void setUpCache() {
+        setUpMockDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) {
+                final String path = request.getUrl().encodedPath();
+                if (path.contains("missing")) {
+                    return new MockResponse.Builder().code(404).build();
+                }
+
+                return new MockResponse.Builder()
+                        .code(SUCCESS_STATUS_CODE)
+                        .headersDelay(100L, TimeUnit.MILLISECONDS)
+                        .body(new Buffer().write(newImageBytes(path)))
+                        .build();
+            }
+        });
+        downloader = ImageDownloader.builder()
+                .httpClient(newHttpClientBuilder().build())
+                .build();
+        cacheUnderTest = newCache(IMAGE_SIZE * 5L / 2L);
+    }
+
+    @Test
+    public void get_withRepeatedImage_shouldServeHitFromDisk() {
+        final HttpUrl url = newImageUrl("/t/p/w342/poster.jpg");
+
+        final ByteBuffer miss = cacheUnderTest.get(url);
+        final ByteBuffer hit = cacheUnderTest.get(url);
+
+        final ImageCacheStats stats = cacheUnderTest.getStats();
+        assertAll(
+                () -> assertArrayEquals(newImageBytes("/t/p/w342/poster.jpg"), toBytes(miss)),
+                () -> assertArrayEquals(newImageBytes("/t/p/w342/poster.jpg"), toBytes(hit)),
+                () -> assertTrue(hit.isReadOnly()),
+                () -> assertEquals(1, getRequestCount()),
+                () -> assertEquals(1L, stats.getHitCount()),
+                () -> assertEquals(1L, stats.getMissCount()),
+                () -> assertEquals(IMAGE_SIZE, stats.getHitBytes()),
+                () -> assertEquals(0.5D, stats.getHitRatio()),
+                () -> assertEquals(IMAGE_SIZE, cacheUnderTest.getSizeBytes()));
+    }
+
+    @Test
+    public void get_withSameImageFromDifferentHost_shouldServeHit() {
+        cacheUnderTest.get(newImageUrl("/t/p/w342/poster.jpg"));
+
+        final ByteBuffer actual = cacheUnderTest.get(newImageUrl("/t/p/w342/poster.jpg").newBuilder()
+                .host("127.0.0.2")
+                .build());
+
+        assertAll(
+                () -> assertArrayEquals(newImageBytes("/t/p/w342/poster.jpg"), toBytes(actual)),
+                () -> assertEquals(1, getRequestCount()));
+    }
+
+    @Test
+    public void get_withSizeExceeded_shouldEvictLeastRecentlyUsedImage() {
+        final HttpUrl first = newImageUrl("/t/p/w92/first.jpg");
+        final HttpUrl second = newImageUrl("/t/p/w92/second.jpg");
+        final HttpUrl third = newImageUrl("/t/p/w92/third.jpg");
+        cacheUnderTest.get(first);
+        cacheUnderTest.get(second);
+        cacheUnderTest.get(first);
+
+        cacheUnderTest.get(third);
+
+        assertAll(
+                () -> assertTrue(cacheUnderTest.contains(first)),
+                () -> assertFalse(cacheUnderTest.contains(second)),
+                () -> assertTrue(cacheUnderTest.contains(third)),
+                () -> assertEquals(2, cacheUnderTest.size()),
+                () -> assertEquals(2L * IMAGE_SIZE, cacheUnderTest.getSizeBytes()),
+                () -> assertEquals(1L, cacheUnderTest.getStats().getEvictionCount()),
+                () -> assertEquals(2L, countCachedFiles()));
+    }
+
+    @Test
+    public void getAsync_withConcurrentMisses_shouldDownloadOnce() {
+        final HttpUrl url = newImageUrl("/t/p/w342/poster.jpg");
+
+        final CompletableFuture<ByteBuffer> first = cacheUnderTest.getAsync(url);
+        final CompletableFuture<ByteBuffer> second = cacheUnderTest.getAsync(url);
+
+        assertAll(
+                () -> assertArrayEquals(newImageBytes("/t/p/w342/poster.jpg"), toBytes(first.join())),
+                () -> assertArrayEquals(newImageBytes("/t/p/w342/poster.jpg"), toBytes(second.join())),
+                () -> assertEquals(1, getRequestCount()),
+                () -> assertEquals(2L, cacheUnderTest.getStats().getMissCount()));
+    }
+
+    @Test
+    public void get_withNotFound_shouldThrowExceptionAndNotCache() {
+        final HttpUrl url = newImageUrl("/t/p/w342/missing.jpg");
+
+        assertThrows(RequestException.class, () -> cacheUnderTest.get(url));
+
+        assertAll(
+                () -> assertFalse(cacheUnderTest.contains(url)),
+                () -> assertEquals(1L, cacheUnderTest.getStats().getLoadFailureCount()),
+                () -> assertEquals(0L, countCachedFiles()));
+    }
+
+    @Test
+    public void getIfPresent_withUncachedImage_shouldReturnEmptyAndRecordMiss() {
+        assertAll(
+                () -> assertTrue(cacheUnderTest.getIfPresent(newImageUrl("/t/p/w92/poster.jpg")).isEmpty()),
+                () -> assertEquals(1L, cacheUnderTest.getStats().getMissCount()),
+                () -> assertEquals(0, getRequestCount()));
+    }
+
+    @Test
+    public void invalidate_shouldRemoveImage() {
+        final HttpUrl url = newImageUrl("/t/p/w92/poster.jpg");
+        cacheUnderTest.get(url);
+
+        cacheUnderTest.invalidate(url);
+
+        assertAll(
+                () -> assertFalse(cacheUnderTest.contains(url)),
+                () -> assertEquals(0L, cacheUnderTest.getSizeBytes()),
+                () -> assertEquals(0L, countCachedFiles()));
+    }
+
+    @Test
+    public void builder_withExistingDirectory_shouldIndexCachedImages() throws IOException {
+        final HttpUrl url = newImageUrl("/t/p/w92/poster.jpg");
+        cacheUnderTest.get(url);
+        final Path strayTempFile = Files.createFile(cacheDirectory.resolve("stray.img123.part"));
+
+        final DiskImageCache reloaded = newCache(IMAGE_SIZE * 5L / 2L);
+
+        assertAll(
+                () -> assertTrue(reloaded.contains(url)),
+                () -> assertArrayEquals(newImageBytes("/t/p/w92/poster.jpg"), toBytes(reloaded.get(url))),
+                () -> assertEquals(1, getRequestCount()),
+                () -> assertFalse(Files.exists(strayTempFile)));
+    }
+
+    private DiskImageCache newCache(final long maxSizeBytes) {
+        return DiskImageCache.builder()
+                .directory(cacheDirectory)
+                .maxSizeBytes(maxSizeBytes)
+                .downloader(downloader)
+                .build();
+    }
+
+    private long countCachedFiles() throws IOException {
+        try (Stream<Path> paths = Files.walk(cacheDirectory)) {
+            return paths.filter(Files::isRegularFile).count();
+        }
+    }
+
+    private HttpUrl newImageUrl(final String path) {
+        return HttpUrl.get(getMockWebServerUrl() + path);
+    }
+
+    private static byte[] toBytes(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static byte[] newImageBytes(final String path) {
+        final byte[] pathBytes = path.getBytes(StandardCharsets.UTF_8);
+        final byte[] bytes = new byte[IMAGE_SIZE];
+        for (int i = 0; i < bytes.length; ++i) {
+            bytes[i] = pathBytes[i % pathBytes.length];
+        }
+        return bytes;
+    }
+}
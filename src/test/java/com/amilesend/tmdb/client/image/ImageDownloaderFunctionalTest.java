@@ -0,0 +1,208 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.image;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.tmdb.client.FunctionalTestBase;
+import lombok.SneakyThrows;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.RecordedRequest;
+import okhttp3.HttpUrl;
+import okio.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ImageDownloaderFunctionalTest extends FunctionalTestBase {
+    private static final byte[] IMAGE_BYTES = newImageBytes(256 * 1024);
+
+    @TempDir
+    private Path tempDir;
+    private ImageDownloader downloaderUnderTest;
+
+    @BeforeEach
+    public void setUpDownloader() {
+        downloaderUnderTest = ImageDownloader.builder()
+                .httpClient(newHttpClientBuilder().build())
+                .maxConcurrency(2)
+                .build();
+    }
+
+    @Test
+    public void download_withChannel_shouldStreamImage() {
+        setUpMockImageResponse(0L);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        final long actual = downloaderUnderTest.download(newImageUrl("/w342/poster.jpg"), Channels.newChannel(output));
+
+        assertAll(
+                () -> assertEquals(IMAGE_BYTES.length, actual),
+                () -> assertArrayEquals(IMAGE_BYTES, output.toByteArray()),
+                () -> assertEquals("/w342/poster.jpg", takeRecordedRequest().getUrl().encodedPath()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void download_withFile_shouldWriteImage() {
+        setUpMockImageResponse(0L);
+        final Path file = tempDir.resolve("posters").resolve("poster.jpg");
+
+        final long actual = downloaderUnderTest.download(newImageUrl("/w342/poster.jpg"), file);
+
+        assertAll(
+                () -> assertEquals(IMAGE_BYTES.length, actual),
+                () -> assertArrayEquals(IMAGE_BYTES, Files.readAllBytes(file)),
+                () -> assertEquals(1L, Files.list(file.getParent()).count()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void download_withNotFound_shouldThrowExceptionAndNotCreateFile() {
+        setUpMockResponse(404);
+        final Path file = tempDir.resolve("poster.jpg");
+
+        assertThrows(RequestException.class, () -> downloaderUnderTest.download(newImageUrl("/w342/poster.jpg"), file));
+        assertEquals(0L, Files.list(tempDir).count());
+    }
+
+    @Test
+    public void download_withServerError_shouldThrowException() {
+        setUpMockResponse(503);
+
+        assertThrows(ResponseException.class, () -> downloaderUnderTest.download(
+                newImageUrl("/w342/poster.jpg"),
+                Channels.newChannel(new ByteArrayOutputStream())));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadAsync_withManyImages_shouldBoundConcurrency() {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        setUpMockDispatcher(new Dispatcher() {
+            @SneakyThrows
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                TimeUnit.MILLISECONDS.sleep(50L);
+                inFlight.decrementAndGet();
+                return new MockResponse.Builder()
+                        .code(SUCCESS_STATUS_CODE)
+                        .body(new Buffer().write(IMAGE_BYTES))
+                        .build();
+            }
+        });
+
+        final List<CompletableFuture<Long>> futures = IntStream.range(0, 6)
+                .mapToObj(i -> downloaderUnderTest.downloadAsync(
+                        newImageUrl("/w92/" + i + ".jpg"),
+                        tempDir.resolve(i + ".jpg")))
+                .collect(Collectors.toList());
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10L, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertEquals(6, getRequestCount()),
+                () -> assertTrue(maxInFlight.get() <= 2, "maxInFlight=" + maxInFlight.get()),
+                () -> assertEquals(6L, Files.list(tempDir).count()),
+                () -> assertEquals(0, downloaderUnderTest.getQueuedCount()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadAsync_withCancelledQueuedDownload_shouldNotSendRequest() {
+        setUpMockImageResponse(200L);
+        setUpMockImageResponse(200L);
+        final CompletableFuture<Long> first = downloaderUnderTest.downloadAsync(
+                newImageUrl("/w92/1.jpg"), Channels.newChannel(new ByteArrayOutputStream()));
+        final CompletableFuture<Long> second = downloaderUnderTest.downloadAsync(
+                newImageUrl("/w92/2.jpg"), Channels.newChannel(new ByteArrayOutputStream()));
+        final CompletableFuture<Long> third = downloaderUnderTest.downloadAsync(
+                newImageUrl("/w92/3.jpg"), Channels.newChannel(new ByteArrayOutputStream()));
+
+        third.cancel(true);
+        first.get(10L, TimeUnit.SECONDS);
+        second.get(10L, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertTrue(third.isCancelled()),
+                () -> assertEquals(2, getRequestCount()),
+                () -> assertFalse(first.isCompletedExceptionally()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadAsync_withShutDownCallbackExecutor_shouldCompleteOnCallingThread() {
+        setUpMockImageResponse(0L);
+        final ExecutorService callbackExecutor = Executors.newSingleThreadExecutor();
+        callbackExecutor.shutdown();
+        downloaderUnderTest = ImageDownloader.builder()
+                .httpClient(newHttpClientBuilder().build())
+                .callbackExecutor(callbackExecutor)
+                .build();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        final long actual = downloaderUnderTest.downloadAsync(
+                newImageUrl("/w92/poster.jpg"), Channels.newChannel(output)).get(10L, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertEquals(IMAGE_BYTES.length, actual),
+                () -> assertArrayEquals(IMAGE_BYTES, output.toByteArray()));
+    }
+
+    private void setUpMockImageResponse(final long headersDelayMillis) {
+        enqueueMockResponse(new MockResponse.Builder()
+                .code(SUCCESS_STATUS_CODE)
+                .addHeader("Content-Type", "image/jpeg")
+                .headersDelay(headersDelayMillis, TimeUnit.MILLISECONDS)
+                .body(new Buffer().write(IMAGE_BYTES))
+                .build());
+    }
+
+    private HttpUrl newImageUrl(final String path) {
+        return HttpUrl.get(getMockWebServerUrl() + path);
+    }
+
+    private static byte[] newImageBytes(final int size) {
+        final byte[] bytes = new byte[size];
+        new Random(42L).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.image;
+
+import com.amilesend.tmdb.client.api.ConfigurationApi;
+import com.amilesend.tmdb.client.model.configuration.GetConfigurationDetailsResponse;
+import com.amilesend.tmdb.client.model.configuration.type.ConfigurationImages;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ImageUrlResolverTest {
+    private static final Instant NOW = Instant.parse("2024-06-01T00:00:00Z");
+
+    @Mock
+    private ConfigurationApi mockConfigurationApi;
+    private ImageUrlResolver resolverUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(mockConfigurationApi.getConfigurationDetails()).thenReturn(newConfigurationDetails());
+        resolverUnderTest = ImageUrlResolver.builder()
+                .configurationApi(mockConfigurationApi)
+                .clock(Clock.fixed(NOW, ZoneOffset.UTC))
+                .build();
+    }
+
+    @Test
+    public void selectSize_withWidth_shouldSelectSmallestSizeAtLeastWidth() {
+        assertAll(
+                () -> assertEquals("w92", resolverUnderTest.selectSize(ImageType.POSTER, 0)),
+                () -> assertEquals("w92", resolverUnderTest.selectSize(ImageType.POSTER, 92)),
+                () -> assertEquals("w154", resolverUnderTest.selectSize(ImageType.POSTER, 93)),
+                () -> assertEquals("w342", resolverUnderTest.selectSize(ImageType.POSTER, 300)),
+                () -> assertEquals("w780", resolverUnderTest.selectSize(ImageType.POSTER, 780)),
+                () -> assertEquals("original", resolverUnderTest.selectSize(ImageType.POSTER, 781)),
+                () -> assertEquals("w185", resolverUnderTest.selectSize(ImageType.PROFILE, 100)),
+                () -> assertEquals("original", resolverUnderTest.selectSize(ImageType.PROFILE, 632)),
+                () -> assertEquals("w300", resolverUnderTest.selectSize(ImageType.STILL, 4000)),
+                () -> assertEquals("original", resolverUnderTest.selectSize(ImageType.LOGO, 100)));
+        verify(mockConfigurationApi).getConfigurationDetails();
+    }
+
+    @Test
+    public void resolve_withFilePath_shouldReturnSizedUrl() {
+        assertAll(
+                () -> assertEquals(
+                        "https://image.tmdb.org/t/p/w342/poster.jpg",
+                        resolverUnderTest.resolve(ImageType.POSTER, "/poster.jpg", 300).toString()),
+                () -> assertEquals(
+                        "https://image.tmdb.org/t/p/original/backdrop.jpg",
+                        resolverUnderTest.resolveOriginal("backdrop.jpg").toString()));
+    }
+
+    @Test
+    public void resolve_withInsecureResolver_shouldReturnHttpUrl() {
+        resolverUnderTest = ImageUrlResolver.builder()
+                .configurationApi(mockConfigurationApi)
+                .isSecure(false)
+                .build();
+
+        assertEquals(
+                "http://image.tmdb.org/t/p/w92/poster.jpg",
+                resolverUnderTest.resolve(ImageType.POSTER, "/poster.jpg", 50).toString());
+    }
+
+    @Test
+    public void resolve_withBlankFilePath_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> resolverUnderTest.resolveOriginal("/")),
+                () -> assertThrows(
+                        IllegalArgumentException.class,
+                        () -> resolverUnderTest.resolve(ImageType.POSTER, " ", 100)));
+        verifyNoInteractions(mockConfigurationApi);
+    }
+
+    @Test
+    public void selectSize_afterRefreshInterval_shouldRefetchConfiguration() {
+        final Clock mockClock = mock(Clock.class);
+        when(mockClock.instant()).thenReturn(
+                NOW,
+                NOW.plus(Duration.ofHours(1L)),
+                NOW.plus(Duration.ofDays(1L)),
+                NOW.plus(Duration.ofDays(1L)),
+                NOW.plus(Duration.ofDays(1L)));
+        resolverUnderTest = ImageUrlResolver.builder()
+                .configurationApi(mockConfigurationApi)
+                .clock(mockClock)
+                .build();
+
+        resolverUnderTest.selectSize(ImageType.POSTER, 100);
+        resolverUnderTest.selectSize(ImageType.POSTER, 100);
+        resolverUnderTest.selectSize(ImageType.POSTER, 100);
+
+        verify(mockConfigurationApi, times(2)).getConfigurationDetails();
+    }
+
+    @Test
+    public void invalidate_shouldRefetchConfiguration() {
+        resolverUnderTest.selectSize(ImageType.POSTER, 100);
+        resolverUnderTest.invalidate();
+        resolverUnderTest.selectSize(ImageType.POSTER, 100);
+
+        verify(mockConfigurationApi, times(2)).getConfigurationDetails();
+    }
+
+    private static GetConfigurationDetailsResponse newConfigurationDetails() {
+        return GetConfigurationDetailsResponse.builder()
+                .images(ConfigurationImages.builder()
+                        .baseUrl("http://image.tmdb.org/t/p/")
+                        .secureBaseUrl("https://image.tmdb.org/t/p/")
+                        .backdropSizes(List.of("w300", "w780", "w1280", "original"))
+                        .logoSizes(List.of("original"))
+                        .posterSizes(List.of("w92", "w154", "w185", "w342", "w500", "w780", "original"))
+                        .profileSizes(List.of("w45", "w185", "h632", "original"))
+                        .stillSizes(List.of("w92", "w185", "w300"))
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.parse;
+
+import com.amilesend.client.connection.Connection;
+import com.amilesend.tmdb.client.model.movie.AddRatingRequest;
+import com.amilesend.tmdb.client.model.movie.GetMovieDetailsResponse;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+public class GsonFactoryTest {
+    @Mock
+    private Connection mockConnection;
+    @Mock
+    private Connection mockOtherConnection;
+
+    @Test
+    public void getInstance_withSameConnection_shouldReturnSharedInstance() {
+        final GsonFactory factory = new GsonFactory();
+
+        final Gson actual = factory.getInstance(mockConnection);
+
+        assertSame(actual, factory.getInstance(mockConnection));
+    }
+
+    @Test
+    public void getInstance_withDifferentConnections_shouldReturnInstancePerConnection() {
+        final GsonFactory factory = new GsonFactory();
+
+        assertNotSame(factory.getInstance(mockConnection), factory.getInstance(mockOtherConnection));
+    }
+
+    @Test
+    public void getInstance_withPrewarmTypes_shouldReturnInstanceWithCachedAdapters() {
+        final GsonFactory factory = new GsonFactory(List.of(GetMovieDetailsResponse.class, AddRatingRequest.class));
+
+        final Gson actual = factory.getInstance(mockConnection);
+
+        assertAll(
+                () -> assertSame(
+                        actual.getAdapter(GetMovieDetailsResponse.class),
+                        actual.getAdapter(GetMovieDetailsResponse.class)),
+                () -> assertEquals("{\"value\":8.5}", actual.toJson(AddRatingRequest.builder()
+                        .movieId(1)
+                        .value(8.5D)
+                        .build())));
+    }
+
+    @Test
+    public void getInstance_withAllModelTypes_shouldCreateAdapters() {
+        final GsonFactory factory = new GsonFactory(ModelTypes.getBodyBasedRequestAndResponseTypes());
+
+        assertDoesNotThrow(() -> factory.getInstance(mockConnection));
+    }
+
+    @Test
+    public void getInstance_withNullConnection_shouldThrowException() {
+        final GsonFactory factory = new GsonFactory();
+
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> factory.getInstance(null)),
+                () -> assertThrows(NullPointerException.class, () -> new GsonFactory(null)));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.parse;
+
+import com.amilesend.tmdb.client.model.BodyBasedRequest;
+import com.amilesend.tmdb.client.model.PaginatedResponseBase;
+import com.amilesend.tmdb.client.model.movie.AddRatingRequest;
+import com.amilesend.tmdb.client.model.movie.GetMovieDetailsRequest;
+import com.amilesend.tmdb.client.model.movie.GetMovieDetailsResponse;
+import com.amilesend.tmdb.client.model.search.SearchMultiResponse;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ModelTypesTest {
+    @Test
+    public void getBodyBasedRequestAndResponseTypes_shouldReturnConcreteRequestAndResponseTypes() {
+        final List<Class<?>> actual = ModelTypes.getBodyBasedRequestAndResponseTypes();
+
+        assertAll(
+                () -> assertTrue(actual.contains(GetMovieDetailsResponse.class)),
+                () -> assertTrue(actual.contains(SearchMultiResponse.class)),
+                () -> assertTrue(actual.contains(AddRatingRequest.class)),
+                () -> assertFalse(actual.contains(GetMovieDetailsRequest.class)),
+                () -> assertFalse(actual.contains(PaginatedResponseBase.class)),
+                () -> assertTrue(actual.stream().noneMatch(type -> Modifier.isAbstract(type.getModifiers()))),
+                () -> assertTrue(actual.stream().allMatch(type -> BodyBasedRequest.class.isAssignableFrom(type)
+                        || type.getSimpleName().endsWith("Response"))));
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.parse;
+
+import com.amilesend.client.connection.Connection;
+import com.amilesend.client.parse.parser.BasicParser;
+import com.amilesend.tmdb.client.model.configuration.type.ConfigurationTimezone;
+import com.amilesend.tmdb.client.model.tv.seasons.GetSeasonDetailsResponse;
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+public class StreamingParserTest {
+    private static final String SEASON_DETAILS_RESOURCE = "/TvSeasonsApi/GetSeasonDetailsResponse.json";
+
+    @Mock
+    private Connection mockConnection;
+
+    private Gson gson;
+
+    @BeforeEach
+    public void setUp() {
+        gson = new GsonFactory().getInstance(mockConnection);
+    }
+
+    @Test
+    public void parse_withLargestFixture_shouldMatchBufferedParser() throws IOException {
+        final GetSeasonDetailsResponse expected;
+        try (InputStream stream = StreamingParserTest.class.getResourceAsStream(SEASON_DETAILS_RESOURCE)) {
+            expected = new BasicParser<>(GetSeasonDetailsResponse.class).parse(gson, stream);
+        }
+
+        final GetSeasonDetailsResponse actual;
+        try (InputStream stream = StreamingParserTest.class.getResourceAsStream(SEASON_DETAILS_RESOURCE)) {
+            actual = new StreamingParser<>(GetSeasonDetailsResponse.class).parse(gson, stream);
+        }
+
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    @Test
+    public void parse_withList_shouldReturnList() {
+        final List<ConfigurationTimezone> actual = StreamingParser.forList(ConfigurationTimezone.class)
+                .parse(gson, toStream("[{\"iso_3166_1\":\"US\",\"zones\":[\"America/New_York\"]},"
+                        + "{\"iso_3166_1\":\"JP\",\"zones\":[\"Asia/Tokyo\"]}]"));
+
+        assertAll(
+                () -> assertEquals(2, actual.size()),
+                () -> assertEquals("US", actual.get(0).getCountryCode()),
+                () -> assertEquals(List.of("Asia/Tokyo"), actual.get(1).getZones()));
+    }
+
+    @Test
+    public void parse_withMultiByteCharacters_shouldDecodeUtf8() {
+        final List<ConfigurationTimezone> actual = StreamingParser.forList(ConfigurationTimezone.class)
+                .parse(gson, toStream("[{\"iso_3166_1\":\"日本\",\"zones\":[\"Zürich 🎬\"]}]"));
+
+        assertAll(
+                () -> assertEquals("日本", actual.get(0).getCountryCode()),
+                () -> assertEquals(List.of("Zürich 🎬"), actual.get(0).getZones()));
+    }
+
+    @Test
+    public void parse_withEmptyBody_shouldReturnNull() {
+        assertNull(new StreamingParser<>(ConfigurationTimezone.class).parse(gson, toStream("")));
+    }
+
+    @Test
+    public void parse_withTrailingContent_shouldThrowException() {
+        final StreamingParser<ConfigurationTimezone> parser = new StreamingParser<>(ConfigurationTimezone.class);
+
+        assertThrows(JsonSyntaxException.class, () -> parser.parse(gson, toStream("{\"iso_3166_1\":\"US\"} {}")));
+    }
+
+    @Test
+    public void parse_withMalformedJson_shouldThrowException() {
+        final StreamingParser<ConfigurationTimezone> parser = new StreamingParser<>(ConfigurationTimezone.class);
+
+        assertThrows(JsonSyntaxException.class, () -> parser.parse(gson, toStream("{\"iso_3166_1\":")));
+    }
+
+    @Test
+    public void parse_withStreamFailure_shouldThrowException() {
+        final InputStream failingStream = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+        final StreamingParser<ConfigurationTimezone> parser = new StreamingParser<>(ConfigurationTimezone.class);
+
+        final JsonSyntaxException thrown =
+                assertThrows(JsonSyntaxException.class, () -> parser.parse(gson, failingStream));
+        assertInstanceOf(IOException.class, thrown.getCause());
+    }
+
+    @Test
+    public void new_withNullType_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> new StreamingParser<>((Class<?>) null)),
+                () -> assertThrows(NullPointerException.class, () -> StreamingParser.forList(null)));
+    }
+
+    private static InputStream toStream(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
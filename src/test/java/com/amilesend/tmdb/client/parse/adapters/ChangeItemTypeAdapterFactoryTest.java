@@ -0,0 +1,83 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.parse.adapters;
+
+import com.amilesend.client.connection.Connection;
+import com.amilesend.tmdb.client.model.movie.GetChangesResponse;
+import com.amilesend.tmdb.client.model.movie.type.Poster;
+import com.amilesend.tmdb.client.model.type.ChangeItem;
+import com.amilesend.tmdb.client.parse.GsonFactory;
+import com.google.gson.Gson;
+import com.google.gson.JsonPrimitive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+public class ChangeItemTypeAdapterFactoryTest {
+    @Mock
+    private Connection mockConnection;
+    private Gson gson;
+
+    @BeforeEach
+    public void setUp() {
+        gson = new GsonFactory().getInstance(mockConnection);
+    }
+
+    @Test
+    public void read_withValueOfValueType_shouldConvertValue() {
+        final GetChangesResponse actual = gson.fromJson("{\"changes\":[{\"key\":\"images\",\"items\":[{"
+                + "\"id\":\"1\",\"action\":\"added\",\"time\":\"2024-06-01 12:00:00 UTC\","
+                + "\"value\":{\"file_path\":\"/new.jpg\"},\"original_value\":{\"file_path\":\"/old.jpg\"}}]}]}",
+                GetChangesResponse.class);
+
+        final ChangeItem<Poster> item = actual.getChanges().get(0).getItems().get(0);
+        assertAll(
+                () -> assertEquals("1", item.getId()),
+                () -> assertEquals("added", item.getAction()),
+                () -> assertEquals(LocalDateTime.of(2024, 6, 1, 12, 0), item.getTime()),
+                () -> assertEquals("/new.jpg", item.getValue().getFilePath()),
+                () -> assertEquals("/old.jpg", item.getOriginalValue().getFilePath()),
+                () -> assertTrue(item.getRawValue().isJsonObject()));
+    }
+
+    @Test
+    public void read_withValueOfOtherType_shouldRetainRawValue() {
+        final GetChangesResponse actual = gson.fromJson("{\"changes\":[{\"key\":\"title\",\"items\":[{"
+                + "\"id\":\"1\",\"action\":\"updated\",\"time\":\"2024-06-01 12:00:00 UTC\",\"iso_639_1\":\"en\","
+                + "\"value\":\"New Title\",\"original_value\":\"Old Title\"}]}]}",
+                GetChangesResponse.class);
+
+        final ChangeItem<Poster> item = actual.getChanges().get(0).getItems().get(0);
+        assertAll(
+                () -> assertEquals("en", item.getLanguageCode()),
+                () -> assertNull(item.getValue()),
+                () -> assertNull(item.getOriginalValue()),
+                () -> assertEquals(new JsonPrimitive("New Title"), item.getRawValue()),
+                () -> assertEquals(new JsonPrimitive("Old Title"), item.getRawOriginalValue()));
+    }
+}
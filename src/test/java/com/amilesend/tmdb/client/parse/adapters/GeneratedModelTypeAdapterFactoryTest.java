@@ -0,0 +1,311 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.parse.adapters;
+
+import com.amilesend.client.connection.Connection;
+import com.amilesend.client.parse.strategy.AnnotationBasedExclusionStrategy;
+import com.amilesend.tmdb.client.model.acount.AddFavoriteRequest;
+import com.amilesend.tmdb.client.model.configuration.type.ConfigurationCountry;
+import com.amilesend.tmdb.client.model.configuration.type.ConfigurationLanguage;
+import com.amilesend.tmdb.client.model.configuration.type.ConfigurationTimezone;
+import com.amilesend.tmdb.client.model.configuration.type.Job;
+import com.amilesend.tmdb.client.model.find.FindByIdResponse;
+import com.amilesend.tmdb.client.model.movie.GetMovieDetailsResponse;
+import com.amilesend.tmdb.client.model.people.GetCombinedCreditsResponse;
+import com.amilesend.tmdb.client.model.search.SearchMultiResponse;
+import com.amilesend.tmdb.client.model.search.type.MediaType;
+import com.amilesend.tmdb.client.model.search.type.SearchResult;
+import com.amilesend.tmdb.client.model.trending.type.TimeWindow;
+import com.amilesend.tmdb.client.model.tv.episodes.groups.type.TvEpisodeGroupType;
+import com.amilesend.tmdb.client.model.tv.seasons.GetSeasonDetailsResponse;
+import com.amilesend.tmdb.client.model.type.ChangeItem;
+import com.amilesend.tmdb.client.parse.GsonFactory;
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.Map.entry;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@ExtendWith(MockitoExtension.class)
+public class GeneratedModelTypeAdapterFactoryTest {
+    private static final String MODEL_PACKAGE = "com.amilesend.tmdb.client.model.";
+    /** Maps the fixture folders to the package of the associated model types. */
+    private static final Map<String, String> FIXTURE_PACKAGES = Map.ofEntries(
+            entry("AccountApi", "acount"),
+            entry("AuthenticationApi", "auth"),
+            entry("CertificationsApi", "certification"),
+            entry("ChangesApi", "change"),
+            entry("CollectionsApi", "collection"),
+            entry("CompaniesApi", "company"),
+            entry("ConfigurationApi", "configuration"),
+            entry("CreditsApi", "credit"),
+            entry("DiscoverApi", "discover"),
+            entry("FindApi", "find"),
+            entry("GenresApi", "genre"),
+            entry("GuestSessionsApi", "acount"),
+            entry("KeywordsApi", "keyword"),
+            entry("ListsApi", "list"),
+            entry("MovieListsApi", "movie.list"),
+            entry("MoviesApi", "movie"),
+            entry("NetworksApi", "network"),
+            entry("PeopleApi", "people"),
+            entry("PeopleListsApi", "people.lists"),
+            entry("ReviewsApi", "review"),
+            entry("SearchApi", "search"),
+            entry("TrendingApi", "trending"),
+            entry("TvEpisodeGroupsApi", "tv.episodes.groups"),
+            entry("TvEpisodesApi", "tv.episodes"),
+            entry("TvSeasonsApi", "tv.seasons"),
+            entry("TvSeriesApi", "tv.series"),
+            entry("TvSeriesListsApi", "tv.series.list"),
+            entry("WatchProvidersApi", "watch"));
+    /** Maps the fixtures that are not named after their model type to the type name. */
+    private static final Map<String, String> FIXTURE_TYPE_NAMES = Map.ofEntries(
+            entry("AccountApi/GetFavoriteTVResponse", "GetFavoriteTvShowsResponse"),
+            entry("AccountApi/GetRatedTVEpisodesResponse", "GetRatedTvEpisodesResponse"),
+            entry("AccountApi/GetRatedTVResponse", "GetRatedTvShowsResponse"),
+            entry("AccountApi/PostResponse", "AddFavoriteResponse"),
+            entry("CertificationsApi/GetCertificationResponse", "GetMovieCertificationsResponse"),
+            entry("CollectionsApi/CollectionDetails", "GetCollectionDetailsResponse"),
+            entry("CollectionsApi/CollectionImages", "GetCollectionImagesResponse"),
+            entry("CollectionsApi/Translations", "GetTranslationsResponse"),
+            entry("CompaniesApi/AlternativeNames", "GetAlternativeNamesResponse"),
+            entry("CompaniesApi/CompanyDetails", "GetCompanyDetailsResponse"),
+            entry("CompaniesApi/CompanyImages", "GetCompanyImagesResponse"),
+            entry("ConfigurationApi/ConfigurationDetails", "GetConfigurationDetailsResponse"),
+            entry("CreditsApi/CreditDetails", "GetCreditDetailsResponse"),
+            entry("KeywordsApi/KeywordDetails", "GetKeywordDetailsResponse"),
+            entry("ListsApi/AddMoviesResponse", "AddMovieResponse"),
+            entry("MoviesApi/GetMovieDetailsWithAppendedResponse", "GetMovieDetailsResponse"),
+            entry("TvSeriesApi/GetLatestResponse", "GetSeriesDetailsResponse"));
+    /** Maps the fixtures of JSON arrays to the list element type. */
+    private static final Map<String, Class<?>> FIXTURE_LIST_ELEMENT_TYPES = Map.of(
+            "ConfigurationApi/Countries", ConfigurationCountry.class,
+            "ConfigurationApi/Jobs", Job.class,
+            "ConfigurationApi/Languages", ConfigurationLanguage.class,
+            "ConfigurationApi/PrimaryTranslations", String.class,
+            "ConfigurationApi/Timezones", ConfigurationTimezone.class);
+
+    @Mock
+    private Connection mockConnection;
+    private Gson gson;
+    private Gson reflectiveGson;
+
+    @BeforeEach
+    public void setUp() {
+        gson = new GsonFactory().getInstance(mockConnection);
+        reflectiveGson = newReflectiveGson();
+    }
+
+    @Test
+    public void create_withModelType_shouldReturnAdapter() {
+        final GeneratedModelTypeAdapterFactory factory = new GeneratedModelTypeAdapterFactory();
+
+        assertNotNull(factory.create(gson, TypeToken.get(GetMovieDetailsResponse.class)));
+    }
+
+    @Test
+    public void create_withUnsupportedType_shouldReturnNull() {
+        final GeneratedModelTypeAdapterFactory factory = new GeneratedModelTypeAdapterFactory();
+
+        assertAll(
+                () -> assertNull(factory.create(gson, TypeToken.get(SearchResult.class))),
+                () -> assertNull(factory.create(gson, TypeToken.get(ChangeItem.class))),
+                () -> assertNull(factory.create(gson, TypeToken.get(MediaType.class))),
+                () -> assertNull(factory.create(gson, TypeToken.get(String.class))));
+    }
+
+    @Test
+    public void read_withFixtures_shouldMatchReflectiveAdapter() throws IOException {
+        assertAll(
+                () -> assertMatchesReflectiveAdapter(
+                        "/MoviesApi/GetMovieDetailsWithAppendedResponse.json",
+                        GetMovieDetailsResponse.class),
+                () -> assertMatchesReflectiveAdapter(
+                        "/TvSeasonsApi/GetSeasonDetailsResponse.json",
+                        GetSeasonDetailsResponse.class),
+                () -> assertMatchesReflectiveAdapter(
+                        "/PeopleApi/GetCombinedCreditsResponse.json",
+                        GetCombinedCreditsResponse.class),
+                () -> assertMatchesReflectiveAdapter("/SearchApi/SearchMultiResponse.json", SearchMultiResponse.class),
+                () -> assertMatchesReflectiveAdapter("/FindApi/FindByIdResponse.json", FindByIdResponse.class));
+    }
+
+    @Test
+    public void readAndWrite_withAllFixtures_shouldMatchReflectiveAdapter() throws IOException, URISyntaxException {
+        final List<Path> fixtures;
+        final Path resourceRoot = Path.of(GeneratedModelTypeAdapterFactoryTest.class.getResource("/").toURI());
+        try (Stream<Path> paths = Files.walk(resourceRoot, 2)) {
+            fixtures = paths.filter(path -> path.toString().endsWith(".json"))
+                    .filter(path -> FIXTURE_PACKAGES.containsKey(path.getParent().getFileName().toString()))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        assertAll(
+                () -> assertEquals(144, fixtures.size()),
+                () -> assertAll(fixtures.stream().map(fixture -> (Executable) () -> assertRoundTrip(fixture))));
+    }
+
+    @Test
+    public void read_withUnknownAttributesAndNullPrimitive_shouldSkipThem() {
+        final String json = "{\"media_type\":\"movie\",\"unknown\":{\"nested\":[1,2]},\"media_id\":null,"
+                + "\"favorite\":true}";
+
+        final AddFavoriteRequest actual = gson.fromJson(json, AddFavoriteRequest.class);
+
+        assertAll(
+                () -> assertEquals(reflectiveGson.fromJson(json, AddFavoriteRequest.class), actual),
+                () -> assertEquals("movie", actual.getMediaType()),
+                () -> assertEquals(0, actual.getMediaId()),
+                () -> assertEquals(true, actual.isFavorite()));
+    }
+
+    @Test
+    public void read_withJsonNull_shouldReturnNull() {
+        assertNull(gson.fromJson("null", GetMovieDetailsResponse.class));
+    }
+
+    @Test
+    public void write_withExcludedFields_shouldMatchReflectiveAdapter() {
+        final AddFavoriteRequest request = AddFavoriteRequest.builder()
+                .accountId(1)
+                .sessionId("SessionId")
+                .mediaType("tv")
+                .mediaId(2)
+                .favorite(true)
+                .build();
+
+        final String actual = gson.toJson(request);
+
+        assertAll(
+                () -> assertEquals("{\"media_type\":\"tv\",\"media_id\":2,\"favorite\":true}", actual),
+                () -> assertEquals(reflectiveGson.toJson(request), actual));
+    }
+
+    @Test
+    public void write_withFixture_shouldRoundTrip() throws IOException {
+        final GetSeasonDetailsResponse expected;
+        try (Reader reader = newReader("/TvSeasonsApi/GetSeasonDetailsResponse.json")) {
+            expected = gson.fromJson(reader, GetSeasonDetailsResponse.class);
+        }
+
+        final String json = gson.toJson(expected);
+
+        assertAll(
+                () -> assertEquals(reflectiveGson.toJson(expected), json),
+                () -> assertEquals(expected, gson.fromJson(json, GetSeasonDetailsResponse.class)));
+    }
+
+    /**
+     * Asserts that the generated adapter reads the fixture like the reflective adapter, writes the model like the
+     * reflective adapter, and reads its own output back to the same model.
+     */
+    private void assertRoundTrip(final Path fixture) throws IOException, ClassNotFoundException {
+        final Type type = getFixtureType(fixture);
+        final String json = Files.readString(fixture);
+        final Object expected = reflectiveGson.fromJson(json, type);
+
+        final Object actual = gson.fromJson(json, type);
+
+        final String actualJson = gson.toJson(actual, type);
+        final Object roundTripped = gson.fromJson(actualJson, type);
+        assertAll(
+                () -> assertEquals(
+                        reflectiveGson.toJson(expected, type),
+                        reflectiveGson.toJson(actual, type),
+                        fixture.toString()),
+                () -> assertEquals(reflectiveGson.toJson(actual, type), actualJson, fixture.toString()),
+                () -> assertEquals(actualJson, gson.toJson(roundTripped, type), fixture.toString()));
+    }
+
+    private static Type getFixtureType(final Path fixture) throws ClassNotFoundException {
+        final String folder = fixture.getParent().getFileName().toString();
+        final String fileName = fixture.getFileName().toString();
+        final String name = fileName.substring(0, fileName.length() - ".json".length());
+        final Class<?> listElementType = FIXTURE_LIST_ELEMENT_TYPES.get(folder + "/" + name);
+        if (listElementType != null) {
+            return TypeToken.getParameterized(List.class, listElementType).getType();
+        }
+
+        return Class.forName(MODEL_PACKAGE + FIXTURE_PACKAGES.get(folder) + "."
+                + FIXTURE_TYPE_NAMES.getOrDefault(folder + "/" + name, name));
+    }
+
+    private void assertMatchesReflectiveAdapter(final String resourcePath, final Class<?> type) throws IOException {
+        final Object expected;
+        try (Reader reader = newReader(resourcePath)) {
+            expected = reflectiveGson.fromJson(reader, type);
+        }
+
+        try (Reader reader = newReader(resourcePath)) {
+            assertEquals(expected, gson.fromJson(reader, type), resourcePath);
+        }
+    }
+
+    private static Reader newReader(final String resourcePath) {
+        final InputStream stream = GeneratedModelTypeAdapterFactoryTest.class.getResourceAsStream(resourcePath);
+        return new InputStreamReader(stream, StandardCharsets.UTF_8);
+    }
+
+    /** Creates a {@link Gson} instance configured as {@link GsonFactory} does, without the generated adapters. */
+    private static Gson newReflectiveGson() {
+        return new GsonBuilder()
+                .setExclusionStrategies(new AnnotationBasedExclusionStrategy())
+                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .registerTypeAdapter(LocalDate.class, new LocalDateTypeAdapter())
+                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeTypeAdapter())
+                .registerTypeAdapter(LocalTime.class, new LocalTimeTypeAdapter())
+                .registerTypeAdapter(MediaType.class, new MediaTypeTypeAdapter())
+                .registerTypeAdapter(TvEpisodeGroupType.class, new TvEpisodeGroupTypeTypeAdapter())
+                .registerTypeAdapterFactory(new SearchResultTypeAdapterFactory())
+                .registerTypeAdapterFactory(new PersonCreditTypeAdapterFactory())
+                .registerTypeAdapterFactory(new ChangeItemTypeAdapterFactory())
+                .registerTypeAdapter(TimeWindow.class, new TimeWindowTypeAdapter())
+                .create();
+    }
+}
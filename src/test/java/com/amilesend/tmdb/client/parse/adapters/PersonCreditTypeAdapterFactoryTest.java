@@ -0,0 +1,90 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.parse.adapters;
+
+import com.amilesend.client.connection.Connection;
+import com.amilesend.tmdb.client.model.search.type.MediaType;
+import com.amilesend.tmdb.client.model.search.type.MovieCastCredit;
+import com.amilesend.tmdb.client.model.search.type.PersonCredit;
+import com.amilesend.tmdb.client.model.search.type.TvCastCredit;
+import com.amilesend.tmdb.client.parse.GsonFactory;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+public class PersonCreditTypeAdapterFactoryTest {
+    @Mock
+    private Connection mockConnection;
+    private Gson gson;
+
+    @BeforeEach
+    public void setUp() {
+        gson = new GsonFactory().getInstance(mockConnection);
+    }
+
+    @Test
+    public void read_withJsonNull_shouldReturnNull() {
+        assertNull(gson.fromJson("null", PersonCredit.class));
+    }
+
+    @Test
+    public void read_withMovieMediaType_shouldReturnMovieCastCredit() {
+        final PersonCredit actual = gson.fromJson(
+                "{\"title\":\"Title\",\"release_date\":\"2024-05-15\",\"media_type\":\"movie\"}",
+                PersonCredit.class);
+
+        assertInstanceOf(MovieCastCredit.class, actual);
+        assertAll(
+                () -> assertEquals(MediaType.MOVIE, actual.getMediaType()),
+                () -> assertEquals("Title", ((MovieCastCredit) actual).getTitle()),
+                () -> assertEquals(LocalDate.of(2024, 5, 15), ((MovieCastCredit) actual).getReleaseDate()));
+    }
+
+    @Test
+    public void read_withTvMediaType_shouldReturnTvCastCredit() {
+        final PersonCredit actual = gson.fromJson(
+                "{\"name\":\"Name\",\"media_type\":\"tv\",\"origin_country\":[\"US\"]}",
+                PersonCredit.class);
+
+        assertInstanceOf(TvCastCredit.class, actual);
+        assertAll(
+                () -> assertEquals(MediaType.TV, actual.getMediaType()),
+                () -> assertEquals("Name", ((TvCastCredit) actual).getName()));
+    }
+
+    @Test
+    public void read_withUnsupportedMediaType_shouldThrowException() {
+        final Throwable actual = assertThrows(JsonParseException.class,
+                () -> gson.fromJson("{\"media_type\":\"person\"}", PersonCredit.class));
+
+        assertEquals("Unknown/unsupported media type: PERSON", actual.getMessage());
+    }
+}
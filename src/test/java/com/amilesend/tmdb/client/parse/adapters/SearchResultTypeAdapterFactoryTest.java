@@ -0,0 +1,148 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.parse.adapters;
+
+import com.amilesend.client.connection.Connection;
+import com.amilesend.tmdb.client.model.search.type.MediaType;
+import com.amilesend.tmdb.client.model.search.type.MovieSearchResult;
+import com.amilesend.tmdb.client.model.search.type.PersonSearchResult;
+import com.amilesend.tmdb.client.model.search.type.SearchResult;
+import com.amilesend.tmdb.client.model.search.type.TvSeriesSearchResult;
+import com.amilesend.tmdb.client.parse.GsonFactory;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchResultTypeAdapterFactoryTest {
+    @Mock
+    private Connection mockConnection;
+    private Gson gson;
+
+    @BeforeEach
+    public void setUp() {
+        gson = new GsonFactory().getInstance(mockConnection);
+    }
+
+    @Test
+    public void read_withJsonNull_shouldReturnNull() {
+        assertNull(gson.fromJson("null", SearchResult.class));
+    }
+
+    @Test
+    public void read_withMovieMediaType_shouldReturnMovieSearchResult() {
+        final String json = "{\"id\":1,\"title\":\"Title\",\"genre_ids\":[1,2],\"overview\":null,"
+                + "\"popularity\":1.50,\"media_type\":\"movie\",\"release_date\":\"2024-05-15\",\"adult\":false}";
+
+        final SearchResult actual = gson.fromJson(json, SearchResult.class);
+
+        assertInstanceOf(MovieSearchResult.class, actual);
+        final MovieSearchResult movie = (MovieSearchResult) actual;
+        assertAll(
+                () -> assertEquals(MediaType.MOVIE, movie.getMediaType()),
+                () -> assertEquals(1, movie.getId()),
+                () -> assertEquals("Title", movie.getTitle()),
+                () -> assertEquals(List.of(1, 2), movie.getGenreIds()),
+                () -> assertNull(movie.getOverview()),
+                () -> assertEquals(1.5D, movie.getPopularity()),
+                () -> assertEquals(LocalDate.of(2024, 5, 15), movie.getReleaseDate()),
+                () -> assertEquals(false, movie.getAdult()));
+    }
+
+    @Test
+    public void read_withTvMediaType_shouldReturnTvSeriesSearchResult() {
+        final SearchResult actual = gson.fromJson("{\"id\":2,\"media_type\":\"tv\"}", SearchResult.class);
+
+        assertAll(
+                () -> assertInstanceOf(TvSeriesSearchResult.class, actual),
+                () -> assertEquals(MediaType.TV, actual.getMediaType()));
+    }
+
+    @Test
+    public void read_withPersonMediaType_shouldReturnPersonSearchResultWithNestedCredits() {
+        final String json = "{\"id\":3,\"know_for\":[{\"id\":4,\"title\":\"Known\",\"media_type\":\"movie\"}],"
+                + "\"media_type\":\"person\"}";
+
+        final SearchResult actual = gson.fromJson(json, SearchResult.class);
+
+        assertInstanceOf(PersonSearchResult.class, actual);
+        final PersonSearchResult person = (PersonSearchResult) actual;
+        assertAll(
+                () -> assertEquals(MediaType.PERSON, person.getMediaType()),
+                () -> assertEquals(1, person.getKnowFor().size()),
+                () -> assertEquals(MediaType.MOVIE, person.getKnowFor().get(0).getMediaType()));
+    }
+
+    @Test
+    public void read_withUnknownAttributesBeforeMediaType_shouldSkipBufferedAttributes() {
+        final String json = "{\"unknown\":{\"values\":[1,{\"nested\":true}]},\"id\":5,\"vote_count\":1.0,"
+                + "\"name\":\"Name\",\"media_type\":\"tv\",\"original_name\":\"Original\"}";
+
+        final SearchResult actual = gson.fromJson(json, SearchResult.class);
+
+        assertInstanceOf(TvSeriesSearchResult.class, actual);
+        final TvSeriesSearchResult tv = (TvSeriesSearchResult) actual;
+        assertAll(
+                () -> assertEquals(5, tv.getId()),
+                () -> assertEquals(1, tv.getVoteCount()),
+                () -> assertEquals("Name", tv.getName()),
+                () -> assertEquals("Original", tv.getOriginalName()));
+    }
+
+    @Test
+    public void read_withMissingMediaType_shouldThrowException() {
+        final Throwable actual = assertThrows(JsonParseException.class,
+                () -> gson.fromJson("{\"id\":1,\"nested\":{\"media_type\":\"movie\"}}", SearchResult.class));
+
+        assertEquals("\"media_type\" does not exist", actual.getMessage());
+    }
+
+    @Test
+    public void read_withUnsupportedMediaType_shouldThrowException() {
+        assertThrows(JsonParseException.class,
+                () -> gson.fromJson("{\"id\":1,\"media_type\":\"tv_season\"}", SearchResult.class));
+    }
+
+    @Test
+    public void write_withSearchResult_shouldSerializeConcreteType() {
+        final SearchResult result = MovieSearchResult.builder()
+                .id(1)
+                .title("Title")
+                .mediaType(MediaType.MOVIE)
+                .build();
+
+        final SearchResult actual = gson.fromJson(gson.toJson(result, SearchResult.class), SearchResult.class);
+
+        assertAll(
+                () -> assertInstanceOf(MovieSearchResult.class, actual),
+                () -> assertEquals("Title", ((MovieSearchResult) actual).getTitle()));
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.sync;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.tmdb.client.FunctionalTestBase;
+import com.amilesend.tmdb.client.api.BatchResult;
+import com.amilesend.tmdb.client.model.movie.GetMovieDetailsRequest;
+import com.amilesend.tmdb.client.model.movie.GetMovieDetailsResponse;
+import lombok.SneakyThrows;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.RecordedRequest;
+import okhttp3.HttpUrl;
+import okio.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.amilesend.tmdb.client.data.change.ChangesApiDataHelper.Responses.GET_MOVIE_CHANGES_RESPONSE;
+import static com.amilesend.tmdb.client.data.movie.MoviesApiDataHelper.Responses.GET_MOVIE_DETAILS_RESPONSE;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CatalogSyncFunctionalTest extends FunctionalTestBase {
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 31);
+
+    private final List<String> changeWindows = new CopyOnWriteArrayList<>();
+    private final InMemorySyncCheckpointStore checkpointStore = new InMemorySyncCheckpointStore();
+    private CatalogSync syncUnderTest;
+
+    @BeforeEach
+    public void setUpSync() {
+        syncUnderTest = CatalogSync.builder()
+                .tmdb(getClient())
+                .checkpointStore(checkpointStore)
+                .maxConcurrency(3)
+                .clock(Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC))
+                .build();
+    }
+
+    @Test
+    public void syncMovies_withCheckpoint_shouldScanWindowsRefetchChangesAndAdvanceCheckpoint() {
+        setUpMockDispatcher(new CatalogDispatcher(5));
+        checkpointStore.setLastSyncedDate(SyncResourceType.MOVIE, LocalDate.of(2024, 3, 1));
+        final BatchResult<GetMovieDetailsResponse> sink = new BatchResult<>();
+
+        final SyncResult actual = syncUnderTest.syncMovies(GetMovieDetailsRequest.builder().build(), sink);
+
+        assertAll(
+                () -> assertEquals(Set.of(
+                                "2024-03-01/2024-03-14",
+                                "2024-03-15/2024-03-28",
+                                "2024-03-29/2024-03-31"),
+                        Set.copyOf(changeWindows)),
+                () -> assertEquals(10, actual.getChangedCount()),
+                () -> assertEquals(Set.of(5), actual.getFailedIds()),
+                () -> assertEquals(LocalDate.of(2024, 3, 1), actual.getStartDate()),
+                () -> assertEquals(TODAY, actual.getEndDate()),
+                () -> assertEquals(IntStream.rangeClosed(1, 10)
+                                .filter(id -> id != 5)
+                                .boxed()
+                                .collect(Collectors.toSet()),
+                        sink.getResults().keySet()),
+                () -> assertInstanceOf(RequestException.class, sink.getFailures().get(5)),
+                () -> assertEquals(Optional.of(TODAY), checkpointStore.getLastSyncedDate(SyncResourceType.MOVIE)),
+                () -> assertEquals(13, getRequestCount()));
+    }
+
+    @Test
+    public void syncMovies_withNoCheckpoint_shouldScanInitialLookback() {
+        setUpMockDispatcher(new CatalogDispatcher(-1));
+
+        final SyncResult actual =
+                syncUnderTest.syncMovies(GetMovieDetailsRequest.builder().build(), new BatchResult<>());
+
+        assertAll(
+                () -> assertEquals(List.of("2024-03-30/2024-03-31"), changeWindows),
+                () -> assertTrue(actual.getFailedIds().isEmpty()),
+                () -> assertEquals(Optional.of(TODAY), checkpointStore.getLastSyncedDate(SyncResourceType.MOVIE)));
+    }
+
+    @Test
+    public void syncMovies_withChangesFailure_shouldNotAdvanceCheckpoint() {
+        setUpMockResponse(503);
+        checkpointStore.setLastSyncedDate(SyncResourceType.MOVIE, LocalDate.of(2024, 3, 30));
+
+        assertThrows(RuntimeException.class,
+                () -> syncUnderTest.syncMovies(GetMovieDetailsRequest.builder().build(), new BatchResult<>()));
+        assertEquals(Optional.of(LocalDate.of(2024, 3, 30)),
+                checkpointStore.getLastSyncedDate(SyncResourceType.MOVIE));
+    }
+
+    /** Responds with the same changes for each window, and the movie details for each changed movie. */
+    private class CatalogDispatcher extends Dispatcher {
+        private final int missingMovieId;
+
+        CatalogDispatcher(final int missingMovieId) {
+            this.missingMovieId = missingMovieId;
+        }
+
+        @SneakyThrows
+        @Override
+        public MockResponse dispatch(final RecordedRequest request) {
+            final HttpUrl url = request.getUrl();
+            if (url.encodedPath().equals("/movie/changes")) {
+                changeWindows.add(url.queryParameter("start_date") + "/" + url.queryParameter("end_date"));
+                return newJsonResponse(GET_MOVIE_CHANGES_RESPONSE.toBytes());
+            }
+
+            if (url.encodedPath().equals("/movie/" + missingMovieId)) {
+                return new MockResponse.Builder()
+                        .code(404)
+                        .build();
+            }
+
+            return newJsonResponse(GET_MOVIE_DETAILS_RESPONSE.toBytes());
+        }
+
+        private MockResponse newJsonResponse(final byte[] body) {
+            return new MockResponse.Builder()
+                    .code(SUCCESS_STATUS_CODE)
+                    .addHeader("Content-Type", "application/json; charset=utf-8")
+                    .body(new Buffer().write(body))
+                    .build();
+        }
+    }
+}
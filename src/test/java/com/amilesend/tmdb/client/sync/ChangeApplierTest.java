@@ -0,0 +1,220 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.sync;
+
+import com.amilesend.client.connection.Connection;
+import com.amilesend.tmdb.client.model.movie.GetChangesResponse;
+import com.amilesend.tmdb.client.model.movie.GetMovieDetailsResponse;
+import com.amilesend.tmdb.client.model.people.GetPersonDetailsResponse;
+import com.amilesend.tmdb.client.parse.GsonFactory;
+import com.amilesend.tmdb.client.model.type.ChangeItem;
+import com.google.gson.Gson;
+import com.google.gson.JsonPrimitive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static com.amilesend.tmdb.client.data.movie.MoviesApiDataHelper.newGetMovieDetailsResponse;
+import static com.amilesend.tmdb.client.data.people.PeopleApiDataHelper.newGetPersonDetailsResponse;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ChangeApplierTest {
+    @Mock
+    private Connection mockConnection;
+    private Gson gson;
+    private ChangeApplier applierUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        final GsonFactory gsonFactory = new GsonFactory();
+        gson = gsonFactory.getInstance(mockConnection);
+        when(mockConnection.getGsonFactory()).thenReturn(gsonFactory);
+        applierUnderTest = ChangeApplier.builder()
+                .connection(mockConnection)
+                .build();
+    }
+
+    @Test
+    public void applyMovieChanges_withScalarChanges_shouldPatchDetails() {
+        final GetMovieDetailsResponse cached = newGetMovieDetailsResponse();
+        final GetChangesResponse changes = gson.fromJson("{\"changes\":["
+                + "{\"key\":\"title\",\"items\":["
+                + newItem("updated", "2024-06-02 12:00:00 UTC", "en", "\"Latest Title\"") + ","
+                + newItem("updated", "2024-06-01 12:00:00 UTC", "en", "\"Earlier Title\"") + ","
+                + newItem("updated", "2024-06-03 12:00:00 UTC", "fr", "\"Titre\"") + "]},"
+                + "{\"key\":\"runtime\",\"items\":[" + newItem("updated", "2024-06-01 12:00:00 UTC", null, "142")
+                + "]},"
+                + "{\"key\":\"release_date\",\"items\":["
+                + newItem("added", "2024-06-01 12:00:00 UTC", null, "\"2025-01-17\"") + "]},"
+                + "{\"key\":\"overview\",\"items\":[" + newItem("deleted", "2024-06-01 12:00:00 UTC", "en", null)
+                + "]}]}",
+                GetChangesResponse.class);
+
+        final AppliedChanges<GetMovieDetailsResponse> actual =
+                applierUnderTest.applyMovieChanges(cached, changes.getChanges());
+
+        final GetMovieDetailsResponse details = actual.getDetails();
+        assertAll(
+                () -> assertFalse(actual.isRefetchRequired()),
+                () -> assertEquals(Set.of("overview", "release_date", "runtime", "title"), actual.getAppliedKeys()),
+                () -> assertEquals("Latest Title", details.getTitle()),
+                () -> assertEquals(142, details.getRuntime()),
+                () -> assertEquals(LocalDate.of(2025, 1, 17), details.getReleaseDate()),
+                () -> assertNull(details.getOverview()),
+                () -> assertEquals(cached.getId(), details.getId()),
+                () -> assertEquals(cached.getBudget(), details.getBudget()),
+                () -> assertEquals(cached.getGenres(), details.getGenres()),
+                () -> assertEquals(cached.getPosterPath(), details.getPosterPath()));
+    }
+
+    @Test
+    public void applyMovieChanges_withStructuralChanges_shouldRequireRefetch() {
+        final GetChangesResponse changes = gson.fromJson("{\"changes\":["
+                + "{\"key\":\"genres\",\"items\":["
+                + newItem("added", "2024-06-01 12:00:00 UTC", null, "{\"id\":18,\"name\":\"Drama\"}") + "]},"
+                + "{\"key\":\"images\",\"items\":["
+                + newItem("added", "2024-06-01 12:00:00 UTC", null, "{\"poster\":{\"file_path\":\"/a.jpg\"}}")
+                + "]},"
+                + "{\"key\":\"tagline\",\"items\":["
+                + newItem("updated", "2024-06-01 12:00:00 UTC", null, "\"New tagline\"") + "]}]}",
+                GetChangesResponse.class);
+
+        final AppliedChanges<GetMovieDetailsResponse> actual =
+                applierUnderTest.applyMovieChanges(newGetMovieDetailsResponse(), changes.getChanges());
+
+        assertAll(
+                () -> assertTrue(actual.isRefetchRequired()),
+                () -> assertEquals(Set.of("genres", "images"), actual.getRefetchKeys()),
+                () -> assertEquals(Set.of("tagline"), actual.getAppliedKeys()),
+                () -> assertEquals("New tagline", actual.getDetails().getTagline()));
+    }
+
+    @Test
+    public void applyMovieChanges_withNoApplicableChanges_shouldReturnCachedDetails() {
+        final GetMovieDetailsResponse cached = newGetMovieDetailsResponse();
+        final GetChangesResponse changes = gson.fromJson("{\"changes\":[{\"key\":\"title\",\"items\":["
+                + newItem("updated", "2024-06-01 12:00:00 UTC", "de", "\"Titel\"") + "]}]}",
+                GetChangesResponse.class);
+
+        final AppliedChanges<GetMovieDetailsResponse> actual =
+                applierUnderTest.applyMovieChanges(cached, changes.getChanges());
+
+        assertAll(
+                () -> assertSame(cached, actual.getDetails()),
+                () -> assertTrue(actual.getAppliedKeys().isEmpty()),
+                () -> assertFalse(actual.isRefetchRequired()));
+    }
+
+    @Test
+    public void applyPersonChanges_withRenamedAttribute_shouldPatchDetails() {
+        final com.amilesend.tmdb.client.model.people.GetChangesResponse changes = gson.fromJson(
+                "{\"changes\":[{\"key\":\"deathday\",\"items\":["
+                        + newItem("added", "2024-06-01 12:00:00 UTC", null, "\"2024-05-30\"") + "]},"
+                        + "{\"key\":\"biography\",\"items\":["
+                        + newItem("updated", "2024-06-01 12:00:00 UTC", "en", "\"New biography\"") + "]}]}",
+                com.amilesend.tmdb.client.model.people.GetChangesResponse.class);
+
+        final AppliedChanges<GetPersonDetailsResponse> actual =
+                applierUnderTest.applyPersonChanges(newGetPersonDetailsResponse(), changes.getChanges());
+
+        assertAll(
+                () -> assertEquals(List.of("biography", "deathday"), List.copyOf(actual.getAppliedKeys())),
+                () -> assertEquals(LocalDate.of(2024, 5, 30), actual.getDetails().getDeathDate()),
+                () -> assertEquals("New biography", actual.getDetails().getBiography()));
+    }
+
+    @Test
+    public void applyMovieChanges_withAppendedChanges_shouldRetainRawValues() {
+        final GetMovieDetailsResponse cached = gson.fromJson("{\"id\":1,\"title\":\"Title\",\"changes\":"
+                + "{\"changes\":[{\"key\":\"title\",\"items\":["
+                + newItem("updated", "2024-06-01 12:00:00 UTC", "en", "\"Appended Title\"") + "]}]}}",
+                GetMovieDetailsResponse.class);
+        final GetChangesResponse changes = gson.fromJson("{\"changes\":[{\"key\":\"title\",\"items\":["
+                + newItem("updated", "2024-06-02 12:00:00 UTC", "en", "\"Latest Title\"") + "]}]}",
+                GetChangesResponse.class);
+
+        final AppliedChanges<GetMovieDetailsResponse> actual =
+                applierUnderTest.applyMovieChanges(cached, changes.getChanges());
+
+        final ChangeItem<?> appendedItem = actual.getDetails().getChanges().getChanges().get(0).getItems().get(0);
+        assertAll(
+                () -> assertEquals("Latest Title", actual.getDetails().getTitle()),
+                () -> assertSame(cached.getChanges(), actual.getDetails().getChanges()),
+                () -> assertEquals(new JsonPrimitive("Appended Title"), appendedItem.getRawValue()));
+    }
+
+    @Test
+    public void applyPersonChanges_withBirthday_shouldPatchDetails() {
+        final com.amilesend.tmdb.client.model.people.GetChangesResponse changes = gson.fromJson(
+                "{\"changes\":[{\"key\":\"birthday\",\"items\":["
+                        + newItem("updated", "2024-06-01 12:00:00 UTC", null, "\"1951-03-04\"") + "]}]}",
+                com.amilesend.tmdb.client.model.people.GetChangesResponse.class);
+        final GetPersonDetailsResponse cached = newGetPersonDetailsResponse();
+
+        final AppliedChanges<GetPersonDetailsResponse> actual =
+                applierUnderTest.applyPersonChanges(cached, changes.getChanges());
+
+        assertAll(
+                () -> assertEquals(Set.of("birthday"), actual.getAppliedKeys()),
+                () -> assertFalse(actual.isRefetchRequired()),
+                () -> assertEquals(LocalDate.of(1951, 3, 4), actual.getDetails().getBirthDate()),
+                () -> assertEquals(cached.getDeathDate(), actual.getDetails().getDeathDate()));
+    }
+
+    @Test
+    public void applyPersonChanges_withDeletedDeathday_shouldPatchDetails() {
+        final com.amilesend.tmdb.client.model.people.GetChangesResponse changes = gson.fromJson(
+                "{\"changes\":[{\"key\":\"deathday\",\"items\":["
+                        + newItem("deleted", "2024-06-01 12:00:00 UTC", null, null) + "]}]}",
+                com.amilesend.tmdb.client.model.people.GetChangesResponse.class);
+        final GetPersonDetailsResponse cached = newGetPersonDetailsResponse();
+
+        final AppliedChanges<GetPersonDetailsResponse> actual =
+                applierUnderTest.applyPersonChanges(cached, changes.getChanges());
+
+        assertAll(
+                () -> assertEquals(Set.of("deathday"), actual.getAppliedKeys()),
+                () -> assertFalse(actual.isRefetchRequired()),
+                () -> assertNull(actual.getDetails().getDeathDate()),
+                () -> assertEquals(cached.getBirthDate(), actual.getDetails().getBirthDate()));
+    }
+
+    private static String newItem(
+            final String action,
+            final String time,
+            final String languageCode,
+            final String value) {
+        return "{\"id\":\"" + time.hashCode() + "\",\"action\":\"" + action + "\",\"time\":\"" + time + "\""
+                + (languageCode == null ? "" : ",\"iso_639_1\":\"" + languageCode + "\"")
+                + (value == null ? "" : ",\"value\":" + value)
+                + "}";
+    }
+}
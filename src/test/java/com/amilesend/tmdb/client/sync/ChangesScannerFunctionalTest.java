@@ -0,0 +1,148 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.sync;
+
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.tmdb.client.FunctionalTestBase;
+import com.amilesend.tmdb.client.util.IntHashSet;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.RecordedRequest;
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChangesScannerFunctionalTest extends FunctionalTestBase {
+    private static final int PAGES_PER_WINDOW = 3;
+    private static final int SHARED_ID = 99_999;
+
+    private final Set<String> requestedPages = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private final AtomicInteger maxInFlightRequests = new AtomicInteger();
+
+    @Test
+    public void scan_withLongDateRange_shouldShardIntoWindowsAndFetchAllPages() {
+        setUpMockDispatcher(new ChangesDispatcher());
+
+        final IntHashSet actual = newScanner(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30), 4).scan();
+
+        // 182 days are split into 13 windows of 14 days
+        final Set<Integer> expectedIds = IntStream.range(0, 13)
+                .flatMap(window -> IntStream.rangeClosed(1, PAGES_PER_WINDOW).map(page -> window * 10 + page))
+                .boxed()
+                .collect(Collectors.toSet());
+        expectedIds.add(SHARED_ID);
+        assertAll(
+                () -> assertEquals(expectedIds, actual),
+                () -> assertEquals(13 * PAGES_PER_WINDOW, requestedPages.size()),
+                () -> assertTrue(requestedPages.contains("2024-01-01/2024-01-14/1")),
+                () -> assertTrue(requestedPages.contains("2024-06-17/2024-06-30/3")),
+                () -> assertTrue(maxInFlightRequests.get() <= 4));
+    }
+
+    @Test
+    public void scanAsync_shouldEmitEachIdOnce() {
+        setUpMockDispatcher(new ChangesDispatcher());
+        final List<Integer> actual = new ArrayList<>();
+
+        newScanner(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 28), 2).scanAsync(actual::add).join();
+
+        assertAll(
+                () -> assertEquals(7, actual.size()),
+                () -> assertEquals(Set.of(1, 2, 3, 11, 12, 13, SHARED_ID), Set.copyOf(actual)));
+    }
+
+    @Test
+    public void scan_withSingleDay_shouldFetchSingleWindow() {
+        setUpMockDispatcher(new ChangesDispatcher());
+
+        newScanner(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 1), 2).scan();
+
+        assertEquals(Set.of("2024-01-01/2024-01-01/1", "2024-01-01/2024-01-01/2", "2024-01-01/2024-01-01/3"),
+                requestedPages);
+    }
+
+    @Test
+    public void scan_withPageFailure_shouldThrowException() {
+        setUpMockResponse(503);
+
+        assertThrows(ResponseException.class,
+                () -> newScanner(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 1), 2).scan());
+    }
+
+    @Test
+    public void builder_withInvalidDateRange_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> newScanner(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 1), 2));
+    }
+
+    private ChangesScanner newScanner(final LocalDate startDate, final LocalDate endDate, final int maxConcurrency) {
+        return ChangesScanner.builder()
+                .changesApi(getClient().getChangesApi())
+                .resourceType(SyncResourceType.MOVIE)
+                .startDate(startDate)
+                .endDate(endDate)
+                .maxConcurrency(maxConcurrency)
+                .build();
+    }
+
+    /**
+     * Responds with {@link #PAGES_PER_WINDOW} pages per window, where each page contains an identifier unique to its
+     * window and page, plus an identifier shared by all pages.
+     */
+    private class ChangesDispatcher extends Dispatcher {
+        @Override
+        public MockResponse dispatch(final RecordedRequest request) throws InterruptedException {
+            final int inFlight = inFlightRequests.incrementAndGet();
+            maxInFlightRequests.accumulateAndGet(inFlight, Math::max);
+            try {
+                final HttpUrl url = request.getUrl();
+                final LocalDate startDate = LocalDate.parse(url.queryParameter("start_date"));
+                final int page = Integer.parseInt(url.queryParameter("page"));
+                final int window = (int) (startDate.toEpochDay() - LocalDate.of(2024, 1, 1).toEpochDay())
+                        / ChangesScanner.MAX_WINDOW_DAYS;
+                requestedPages.add(startDate + "/" + url.queryParameter("end_date") + "/" + page);
+                TimeUnit.MILLISECONDS.sleep(5L);
+
+                return new MockResponse.Builder()
+                        .code(SUCCESS_STATUS_CODE)
+                        .addHeader("Content-Type", "application/json; charset=utf-8")
+                        .body("{\"results\": [{\"id\": " + (window * 10 + page) + ", \"adult\": false}, "
+                                + "{\"id\": " + SHARED_ID + ", \"adult\": false}], "
+                                + "\"page\": " + page + ", \"total_pages\": " + PAGES_PER_WINDOW + "}")
+                        .build();
+            } finally {
+                inFlightRequests.decrementAndGet();
+            }
+        }
+    }
+}
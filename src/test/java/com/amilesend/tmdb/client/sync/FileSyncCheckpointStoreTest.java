@@ -0,0 +1,60 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.sync;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileSyncCheckpointStoreTest {
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void getLastSyncedDate_withNoFile_shouldReturnEmpty() {
+        final FileSyncCheckpointStore storeUnderTest =
+                new FileSyncCheckpointStore(tempDir.resolve("checkpoints.properties"));
+
+        assertTrue(storeUnderTest.getLastSyncedDate(SyncResourceType.MOVIE).isEmpty());
+    }
+
+    @Test
+    public void setLastSyncedDate_shouldPersistAcrossInstances() {
+        final Path file = tempDir.resolve("sync").resolve("checkpoints.properties");
+        final FileSyncCheckpointStore storeUnderTest = new FileSyncCheckpointStore(file);
+
+        storeUnderTest.setLastSyncedDate(SyncResourceType.MOVIE, LocalDate.of(2024, 3, 1));
+        storeUnderTest.setLastSyncedDate(SyncResourceType.PERSON, LocalDate.of(2024, 2, 1));
+        storeUnderTest.setLastSyncedDate(SyncResourceType.MOVIE, LocalDate.of(2024, 3, 15));
+
+        final FileSyncCheckpointStore reloaded = new FileSyncCheckpointStore(file);
+        assertAll(
+                () -> assertEquals(Optional.of(LocalDate.of(2024, 3, 15)),
+                        reloaded.getLastSyncedDate(SyncResourceType.MOVIE)),
+                () -> assertEquals(Optional.of(LocalDate.of(2024, 2, 1)),
+                        reloaded.getLastSyncedDate(SyncResourceType.PERSON)),
+                () -> assertTrue(reloaded.getLastSyncedDate(SyncResourceType.TV_SERIES).isEmpty()));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BoundedAsyncExecutorTest {
+    @Test
+    public void drain_shouldBoundInFlightTasks() {
+        final List<CompletableFuture<Integer>> started = new ArrayList<>();
+        final List<Integer> results = new ArrayList<>();
+        final Queue<Integer> pending = new ArrayDeque<>(List.of(1, 2, 3, 4, 5));
+        final BoundedAsyncExecutor<Integer> executor = new BoundedAsyncExecutor<>(2, () -> {
+            final Integer value = pending.poll();
+            return value == null ? null : BoundedAsyncExecutor.Task.of(() -> {
+                final CompletableFuture<Integer> future = new CompletableFuture<>();
+                started.add(future);
+                return future;
+            }, (result, ex) -> results.add(result));
+        });
+
+        executor.drain();
+        assertEquals(2, started.size());
+
+        started.get(0).complete(10);
+        started.get(1).complete(20);
+        assertEquals(4, started.size());
+
+        started.get(2).complete(30);
+        started.get(3).complete(40);
+        started.get(4).complete(50);
+        assertAll(
+                () -> assertEquals(5, started.size()),
+                () -> assertEquals(List.of(10, 20, 30, 40, 50), results));
+    }
+
+    @Test
+    public void drain_withSynchronouslyCompletedTasks_shouldNotRecurse() {
+        final AtomicInteger remaining = new AtomicInteger(100_000);
+        final AtomicInteger completed = new AtomicInteger();
+        final BoundedAsyncExecutor<Integer> executor = new BoundedAsyncExecutor<>(1, () ->
+                remaining.getAndDecrement() > 0
+                        ? BoundedAsyncExecutor.Task.of(
+                                () -> CompletableFuture.completedFuture(1),
+                                (result, ex) -> completed.incrementAndGet())
+                        : null);
+
+        executor.drain();
+
+        assertEquals(100_000, completed.get());
+    }
+
+    @Test
+    public void drain_withFailedTask_shouldReportUnwrappedCause() {
+        final List<Throwable> failures = new ArrayList<>();
+        final IllegalStateException expected = new IllegalStateException("Failed to start");
+        final Queue<BoundedAsyncExecutor.Task<Integer>> pending = new ArrayDeque<>(List.of(
+                BoundedAsyncExecutor.Task.of(() -> {
+                    throw expected;
+                }, (result, ex) -> failures.add(ex)),
+                BoundedAsyncExecutor.Task.of(() -> null, (result, ex) -> failures.add(ex)),
+                BoundedAsyncExecutor.Task.of(
+                        () -> CompletableFuture.<Integer>completedFuture(1).thenApply(value -> {
+                            throw expected;
+                        }),
+                        (result, ex) -> failures.add(ex))));
+        final BoundedAsyncExecutor<Integer> executor = new BoundedAsyncExecutor<>(1, pending::poll);
+
+        executor.drain();
+
+        assertAll(
+                () -> assertEquals(3, failures.size()),
+                () -> assertEquals(expected, failures.get(0)),
+                () -> assertInstanceOf(NullPointerException.class, failures.get(1)),
+                () -> assertEquals(expected, failures.get(2)));
+    }
+
+    @Test
+    public void cancel_shouldCancelInFlightTasksAndStopStartingTasks() {
+        final List<CompletableFuture<Integer>> started = new ArrayList<>();
+        final AtomicInteger remaining = new AtomicInteger(4);
+        final BoundedAsyncExecutor<Integer> executor = new BoundedAsyncExecutor<>(2, () ->
+                remaining.getAndDecrement() > 0
+                        ? BoundedAsyncExecutor.Task.of(() -> {
+                            final CompletableFuture<Integer> future = new CompletableFuture<>();
+                            started.add(future);
+                            return future;
+                        }, (result, ex) -> { })
+                        : null);
+        executor.drain();
+
+        executor.cancel();
+
+        assertAll(
+                () -> assertEquals(2, started.size()),
+                () -> assertTrue(started.stream().allMatch(CompletableFuture::isCancelled)),
+                () -> assertEquals(2, remaining.get()));
+    }
+
+    @Test
+    public void ctor_withInvalidMaxConcurrency_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new BoundedAsyncExecutor<Integer>(0, () -> null)),
+                () -> assertThrows(NullPointerException.class, () -> new BoundedAsyncExecutor<Integer>(1, null)));
+    }
+}
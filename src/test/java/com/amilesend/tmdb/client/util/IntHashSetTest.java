@@ -0,0 +1,97 @@
+/*
+ * tmdb-java-client - A client to access the TMDB API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tmdb.client.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntHashSetTest {
+    private final IntHashSet setUnderTest = new IntHashSet();
+
+    @Test
+    public void add_withDuplicateValues_shouldOnlyAddOnce() {
+        assertAll(
+                () -> assertTrue(setUnderTest.add(42)),
+                () -> assertFalse(setUnderTest.add(42)),
+                () -> assertTrue(setUnderTest.add(0)),
+                () -> assertFalse(setUnderTest.add(0)),
+                () -> assertTrue(setUnderTest.add(-7)),
+                () -> assertEquals(3, setUnderTest.size()),
+                () -> assertTrue(setUnderTest.contains(0)),
+                () -> assertTrue(setUnderTest.contains(-7)),
+                () -> assertFalse(setUnderTest.contains(7)));
+    }
+
+    @Test
+    public void add_withManyValues_shouldResizeAndMatchHashSet() {
+        final Random random = new Random(1L);
+        final Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 50_000; ++i) {
+            final int value = random.nextInt(100_000) - 50_000;
+            assertEquals(expected.add(value), setUnderTest.add(value));
+        }
+
+        final int[] actual = setUnderTest.toIntArray();
+        Arrays.sort(actual);
+        assertAll(
+                () -> assertEquals(expected.size(), setUnderTest.size()),
+                () -> assertArrayEquals(expected.stream().mapToInt(Integer::intValue).sorted().toArray(), actual),
+                () -> assertEquals(expected, setUnderTest),
+                () -> assertEquals(expected, setUnderTest.stream().collect(Collectors.toSet())));
+    }
+
+    @Test
+    public void forEachInt_shouldVisitEachValue() {
+        setUnderTest.addAll(Set.of(0, 1, 2, 3));
+        final Set<Integer> actual = new HashSet<>();
+
+        setUnderTest.forEachInt(actual::add);
+
+        assertEquals(Set.of(0, 1, 2, 3), actual);
+    }
+
+    @Test
+    public void clear_shouldRemoveAllValues() {
+        setUnderTest.addAll(Set.of(0, 1, 2, 3));
+
+        setUnderTest.clear();
+
+        assertAll(
+                () -> assertTrue(setUnderTest.isEmpty()),
+                () -> assertFalse(setUnderTest.contains(0)),
+                () -> assertFalse(setUnderTest.contains(1)),
+                () -> assertEquals(0, setUnderTest.toIntArray().length));
+    }
+
+    @Test
+    public void ctor_withNegativeExpectedSize_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet(-1));
+    }
+}